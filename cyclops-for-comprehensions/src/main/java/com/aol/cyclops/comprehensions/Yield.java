@@ -71,7 +71,7 @@ class Yield<T> {
 	}
 	private <T> T takeFirst(Object o){
 		if(o instanceof MaterializedList){
-			if(((List)o).size()==0)
+			if(((List)o).isEmpty())
 				throw new Goto();
 			
 			return (T)((List)o).get(0);
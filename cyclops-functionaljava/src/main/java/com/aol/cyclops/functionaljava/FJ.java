@@ -81,7 +81,7 @@ public class FJ {
 	public static final <A,B> Reader<A,B> unwrapReader(AnyM<B> anyM){
 		
 		Reader unwrapper = Reader.unit(a->1);
-		return (Reader)new ComprehenderSelector()
+		return (Reader)ComprehenderSelector.instance()
 							.selectComprehender(unwrapper)
 							.executeflatMap(unwrapper, i-> anyM.unwrap());
 		
@@ -102,7 +102,7 @@ public class FJ {
 	public static final <A,B> Writer<A,B> unwrapWriter(AnyM<B> anyM,Writer<B,?> unwrapper){
 		
 		
-		return (Writer)new ComprehenderSelector()
+		return (Writer)ComprehenderSelector.instance()
 							.selectComprehender(unwrapper)
 							.executeflatMap(unwrapper, i-> anyM.unwrap());
 		
@@ -123,7 +123,7 @@ public class FJ {
 	public static final <A,B> State<A,B> unwrapState(AnyM<B> anyM){
 		
 		State unwrapper = State.constant(1);
-		return (State)new ComprehenderSelector()
+		return (State)ComprehenderSelector.instance()
 							.selectComprehender(unwrapper)
 							.executeflatMap(unwrapper, i-> anyM.unwrap());
 		
@@ -144,7 +144,7 @@ public class FJ {
 	public static final <B> IO<B> unwrapIO(AnyM<B> anyM){
 		
 		IO unwrapper = IOFunctions.unit(1);
-		return (IO)new ComprehenderSelector()
+		return (IO)ComprehenderSelector.instance()
 							.selectComprehender(unwrapper)
 							.executeflatMap(unwrapper, i-> anyM.unwrap());
 		
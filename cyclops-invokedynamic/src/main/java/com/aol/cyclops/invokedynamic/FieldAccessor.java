@@ -0,0 +1,114 @@
+package com.aol.cyclops.invokedynamic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the values of all instance fields of a class (superclass fields first, see ReflectionCache.getFields).
+ *
+ * The field getters are compiled once per class into a single MethodHandle that returns the values in an array, so
+ * reading an object's fields doesn't use reflection. Used by Decomposable, Mappable and TupleWrapper.
+ *
+ * @author johnmcclean
+ *
+ */
+public class FieldAccessor {
+
+	/*
+	 * MethodHandle.asCollector is limited to 255 parameters (one slot is used by the receiver)
+	 */
+	private static final int MAX_COMBINED_FIELDS = 254;
+
+	private static final ClassValue<FieldAccessor> accessors = new ClassValue<FieldAccessor>(){
+		@Override
+		protected FieldAccessor computeValue(Class<?> type){
+			return new FieldAccessor(ReflectionCache.getFields(type));
+		}
+	};
+
+	private final List<Field> fields;
+	private final MethodHandle values;
+
+	private FieldAccessor(List<Field> fields){
+		this.fields = fields;
+		this.values = combine(fields);
+	}
+
+	/**
+	 * @param type Class to read fields from
+	 * @return Shared accessor for the fields of type
+	 */
+	public static FieldAccessor of(Class type){
+		return accessors.get(type);
+	}
+
+	/**
+	 * @return Fields read by this accessor, in the order of the values returned
+	 */
+	public List<Field> getFields(){
+		return fields;
+	}
+	/**
+	 * @param o Object to read (must be an instance of the class this accessor was created for)
+	 * @return Values of each field of o, in the same order as getFields
+	 */
+	public Object[] values(Object o){
+		if(values==null)
+			return reflect(o);
+		try{
+			return (Object[])values.invokeExact(o);
+		}catch(Throwable t){
+			throw ExceptionSoftener.throwSoftenedException(t);
+		}
+	}
+	/**
+	 * @param o Object to read (must be an instance of the class this accessor was created for)
+	 * @return Map of field name to value for each field of o
+	 */
+	public Map<String,Object> toMap(Object o){
+		Object[] values = values(o);
+		Map<String,Object> result = new LinkedHashMap<>();
+		for(int i=0;i<values.length;i++)
+			result.put(fields.get(i).getName(),values[i]);
+		return result;
+	}
+
+	private Object[] reflect(Object o){
+		Object[] result = new Object[fields.size()];
+		try{
+			for(int i=0;i<result.length;i++)
+				result[i] = fields.get(i).get(o);
+		}catch(IllegalAccessException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+		return result;
+	}
+	/*
+	 * (Object)Object[] handle, built as
+	 *   collect(getter0(o), getter1(o), ... getterN(o))
+	 * or null if the fields can't be read via MethodHandles
+	 */
+	private static MethodHandle combine(List<Field> fields){
+		int size = fields.size();
+		if(size>MAX_COMBINED_FIELDS)
+			return null;
+		try{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle[] getters = new MethodHandle[size];
+			for(int i=0;i<size;i++)
+				getters[i] = lookup.unreflectGetter(fields.get(i))
+									.asType(MethodType.methodType(Object.class,Object.class));
+			MethodHandle collect = MethodHandles.identity(Object[].class)
+												.asCollector(Object[].class,size);
+			MethodHandle read = MethodHandles.filterArguments(collect,0,getters);
+			return MethodHandles.permuteArguments(read,MethodType.methodType(Object[].class,Object.class),new int[size]);
+		}catch(IllegalAccessException | RuntimeException e){
+			return null;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.aol.cyclops.invokedynamic;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implements another library's single parameter functional interface (e.g. the function type accepted by its map
+ * method) with a JDK Function.
+ *
+ * The implementation is generated once per interface via LambdaMetafactory, so adapting a Function costs a single
+ * allocation and calls aren't reflective. Interfaces that can't be implemented that way (non-public, not visible from
+ * this class loader, or returning a primitive other than boolean) are implemented via MethodHandleProxies, or a
+ * Proxy for non-public interfaces.
+ *
+ * @author johnmcclean
+ *
+ */
+public class FunctionalAdapter {
+
+	private static final MethodHandle APPLY = apply();
+	private static final ClassValue<Function<Function,Object>> factories = new ClassValue<Function<Function,Object>>(){
+		@Override
+		protected Function<Function,Object> computeValue(Class<?> type){
+			return factory(type);
+		}
+	};
+
+	/**
+	 * @param type Single parameter functional interface to implement
+	 * @param fn Function to delegate to
+	 * @return fn as the supplied type
+	 */
+	public static <T> T adapt(Class<T> type, Function fn){
+		if(type.isInstance(fn))
+			return (T)fn;
+		return (T)factories.get(type).apply(fn);
+	}
+
+	private static Function<Function,Object> factory(Class type){
+		Method sam = singleAbstractMethod(type);
+		try{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if(!Modifier.isPublic(type.getModifiers()) || !MethodInvoker.visible(type))
+				throw new IllegalAccessException();
+			MethodHandle impl = sam.getReturnType()==boolean.class
+									? lookup.findStatic(FunctionalAdapter.class,"test",MethodType.methodType(boolean.class,Function.class,Object.class))
+									: APPLY;
+			MethodType samType = MethodType.methodType(sam.getReturnType(),sam.getParameterTypes());
+			MethodHandle factory = LambdaMetafactory.metafactory(lookup,sam.getName(),MethodType.methodType(type,Function.class),
+																	samType,impl,samType)
+													.getTarget()
+													.asType(MethodType.methodType(Object.class,Function.class));
+			return fn->{
+				try{
+					return (Object)factory.invokeExact(fn);
+				}catch(Throwable t){
+					throw ExceptionSoftener.throwSoftenedException(t);
+				}
+			};
+		}catch(Throwable t){
+			if(Modifier.isPublic(type.getModifiers()))
+				return fn->MethodHandleProxies.asInterfaceInstance(type,APPLY.bindTo(fn));
+			return fn->Proxy.newProxyInstance(type.getClassLoader(),new Class[]{ type },
+												(proxy,method,args)->sam.getName().equals(method.getName()) && method.getParameterCount()==1
+																		? fn.apply(args[0])
+																		: method.invoke(fn,args));
+		}
+	}
+	private static boolean test(Function fn, Object in){
+		return (Boolean)fn.apply(in);
+	}
+	private static Method singleAbstractMethod(Class type){
+		List<Method> abstractMethods = Stream.of(type.getMethods())
+										.filter(m->Modifier.isAbstract(m.getModifiers()))
+										.filter(m->!isObjectMethod(m))
+										.collect(Collectors.toList());
+		if(!type.isInterface() || abstractMethods.size()!=1 || abstractMethods.get(0).getParameterCount()!=1)
+			throw new IllegalArgumentException(type + " is not a single parameter functional interface");
+		return abstractMethods.get(0);
+	}
+	private static boolean isObjectMethod(Method m){
+		try{
+			Object.class.getMethod(m.getName(),m.getParameterTypes());
+			return true;
+		}catch(NoSuchMethodException e){
+			return false;
+		}
+	}
+	private static MethodHandle apply(){
+		try{
+			return MethodHandles.publicLookup().findVirtual(Function.class,"apply",MethodType.methodType(Object.class,Object.class));
+		}catch(ReflectiveOperationException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+}
@@ -1,115 +1,118 @@
 package com.aol.cyclops.invokedynamic;
 
-import java.lang.invoke.CallSite;
-import java.lang.invoke.ConstantCallSite;
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
+/**
+ * Calls methods by name on objects of types not known at compile time.
+ *
+ * Methods are resolved once per (class, method name(s), arity) and invoked via a MethodInvoker, subsequent calls
+ * don't use reflection. Where a name is overloaded with the same arity, a non-varargs method is preferred (e.g.
+ * Stream.of(T) rather than Stream.of(T...)).
+ */
 public class InvokeDynamic {
-	private static volatile Map<Method, CallSite> callSites = new ConcurrentHashMap<>();
-	private static volatile Map<Class, Optional<Method>> streamMethod = new ConcurrentHashMap<>();
-	private static volatile Map<Class, Optional<Method>> supplierMethod = new ConcurrentHashMap<>();
-	private static volatile Map<String,Map<Class, List<Method>>> generalMethods = new ConcurrentHashMap<>();
-	public Optional<Stream> stream(Object t) {
-
-		Class clazz = t.getClass();
+	private static final int MAX_ARITY = 2;
+	private static final List<String> STREAM_METHODS = Arrays.asList("stream","toStream");
 
-		Optional<Method> om = streamMethod.computeIfAbsent(
-				clazz,
-				c -> Stream.of(c.getMethods())
-						.filter(method -> "stream".equals(method.getName()) || "toStream".equals(method.getName()))
-						.filter(method -> method.getParameterCount() == 0)
-						.findFirst().map(m2 -> {
-							m2.setAccessible(true);
-							return m2;
-						}));
-		if (!om.isPresent())
-			return Optional.empty();
-		Method m = om.get();
+	private static final ClassValue<List<Map<Object,Optional<MethodInvoker>>>> instanceMethods = new Invokers();
+	private static final ClassValue<List<Map<Object,Optional<MethodInvoker>>>> staticMethods = new Invokers();
 
-		return Optional.of((Stream) executeMethod( m,t));
+	/*
+	 * per class : invokers by method name (or list of method names) for each arity
+	 */
+	private static class Invokers extends ClassValue<List<Map<Object,Optional<MethodInvoker>>>>{
+		@Override
+		protected List<Map<Object,Optional<MethodInvoker>>> computeValue(Class<?> type){
+			Map<Object,Optional<MethodInvoker>>[] byArity = new Map[MAX_ARITY+1];
+			for(int i=0;i<byArity.length;i++)
+				byArity[i] = new ConcurrentHashMap<>();
+			return Arrays.asList(byArity);
+		}
+	}
 
+	public Optional<Stream> stream(Object t) {
+		return instanceInvoker(t.getClass(),STREAM_METHODS,0)
+					.map(m->(Stream)m.invoke(t));
 	}
+	/**
+	 * Execute the first of the named methods that exists, with the supplied arguments
+	 *
+	 * @param methodNames Method names, in order of preference
+	 * @param obj Object to execute the method on
+	 * @param args Arguments (up to 2)
+	 * @return Result of the method, or Optional.empty if there is no such method (or it returned null)
+	 */
 	public <T> Optional<T> execute(List<String> methodNames, Object obj, Object... args){
-		return (Optional)methodNames.stream().map(s -> execute(s,obj,args)).filter(Optional::isPresent).findFirst().get();
+		return instanceInvoker(obj.getClass(),methodNames,args.length)
+					.map(m->(T)invoke(m,obj,args));
 	}
 	public <T> Optional<T> execute(String methodName,Object obj,Object... args) {
-		Class clazz = obj.getClass();
-		Map<Class, List<Method>> methods = generalMethods.computeIfAbsent(methodName, k->new ConcurrentHashMap<>());
-		List<Method> om = methods.computeIfAbsent(
-				clazz,
-				c -> Stream.of(c.getMethods())
-						.filter(method -> methodName.equals(method.getName()))
-						.filter(method -> method.getParameterCount() == args.length)
-						.map(m2 -> {
-							m2.setAccessible(true);
-							return m2;
-						}).collect(Collectors.toList()));
-		
-		if(om.size()>0){
-			return Optional.of((T)executeMethod( om.get(0),obj,args));
-		}
-		return Optional.empty();
+		return instanceInvoker(obj.getClass(),methodName,args.length)
+					.map(m->(T)invoke(m,obj,args));
+	}
+	/**
+	 * Execute the first of the named static methods of the supplied type that exists, with the supplied arguments
+	 *
+	 * @param methodNames Method names, in order of preference
+	 * @param type Class with the static methods
+	 * @param args Arguments (up to 2)
+	 * @return Result of the method, or Optional.empty if there is no such method (or it returned null)
+	 */
+	public <T> Optional<T> executeStatic(List<String> methodNames, Class type, Object... args){
+		return invoker(staticMethods,type,methodNames,methodNames,args.length,true)
+					.map(m->(T)invoke(m,null,args));
 	}
 	public <T> Optional<T> supplier(Object t,List<String> methodNames) {
+		return instanceInvoker(t.getClass(),methodNames,0)
+					.map(m->(T)m.invoke(t));
+	}
+	/**
+	 * @param type Class to find the method on
+	 * @param methodNames Method names, in order of preference
+	 * @param arity Number of parameters
+	 * @return Invoker for the first public instance method of type found with one of the supplied names and arity
+	 */
+	public Optional<MethodInvoker> instanceInvoker(Class type, List<String> methodNames, int arity){
+		return invoker(instanceMethods,type,methodNames,methodNames,arity,false);
+	}
+	/**
+	 * @param type Class to find the method on
+	 * @param methodName Method name
+	 * @param arity Number of parameters
+	 * @return Invoker for the public instance method of type with the supplied name and arity
+	 */
+	public Optional<MethodInvoker> instanceInvoker(Class type, String methodName, int arity){
+		return invoker(instanceMethods,type,methodName,Collections.singletonList(methodName),arity,false);
+	}
 
-		Class clazz = t.getClass();
-
-		Optional<Method> om = streamMethod.computeIfAbsent(
-				clazz,
-				c -> Stream.of(c.getMethods())
-						.filter(method -> methodNames.contains(method.getName()))
-						.filter(method -> method.getParameterCount() == 0)
-						.findFirst().map(m2 -> {
-							m2.setAccessible(true);
-							return m2;
-						}));
-		if (!om.isPresent())
+	private Object invoke(MethodInvoker m, Object obj, Object[] args){
+		if(args.length==0)
+			return m.invoke(obj);
+		if(args.length==1)
+			return m.invoke(obj,args[0]);
+		return m.invoke(obj,args[0],args[1]);
+	}
+	private static Optional<MethodInvoker> invoker(ClassValue<List<Map<Object,Optional<MethodInvoker>>>> cache, Class<?> type,
+													Object key, List<String> methodNames, int arity, boolean statics){
+		if(arity>MAX_ARITY)
 			return Optional.empty();
-		Method m = om.get();
-
-		return Optional.of( (T)executeMethod( m,t));
-
+		return cache.get(type).get(arity).computeIfAbsent(key,k->methodNames.stream()
+																.flatMap(name->Stream.of(type.getMethods())
+																				.filter(m->name.equals(m.getName()))
+																				.filter(m->m.getParameterCount()==arity)
+																				.filter(m->Modifier.isStatic(m.getModifiers())==statics)
+																				.sorted(Comparator.comparing(Method::isVarArgs))) //of(T) rather than of(T...)
+																.findFirst()
+																.map(m->MethodInvoker.of(type,m)));
 	}
 
-	private Object executeMethod(Method m, Object obj,Object... args) {
-		try {
-
-			
-			MethodHandle mh = this.callSites
-					.computeIfAbsent(
-							m,
-							(m2) -> {
-								try {
-									return new ConstantCallSite(MethodHandles
-											.publicLookup().unreflect(m2));
-								} catch (Exception e) {
-									ExceptionSoftener.throwSoftenedException(e);
-									return null;
-								}
-								
-							}).dynamicInvoker();
-			if(args.length==0)
-				return mh.invoke(obj);
-			if(args.length==1)
-				return mh.invoke(obj,args[0]);
-			if(args.length==2)
-				return mh.invoke(obj,args[0],args[1]);
-
-		} catch (Throwable e) {
-			ExceptionSoftener.throwSoftenedException(e);
-		} finally {
-
-		}
-		return null;
-	}
-	
 }
@@ -0,0 +1,182 @@
+package com.aol.cyclops.invokedynamic;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Invoker for a method with up to 2 parameters, resolved once and then called without reflection or varargs.
+ *
+ * Where possible the invoker is generated via LambdaMetafactory, so a call costs the same as a call through an
+ * interface. Static methods, void methods and methods whose types can't be seen from this class loader are
+ * invoked via an exact MethodHandle instead.
+ *
+ * @author johnmcclean
+ *
+ */
+public class MethodInvoker {
+
+	@FunctionalInterface
+	interface Invoker0{
+		Object invoke(Object target) throws Throwable;
+	}
+	@FunctionalInterface
+	interface Invoker1{
+		Object invoke(Object target,Object a) throws Throwable;
+	}
+	@FunctionalInterface
+	interface Invoker2{
+		Object invoke(Object target,Object a,Object b) throws Throwable;
+	}
+	private static final Class[] INVOKERS = { Invoker0.class,Invoker1.class,Invoker2.class };
+
+	private final Method method;
+	private final Object invoker;
+
+	private MethodInvoker(Method method, Object invoker){
+		this.method = method;
+		this.invoker = invoker;
+	}
+
+	/**
+	 * @param type Class the method will be invoked on
+	 * @param method Method (of type) to invoke
+	 * @return Invoker for the method
+	 */
+	public static MethodInvoker of(Class type, Method method){
+		if(method.getParameterCount()>=INVOKERS.length)
+			throw new IllegalArgumentException("Only methods with up to " + (INVOKERS.length-1) + " parameters can be invoked : " + method);
+		Method accessible = publicDeclaration(method);
+		return new MethodInvoker(accessible,lambda(accessible).orElseGet(()->methodHandle(type,accessible)));
+	}
+
+	/**
+	 * @return Method invoked
+	 */
+	public Method getMethod(){
+		return method;
+	}
+	/**
+	 * @param target Object to invoke the method on (ignored for static methods)
+	 * @return Result of the method (null for void methods)
+	 */
+	public Object invoke(Object target){
+		try{
+			return ((Invoker0)invoker).invoke(target);
+		}catch(Throwable t){
+			throw ExceptionSoftener.throwSoftenedException(t);
+		}
+	}
+	public Object invoke(Object target, Object a){
+		try{
+			return ((Invoker1)invoker).invoke(target,a);
+		}catch(Throwable t){
+			throw ExceptionSoftener.throwSoftenedException(t);
+		}
+	}
+	public Object invoke(Object target, Object a, Object b){
+		try{
+			return ((Invoker2)invoker).invoke(target,a,b);
+		}catch(Throwable t){
+			throw ExceptionSoftener.throwSoftenedException(t);
+		}
+	}
+
+	private static Optional<Object> lambda(Method method){
+		if(Modifier.isStatic(method.getModifiers()) || method.getReturnType()==void.class
+				|| !Modifier.isPublic(method.getDeclaringClass().getModifiers())
+				|| !visible(method))
+			return Optional.empty();
+		try{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			int arity = method.getParameterCount();
+			CallSite site = LambdaMetafactory.metafactory(lookup,"invoke",MethodType.methodType(INVOKERS[arity]),
+													MethodType.genericMethodType(arity+1),
+													lookup.unreflect(method),
+													MethodType.methodType(method.getReturnType(),method.getParameterTypes())
+																.insertParameterTypes(0,method.getDeclaringClass())
+																.wrap());
+			return Optional.of(site.getTarget().invoke());
+		}catch(Throwable t){
+			return Optional.empty();
+		}
+	}
+	private static Object methodHandle(Class type, Method method){
+		int arity = method.getParameterCount();
+		MethodHandle handle = unreflect(type,method);
+		if(Modifier.isStatic(method.getModifiers()))
+			handle = MethodHandles.dropArguments(handle,0,Object.class);
+		MethodHandle exact = handle.asType(MethodType.genericMethodType(arity+1));
+		if(arity==0)
+			return (Invoker0)target->exact.invokeExact(target);
+		if(arity==1)
+			return (Invoker1)(target,a)->exact.invokeExact(target,a);
+		return (Invoker2)(target,a,b)->exact.invokeExact(target,a,b);
+	}
+	private static MethodHandle unreflect(Class type, Method method){
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		MethodType methodType = MethodType.methodType(method.getReturnType(),method.getParameterTypes());
+		try{
+			if(Modifier.isStatic(method.getModifiers()))
+				return lookup.findStatic(method.getDeclaringClass(),method.getName(),methodType);
+			return lookup.findVirtual(type,method.getName(),methodType);
+		}catch(ReflectiveOperationException | SecurityException e){
+			try{
+				method.setAccessible(true);
+				return lookup.unreflect(method);
+			}catch(IllegalAccessException e2){
+				throw ExceptionSoftener.throwSoftenedException(e2);
+			}
+		}
+	}
+	/*
+	 * the implementation class of an interface (e.g. a Stream) is often not public, find the public
+	 * interface or superclass that declares the method
+	 */
+	private static Method publicDeclaration(Method method){
+		if(Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+			return method;
+		return supertypes(method.getDeclaringClass())
+					.filter(c->Modifier.isPublic(c.getModifiers()))
+					.map(c->{
+						try{
+							return c.getMethod(method.getName(),method.getParameterTypes());
+						}catch(NoSuchMethodException e){
+							return null;
+						}
+					})
+					.filter(m->m!=null && Modifier.isPublic(m.getDeclaringClass().getModifiers()))
+					.findFirst()
+					.orElse(method);
+	}
+	private static Stream<Class> supertypes(Class type){
+		if(type==null)
+			return Stream.empty();
+		return Stream.concat(Stream.of(type),Stream.concat(supertypes(type.getSuperclass()),
+													Stream.of(type.getInterfaces()).flatMap(MethodInvoker::supertypes)));
+	}
+	/*
+	 * the generated invoker refers to these types by name, so they must resolve from this class loader
+	 */
+	private static boolean visible(Method method){
+		return visible(method.getDeclaringClass()) && visible(method.getReturnType())
+				&& Stream.of(method.getParameterTypes()).allMatch(MethodInvoker::visible);
+	}
+	static boolean visible(Class type){
+		if(type.isPrimitive())
+			return true;
+		if(type.isArray())
+			return visible(type.getComponentType());
+		try{
+			return Class.forName(type.getName(),false,MethodInvoker.class.getClassLoader())==type;
+		}catch(ClassNotFoundException e){
+			return false;
+		}
+	}
+}
@@ -5,6 +5,7 @@ package com.aol.cyclops.invokedynamic;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,17 +19,27 @@ import org.jooq.lambda.Seq;
 
 public class ReflectionCache {
 	private final static Map<Class,List<Field>> fields = new ConcurrentHashMap<>();
+	private final static Map<Class,Map<String,Field>> fieldMaps = new ConcurrentHashMap<>();
 
 	private final static Map<Class,Optional<Method>> unapplyMethods =new ConcurrentHashMap<>();
 	
+	/**
+	 * @param class1 Class to find fields for
+	 * @return Shared, unmodifiable List of the (accessible) instance fields of class1, superclass fields first
+	 */
 	public static List<Field> getFields(
 			Class class1) {
-		return getFieldData(class1).stream().collect(Collectors.<Field>toList());
+		return getFieldData(class1);
 		
 	}
+	/**
+	 * @param class1 Class to find fields for
+	 * @return Shared, unmodifiable Map of field name to (accessible) instance field of class1
+	 */
 	public static Map<String,Field> getFieldMap(
 			Class class1) {
-		return getFieldData(class1).stream().collect(Collectors.toMap(f->f.getName(),f->f));
+		return fieldMaps.computeIfAbsent(class1, cl -> Collections.unmodifiableMap(getFieldData(cl).stream()
+																				.collect(Collectors.toMap(f->f.getName(),f->f,(a,b)->b))));
 		
 	}
 	private static List<Field> getFieldData(
@@ -40,7 +51,7 @@ public class ReflectionCache {
 						.flatMap(c->Stream.of(c.getDeclaredFields()))
 						.filter(f->!Modifier.isStatic(f.getModifiers()))
 						.map(f -> { f.setAccessible(true); return f;})
-						.collect(Collectors.toList());
+						.collect(Collectors.collectingAndThen(Collectors.toList(),Collections::unmodifiableList));
 					});
 		
 	}
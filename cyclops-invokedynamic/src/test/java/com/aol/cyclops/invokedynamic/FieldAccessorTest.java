@@ -0,0 +1,65 @@
+package com.aol.cyclops.invokedynamic;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class FieldAccessorTest {
+
+	static class Parent{
+		private final String name = "parent";
+		static int ignored = 10;
+	}
+	static class Child extends Parent{
+		private final int age;
+		private final boolean active;
+		Object other;
+		Child(int age, boolean active, Object other){
+			this.age = age;
+			this.active = active;
+			this.other = other;
+		}
+	}
+	static class Empty{}
+
+	@Test
+	public void valuesSuperclassFirst(){
+		assertThat(Arrays.asList(FieldAccessor.of(Child.class).values(new Child(10,true,null))),
+						equalTo(Arrays.asList("parent",10,true,null)));
+	}
+	@Test
+	public void valuesNotShared(){
+		FieldAccessor accessor = FieldAccessor.of(Child.class);
+		Object[] first = accessor.values(new Child(10,true,"a"));
+		Object[] second = accessor.values(new Child(20,false,"b"));
+		assertThat(first[1],equalTo(10));
+		assertThat(second[1],equalTo(20));
+	}
+	@Test
+	public void cached(){
+		assertTrue(FieldAccessor.of(Child.class)==FieldAccessor.of(Child.class));
+	}
+	@Test
+	public void fields(){
+		assertThat(FieldAccessor.of(Child.class).getFields(),equalTo(ReflectionCache.getFields(Child.class)));
+	}
+	@Test
+	public void toMap(){
+		Map<String,Object> expected = new HashMap<>();
+		expected.put("name","parent");
+		expected.put("age",10);
+		expected.put("active",false);
+		expected.put("other","hello");
+		assertThat(FieldAccessor.of(Child.class).toMap(new Child(10,false,"hello")),equalTo(expected));
+	}
+	@Test
+	public void noFields(){
+		assertThat(FieldAccessor.of(Empty.class).values(new Empty()).length,equalTo(0));
+	}
+}
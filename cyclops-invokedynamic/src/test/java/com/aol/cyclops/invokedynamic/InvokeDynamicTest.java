@@ -0,0 +1,129 @@
+package com.aol.cyclops.invokedynamic;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class InvokeDynamicTest {
+
+	public interface Mapper<T,R>{
+		R map(T t);
+	}
+	public interface Check<T>{
+		boolean check(T t);
+	}
+	interface Hidden<T,R>{
+		R apply(T t);
+	}
+	public static class Box<T>{
+		final T value;
+		public Box(T value){
+			this.value = value;
+		}
+		public <R> Box<R> map(Mapper<? super T,? extends R> fn){
+			return new Box<>(fn.map(value));
+		}
+		public Box<T> filter(Check<? super T> fn){
+			return fn.check(value) ? this : new Box<>(null);
+		}
+		public static <T> Box<T> of(T value){
+			return new Box<>(value);
+		}
+	}
+
+	public static class Overloaded{
+		final List<Object> values;
+		Overloaded(List<Object> values){
+			this.values = values;
+		}
+		public static Overloaded of(Object... values){
+			return new Overloaded(Arrays.asList(values));
+		}
+		public static Overloaded of(Object value){
+			return new Overloaded(Arrays.asList(value));
+		}
+	}
+
+	InvokeDynamic dyn = new InvokeDynamic();
+
+	@Test
+	public void execute(){
+		assertThat(dyn.execute("map",Optional.of(1),(Function<Integer,Integer>)i->i+1),equalTo(Optional.of(Optional.of(2))));
+	}
+	@Test
+	public void executeNonPublicImplementation(){
+		Optional<Stream<Integer>> result = dyn.execute("map",Stream.of(1,2),(Function<Integer,Integer>)i->i+1);
+		assertThat(result.get().collect(Collectors.toList()),equalTo(Arrays.asList(2,3)));
+	}
+	@Test
+	public void executePrimitives(){
+		assertThat(dyn.execute("charAt","hello",1),equalTo(Optional.of('e')));
+	}
+	@Test
+	public void executeVoid(){
+		List<Integer> list = new ArrayList<>();
+		assertFalse(dyn.execute("add",list,0,10).isPresent());
+		assertThat(list,equalTo(Arrays.asList(10)));
+	}
+	@Test
+	public void executeFirstNameFound(){
+		assertThat(dyn.execute(Arrays.asList("missing","map"),Optional.of(1),(Function<Integer,Integer>)i->i+1),equalTo(Optional.of(Optional.of(2))));
+	}
+	@Test
+	public void executeMissing(){
+		assertFalse(dyn.execute("missing",Optional.of(1)).isPresent());
+	}
+	@Test
+	public void executeStatic(){
+		assertThat(dyn.executeStatic(Arrays.asList("of"),Optional.class,1),equalTo(Optional.of(Optional.of(1))));
+	}
+	@Test
+	public void executeStaticPrefersNonVarargs(){
+		Optional<Overloaded> overloaded = dyn.executeStatic(Arrays.asList("of"),Overloaded.class,"hello");
+		assertThat(overloaded.get().values,equalTo(Arrays.asList((Object)"hello")));
+		Optional<Stream<Integer>> stream = dyn.executeStatic(Arrays.asList("of"),Stream.class,1);
+		assertThat(stream.get().collect(Collectors.toList()),equalTo(Arrays.asList(1)));
+		assertThat(dyn.instanceInvoker(Overloaded.class,"of",1),equalTo(Optional.empty()));
+	}
+	@Test
+	public void supplierAndStream(){
+		assertThat(dyn.stream(Arrays.asList(1,2)).get().count(),equalTo(2l));
+		assertThat(dyn.supplier(Arrays.asList(1,2),Arrays.asList("size")),equalTo(Optional.of(2)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void exceptionsPropagate(){
+		dyn.execute("map",new Box<>(1),(Mapper<Integer,Integer>)i->{ throw new IllegalStateException(); });
+	}
+	@Test
+	public void adapt(){
+		MethodInvoker map = dyn.instanceInvoker(Box.class,"map",1).get();
+		Object mapper = FunctionalAdapter.adapt(map.getMethod().getParameterTypes()[0],i->"hello"+i);
+		assertThat(((Box)map.invoke(new Box<>(1),mapper)).value,equalTo("hello1"));
+	}
+	@Test
+	public void adaptBoolean(){
+		Check<Integer> check = FunctionalAdapter.adapt(Check.class,i->((Integer)i)>1);
+		assertThat(new Box<>(2).filter(check).value,equalTo(2));
+		assertThat(new Box<>(1).filter(check).value,equalTo(null));
+	}
+	@Test
+	public void adaptNonPublic(){
+		Hidden<Integer,String> hidden = FunctionalAdapter.adapt(Hidden.class,i->"hello"+i);
+		assertThat(hidden.apply(1),equalTo("hello1"));
+	}
+	@Test
+	public void adaptFunction(){
+		Function<Integer,Integer> fn = i->i+1;
+		assertThat(FunctionalAdapter.adapt(Function.class,fn),equalTo(fn));
+	}
+}
@@ -0,0 +1,124 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.monad.AnyM;
+
+/**
+ * Cost of a 10 step map / filter / flatMap chain over AnyM compared with the same chain on the raw JDK type.
+ *
+ * anyM* uses the typed AnyM implementations selected by AnyM.fromXXX, comprehender* runs every step through the
+ * Comprehender (as all AnyM operations did before the typed implementations, see MonadWrapper.comprehended), jdk* is
+ * the equivalent JDK chain.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnyMChainBenchmark {
+
+	List<Integer> list = Arrays.asList(1,2,3,4,5,6,7,8,9,10);
+
+	@Benchmark
+	public Object jdkOptional(){
+		return Optional.of(1)
+					.map(i->i+1).filter(i->i>0).flatMap(i->Optional.of(i+1))
+					.map(i->i+1).filter(i->i>0).flatMap(i->Optional.of(i+1))
+					.map(i->i+1).filter(i->i>0).flatMap(i->Optional.of(i+1))
+					.map(i->i+1);
+	}
+	@Benchmark
+	public Object anyMOptional(){
+		return optionalChain(AnyM.fromOptional(Optional.of(1)));
+	}
+	@Benchmark
+	public Object comprehenderOptional(){
+		return optionalChain(comprehended(Optional.of(1)));
+	}
+
+	@Benchmark
+	public Object jdkStream(){
+		return list.stream()
+					.map(i->i+1).filter(i->i>0).flatMap(i->Stream.of(i+1))
+					.map(i->i+1).filter(i->i>0).flatMap(i->Stream.of(i+1))
+					.map(i->i+1).filter(i->i>0).flatMap(i->Stream.of(i+1))
+					.map(i->i+1)
+					.collect(Collectors.toList());
+	}
+	@Benchmark
+	public Object anyMStream(){
+		return streamChain(AnyM.fromStream(list.stream())).<Stream<Integer>>unwrap().collect(Collectors.toList());
+	}
+	@Benchmark
+	public Object comprehenderStream(){
+		return streamChain(comprehended(list.stream())).<Stream<Integer>>unwrap().collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public Object anyMList(){
+		return streamChain(AnyM.fromList(list)).unwrap();
+	}
+	@Benchmark
+	public Object comprehenderList(){
+		return streamChain(comprehended(list)).unwrap();
+	}
+
+	@Benchmark
+	public Object jdkCompletableFuture(){
+		return CompletableFuture.completedFuture(1)
+					.thenApply(i->i+1).thenApply(i->i+1).thenCompose(i->CompletableFuture.completedFuture(i+1))
+					.thenApply(i->i+1).thenApply(i->i+1).thenCompose(i->CompletableFuture.completedFuture(i+1))
+					.thenApply(i->i+1).thenApply(i->i+1).thenCompose(i->CompletableFuture.completedFuture(i+1))
+					.thenApply(i->i+1)
+					.join();
+	}
+	@Benchmark
+	public Object anyMCompletableFuture(){
+		return completableFutureChain(AnyM.fromCompletableFuture(CompletableFuture.completedFuture(1)))
+					.<CompletableFuture<Integer>>unwrap().join();
+	}
+	@Benchmark
+	public Object comprehenderCompletableFuture(){
+		return completableFutureChain(comprehended(CompletableFuture.completedFuture(1)))
+					.<CompletableFuture<Integer>>unwrap().join();
+	}
+
+	private AnyM<Integer> optionalChain(AnyM<Integer> anyM){
+		return anyM.map(i->i+1).filter(i->i>0).<Integer>flatMapOptional(i->Optional.of(i+1))
+					.map(i->i+1).filter(i->i>0).<Integer>flatMapOptional(i->Optional.of(i+1))
+					.map(i->i+1).filter(i->i>0).<Integer>flatMapOptional(i->Optional.of(i+1))
+					.map(i->i+1);
+	}
+	private AnyM<Integer> streamChain(AnyM<Integer> anyM){
+		return anyM.map(i->i+1).filter(i->i>0).<Integer>flatMapStream(i->Stream.of(i+1))
+					.map(i->i+1).filter(i->i>0).<Integer>flatMapStream(i->Stream.of(i+1))
+					.map(i->i+1).filter(i->i>0).<Integer>flatMapStream(i->Stream.of(i+1))
+					.map(i->i+1);
+	}
+	/*
+	 * no filter, a filtered out value would never complete
+	 */
+	private AnyM<Integer> completableFutureChain(AnyM<Integer> anyM){
+		return anyM.map(i->i+1).map(i->i+1).<Integer>flatMapCompletableFuture(i->CompletableFuture.completedFuture(i+1))
+					.map(i->i+1).map(i->i+1).<Integer>flatMapCompletableFuture(i->CompletableFuture.completedFuture(i+1))
+					.map(i->i+1).map(i->i+1).<Integer>flatMapCompletableFuture(i->CompletableFuture.completedFuture(i+1))
+					.map(i->i+1);
+	}
+	private <T> AnyM<T> comprehended(Object monad){
+		return MonadWrapper.comprehended(monad);
+	}
+}
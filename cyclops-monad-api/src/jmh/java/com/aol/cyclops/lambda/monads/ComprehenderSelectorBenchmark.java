@@ -0,0 +1,84 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.comprehensions.comprehenders.Comprehenders;
+import com.aol.cyclops.comprehensions.comprehenders.InvokeDynamicComprehender;
+import com.aol.cyclops.lambda.api.Comprehender;
+import com.aol.cyclops.monad.AnyM;
+
+/**
+ * Per operation cost of Comprehender selection.
+ *
+ * linearScan* reproduces the per call scan over the registered Comprehenders that each Monad / AnyM operation
+ * performed before selection moved to the shared dispatch table, shared* measures the dispatch table itself.
+ * The bind chains measure the end to end cost of AnyM bind on Optional and Stream.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComprehenderSelectorBenchmark {
+
+	Optional<Integer> optional = Optional.of(1);
+	Stream<Integer> stream = Stream.of(1);
+
+	@Benchmark
+	public Comprehender linearScanOptional(){
+		return linearScan(optional.getClass());
+	}
+	@Benchmark
+	public Comprehender sharedOptional(){
+		return ComprehenderSelector.instance().selectComprehender(optional);
+	}
+	@Benchmark
+	public Comprehender linearScanStream(){
+		return linearScan(stream.getClass());
+	}
+	@Benchmark
+	public Comprehender sharedStream(){
+		return ComprehenderSelector.instance().selectComprehender(stream);
+	}
+
+	@Benchmark
+	public Object bindOptionalChain(){
+		return AnyM.fromOptional(Optional.of(1))
+					.<Integer>bind(i->Optional.of(i+1))
+					.<Integer>bind(i->Optional.of(i+1))
+					.<Integer>bind(i->Optional.of(i+1))
+					.<Integer>bind(i->Optional.of(i+1))
+					.<Integer>bind(i->Optional.of(i+1))
+					.unwrap();
+	}
+	@Benchmark
+	public Object bindStreamChain(){
+		return AnyM.fromStream(Stream.of(1,2,3))
+					.<Integer>bind(i->Stream.of(i+1))
+					.<Integer>bind(i->Stream.of(i+1))
+					.<Integer>bind(i->Stream.of(i+1))
+					.<Integer>bind(i->Stream.of(i+1))
+					.<Integer>bind(i->Stream.of(i+1))
+					.<Stream<Integer>>unwrap()
+					.collect(Collectors.toList());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Comprehender linearScan(Class structure){
+		return new Comprehenders().getRegisteredComprehenders().stream()
+									.filter(e -> e.getKey().isAssignableFrom(structure))
+									.map(e->e.getValue())
+									.findFirst()
+									.orElse(new InvokeDynamicComprehender(Optional.of(structure)));
+	}
+}
@@ -0,0 +1,93 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.comprehensions.comprehenders.InvokeDynamicComprehender;
+import com.aol.cyclops.invokedynamic.InvokeDynamic;
+import com.aol.cyclops.invokedynamic.MethodInvoker;
+
+/**
+ * Cost of calling map by name on a type not known at compile time compared with a direct call.
+ *
+ * direct* calls map directly, callSite* invokes it via an inexact MethodHandle (as InvokeDynamic did before invokers were
+ * generated via LambdaMetafactory), invoker* calls a cached MethodInvoker, execute* looks the invoker up by name on
+ * each call and comprehender* maps via InvokeDynamicComprehender (adapting the Function to Box.Mapper on each call).
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvokeDynamicBenchmark {
+
+	public interface Mapper<T,R>{
+		R map(T t);
+	}
+	public static class Box<T>{
+		private final T value;
+		public Box(T value){
+			this.value = value;
+		}
+		public <R> Box<R> map(Mapper<? super T,? extends R> fn){
+			return new Box<>(fn.map(value));
+		}
+	}
+
+	Function<Integer,Integer> fn = i->i+1;
+	Mapper<Integer,Integer> mapper = i->i+1;
+	Optional<Integer> optional = Optional.of(1);
+	Box<Integer> box = new Box<>(1);
+
+	InvokeDynamic dyn = new InvokeDynamic();
+	InvokeDynamicComprehender comprehender = new InvokeDynamicComprehender(Optional.of(Box.class));
+	MethodInvoker optionalInvoker = dyn.instanceInvoker(Optional.class,"map",1).get();
+	MethodHandle optionalCallSite = callSite(Optional.class);
+
+	@Benchmark
+	public Object directOptional(){
+		return optional.map(fn);
+	}
+	@Benchmark
+	public Object callSiteOptional() throws Throwable{
+		return optionalCallSite.invoke(optional,fn);
+	}
+	@Benchmark
+	public Object invokerOptional(){
+		return optionalInvoker.invoke(optional,fn);
+	}
+	@Benchmark
+	public Object executeOptional(){
+		return dyn.execute("map",optional,fn);
+	}
+
+	@Benchmark
+	public Object directBox(){
+		return box.map(mapper);
+	}
+	@Benchmark
+	public Object comprehenderBox(){
+		return comprehender.map(box,fn);
+	}
+
+	private static MethodHandle callSite(Class type){
+		try{
+			return new ConstantCallSite(MethodHandles.publicLookup()
+												.unreflect(type.getMethod("map",Function.class)))
+								.dynamicInvoker();
+		}catch(ReflectiveOperationException e){
+			throw new RuntimeException(e);
+		}
+	}
+}
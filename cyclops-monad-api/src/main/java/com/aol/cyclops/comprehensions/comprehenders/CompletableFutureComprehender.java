@@ -21,6 +21,14 @@ public class CompletableFutureComprehender implements Comprehender<CompletableFu
 		return t.thenCompose(fn);
 	}
 
+	/*
+	 * flatMap already composes a CompletableFuture host via thenCompose without blocking
+	 */
+	@Override
+	public CompletableFuture<Object> executeflatMapAsync(CompletableFuture t, Function fn) {
+		return CompletableFuture.completedFuture(executeflatMap(t,fn));
+	}
+
 	@Override
 	public boolean instanceOfT(Object apply) {
 		return apply instanceof CompletableFuture;
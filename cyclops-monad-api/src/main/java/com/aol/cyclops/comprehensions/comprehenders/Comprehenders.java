@@ -14,12 +14,15 @@ import com.aol.cyclops.sequence.Reducers;
 /**
  * Registered Comprehenders
  * 
+ * Comprehenders are loaded via the ServiceLoader, additional Comprehenders can be registered programatically
+ * via {@link #register(Comprehender)}
+ * 
  * @author johnmcclean
  *
  */
 public class Comprehenders {
 	
-	private final static PStack<Map.Entry<Class,Comprehender>> comprehenders;
+	private static volatile PStack<Map.Entry<Class,Comprehender>> comprehenders;
 	static {	
 		ServiceLoader<Comprehender> loader  = ServiceLoader.load(Comprehender.class);
 		
@@ -39,4 +42,52 @@ public class Comprehenders {
 		return comprehenders;
 	}
 	
+	/**
+	 * @return Current snapshot of the registered Comprehenders
+	 */
+	public static PStack<Map.Entry<Class,Comprehender>> registered(){
+		return comprehenders;
+	}
+	
+	/**
+	 * Register a Comprehender for it's target class. The Comprehender is ordered by priority, and takes
+	 * precedence over already registered Comprehenders with the same priority.
+	 * 
+	 * <pre>{@code
+	 * 	Comprehenders.register(new MyMonadComprehender());
+	 * 
+	 *  AnyM.ofMonad(new MyMonad(10)).map(i->i+1);   //now uses MyMonadComprehender
+	 * }</pre>
+	 * 
+	 * @param comprehender Comprehender to register
+	 */
+	public static synchronized void register(Comprehender comprehender){
+		PStack<Map.Entry<Class,Comprehender>> current = comprehenders;
+		int index = 0;
+		for(Map.Entry<Class,Comprehender> next : current){
+			if(next.getValue().priority()<=comprehender.priority())
+				break;
+			index++;
+		}
+		comprehenders = current.plus(index,new AbstractMap.SimpleEntry<>(comprehender.getTargetClass(),comprehender));
+	}
+	/**
+	 * Remove a Comprehender added via {@link #register(Comprehender)}
+	 * 
+	 * @param comprehender Comprehender to remove
+	 * @return true if the Comprehender was registered
+	 */
+	public static synchronized boolean unregister(Comprehender comprehender){
+		PStack<Map.Entry<Class,Comprehender>> current = comprehenders;
+		int index = 0;
+		for(Map.Entry<Class,Comprehender> next : current){
+			if(next.getValue()==comprehender){
+				comprehenders = current.minus(index);
+				return true;
+			}
+			index++;
+		}
+		return false;
+	}
+	
 }
@@ -1,13 +1,86 @@
 package com.aol.cyclops.comprehensions.comprehenders;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
-public class MaterializedList<E> extends ArrayList<E> implements List<E> {
+/**
+ * The values of a Stream returned from a flatMap function to a host Monad that holds a single value (e.g. Optional).
+ *
+ * Values are pulled from the Stream as they are accessed, so hosts that only need the first value (see takeFirst)
+ * don't consume the rest of the Stream, which may be large or infinite. Operations that need the size of the List
+ * consume the whole Stream.
+ *
+ * @param <E> Type of the Stream's values
+ */
+public class MaterializedList<E> extends AbstractList<E> implements List<E> {
 
+	private final List<E> values = new ArrayList<>();
+	private Iterator<? extends E> remaining;
+
+	public MaterializedList(){
+		this(Collections.emptyIterator());
+	}
 	/**
-	 * 
+	 * @param remaining Values to pull into this List as they are accessed
 	 */
-	private static final long serialVersionUID = 1L;
+	public MaterializedList(Iterator<? extends E> remaining){
+		this.remaining = remaining;
+	}
+
+	@Override
+	public E get(int index){
+		pull(index+1);
+		return values.get(index);
+	}
+	@Override
+	public int size(){
+		pull(Integer.MAX_VALUE);
+		return values.size();
+	}
+	@Override
+	public boolean isEmpty(){
+		pull(1);
+		return values.isEmpty();
+	}
+	@Override
+	public Iterator<E> iterator(){
+		return new Iterator<E>(){
+			int index = 0;
+			@Override
+			public boolean hasNext(){
+				pull(index+1);
+				return index<values.size();
+			}
+			@Override
+			public E next(){
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values.get(index++);
+			}
+		};
+	}
+	@Override
+	public E set(int index, E element){
+		pull(index+1);
+		return values.set(index,element);
+	}
+	@Override
+	public void add(int index, E element){
+		pull(Integer.MAX_VALUE);
+		values.add(index,element);
+	}
+	@Override
+	public E remove(int index){
+		pull(Integer.MAX_VALUE);
+		return values.remove(index);
+	}
 
+	private void pull(int required){
+		while(values.size()<required && remaining.hasNext())
+			values.add(remaining.next());
+	}
 }
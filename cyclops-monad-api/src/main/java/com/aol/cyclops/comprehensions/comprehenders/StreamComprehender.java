@@ -10,6 +10,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.aol.cyclops.lambda.api.Comprehender;
+import com.aol.cyclops.sequence.spliterators.LazyFlatMapSpliterator;
 
 public class StreamComprehender implements Comprehender<Stream> {
 	public Class getTargetClass(){
@@ -27,9 +28,12 @@ public class StreamComprehender implements Comprehender<Stream> {
 	public Stream executeflatMap(Stream t, Function fn){
 		return flatMap(t,input -> unwrapOtherMonadTypes(this,fn.apply(input)));
 	}
+	/*
+	 * values are pulled from each inner Stream as they are needed (see LazyFlatMapSpliterator)
+	 */
 	@Override
 	public Stream flatMap(Stream t, Function fn) {
-		return t.flatMap(fn);
+		return LazyFlatMapSpliterator.flatMap(t,fn);
 	}
 
 	@Override
@@ -46,8 +50,9 @@ public class StreamComprehender implements Comprehender<Stream> {
 	}
 	public static <T> T unwrapOtherMonadTypes(Comprehender<T> comp,Object apply){
 		
-		
-		
+		if(apply instanceof Stream){
+			return (T)apply;
+		}
 		if(apply instanceof Collection){
 			return (T)((Collection)apply).stream();
 		}
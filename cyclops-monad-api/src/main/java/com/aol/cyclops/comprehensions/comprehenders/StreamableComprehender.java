@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.lambda.api.Comprehender;
+import com.aol.cyclops.sequence.spliterators.LazyFlatMapSpliterator;
 import com.aol.cyclops.sequence.streamable.Streamable;
 
 public class StreamableComprehender implements Comprehender {
@@ -30,7 +31,7 @@ public class StreamableComprehender implements Comprehender {
 	}
 	@Override
 	public Object flatMap(Object t, Function fn) {
-		return ((Streamable)t).stream().flatMap(fn);
+		return LazyFlatMapSpliterator.flatMap(((Streamable)t).stream(),fn);
 	}
 
 	@Override
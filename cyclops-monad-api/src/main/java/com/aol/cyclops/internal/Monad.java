@@ -70,7 +70,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 	 */
 	default <R,NT> Monad<R,NT> streamedMonad(){
 		Stream stream = Stream.of(1);
-		 Monad r = this.<Stream,T>withMonad((Stream)new ComprehenderSelector().selectComprehender(
+		 Monad r = this.<Stream,T>withMonad((Stream)ComprehenderSelector.instance().selectComprehender(
 				stream).executeflatMap(stream, i-> unwrap()));
 		 return r.flatMap(e->e);
 	}
@@ -85,7 +85,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 		if(unwrap() instanceof Iterable)
 			return StreamSupport.stream(((Iterable)unwrap()).spliterator(), false);
 		Stream stream = Stream.of(1);
-		return (Stream)withMonad((Stream)new ComprehenderSelector().selectComprehender(
+		return (Stream)withMonad((Stream)ComprehenderSelector.instance().selectComprehender(
 				stream).executeflatMap(stream, i-> unwrap()))
 				.unwrap();
 		
@@ -136,7 +136,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 	 * @return flatMapped monad
 	 */
 	default <R> Monad<MONAD,T> bind(Function<? super T,? extends R> fn){
-		return withMonad((MONAD)new ComprehenderSelector().selectComprehender(
+		return withMonad((MONAD)ComprehenderSelector.instance().selectComprehender(
 				unwrap())
 				.executeflatMap(unwrap(), fn));
 	
@@ -149,10 +149,24 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 	 * @return flatMapped monad
 	 */
 	default <MONAD1,R> Monad<MONAD1,R> liftAndBind(Function<? super T,?> fn){
-		return withMonad((MONAD)new ComprehenderSelector().selectComprehender(
+		return withMonad((MONAD)ComprehenderSelector.instance().selectComprehender(
 				unwrap())
 				.liftAndFlatMap(unwrap(), fn));
-	
+
+	}
+	/**
+	 * Perform a bind operation (@see #bind) where CompletableFutures returned by the bind function are composed
+	 * rather than joined
+	 *
+	 * @param fn flatMap function
+	 * @return CompletableFuture of the flatMapped monad
+	 */
+	default <R> CompletableFuture<Monad<MONAD,T>> bindAsync(Function<? super T,? extends R> fn){
+		return ComprehenderSelector.instance().selectComprehender(
+				unwrap())
+				.executeflatMapAsync(unwrap(), fn)
+				.thenApply(m->withMonad(m));
+
 	}
 	
 	/**
@@ -172,7 +186,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 	 */
 	default <T> Optional<T> toOptional(){
 		Optional stream = Optional.of(1);
-		return this.<Optional,T>withMonad((Optional)new ComprehenderSelector().selectComprehender(
+		return this.<Optional,T>withMonad((Optional)ComprehenderSelector.instance().selectComprehender(
 				stream).executeflatMap(stream, i-> unwrap())).unwrap();
 		
 	}
@@ -186,7 +200,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 		
 		
 		Stream stream = Stream.of(1);
-		 Monad r = this.<Stream,T>withMonad((Stream)new ComprehenderSelector().selectComprehender(
+		 Monad r = this.<Stream,T>withMonad((Stream)ComprehenderSelector.instance().selectComprehender(
 				stream).executeflatMap(stream, i-> unwrap()));
 		 return r.flatMap(e->e);
 		 
@@ -207,7 +221,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 	 * @return new instance of underlying Monad
 	 */
 	default <MONAD,T> MONAD unit(T value) {
-		return (MONAD)new ComprehenderSelector().selectComprehender(unwrap()).of(value);
+		return (MONAD)ComprehenderSelector.instance().selectComprehender(unwrap()).of(value);
 	}
 	
 
@@ -229,7 +243,7 @@ public interface Monad<MONAD,T> extends MonadFunctions<MONAD,T>,Functor<T>, Filt
 	default <R> Monad<MONAD,R> aggregate(Monad<?,?> next){
 		Stream concat = Stream.concat(stream(),next.stream() );
 		
-		return (Monad)withMonad(new ComprehenderSelector().selectComprehender(
+		return (Monad)withMonad(ComprehenderSelector.instance().selectComprehender(
 				unwrap()).of(fromStream(concat)
 						.flatMap(Function.identity())
 						.sequence().collect(Collectors.toList())))
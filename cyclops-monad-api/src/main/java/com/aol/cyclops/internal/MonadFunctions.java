@@ -120,7 +120,7 @@ public interface MonadFunctions<MONAD,T>{
 	//	List(2, 8, 3, 1).foldLeftM(0) {binSmalls} -> Optional(14)
 	//	convert to list Optionals
 		
-		return asMonad(fromStream(stream()).map(value ->new ComprehenderSelector()
+		return asMonad(fromStream(stream()).map(value ->ComprehenderSelector.instance()
 							.selectComprehender(reducer.zero().getClass()).of(value))
 							.sequence().reduce((Monoid)reducer));		
 	}
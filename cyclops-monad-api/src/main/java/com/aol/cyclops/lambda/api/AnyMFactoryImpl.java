@@ -19,7 +19,7 @@ public class AnyMFactoryImpl implements AnyMFactory{
 	@Override
 	public <T> AnyM<T> of(Object o) {
 		
-		if(new ComprehenderSelector().selectComprehender(
+		if(ComprehenderSelector.instance().selectComprehender(
 				o) instanceof InvokeDynamicComprehender)
 			return new MonadWrapper<>(new MonadicConverters().convertToMonadicForm(o)).anyM();
 		return new MonadWrapper<>(o).anyM();
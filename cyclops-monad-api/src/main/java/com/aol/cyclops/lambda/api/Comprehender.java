@@ -1,17 +1,16 @@
 package com.aol.cyclops.lambda.api;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.BaseStream;
 import java.util.stream.Collectors;
-import java.util.stream.DoubleStream;
-import java.util.stream.IntStream;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.comprehensions.comprehenders.MaterializedList;
+import com.aol.cyclops.comprehensions.comprehenders.StreamComprehender;
 import com.aol.cyclops.comprehensions.converters.MonadicConverters;
 import com.aol.cyclops.lambda.monads.ComprehenderSelector;
 import com.aol.cyclops.lambda.monads.transformers.StreamT;
@@ -96,6 +95,34 @@ public interface Comprehender<T> {
 	}
 	
 	
+	/**
+	 * Asynchronous alternative to executeflatMap for flatMap functions that return CompletableFutures.
+	 * The host Monad is traversed eagerly and fn applied to each value, rather than joining each CompletableFuture
+	 * returned (as executeflatMap does) they are composed and the flatMap completed once they all have.
+	 *
+	 * @param t Monad to perform flatMap on
+	 * @param fn FlatMap function that returns a CompletableFuture or any other type supported by executeflatMap
+	 * @return CompletableFuture that completes with the flatMapped host Monad
+	 */
+	default CompletableFuture<Object> executeflatMapAsync(T t, Function fn){
+		StreamComprehender streams = new StreamComprehender();
+		List<Object> results = ((Stream<Object>)StreamComprehender.unwrapOtherMonadTypes(streams,t))
+														.map(in -> fn.apply(in))
+														.collect(Collectors.toList());
+		CompletableFuture[] futures = results.stream()
+												.filter(r -> r instanceof CompletableFuture)
+												.toArray(CompletableFuture[]::new);
+		//all the futures have completed by the time executeflatMap resolves (joins) them
+		return CompletableFuture.allOf(futures).thenApply(completed -> {
+			if(results.size()==0)
+				return empty();
+			if(results.size()==1)
+				return executeflatMap(of(1),input -> results.get(0));
+			return executeflatMap(of(1),input -> results.stream()
+											.flatMap(r -> (Stream<Object>)StreamComprehender.unwrapOtherMonadTypes(streams,r)));
+		});
+	}
+	
 	public Object flatMap(T t, Function fn);
 	
 	default boolean instanceOfT(Object apply){
@@ -123,18 +150,9 @@ public interface Comprehender<T> {
 		
 		
 		
-		if (apply instanceof Stream) {
-			return comp.of(((Stream) apply).collect(Collectors.toCollection(MaterializedList::new)));
-		}
-		
-		if (apply instanceof IntStream) {
-			return comp.of(((IntStream) apply).boxed().collect(Collectors.toCollection(MaterializedList::new)));
-		}
-		if (apply instanceof DoubleStream) {
-			return comp.of(((DoubleStream) apply).boxed().collect(Collectors.toCollection(MaterializedList::new)));
-		}
-		if (apply instanceof LongStream) {
-			return comp.of(((LongStream) apply).boxed().collect(Collectors.toCollection(MaterializedList::new)));
+		//values are pulled from the Stream as the MaterializedList is accessed
+		if (apply instanceof BaseStream) {
+			return comp.of(new MaterializedList(((BaseStream) apply).iterator()));
 		}
 		if (apply instanceof CompletableFuture) {
 			return comp.of(((CompletableFuture) apply).join());
@@ -142,7 +160,7 @@ public interface Comprehender<T> {
 		if(apply instanceof StreamT)
 			return comp.of( ((StreamT)apply).unwrap());
 
-		return (T) new ComprehenderSelector().selectComprehender(apply)
+		return (T) ComprehenderSelector.instance().selectComprehender(apply)
 				.resolveForCrossTypeFlatMap(comp,apply);
 
 	}
@@ -33,6 +33,9 @@ import com.aol.cyclops.sequence.streamable.Streamable;
 /**
  * 
  * Wrapper for Any Monad type
+ * 
+ * Optional, Stream, CompletableFuture and List are wrapped by subclasses that call the JDK types directly (see
+ * MonadWrapper#anyM), other types are handled via their Comprehender.
  * @see AnyMonads companion class for static helper methods
  * 
  * @author johnmcclean
@@ -45,8 +48,8 @@ public class AnyMImpl<T> implements AnyM<T>{
 	private final Monad<Object,T> monad;
 	private final Class initialType;
 	
-	public final <R> R unwrap(){
-		return (R)new ComprehenderSelector().selectComprehender(initialType).unwrap(monad.unwrap());
+	public <R> R unwrap(){
+		return (R)ComprehenderSelector.instance().selectComprehender(initialType).unwrap(monad.unwrap());
 	}
 	/**
 	 * Collect the contents of the monad wrapped by this AnyM into supplied collector
@@ -66,19 +69,19 @@ public class AnyMImpl<T> implements AnyM<T>{
 		return (Monad)monad;
 	}
 	
-	public final   AnyM<T>  filter(Predicate<? super T> fn){
+	public AnyM<T>  filter(Predicate<? super T> fn){
 		return monad.filter(fn).anyM();
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.lambda.monads.Functor#map(java.util.function.Function)
 	 */
-	public final  <R> AnyM<R> map(Function<? super T,? extends R> fn){
+	public <R> AnyM<R> map(Function<? super T,? extends R> fn){
 		return monad.map(fn).anyM();
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.lambda.monads.Functor#peek(java.util.function.Consumer)
 	 */
-	public final   AnyM<T>  peek(Consumer<? super T> c) {
+	public AnyM<T>  peek(Consumer<? super T> c) {
 		return monad.peek(c).anyM();
 	}
 	
@@ -103,9 +106,19 @@ public class AnyMImpl<T> implements AnyM<T>{
 	 */
 	public final <R> AnyM<R> liftAndBind(Function<? super T,?> fn){
 		return monad.liftAndBind(fn).anyM();
-	
+
 	}
-	
+	/**
+	 * Perform a bind operation (@see #bind) composing any CompletableFutures returned by the bind function rather than
+	 * blocking on them
+	 *
+	 * @param fn flatMap function
+	 * @return CompletableFuture of the flatMapped monad
+	 */
+	public final <R> CompletableFuture<AnyM<R>> bindAsync(Function<? super T,?> fn){
+		return monad.bindAsync(fn).thenApply(m->m.<R>anyM());
+	}
+
 	
 	/**
 	 * Perform a flatMap operation where the result will be a flattened stream of Characters
@@ -142,9 +155,9 @@ public class AnyMImpl<T> implements AnyM<T>{
 		}
 		
 	}
-	private <T> T takeFirst(Object o){
+	<T> T takeFirst(Object o){
 		if(o instanceof MaterializedList){
-			if(((List)o).size()==0)
+			if(((List)o).isEmpty())
 				throw new GotoAsEmpty();
 			return (T)((List)o).get(0);
 		}
@@ -282,7 +295,7 @@ public class AnyMImpl<T> implements AnyM<T>{
 	 * @param fn
 	 * @return 
 	 */
-	public final <R> AnyM<R> flatMap(Function<? super T,AnyM<? extends R>> fn) {
+	public <R> AnyM<R> flatMap(Function<? super T,AnyM<? extends R>> fn) {
 		try{
 			return monad.flatMap(in -> fn.apply(in).unwrap()).anyM().map(this::takeFirst);
 		}catch(GotoAsEmpty e){
@@ -296,7 +309,7 @@ public class AnyMImpl<T> implements AnyM<T>{
 	 * @param fn
 	 * @return
 	 */
-	public final <R> AnyM<R> flatMapStream(Function<? super T,BaseStream<? extends R,?>> fn) {
+	public <R> AnyM<R> flatMapStream(Function<? super T,BaseStream<? extends R,?>> fn) {
 		try{
 			return monad.flatMap(in -> fn.apply(in)).anyM().map(this::takeFirst);
 		}catch(GotoAsEmpty e){
@@ -338,7 +351,7 @@ public class AnyMImpl<T> implements AnyM<T>{
 	 * @param fn
 	 * @return
 	 */
-	public final <R> AnyM<R> flatMapCollection(Function<? super T,Collection<? extends R>> fn) {
+	public <R> AnyM<R> flatMapCollection(Function<? super T,Collection<? extends R>> fn) {
 		try{
 			return monad.flatMap(in -> fn.apply(in)).anyM().map(this::takeFirst);
 		}catch(GotoAsEmpty e){
@@ -351,10 +364,10 @@ public class AnyMImpl<T> implements AnyM<T>{
 	 * @param fn
 	 * @return
 	 */
-	public final <R> AnyM<R> flatMapOptional(Function<? super T,Optional<? extends R>> fn) {
+	public <R> AnyM<R> flatMapOptional(Function<? super T,Optional<? extends R>> fn) {
 		return monad.flatMap(in -> fn.apply(in)).anyM();
 	}
-	public final <R> AnyM<R> flatMapCompletableFuture(Function<? super T,CompletableFuture<? extends R>> fn) {
+	public <R> AnyM<R> flatMapCompletableFuture(Function<? super T,CompletableFuture<? extends R>> fn) {
 		return monad.flatMap(in -> fn.apply(in)).anyM();
 	}
 	
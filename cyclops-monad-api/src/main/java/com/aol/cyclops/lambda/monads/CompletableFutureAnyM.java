@@ -0,0 +1,70 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.comprehensions.comprehenders.CompletableFutureComprehender;
+import com.aol.cyclops.lambda.api.Comprehender;
+import com.aol.cyclops.monad.AnyM;
+
+/**
+ * AnyM for CompletableFuture that calls CompletableFuture directly. Only flatMaps to another monad type use the
+ * Comprehender (once the future has completed).
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the future's result
+ */
+class CompletableFutureAnyM<T> extends AnyMImpl<T> {
+
+	private static final CompletableFutureComprehender COMPREHENDER = new CompletableFutureComprehender();
+
+	private final CompletableFuture<T> future;
+	private final Class initialType;
+
+	CompletableFutureAnyM(CompletableFuture<T> future, Class initialType){
+		super(new MonadWrapper<>(future,initialType),initialType);
+		this.future = future;
+		this.initialType = initialType;
+	}
+
+	@Override
+	public <R> R unwrap(){
+		return (R)future;
+	}
+	/*
+	 * As CompletableFutureComprehender, filtered out values result in a future that never completes
+	 */
+	@Override
+	public AnyM<T> filter(Predicate<? super T> fn){
+		return new CompletableFutureAnyM<>(future.thenCompose(in->fn.test(in) ? CompletableFuture.completedFuture(in)
+																		: new CompletableFuture<T>()),initialType);
+	}
+	@Override
+	public <R> AnyM<R> map(Function<? super T,? extends R> fn){
+		return new CompletableFutureAnyM<>(future.thenApply(fn),initialType);
+	}
+	@Override
+	public AnyM<T> peek(Consumer<? super T> c){
+		return map(input->{
+			c.accept(input);
+			return input;
+		});
+	}
+	@Override
+	public <R> AnyM<R> flatMap(Function<? super T,AnyM<? extends R>> fn){
+		return new CompletableFutureAnyM<>(future.thenCompose(in->{
+			Object unwrapped = fn.apply(in).unwrap();
+			if(unwrapped instanceof CompletableFuture)
+				return (CompletableFuture<R>)unwrapped;
+			return ((CompletableFuture<Object>)Comprehender.unwrapOtherMonadTypes(COMPREHENDER,unwrapped))
+															.thenApply(this::<R>takeFirst);
+		}),initialType);
+	}
+	@Override
+	public <R> AnyM<R> flatMapCompletableFuture(Function<? super T,CompletableFuture<? extends R>> fn){
+		return new CompletableFutureAnyM<>(future.thenCompose(in->(CompletableFuture<R>)fn.apply(in)),initialType);
+	}
+}
@@ -1,38 +1,79 @@
 package com.aol.cyclops.lambda.monads;
 
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+
+import org.pcollections.PStack;
 
 import com.aol.cyclops.comprehensions.comprehenders.Comprehenders;
 import com.aol.cyclops.comprehensions.comprehenders.InvokeDynamicComprehender;
 import com.aol.cyclops.lambda.api.Comprehender;
 
+/**
+ * Selects the Comprehender for a Monad type.
+ *
+ * Selections are held in a single process wide, class keyed dispatch table (a ClassValue) shared by all
+ * ComprehenderSelector instances, so the scan over registered Comprehenders happens once per class rather
+ * than once per operation. The table is rebuilt lazily when a new Comprehender is registered via
+ * {@link Comprehenders#register(Comprehender)}
+ *
+ * @author johnmcclean
+ *
+ */
 public class ComprehenderSelector {
 
-	private final Comprehenders comprehenders = new Comprehenders();
-	@SuppressWarnings("rawtypes")
-	private final ConcurrentMap<Class,Comprehender> cache= new ConcurrentHashMap<>();
-	
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final ComprehenderSelector INSTANCE = new ComprehenderSelector();
+
+	private static volatile DispatchTable table = new DispatchTable(Comprehenders.registered());
+
+	/**
+	 * @return Shared ComprehenderSelector instance
+	 */
+	public static ComprehenderSelector instance(){
+		return INSTANCE;
+	}
+
+	@SuppressWarnings({ "rawtypes" })
 	public Comprehender selectComprehender(Class structure) {
-		
-		return cache.computeIfAbsent(structure, st->comprehenders.getRegisteredComprehenders().stream()
-																 .filter(e -> e.getKey().isAssignableFrom(structure))
-																 .map(e->e.getValue())
-																 .findFirst()
-																 .orElse(new InvokeDynamicComprehender(Optional.of(structure))));
+		return dispatchTable().get(structure);
 	}
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@SuppressWarnings({ "rawtypes" })
 	public Comprehender selectComprehender(Object structure) {
+		return dispatchTable().get(structure.getClass());
+	}
 
-		return cache.computeIfAbsent(structure.getClass(), st-> comprehenders.getRegisteredComprehenders().stream()
-																	.filter(e -> e.getKey().isAssignableFrom(structure.getClass()))
-																	.map(e->e.getValue())
-																	.findFirst()
-																	.orElse(new InvokeDynamicComprehender(Optional.ofNullable(structure)
-																	.map(Object::getClass))));
-		
+	private static ClassValue<Comprehender> dispatchTable(){
+		PStack<Map.Entry<Class,Comprehender>> registered = Comprehenders.registered();
+		DispatchTable current = table;
+		if(current.registered!=registered){
+			current = new DispatchTable(registered);
+			table = current;
+		}
+		return current.dispatch;
 	}
-	
+
+	/**
+	 * Class keyed lookup over a snapshot of the registered Comprehenders
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	private static class DispatchTable{
+		private final PStack<Map.Entry<Class,Comprehender>> registered;
+		private final ClassValue<Comprehender> dispatch;
+
+		DispatchTable(PStack<Map.Entry<Class,Comprehender>> registered){
+			this.registered = registered;
+			this.dispatch = new ClassValue<Comprehender>(){
+				@SuppressWarnings("unchecked")
+				@Override
+				protected Comprehender computeValue(Class<?> type) {
+					return registered.stream()
+									.filter(e -> e.getKey().isAssignableFrom(type))
+									.map(e->e.getValue())
+									.findFirst()
+									.orElse(new InvokeDynamicComprehender(Optional.of(type)));
+				}
+			};
+		}
+	}
+
 }
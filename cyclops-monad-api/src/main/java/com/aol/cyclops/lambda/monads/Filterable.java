@@ -17,7 +17,7 @@ import com.aol.cyclops.comprehensions.comprehenders.Comprehenders;
 public interface Filterable<T> {
 	
 	default   Filterable<T>  filter(Predicate<? super T> fn) {
-		T filterable = (T)new ComprehenderSelector().selectComprehender(
+		T filterable = (T)ComprehenderSelector.instance().selectComprehender(
 				getFilterable())
 				.filter(getFilterable(), fn);
 		return withFilterable( filterable );
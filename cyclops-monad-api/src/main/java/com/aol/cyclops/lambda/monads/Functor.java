@@ -58,7 +58,7 @@ public interface Functor<T> {
 	}
 	
 	default  <R> Functor<R>  map(Function<? super T,? extends R> fn) {
-		Object value = new ComprehenderSelector().selectComprehender(
+		Object value = ComprehenderSelector.instance().selectComprehender(
 				getFunctor()).map(getFunctor(), fn);
 	
 		return withFunctor((R)value);
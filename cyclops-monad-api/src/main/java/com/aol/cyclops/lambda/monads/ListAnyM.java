@@ -0,0 +1,27 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * AnyM for a List, operations Stream the List (so it can be reused) and continue as a StreamAnyM that is unwrapped
+ * back into a List.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the List's elements
+ */
+class ListAnyM<T> extends StreamAnyM<T> {
+
+	private final List<T> list;
+
+	ListAnyM(List<T> list, Class initialType){
+		super(new MonadWrapper<>(list,initialType),null,initialType);
+		this.list = list;
+	}
+
+	@Override
+	Stream<T> source(){
+		return list.stream();
+	}
+}
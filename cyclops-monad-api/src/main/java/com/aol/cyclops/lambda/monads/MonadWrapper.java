@@ -1,35 +1,78 @@
 package com.aol.cyclops.lambda.monads;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.Value;
 import lombok.experimental.Wither;
 
+import com.aol.cyclops.comprehensions.comprehenders.CompletableFutureComprehender;
+import com.aol.cyclops.comprehensions.comprehenders.ListComprehender;
+import com.aol.cyclops.comprehensions.comprehenders.OptionalComprehender;
+import com.aol.cyclops.comprehensions.comprehenders.StreamComprehender;
 import com.aol.cyclops.internal.Monad;
 import com.aol.cyclops.monad.AnyM;
 import com.aol.cyclops.objects.Decomposable;
 import com.aol.cyclops.sequence.SequenceM;
 
 @Value
-@AllArgsConstructor
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
 public class MonadWrapper<MONAD,T> implements Monad<MONAD,T>, Decomposable{
 	@Wither
 	private final Object monad;
 	private final Class orgType;
+	/*
+	 * false : anyM() always returns an AnyMImpl, so every operation goes via the Comprehender (kept by withMonad)
+	 */
+	@Getter(AccessLevel.NONE)
+	private final boolean typed;
 	
 	public MonadWrapper(Object monad){
-		this.monad = monad;
-		orgType= monad.getClass();
+		this(monad,monad.getClass());
+	}
+	public MonadWrapper(Object monad, Class orgType){
+		this(monad,orgType,true);
 	}
 	
 	public static <MONAD,T> Monad<MONAD,T>  of(Object of) {
 		return new MonadWrapper(of);
 		
 	}
+	/**
+	 * @param monad Monad to wrap
+	 * @return AnyM that performs every operation via the Comprehender for monad, rather than the typed AnyM
+	 * implementations used for the JDK types (to compare against them)
+	 */
+	static <T> AnyM<T> comprehended(Object monad){
+		return new MonadWrapper<>(monad,monad.getClass(),false).anyM();
+	}
 	public MONAD unwrap(){
 		return (MONAD)monad;
 	}
+	/*
+	 * Optional, CompletableFuture, Stream and List handled by their default Comprehenders get an AnyM that calls
+	 * them directly, the Comprehender is only looked up here rather than on every operation
+	 */
 	@Override
 	public <X> AnyM<X> anyM(){
+		if(!typed)
+			return new AnyMImpl<X>((Monad)this,orgType);
+		Class comprehender = ComprehenderSelector.instance().selectComprehender(orgType).getClass();
+		if(comprehender==OptionalComprehender.class && monad instanceof Optional)
+			return new OptionalAnyM<>((Optional<X>)monad,orgType);
+		if(comprehender==CompletableFutureComprehender.class && monad instanceof CompletableFuture)
+			return new CompletableFutureAnyM<>((CompletableFuture<X>)monad,orgType);
+		if(comprehender==StreamComprehender.class || comprehender==ListComprehender.class){
+			if(monad instanceof Stream)
+				return new StreamAnyM<>((Stream<X>)monad,orgType);
+			if(monad instanceof List)
+				return new ListAnyM<>((List<X>)monad,orgType);
+		}
 		return new AnyMImpl<X>((Monad)this,orgType);	
 	}
 	@Override
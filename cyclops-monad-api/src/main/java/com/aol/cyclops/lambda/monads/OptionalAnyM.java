@@ -0,0 +1,59 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.monad.AnyM;
+
+/**
+ * AnyM for Optional that calls Optional directly. Only flatMaps to another monad type use the Comprehender.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the Optional's value
+ */
+class OptionalAnyM<T> extends AnyMImpl<T> {
+
+	private final Optional<T> optional;
+
+	OptionalAnyM(Optional<T> optional, Class initialType){
+		super(new MonadWrapper<>(optional,initialType),initialType);
+		this.optional = optional;
+	}
+
+	@Override
+	public <R> R unwrap(){
+		return (R)optional;
+	}
+	@Override
+	public AnyM<T> filter(Predicate<? super T> fn){
+		return new OptionalAnyM<>(optional.filter(fn),Optional.class);
+	}
+	@Override
+	public <R> AnyM<R> map(Function<? super T,? extends R> fn){
+		return new OptionalAnyM<>(optional.map(fn),Optional.class);
+	}
+	@Override
+	public AnyM<T> peek(Consumer<? super T> c){
+		return map(input->{
+			c.accept(input);
+			return input;
+		});
+	}
+	@Override
+	public <R> AnyM<R> flatMap(Function<? super T,AnyM<? extends R>> fn){
+		if(!optional.isPresent())
+			return new OptionalAnyM<>(Optional.empty(),Optional.class);
+		AnyM<? extends R> next = fn.apply(optional.get());
+		Object unwrapped = next.unwrap();
+		if(unwrapped instanceof Optional)
+			return new OptionalAnyM<>((Optional<R>)unwrapped,Optional.class);
+		return super.flatMap(in->next);
+	}
+	@Override
+	public <R> AnyM<R> flatMapOptional(Function<? super T,Optional<? extends R>> fn){
+		return new OptionalAnyM<>(optional.flatMap(in->(Optional<R>)fn.apply(in)),Optional.class);
+	}
+}
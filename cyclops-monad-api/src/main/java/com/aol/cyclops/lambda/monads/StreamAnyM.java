@@ -0,0 +1,80 @@
+package com.aol.cyclops.lambda.monads;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.comprehensions.comprehenders.StreamComprehender;
+import com.aol.cyclops.internal.Monad;
+import com.aol.cyclops.monad.AnyM;
+import com.aol.cyclops.sequence.spliterators.LazyFlatMapSpliterator;
+
+/**
+ * AnyM for Stream (and for a List once it has been transformed into a Stream) that calls Stream directly.
+ * Elements flatMapped to another monad type are converted to a Stream as StreamComprehender would, inner Streams
+ * are consumed incrementally (see LazyFlatMapSpliterator).
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the Stream's elements
+ */
+class StreamAnyM<T> extends AnyMImpl<T> {
+
+	private static final StreamComprehender COMPREHENDER = new StreamComprehender();
+
+	private final Stream<T> stream;
+	protected final Class initialType;
+
+	StreamAnyM(Stream<T> stream, Class initialType){
+		this(new MonadWrapper<>(stream,initialType),stream,initialType);
+	}
+	protected StreamAnyM(Monad<?,T> monad, Stream<T> stream, Class initialType){
+		super((Monad)monad,initialType);
+		this.stream = stream;
+		this.initialType = initialType;
+	}
+
+	/**
+	 * @return Stream to apply the next operation to
+	 */
+	Stream<T> source(){
+		return stream;
+	}
+
+	@Override
+	public AnyM<T> filter(Predicate<? super T> fn){
+		return new StreamAnyM<>(source().filter(fn),initialType);
+	}
+	@Override
+	public <R> AnyM<R> map(Function<? super T,? extends R> fn){
+		return new StreamAnyM<>(source().map(fn),initialType);
+	}
+	@Override
+	public AnyM<T> peek(Consumer<? super T> c){
+		return map(input->{
+			c.accept(input);
+			return input;
+		});
+	}
+	@Override
+	public <R> AnyM<R> flatMap(Function<? super T,AnyM<? extends R>> fn){
+		return new StreamAnyM<>(LazyFlatMapSpliterator.flatMap(source(),in->StreamAnyM.<R>toStream(fn.apply(in).unwrap())),initialType);
+	}
+	@Override
+	public <R> AnyM<R> flatMapStream(Function<? super T,BaseStream<? extends R,?>> fn){
+		return new StreamAnyM<>(LazyFlatMapSpliterator.flatMap(source(),fn),initialType);
+	}
+	@Override
+	public <R> AnyM<R> flatMapCollection(Function<? super T,Collection<? extends R>> fn){
+		return new StreamAnyM<>(source().flatMap(in->fn.apply(in).stream()),initialType);
+	}
+
+	private static <R> Stream<R> toStream(Object unwrapped){
+		if(unwrapped instanceof Stream)
+			return (Stream<R>)unwrapped;
+		return StreamComprehender.unwrapOtherMonadTypes(COMPREHENDER,unwrapped);
+	}
+}
@@ -37,7 +37,7 @@ public class AnyMonads implements AnyMFunctions{
 	public  <T,R> AnyM<List<R>> traverse(Collection<AnyM<T>> seq, Function<T,R> fn){
 		if(seq.size()==0)
 			return AnyM.ofMonad(Optional.empty());
-		return asMonad(new ComprehenderSelector().selectComprehender(seq.iterator().next().unwrap().getClass()).of(1))
+		return asMonad(ComprehenderSelector.instance().selectComprehender(seq.iterator().next().unwrap().getClass()).of(1))
 								.flatMap(in-> asMonad(seq.stream().map(it->it.unwrap())).flatten().flatMap((Function)fn).unwrap()
 									).anyM();
 	}
@@ -81,7 +81,7 @@ public class AnyMonads implements AnyMFunctions{
 		if(seq.size()==0)
 			return AnyM.ofMonad(Optional.empty());
 		else
-			return asMonad(new ComprehenderSelector().selectComprehender(seq.iterator().next().unwrap().getClass()).of(1))
+			return asMonad(ComprehenderSelector.instance().selectComprehender(seq.iterator().next().unwrap().getClass()).of(1))
 				.flatMap(in-> AsGenericMonad.asMonad(seq.stream().map(it->it.unwrap())).flatten().unwrap()).anyM();
 	}
 	/**
@@ -0,0 +1,51 @@
+package com.aol.cyclops.comprehensions.comprehenders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class InvokeDynamicComprehenderTest {
+
+	public interface Mapper<T,R>{
+		R map(T t);
+	}
+	public static class Many<T>{
+		final List<T> values;
+		Many(List<T> values){
+			this.values = values;
+		}
+		public <R> Many<R> map(Mapper<? super T,? extends R> fn){
+			return new Many<>(values.stream().map(fn::map).collect(Collectors.toList()));
+		}
+		@SafeVarargs
+		public static <T> Many<T> of(T... values){
+			return new Many<>(Arrays.asList(values));
+		}
+		public static <T> Many<T> of(T value){
+			return new Many<>(Arrays.asList(value));
+		}
+	}
+
+	@Test
+	public void ofPrefersNonVarargsFactory(){
+		Many<Object> many = (Many)new InvokeDynamicComprehender(Optional.of(Many.class)).of("hello");
+		assertThat(many.values,equalTo(Arrays.asList((Object)"hello")));
+	}
+	@Test
+	public void ofStream(){
+		Stream<Integer> stream = (Stream)new InvokeDynamicComprehender(Optional.of(Stream.class)).of(1);
+		assertThat(stream.collect(Collectors.toList()),equalTo(Arrays.asList(1)));
+	}
+	@Test
+	public void map(){
+		Many<Object> many = (Many)new InvokeDynamicComprehender(Optional.of(Many.class)).map(Many.of(1,2),i->(Integer)i*10);
+		assertThat(many.values,equalTo(Arrays.asList((Object)10,20)));
+	}
+}
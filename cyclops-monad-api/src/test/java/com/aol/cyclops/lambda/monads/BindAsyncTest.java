@@ -0,0 +1,61 @@
+package com.aol.cyclops.lambda.monads;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.monad.AnyM;
+
+public class BindAsyncTest {
+
+	@Test
+	public void streamDoesNotBlock(){
+		CompletableFuture<Integer> gate = new CompletableFuture<>();
+		CompletableFuture<AnyM<Integer>> result = AnyM.fromStream(Stream.of(1,2,3))
+														.bindAsync(i->gate.thenApply(g->i*g));
+		assertFalse(result.isDone());
+		gate.complete(2);
+		assertThat(result.join().<Stream<Integer>>unwrap().collect(Collectors.toList()),equalTo(Arrays.asList(2,4,6)));
+	}
+	@Test
+	public void optional(){
+		assertThat(AnyM.fromOptional(Optional.of(1))
+						.bindAsync(i->CompletableFuture.supplyAsync(()->i+1))
+						.join().unwrap(),equalTo(Optional.of(2)));
+		assertThat(AnyM.fromOptional(Optional.<Integer>empty())
+						.bindAsync(i->CompletableFuture.supplyAsync(()->i+1))
+						.join().unwrap(),equalTo(Optional.empty()));
+	}
+	@Test
+	public void listWithMixedTypes(){
+		List<Integer> result = AnyM.fromList(Arrays.asList(1,2,3))
+									.<Integer>bindAsync(i->i==2 ? Optional.empty() : CompletableFuture.supplyAsync(()->i*10))
+									.join()
+									.unwrap();
+		assertThat(result,equalTo(Arrays.asList(10,30)));
+	}
+	@Test
+	public void completableFuture(){
+		CompletableFuture<Integer> result = AnyM.fromCompletableFuture(CompletableFuture.supplyAsync(()->1))
+													.<Integer>bindAsync(i->CompletableFuture.supplyAsync(()->i+1))
+													.join()
+													.unwrap();
+		assertThat(result.join(),equalTo(2));
+	}
+	@Test
+	public void failedFuture(){
+		CompletableFuture<Integer> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException());
+		assertTrue(AnyM.fromStream(Stream.of(1)).bindAsync(i->failed).isCompletedExceptionally());
+	}
+}
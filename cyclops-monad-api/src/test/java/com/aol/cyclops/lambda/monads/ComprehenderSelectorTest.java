@@ -28,7 +28,10 @@ import java.util.stream.Stream;
 
 import org.junit.Test;
 
+import com.aol.cyclops.comprehensions.comprehenders.Comprehenders;
+import com.aol.cyclops.comprehensions.comprehenders.InvokeDynamicComprehender;
 import com.aol.cyclops.comprehensions.comprehenders.StreamComprehender;
+import com.aol.cyclops.lambda.api.Comprehender;
 
 import static org.hamcrest.Matchers.*;
 public class ComprehenderSelectorTest {
@@ -53,6 +56,61 @@ public class ComprehenderSelectorTest {
 		Stream stream = Arrays.asList(1,2,3).stream();
 		assertThat(new ComprehenderSelector().selectComprehender(stream),instanceOf(StreamComprehender.class));
 	}
+	@Test
+	public void testSharedSelectionIsCached() {
+		assertThat(ComprehenderSelector.instance().selectComprehender(Optional.class),
+				sameInstance(new ComprehenderSelector().selectComprehender(Optional.of(1))));
+	}
+	@Test
+	public void testRegisterComprehender() {
+		assertThat(ComprehenderSelector.instance().selectComprehender(Box.class),instanceOf(InvokeDynamicComprehender.class));
+		
+		BoxComprehender comprehender = new BoxComprehender();
+		Comprehenders.register(comprehender);
+		try{
+			assertThat(ComprehenderSelector.instance().selectComprehender(new Box(10)),instanceOf(BoxComprehender.class));
+			assertThat(ComprehenderSelector.instance().selectComprehender(Stream.of(1)),instanceOf(StreamComprehender.class));
+			assertThat(new Comprehenders().getRegisteredComprehenders().stream()
+												.anyMatch(e->e.getValue() instanceof BoxComprehender),equalTo(true));
+		}finally{
+			Comprehenders.unregister(comprehender);
+		}
+		assertThat(ComprehenderSelector.instance().selectComprehender(Box.class),instanceOf(InvokeDynamicComprehender.class));
+	}
+	static class Box{
+		final Object value;
+		Box(Object value){
+			this.value = value;
+		}
+	}
+	static class BoxComprehender implements Comprehender<Box>{
+
+		@Override
+		public Object map(Box t, Function fn) {
+			return new Box(fn.apply(t.value));
+		}
+
+		@Override
+		public Object flatMap(Box t, Function fn) {
+			return fn.apply(t.value);
+		}
+
+		@Override
+		public Box of(Object o) {
+			return new Box(o);
+		}
+
+		@Override
+		public Box empty() {
+			return new Box(null);
+		}
+
+		@Override
+		public Class getTargetClass() {
+			return Box.class;
+		}
+		
+	}
 	static class MyStream implements Stream{
 
 		@Override
@@ -0,0 +1,125 @@
+package com.aol.cyclops.lambda.monads;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.monad.AnyM;
+
+public class FastPathAnyMTest {
+
+	private <T> AnyM<T> comprehended(Object monad){
+		return MonadWrapper.comprehended(monad);
+	}
+
+	@Test
+	public void jdkTypesUseFastPath(){
+		assertThat(AnyM.fromOptional(Optional.of(1)),instanceOf(OptionalAnyM.class));
+		assertThat(AnyM.fromStream(Stream.of(1)),instanceOf(StreamAnyM.class));
+		assertThat(AnyM.fromCompletableFuture(CompletableFuture.completedFuture(1)),instanceOf(CompletableFutureAnyM.class));
+		assertThat(AnyM.fromList(Arrays.asList(1)),instanceOf(ListAnyM.class));
+		assertThat(AnyM.fromList(Arrays.asList(1)).map(i->i+1),instanceOf(StreamAnyM.class));
+	}
+	@Test
+	public void comprehendedStaysOnComprehender(){
+		assertThat(this.<Integer>comprehended(Optional.of(1)).map(i->i+1).filter(i->i>1)
+							.<Integer>flatMapOptional(i->Optional.of(i*10)).map(i->i+1).getClass(),equalTo((Object)AnyMImpl.class));
+		assertThat(this.<Integer>comprehended(Stream.of(1)).map(i->i+1).filter(i->i>1)
+							.<Integer>flatMapStream(i->Stream.of(i*10)).map(i->i+1).getClass(),equalTo((Object)AnyMImpl.class));
+		assertThat(this.<Integer>comprehended(CompletableFuture.completedFuture(1)).map(i->i+1)
+							.<Integer>flatMapCompletableFuture(i->CompletableFuture.completedFuture(i*10)).map(i->i+1).getClass(),equalTo((Object)AnyMImpl.class));
+		assertThat(this.<Integer>comprehended(Arrays.asList(1)).map(i->i+1).getClass(),equalTo((Object)AnyMImpl.class));
+	}
+	@Test
+	public void optionalMatchesComprehender(){
+		assertThat(AnyM.fromOptional(Optional.of(1)).map(i->i+1).filter(i->i>1).<Integer>flatMapOptional(i->Optional.of(i*10)).unwrap(),
+					equalTo(this.<Integer>comprehended(Optional.of(1)).map(i->i+1).filter(i->i>1).<Integer>flatMapOptional(i->Optional.of(i*10)).unwrap()));
+		assertThat(AnyM.fromOptional(Optional.of(1)).filter(i->i>1).unwrap(),equalTo(Optional.empty()));
+	}
+	@Test
+	public void optionalCrossTypeFlatMap(){
+		assertThat(AnyM.fromOptional(Optional.of(1)).<Integer>flatMap(i->AnyM.fromStream(Stream.of(i,i+1))).unwrap(),
+					equalTo(this.<Integer>comprehended(Optional.of(1)).<Integer>flatMap(i->AnyM.fromStream(Stream.of(i,i+1))).unwrap()));
+	}
+	@Test
+	public void streamOperations(){
+		assertThat(AnyM.fromStream(Stream.of(1,2,3))
+						.map(i->i*2)
+						.<Integer>flatMap(i->AnyM.fromStream(Stream.of(i,i+1)))
+						.<Integer>flatMapStream(i->IntStream.of(i).boxed())
+						.filter(i->i%3!=0)
+						.<Stream<Integer>>unwrap()
+						.collect(Collectors.toList()),
+					equalTo(Arrays.asList(2,4,5,7)));
+	}
+	@Test
+	public void streamMatchesComprehender(){
+		assertThat(AnyM.fromStream(Stream.of(1,2,3)).map(i->i*2).filter(i->i>2).<Integer>flatMapStream(i->Stream.of(i,i+1))
+						.<Stream<Integer>>unwrap().collect(Collectors.toList()),
+					equalTo(this.<Integer>comprehended(Stream.of(1,2,3)).map(i->i*2).filter(i->i>2).<Integer>flatMapStream(i->Stream.of(i,i+1))
+						.<Stream<Integer>>unwrap().collect(Collectors.toList())));
+	}
+	@Test
+	public void completableFutureMatchesComprehender(){
+		assertThat(AnyM.fromCompletableFuture(CompletableFuture.completedFuture(1)).map(i->i+1)
+						.<Integer>flatMapCompletableFuture(i->CompletableFuture.completedFuture(i*10))
+						.<CompletableFuture<Integer>>unwrap().join(),
+					equalTo(this.<Integer>comprehended(CompletableFuture.completedFuture(1)).map(i->i+1)
+						.<Integer>flatMapCompletableFuture(i->CompletableFuture.completedFuture(i*10))
+						.<CompletableFuture<Integer>>unwrap().join()));
+	}
+	@Test
+	public void streamCrossTypeFlatMap(){
+		assertThat(AnyM.fromStream(Stream.of(1,2,3))
+						.<Integer>flatMap(i->AnyM.fromOptional(i==2 ? Optional.empty() : Optional.of(i)))
+						.<Integer>flatMap(i->AnyM.fromCompletableFuture(CompletableFuture.completedFuture(i*10)))
+						.<Stream<Integer>>unwrap()
+						.collect(Collectors.toList()),
+					equalTo(Arrays.asList(10,30)));
+	}
+	@Test
+	public void listIsReusableAndUnwrapsToList(){
+		List<Integer> list = new ArrayList<>(Arrays.asList(1,2,3));
+		AnyM<Integer> anyM = AnyM.fromList(list);
+		assertThat(anyM.unwrap(),equalTo(list));
+		assertThat(anyM.map(i->i+1).unwrap(),equalTo(Arrays.asList(2,3,4)));
+		assertThat(anyM.<Integer>flatMapCollection(i->Arrays.asList(i,i)).unwrap(),equalTo(Arrays.asList(1,1,2,2,3,3)));
+		assertThat(anyM.<Integer>flatMap(i->AnyM.fromOptional(Optional.of(i))).unwrap(),
+					equalTo(this.<Integer>comprehended(list).<Integer>flatMap(i->AnyM.fromOptional(Optional.of(i))).unwrap()));
+	}
+	@Test
+	public void completableFuture(){
+		CompletableFuture<Integer> result = AnyM.fromCompletableFuture(CompletableFuture.supplyAsync(()->1))
+												.map(i->i+1)
+												.<Integer>flatMap(i->AnyM.fromCompletableFuture(CompletableFuture.supplyAsync(()->i*10)))
+												.<Integer>flatMap(i->AnyM.fromOptional(Optional.of(i+1)))
+												.unwrap();
+		assertThat(result.join(),equalTo(21));
+	}
+	@Test
+	public void peek(){
+		List<Integer> peeked = new ArrayList<>();
+		AnyM.fromOptional(Optional.of(1)).peek(peeked::add);
+		AnyM.fromStream(Stream.of(2,3)).peek(peeked::add).<Stream<Integer>>unwrap().collect(Collectors.toList());
+		AnyM.fromCompletableFuture(CompletableFuture.completedFuture(4)).peek(peeked::add);
+		assertThat(peeked,equalTo(Arrays.asList(1,2,3,4)));
+	}
+	@Test
+	public void otherTypesUseComprehender(){
+		AnyM<Integer> set = AnyM.fromSet(new HashSet<>(Arrays.asList(1)));
+		assertThat(set.getClass(),equalTo((Object)AnyMImpl.class));
+		assertThat(set.map(i->i+1).unwrap(),equalTo(new HashSet<>(Arrays.asList(2))));
+	}
+}
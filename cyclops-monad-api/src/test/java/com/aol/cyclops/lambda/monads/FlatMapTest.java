@@ -1,9 +1,12 @@
 package com.aol.cyclops.lambda.monads;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.Test;
@@ -17,4 +20,60 @@ public class FlatMapTest {
 
 		assertThat(AnyM.fromOptional(Optional.of(1)).flatMapStream(i->Stream.of(i+2)).unwrap(),equalTo(Optional.of((3))));
 	}
+	@Test
+	public void flatMapOptionalToInfiniteStream(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		assertThat(AnyM.fromOptional(Optional.of(1))
+						.<Integer>flatMapStream(i->Stream.iterate(i,x->x+1).peek(x->pulled.incrementAndGet()))
+						.unwrap(),equalTo(Optional.of(1)));
+		assertThat(pulled.get(),equalTo(1));
+		assertThat(AnyM.fromOptional(Optional.of(1))
+						.<Integer>flatMap(i->AnyM.fromStream(Stream.iterate(i,x->x+1)))
+						.unwrap(),equalTo(Optional.of(1)));
+	}
+	@Test
+	public void flatMapOptionalToStreamBind(){
+		assertThat(AnyM.fromOptional(Optional.of(1)).bind(i->Stream.of(i,i+1)).unwrap(),equalTo(Optional.of(Arrays.asList(1,2))));
+	}
+	@Test
+	public void flatMapStreamToInfiniteStream(){
+		assertThat(AnyM.fromStream(Stream.of(1,2))
+						.<Integer>flatMapStream(i->Stream.iterate(i,x->x+1))
+						.<Stream<Integer>>unwrap()
+						.limit(3)
+						.collect(Collectors.toList()),equalTo(Arrays.asList(1,2,3)));
+		assertThat(AnyM.fromStream(Stream.of(1,2))
+						.<Integer>bind(i->Stream.iterate(i,x->x+1))
+						.<Stream<Integer>>unwrap()
+						.limit(3)
+						.collect(Collectors.toList()),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void flatMapStreamClosesInnerStreams(){
+		AtomicInteger closed = new AtomicInteger(0);
+		AnyM.fromStream(Stream.of(1,2,3))
+				.<Integer>flatMapStream(i->Stream.of(i).onClose(closed::incrementAndGet))
+				.<Stream<Integer>>unwrap()
+				.collect(Collectors.toList());
+		assertThat(closed.get(),equalTo(3));
+	}
+	@Test
+	public void flatMapStreamClosesPartiallyConsumedInnerStream(){
+		AtomicInteger closed = new AtomicInteger(0);
+		Stream<Integer> stream = AnyM.fromStream(Stream.of(1,2))
+										.<Integer>flatMapStream(i->Stream.iterate(i,x->x+1).onClose(closed::incrementAndGet))
+										.unwrap();
+		assertThat(stream.limit(3).collect(Collectors.toList()),equalTo(Arrays.asList(1,2,3)));
+		assertThat(closed.get(),equalTo(0));
+		stream.close();
+		assertThat(closed.get(),equalTo(1));
+	}
+	@Test
+	public void flatMapStreamKeepsParallel(){
+		Stream<Integer> stream = AnyM.fromStream(Stream.of(1,2,3).parallel())
+										.<Integer>flatMapStream(i->Stream.of(i,i*10))
+										.unwrap();
+		assertTrue(stream.isParallel());
+		assertThat(stream.collect(Collectors.toList()),equalTo(Arrays.asList(1,10,2,20,3,30)));
+	}
 }
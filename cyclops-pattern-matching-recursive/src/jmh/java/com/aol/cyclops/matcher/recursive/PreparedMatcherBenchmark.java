@@ -0,0 +1,38 @@
+package com.aol.cyclops.matcher.recursive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per call cost of Matchable#matches with inline case functions, against the same cases held in a PreparedMatcher.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreparedMatcherBenchmark {
+
+	static final PreparedMatcher<Object,Integer> PREPARED = PreparedMatcher.of(c->c.hasValues(1,1).then(i->1),
+																				c->c.hasValues(1,2).then(i->2),
+																				c->c.hasValues(1,3).then(i->3));
+
+	Matchable matchable = Matchable.listOfValues(1,3);
+
+	@Benchmark
+	public Integer inline(){
+		return matchable.matches(c->c.hasValues(1,1).then(i->1),
+									c->c.hasValues(1,2).then(i->2),
+									c->c.hasValues(1,3).then(i->3));
+	}
+	@Benchmark
+	public Integer prepared(){
+		return matchable.matches(PREPARED);
+	}
+}
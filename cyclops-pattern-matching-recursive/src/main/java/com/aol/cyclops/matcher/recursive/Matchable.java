@@ -107,6 +107,36 @@ public interface Matchable{
 			new _Simpler_Case(new PatternMatcher()).withType(getMatchable().getClass())).getPatternMatcher()))
 			.match(getMatchable()).get();
 	}
+	/**
+	 * Match against the values inside the matchable using a reusable, pre-built matcher
+	 * 
+	 * <pre>
+	 * {@code 
+	 * static final PreparedMatcher<Object,Integer> MATCHER = PreparedMatcher.of(c->c.hasValues(1,3).then(i->2),
+	 * 																		c->c.hasValues(1,2).then(i->3));
+	 * 
+	 * int result = Matchable.listOfValues(1,2)
+	 * 						.matches(MATCHER);
+	 * 	//3
+	 * }
+	 * </pre>
+	 * 
+	 * @param matcher Prepared cases to match with
+	 * @return Result - this method requires a match or an NoSuchElement exception is thrown
+	 */
+	default <T,R> R matches(PreparedMatcher<T,R> matcher){
+		return matcher.matches(this);
+	}
+	/**
+	 * Match against the values inside the matchable using a reusable, pre-built matcher
+	 * 
+	 * @see #matches(PreparedMatcher)
+	 * @param matcher Prepared cases to match with
+	 * @return Result if a case matched, otherwise Optional.empty()
+	 */
+	default <T,R> Optional<R> mayMatch(PreparedMatcher<T,R> matcher){
+		return matcher.mayMatch(this);
+	}
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	default <T,R> Optional<R>  mayMatch(Function<CheckValues<T,R>,CheckValues<T,R>> fn1){
 		return  new MatchingInstance(new _Simpler_Case( fn1.apply( (CheckValues)
@@ -0,0 +1,108 @@
+package com.aol.cyclops.matcher.recursive;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.aol.cyclops.matcher.CompiledCases;
+import com.aol.cyclops.matcher.builders.CheckValues;
+import com.aol.cyclops.matcher.builders.PatternMatcher;
+import com.aol.cyclops.matcher.builders._Simpler_Case;
+
+/**
+ * A reusable set of Matchable cases.
+ *
+ * Matchable#matches and Matchable#mayMatch build a new matcher from the supplied case functions on every call. A PreparedMatcher
+ * composes the case functions once and builds (and compiles) the matcher once per matched class, reusing it for every subsequent
+ * match against instances of that class.
+ *
+ * <pre>
+ * {@code
+ * static final PreparedMatcher<Object,Integer> MATCHER = PreparedMatcher.of(c->c.hasValues(1,3).then(i->2),
+ * 																		c->c.hasValues(1,2).then(i->3));
+ *
+ * int result = Matchable.listOfValues(1,2)
+ * 						.matches(MATCHER);
+ * 	//3
+ * }
+ * </pre>
+ *
+ * As matchers are reused, case functions should only capture values that are constant for the lifetime of the PreparedMatcher.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of value matched
+ * @param <R> Return type of matching
+ */
+public class PreparedMatcher<T,R> {
+
+	private final ClassValue<CompiledCases<Object,R,?>> matchers;
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private PreparedMatcher(Function<CheckValues<T,R>,CheckValues<T,R>> cases){
+		this.matchers = new ClassValue<CompiledCases<Object,R,?>>(){
+			@Override
+			protected CompiledCases<Object,R,?> computeValue(Class<?> type) {
+				return cases.apply( (CheckValues)new _Simpler_Case(new PatternMatcher()).withType(type))
+								.getPatternMatcher()
+								.getCases()
+								.compile();
+			}
+		};
+	}
+
+	/**
+	 * Match against the values inside the matchable
+	 *
+	 * @param matchable Matchable to match against
+	 * @return Result - this method requires a match or an NoSuchElement exception is thrown
+	 */
+	public R matches(Matchable matchable){
+		return mayMatch(matchable).get();
+	}
+
+	/**
+	 * Match against the values inside the matchable
+	 *
+	 * @param matchable Matchable to match against
+	 * @return Result if a case matched, otherwise Optional.empty()
+	 */
+	public Optional<R> mayMatch(Matchable matchable){
+		Object value = matchable.getMatchable();
+		return matchers.get(value.getClass()).match(value);
+	}
+
+	/**
+	 * Prepare a matcher with a single case
+	 *
+	 * @see Matchable#matches(Function)
+	 * @param fn1 Describes the matching case
+	 * @return Reusable matcher
+	 */
+	public static <T,R> PreparedMatcher<T,R> of(Function<CheckValues<T,R>,CheckValues<T,R>> fn1){
+		return new PreparedMatcher<>(fn1);
+	}
+	/**
+	 * Prepare a matcher with two cases
+	 *
+	 * @see Matchable#matches(Function,Function)
+	 * @param fn1 Describes a case
+	 * @param fn2 Describes a case
+	 * @return Reusable matcher
+	 */
+	public static <T,R> PreparedMatcher<T,R> of(Function<CheckValues<T,R>,CheckValues<T,R>> fn1,Function<CheckValues<T,R>,CheckValues<T,R>> fn2){
+		return new PreparedMatcher<>(fn1.compose(fn2));
+	}
+	public static <T,R> PreparedMatcher<T,R> of(Function<CheckValues<T,R>,CheckValues<T,R>> fn1,Function<CheckValues<T,R>,
+							CheckValues<T,R>> fn2,Function<CheckValues<T,R>,CheckValues<T,R>> fn3){
+		return new PreparedMatcher<>(fn1.compose(fn2.compose(fn3)));
+	}
+	public static <T,R> PreparedMatcher<T,R> of(Function<CheckValues<T,R>,CheckValues<T,R>> fn1,Function<CheckValues<T,R>,CheckValues<T,R>> fn2,
+											Function<CheckValues<T,R>,CheckValues<T,R>> fn3,
+											Function<CheckValues<T,R>,CheckValues<T,R>> fn4){
+		return new PreparedMatcher<>(fn1.compose(fn2.compose(fn3).compose(fn4)));
+	}
+	public static <T,R> PreparedMatcher<T,R> of(Function<CheckValues<T,R>,CheckValues<T,R>> fn1,Function<CheckValues<T,R>,CheckValues<T,R>> fn2,Function<CheckValues<T,R>,CheckValues<T,R>> fn3,
+			Function<CheckValues<T,R>,CheckValues<T,R>> fn4,Function<CheckValues<T,R>,CheckValues<T,R>> fn5){
+		return new PreparedMatcher<>(fn1.compose(fn2.compose(fn3).compose(fn4).compose(fn5)));
+	}
+}
@@ -0,0 +1,72 @@
+package com.aol.cyclops.matcher;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import lombok.Value;
+
+import org.junit.Test;
+
+import com.aol.cyclops.matcher.recursive.Matchable;
+import com.aol.cyclops.matcher.recursive.PreparedMatcher;
+
+
+public class PreparedMatcherTest {
+
+	PreparedMatcher<Object,Integer> twoCases = PreparedMatcher.of(c->c.hasValues(1,3).then(i->2),
+																c->c.hasValues(1,2).then(i->3));
+	@Test
+	public void singleCase(){
+		PreparedMatcher<Object,Integer> matcher = PreparedMatcher.of(c->c.hasValues(1).then(i->2));
+		
+		assertThat(Matchable.of(Optional.of(1)).matches(matcher),equalTo(2));
+		assertThat(Matchable.of(Optional.of(1)).matches(matcher),equalTo(2));
+	}
+	@Test(expected=NoSuchElementException.class)
+	public void singleCaseFail(){
+		Matchable.of(Optional.of(2))
+					.matches(PreparedMatcher.of(c->c.hasValues(1).then(i->2)));
+		
+		fail("exception expected");
+	}
+	@Test
+	public void cases2(){
+		assertThat(Matchable.listOfValues(1,2).matches(twoCases),equalTo(3));
+		assertThat(Matchable.listOfValues(1,3).matches(twoCases),equalTo(2));
+		assertFalse(Matchable.listOfValues(1,4).mayMatch(twoCases).isPresent());
+	}
+	@Test
+	public void reusedAcrossClasses(){
+		assertThat(Matchable.of(Optional.of(1)).mayMatch(twoCases),equalTo(Optional.empty()));
+		assertThat(Matchable.listOfValues(1,2).matches(twoCases),equalTo(3));
+		assertThat(new MyCase(1,3).matches(twoCases),equalTo(2));
+	}
+	@Test
+	public void sameResultAsMatches(){
+		for(int i=0;i<5;i++){
+			MyCase value = new MyCase(1,i);
+			assertThat(value.mayMatch(twoCases),equalTo(value.mayMatch(c->c.hasValues(1,3).then(in->2),
+																		c->c.hasValues(1,2).then(in->3))));
+		}
+	}
+	@Test
+	public void fiveCases(){
+		PreparedMatcher<Object,String> matcher = PreparedMatcher.of(c->c.hasValues(1).then(i->"one"),
+																	c->c.hasValues(2).then(i->"two"),
+																	c->c.hasValues(3).then(i->"three"),
+																	c->c.hasValues(4).then(i->"four"),
+																	c->c.hasValues(5).then(i->"five"));
+		assertThat(Matchable.listOfValues(4).matches(matcher),equalTo("four"));
+		assertThat(Matchable.listOfValues(1).matches(matcher),equalTo("one"));
+	}
+	@Value
+	static class MyCase implements Matchable{
+		int a;
+		int b;
+	}
+}
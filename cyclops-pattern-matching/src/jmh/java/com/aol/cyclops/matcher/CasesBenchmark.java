@@ -0,0 +1,97 @@
+package com.aol.cyclops.matcher;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compiled vs interpreted matching.
+ *
+ * Cases are spread evenly across 10 input types, the input matches the last case (worst case for first match).
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CasesBenchmark {
+
+	@Param({"10","100","1000"})
+	int size;
+
+	List<Case<Object,Object,TypedFunction<Object,Object>>> list;
+	Cases<Object,Object,TypedFunction<Object,Object>> interpreted;
+	CompiledCases<Object,Object,TypedFunction<Object,Object>> compiled;
+	Object input;
+
+	@Setup
+	public void setup(){
+		list = new ArrayList<>();
+		for(int i=0;i<size;i++){
+			Object key = key(i);
+			list.add(Case.of(in->key.equals(in),action(i%10)));
+		}
+		interpreted = Cases.ofList(list);
+		compiled = interpreted.compile();
+		input = key(size-1);
+	}
+
+	@Benchmark
+	public Optional<Object> interpretedMatch(){
+		return interpreted.match(input);
+	}
+	@Benchmark
+	public Optional<Object> compiledMatch(){
+		return compiled.match(input);
+	}
+	@Benchmark
+	public Cases<Object,Object,TypedFunction<Object,Object>> build(){
+		return Cases.ofList(list);
+	}
+	@Benchmark
+	public CompiledCases<Object,Object,TypedFunction<Object,Object>> buildAndCompile(){
+		return Cases.ofList(list).compile();
+	}
+
+	private static Object key(int i){
+		switch(i%10){
+			case 0: return i;
+			case 1: return (long)i;
+			case 2: return (double)i;
+			case 3: return (float)i;
+			case 4: return (short)i;
+			case 5: return (byte)i;
+			case 6: return (char)i;
+			case 7: return ""+i;
+			case 8: return BigInteger.valueOf(i);
+			default: return BigDecimal.valueOf(i);
+		}
+	}
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static TypedFunction<Object,Object> action(int type){
+		switch(type){
+			case 0: return (TypedFunction)(TypedFunction<Integer,Object>)i->i;
+			case 1: return (TypedFunction)(TypedFunction<Long,Object>)l->l;
+			case 2: return (TypedFunction)(TypedFunction<Double,Object>)d->d;
+			case 3: return (TypedFunction)(TypedFunction<Float,Object>)f->f;
+			case 4: return (TypedFunction)(TypedFunction<Short,Object>)s->s;
+			case 5: return (TypedFunction)(TypedFunction<Byte,Object>)b->b;
+			case 6: return (TypedFunction)(TypedFunction<Character,Object>)c->c;
+			case 7: return (TypedFunction)(TypedFunction<String,Object>)s->s;
+			case 8: return (TypedFunction)(TypedFunction<BigInteger,Object>)b->b;
+			default: return (TypedFunction)(TypedFunction<BigDecimal,Object>)b->b;
+		}
+	}
+}
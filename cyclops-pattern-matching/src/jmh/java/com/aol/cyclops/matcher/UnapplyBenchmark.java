@@ -0,0 +1,61 @@
+package com.aol.cyclops.matcher;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.invokedynamic.ReflectionCache;
+import com.aol.cyclops.objects.Decomposable;
+
+/**
+ * Decomposable.unapply on a 6 field value class.
+ *
+ * unapply reads the fields via a FieldAccessor, reflective reads them as unapply did before (copy of the cached field
+ * List, then Field.get per field).
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UnapplyBenchmark {
+
+	static final class Person implements Decomposable{
+		private final String name;
+		private final int age;
+		private final long id;
+		private final double score;
+		private final boolean active;
+		private final Object address;
+		Person(String name, int age, long id, double score, boolean active, Object address){
+			this.name = name;
+			this.age = age;
+			this.id = id;
+			this.score = score;
+			this.active = active;
+			this.address = address;
+		}
+	}
+
+	Person person = new Person("bob",42,1000l,1.5,true,"london");
+
+	@Benchmark
+	public Iterable<?> unapply(){
+		return person.unapply();
+	}
+	@Benchmark
+	public Iterable<?> reflective() throws IllegalAccessException{
+		List<Object> result = new ArrayList<>();
+		for(Field f : new ArrayList<>(ReflectionCache.getFields(Person.class)))
+			result.add(f.get(person));
+		return result;
+	}
+}
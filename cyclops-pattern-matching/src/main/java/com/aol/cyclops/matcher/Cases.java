@@ -8,6 +8,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.AccessLevel;
@@ -64,8 +65,7 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 		 * @return  New Cases instance (sequential)
 		*/
 	public static <T,R,X extends Function<T,R>>  Cases<T,R,X> ofList(List<Case<T,R,X>> cases){
-		 return new Cases(cases.stream().map(ConsPStack::singleton)
-					.reduce(ConsPStack.empty(),(acc,next)-> acc.plus(acc.size(),next.get(0))),true);
+		 return new Cases(toPStack(cases.stream()),true);
 	 }
 
 	/**
@@ -76,10 +76,7 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 * @return New Cases instance (sequential)
 	 */
 	public static <T,R,X extends Function<T,R>>  Cases<T,R,X> of(Case<T,R,X>... cazes){
-		return ofPStack(
-				Stream.of(cazes)
-				.map(ConsPStack::singleton)
-				.reduce(ConsPStack.empty(),(acc,next)-> acc.plus(acc.size(),next.get(0))));
+		return ofPStack(toPStack(Stream.of(cazes)));
 			
 	}
 	/**
@@ -91,11 +88,9 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 */
 	public static <T,R,X extends Function<T,R>>  Cases<T,R,X> zip(Stream<Predicate<T>> predicates, Stream<X> functions){
 		
-		return ofPStack(SequenceM.fromIterator(predicates.iterator())
+		return ofPStack(toPStack(SequenceM.fromIterator(predicates.iterator())
 			.zip(SequenceM.fromIterator(functions.iterator()),(a,b)->Two.tuple(a,b))
-			.map(Case::of)
-			.map(ConsPStack::singleton)
-			.reduce(ConsPStack.empty(),(acc, next)-> acc.plus(acc.size(),next.get(0))));
+			.map(Case::of)));
 		
 		
 	}
@@ -168,8 +163,7 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 * @return New Filtered Cases
 	 */
 	public Cases<T,R,X> filter(Predicate<Case<T,R,X>> predicate) {
-		return withCases(cases.stream().filter(data -> predicate.test(data)).map(ConsPStack::singleton)
-				.reduce(ConsPStack.empty(),(acc, next)-> acc.plus(acc.size(),next.get(0))));
+		return withCases(toPStack(cases.stream().filter(data -> predicate.test(data))));
 	}
 
 	/**
@@ -187,9 +181,8 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 * @return New Filtered Cases
 	 */
 	public Cases<T,R,X> filterPredicate(Predicate<Predicate<T>> predicate) {
-		return withCases(cases.stream()
-				.filter(data -> predicate.test(data.getPredicate())).map(ConsPStack::singleton)
-				.reduce(ConsPStack.empty(),(acc, next)-> acc.plus(acc.size(),next.get(0))));
+		return withCases(toPStack(cases.stream()
+				.filter(data -> predicate.test(data.getPredicate()))));
 	}
 
 	/**
@@ -208,9 +201,8 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 * @return New Filtered Cases
 	 */
 	public Cases<T,R,X> filterFunction(Predicate<Function<T,R>> predicate) {
-		return withCases(cases.stream()
-				.filter(data -> predicate.test(data.getAction())).map(ConsPStack::singleton)
-				.reduce(ConsPStack.empty(),(acc, next)-> acc.plus(acc.size(),next.get(0))));
+		return withCases(toPStack(cases.stream()
+				.filter(data -> predicate.test(data.getAction()))));
 	}
 
 	/**
@@ -282,8 +274,7 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 */
 	public <T1,R1,X1 extends Function<T1,R1>> Cases<T,R,X> map(Function<Case<T,R,X>, Case<T1,R1,X1>> mapper) {
 
-		return this.withCases((PStack)cases.stream().map(mapper).map(ConsPStack::singleton)
-				.reduce(ConsPStack.empty(),(acc, next)-> acc.plus(acc.size(),next.get(0))));
+		return this.withCases((PStack)toPStack(cases.stream().map(mapper)));
 
 	}
 	/**
@@ -304,11 +295,9 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 	 */
 	public <T1,R1,X1 extends Function<T1,R1>> Cases<T,R,X> flatMap(Function<Case<T,R,X>, Cases<T1,R1,X1>> mapper) {
 
-		return this.withCases((PStack)cases.stream()
+		return this.withCases((PStack)toPStack(cases.stream()
 											.map(mapper)
-											.flatMap(Cases::sequentialStream)
-											.map(ConsPStack::singleton)
-											.reduce(ConsPStack.empty(),(acc, next)-> acc.plus(acc.size(),next.get(0))));
+											.flatMap(Cases::sequentialStream)));
 
 	}
 
@@ -612,6 +601,36 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 				.filter(Optional::isPresent).map(Optional::get).findFirst();
 
 	}
+	/**
+	 * Compile these Cases into an immutable matcher that groups cases by the input type of their actions
+	 * (where actions are TypedFunctions) into a class indexed jump table. Only cases that can accept the runtime type
+	 * of the input are tested, preserving first match semantics.
+	 * 
+	 * <pre>{@code
+	 * CompiledCases<Object,String,Function<Object,String>> compiled = Cases.of(Case.of(i->true,(TypedFunction<Integer,String>)i->"int"),
+	 *															Case.of(s->true,(TypedFunction<String,String>)s->"string"))
+	 *														.compile();
+	 * 
+	 * assertThat(compiled.match("hello").get(),is("string"));
+	 * }</pre>
+	 * 
+	 * @see CompiledCases
+	 * @return Compiled matcher for these Cases
+	 */
+	public CompiledCases<T,R,X> compile(){
+		return new CompiledCases<>(cases);
+	}
+	
+	/*
+	 * Builds the PStack from the head, so construction is linear in the number of cases
+	 */
+	private static <T> PStack<T> toPStack(Stream<T> stream){
+		List<T> list = stream.collect(Collectors.toList());
+		PStack<T> result = ConsPStack.empty();
+		for(int i=list.size()-1;i>=0;i--)
+			result = result.plus(list.get(i));
+		return result;
+	}
 	private Stream<Case<T,R,X>> sequentialStream(){
 		
 			return cases.stream();
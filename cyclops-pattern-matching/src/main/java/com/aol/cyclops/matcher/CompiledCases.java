@@ -0,0 +1,144 @@
+package com.aol.cyclops.matcher;
+
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.pcollections.PStack;
+
+/**
+ * An immutable, pre-compiled form of Cases (@see Cases#compile())
+ *
+ * Cases are grouped by the input type of their action (where the action is a TypedFunction) into a class indexed
+ * jump table. When matching, only the cases whose action accepts the runtime class of the input are tested, in their
+ * original order, so first match semantics are preserved. Cases with untyped actions (plain Functions, method references)
+ * are tested against every input.
+ *
+ * Unlike Cases, a Case whose predicate accepts an input its TypedFunction action can not accept will be skipped
+ * rather than failing with a ClassCastException. Matching is always sequential.
+ *
+ * <pre>{@code
+ * CompiledCases<Object,String,TypedFunction<Object,String>> compiled = Matching.whenIsType((Integer i)->"int")
+ *                                                                         .whenIsType((String s)->"string")
+ *                                                                         .cases()
+ *                                                                         .compile();
+ *
+ *  compiled.match("hello"); //Optional["string"] - only the String case is tested
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T>  Input type for predicate and function (action)
+ * @param <R>  Return type for function (action) which is executed if the predicate tests positive
+ * @param <X> Type of Function
+ */
+public final class CompiledCases<T,R,X extends Function<T,R>> implements Function<T,Optional<R>>{
+
+	private final Case<T,R,X>[] cases;
+	private final Class[] types;
+	private final ClassValue<Case<T,R,X>[]> jumpTable;
+
+	@SuppressWarnings("unchecked")
+	CompiledCases(PStack<Case<T,R,X>> stack){
+		this.cases = stack.toArray(new Case[stack.size()]);
+		this.types = new Class[cases.length];
+		boolean typed = false;
+		for(int i=0;i<cases.length;i++){
+			types[i] = inputType(cases[i]);
+			typed = typed || types[i]!=Object.class;
+		}
+		final boolean anyTyped = typed;
+		this.jumpTable = new ClassValue<Case<T,R,X>[]>(){
+			@Override
+			protected Case<T,R,X>[] computeValue(Class<?> type) {
+				if(!anyTyped)
+					return cases;
+				Case<T,R,X>[] result = new Case[cases.length];
+				int count =0;
+				for(int i=0;i<cases.length;i++){
+					if(types[i].isAssignableFrom(type))
+						result[count++] = cases[i];
+				}
+				return count==cases.length ? cases : Arrays.copyOf(result, count);
+			}
+		};
+	}
+
+	/**
+	 * @return number of cases
+	 */
+	public int size(){
+		return cases.length;
+	}
+
+	/*
+	 * @param t Object to match against
+	 * @return Value from matched case if present
+	 * @see java.util.function.Function#apply(java.lang.Object)
+	 */
+	public Optional<R> apply(T t){
+		return match(t);
+	}
+
+	/**
+	 * @param t
+	 *            Object to match against supplied cases
+	 * @return Value returned from first matched case (if present) otherwise
+	 *         Optional.empty()
+	 */
+	public Optional<R> match(T t){
+		for(Case<T,R,X> next : candidates(t)){
+			Optional<R> result = next.match(t);
+			if(result.isPresent())
+				return result;
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * @param t
+	 *            input to match against - can generate multiple values
+	 * @return Stream of values from all matched cases for the input, in case order
+	 */
+	public Stream<R> matchMany(T t){
+		return Stream.of(candidates(t))
+					.map(next -> next.match(t))
+					.filter(Optional::isPresent)
+					.map(Optional::get);
+	}
+
+	/**
+	 * Each input element can generated a single matched value
+	 *
+	 * @param s
+	 *            Stream of data to match against (input to matcher)
+	 * @return Stream of matched values, one case per input value can match
+	 */
+	public Stream<R> matchFromStream(Stream<T> s){
+		return s.map(this::match)
+				.filter(Optional::isPresent)
+				.map(Optional::get);
+	}
+
+	private Case<T,R,X>[] candidates(T t){
+		if(t==null)
+			return cases;
+		return jumpTable.get(t.getClass());
+	}
+
+	private static Class inputType(Case<?,?,?> cse){
+		Object action = cse.getAction();
+		if(!(action instanceof TypedFunction))
+			return Object.class;
+		try{
+			MethodType type = ((TypedFunction)action).getType();
+			if(type.parameterCount()==0)
+				return Object.class; //can't get parameter types for MethodReferences
+			return type.wrap().parameterType(type.parameterCount()-1);
+		}catch(Exception e){ //not a lambda
+			return Object.class;
+		}
+	}
+}
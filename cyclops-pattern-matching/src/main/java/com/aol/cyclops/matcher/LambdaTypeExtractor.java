@@ -7,6 +7,7 @@ import java.lang.invoke.MethodType;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.aol.cyclops.invokedynamic.ExceptionSoftener;
 
@@ -18,10 +19,42 @@ import com.aol.cyclops.invokedynamic.ExceptionSoftener;
  * 
  * Does not work for MethodReferences.
  * 
+ * Extracted types are cached per lambda class (one class per lambda site), so the reflective extraction happens
+ * once per site rather than every time a Case is built. Cache effectiveness can be monitored via
+ * {@link #cacheHits()} and {@link #cacheMisses()}
+ * 
  * @author johnmcclean
  *
  */
-class LambdaTypeExtractor {
+public class LambdaTypeExtractor {
+	
+	private static final LongAdder lookups = new LongAdder();
+	private static final LongAdder misses = new LongAdder();
+	
+	private static final ClassValue<CachedType> cache = new ClassValue<CachedType>(){
+		@Override
+		protected CachedType computeValue(Class<?> type) {
+			return new CachedType();
+		}
+	};
+	
+	private static final class CachedType{
+		volatile MethodType type;
+	}
+	
+	/**
+	 * @return Number of type extractions served from the cache
+	 */
+	public static long cacheHits(){
+		return lookups.sum()-misses.sum();
+	}
+	
+	/**
+	 * @return Number of type extractions that required reflection
+	 */
+	public static long cacheMisses(){
+		return misses.sum();
+	}
 	
 	/**
 	 * Extract generic type info from a Serializable Lambda expression
@@ -40,11 +73,17 @@ class LambdaTypeExtractor {
 	}
 
 	private static MethodType extractChecked(Serializable serializable) throws IllegalArgumentException, TypeNotPresentException, IllegalAccessException, InvocationTargetException, NoSuchMethodException, SecurityException{
+	 lookups.increment();
+	 CachedType cached = cache.get(serializable.getClass());
+	 MethodType type = cached.type;
+	 if(type!=null)
+		 return type;
+	 misses.increment();
 	 Method method = serializable.getClass().getDeclaredMethod("writeReplace");
      method.setAccessible(true);
-     MethodType type = MethodType.fromMethodDescriptorString( ((SerializedLambda) method.invoke(serializable)).getImplMethodSignature(),
+     type = MethodType.fromMethodDescriptorString( ((SerializedLambda) method.invoke(serializable)).getImplMethodSignature(),
     		 serializable.getClass().getClassLoader());
-     
+     cached.type = type;
      return type;
 	}
 }
@@ -1,5 +1,7 @@
 package com.aol.cyclops.matcher.builders;
 
+import java.lang.invoke.MethodType;
+
 import com.aol.cyclops.matcher.Action;
 import com.aol.cyclops.matcher.TypedFunction;
 
@@ -14,4 +16,12 @@ public class ActionWithReturnWrapper<T,X> implements TypedFunction<T,X>{
 		action.accept(t);
 		return (X)NO_VALUE;
 	}
+	
+	/* 
+	 * Input type is that of the wrapped Action
+	 * @see com.aol.cyclops.matcher.TypedFunction#getType()
+	 */
+	public MethodType getType(){
+		return action.getType().changeReturnType(Object.class);
+	}
 }
\ No newline at end of file
@@ -275,10 +275,9 @@ public class PatternMatcher implements Function{
 	@SafeVarargs
 	public final <V> PatternMatcher caseOfMany(Action<List<V>> a,Predicate<V>... predicates){
 		
-		SequenceM<Predicate<V>> pred = SequenceM.of(predicates);
 		
 		
-		return caseOfThenExtract(it -> seq(it).zip(pred,(a1,b1)->Two.tuple(a1,b1))
+		return caseOfThenExtract(it -> seq(it).zip(SequenceM.of(predicates),(a1,b1)->Two.tuple(a1,b1))
 				.map(t -> t.v2.test((V)t.v1)).allMatch(v-> v), a, this::wrapInList);
 		
 	}
@@ -303,14 +302,13 @@ public class PatternMatcher implements Function{
 	@SafeVarargs
 	public final <V> PatternMatcher matchOfMany(Action<List<V>> a,Matcher<V>... predicates){
 		
-		SequenceM<Matcher<V>> pred = SequenceM.of(predicates);
 		
 		
 		return matchOfThenExtract(new BaseMatcher(){
 
 			@Override
 			public boolean matches(Object item) {
-				return seq(item).zip(pred,(a1,b1)->Two.tuple(a1,b1))
+				return seq(item).zip(SequenceM.of(predicates),(a1,b1)->Two.tuple(a1,b1))
 						.map(t -> t.v2.matches((V)t.v1)).allMatch(v->v==true);
 			}
 
@@ -344,13 +342,12 @@ public class PatternMatcher implements Function{
 	public <T,R,V,V1>  PatternMatcher matchOfMatchers(Two<Matcher<V>,Matcher<V1>> predicates,
 				Action<R> a,Extractor<T,R> extractor){
 			
-			SequenceM<Object> pred = SequenceM.fromIterable(predicates);
 			
 			return matchOfThenExtract(new BaseMatcher(){
 
 				@Override
 				public boolean matches(Object item) {
-					return seq(item).zip(pred,(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Matcher)t.v2).matches(t.v1)).allMatch(v->v==true);
+					return seq(item).zip(SequenceM.fromIterable(predicates),(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Matcher)t.v2).matches(t.v1)).allMatch(v->v==true);
 				}
 
 				@Override
@@ -383,10 +380,9 @@ public class PatternMatcher implements Function{
 	public <T,R,V,V1> PatternMatcher caseOfPredicates(Two<Predicate<V>,Predicate<V1>> predicates,
 							Action<R> a,Extractor<T,R> extractor){
 		
-		SequenceM<Object> pred = SequenceM.fromIterable(predicates);
 		
 		return caseOfThenExtract(it -> seq(it)
-							.zip(pred,(a1,b1)->Two.tuple(a1,b1))
+							.zip(SequenceM.fromIterable(predicates),(a1,b1)->Two.tuple(a1,b1))
 							.map(t -> ((Predicate)t.v2).test(t.v1))
 								.allMatch(v->v==true), a, extractor);
 		
@@ -410,8 +406,7 @@ public class PatternMatcher implements Function{
 	 */
 	public <T,R> PatternMatcher caseOfTuple(Iterable predicates, Action<R> a,Extractor<T,R> extractor){
 
-		SequenceM<Object> pred = SequenceM.fromIterable(predicates);
-				return caseOfThenExtract(it -> seq(it).zip(pred,(a1,b1)->Two.tuple(a1,b1)).map(t -> (convertToPredicate(t.v2)).test(t.v1)).allMatch(v->v==true), a, extractor);
+				return caseOfThenExtract(it -> seq(it).zip(SequenceM.fromIterable(predicates),(a1,b1)->Two.tuple(a1,b1)).map(t -> (convertToPredicate(t.v2)).test(t.v1)).allMatch(v->v==true), a, extractor);
 				
 	}
 	private Predicate convertToPredicate(Object o){
@@ -425,12 +420,11 @@ public class PatternMatcher implements Function{
 	
 	public <T,R> PatternMatcher matchOfTuple(Iterable predicates, Action<R> a,Extractor<T,R> extractor){
 
-		SequenceM<Object> pred = SequenceM.fromIterable(predicates);
 		return matchOfThenExtract(new BaseMatcher(){
 
 			@Override
 			public boolean matches(Object item) {
-				return seq(item).zip(pred,(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Matcher)t.v2).matches(t.v1)).allMatch(v->v==true);
+				return seq(item).zip(SequenceM.fromIterable(predicates),(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Matcher)t.v2).matches(t.v1)).allMatch(v->v==true);
 			}
 
 			@Override
@@ -458,11 +452,10 @@ public class PatternMatcher implements Function{
 	 public <T,V,X> PatternMatcher inCaseOfManyType(Predicate master,TypedFunction<T,X> a,
     		 Predicate<V>... predicates){
 		
-		 SequenceM<Predicate<V>> pred = SequenceM.of(predicates);
 		
 		
 		return inCaseOf(it -> master.test(it) && seq(Extractors.decompose().apply(it))
-				.zip(pred,(a1,b1)->Two.tuple(a1,b1))
+				.zip(SequenceM.of(predicates),(a1,b1)->Two.tuple(a1,b1))
 				.map(t -> t.v2.test((V)t.v1)).allMatch(v->v==true), a);
 		
 	}
@@ -471,10 +464,9 @@ public class PatternMatcher implements Function{
      public <V,X> PatternMatcher inCaseOfMany(TypedFunction<List<V>,X> a,
     		 Predicate<V>... predicates){
 		
-    	 SequenceM<Predicate<V>> pred = SequenceM.of(predicates);
 		
 		
-		return inCaseOfThenExtract(it -> seq(it).zip(pred,(a1,b1)->Two.tuple(a1,b1))
+		return inCaseOfThenExtract(it -> seq(it).zip(SequenceM.of(predicates),(a1,b1)->Two.tuple(a1,b1))
 				.map(t -> t.v2.test((V)t.v1)).allMatch(v->v==true), a, e-> wrapInList(e));
 		
 	}
@@ -488,14 +480,13 @@ public class PatternMatcher implements Function{
 	public <V,X> PatternMatcher inMatchOfMany(TypedFunction<List<V>,X> a,
 			Matcher<V>... predicates){
 		
-		SequenceM<Matcher<V>> pred = (SequenceM<Matcher<V>>) SequenceM.of(predicates);
 		
 		
 		return inMatchOfThenExtract(new BaseMatcher(){
 
 			@Override
 			public boolean matches(Object item) {
-				return seq(item).zip(pred,(a1,b1)->Two.tuple(a1,b1))
+				return seq(item).zip(SequenceM.of(predicates),(a1,b1)->Two.tuple(a1,b1))
 						.map(t -> t.v2.matches((V)t.v1)).allMatch(v->v==true);
 			}
 
@@ -511,13 +502,12 @@ public class PatternMatcher implements Function{
 	public <T,R,V,V1,X>  PatternMatcher inMatchOfMatchers(Two<Matcher<V>,Matcher<V1>> predicates,
 				TypedFunction<R,X> a,Extractor<T,R> extractor){
 			
-			SequenceM<Object> pred = SequenceM.fromIterable(predicates);
 			
 			return inMatchOfThenExtract(new BaseMatcher(){
 
 				@Override
 				public boolean matches(Object item) {
-					return seq(item).zip(pred,(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Matcher)t.v2).matches(t.v1)).allMatch(v->v==true);
+					return seq(item).zip(SequenceM.fromIterable(predicates),(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Matcher)t.v2).matches(t.v1)).allMatch(v->v==true);
 				}
 
 				@Override
@@ -532,9 +522,8 @@ public class PatternMatcher implements Function{
 	public <T,R,V,V1,X> PatternMatcher inCaseOfPredicates(Two<Predicate<V>,Predicate<V1>> predicates,
 							TypedFunction<R,X> a,Extractor<T,R> extractor){
 		
-		SequenceM<Object> pred = SequenceM.fromIterable(predicates);
 		
-		return inCaseOfThenExtract(it -> seq(it).zip(pred,(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Predicate)t.v2).test(t.v1)).allMatch(v->v==true), a, extractor);
+		return inCaseOfThenExtract(it -> seq(it).zip(SequenceM.fromIterable(predicates),(a1,b1)->Two.tuple(a1,b1)).map(t -> ((Predicate)t.v2).test(t.v1)).allMatch(v->v==true), a, extractor);
 		
 	}
 	
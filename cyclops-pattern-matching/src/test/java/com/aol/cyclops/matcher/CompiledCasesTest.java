@@ -0,0 +1,116 @@
+package com.aol.cyclops.matcher;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.matcher.builders.Matching;
+
+public class CompiledCasesTest {
+
+	@Test
+	public void matchesByType(){
+		CompiledCases compiled = Matching.whenIsType((Integer i)->"int")
+										.whenIsType((String s)->"string")
+										.cases()
+										.compile();
+
+		assertThat(compiled.match("hello").get(),is("string"));
+		assertThat(compiled.match(10).get(),is("int"));
+		assertFalse(compiled.match(10l).isPresent());
+	}
+	@Test
+	public void firstMatchWins(){
+		CompiledCases<Object,String,TypedFunction<Object,String>> compiled = Cases.of(
+								typed(i->false,(Integer i)->"skipped"),
+								typed(i->true,(Object o)->"object"),
+								typed(i->true,(Integer i)->"int"))
+						.compile();
+
+		assertThat(compiled.match(10).get(),is("object"));
+	}
+	@Test
+	public void untypedFunctionsMatchAllTypes(){
+		CompiledCases<Object,String,?> compiled = Cases.of(Case.of(i->i instanceof Long,i->"long"),
+										typed(i->true,(Integer i)->"int"))
+										.compile();
+
+		assertThat(compiled.match(10l).get(),is("long"));
+		assertThat(compiled.match(10).get(),is("int"));
+	}
+	@Test
+	public void skipsCasesThatCantAcceptInput(){
+		CompiledCases<Object,String,?> compiled = Cases.of(typed(i->true,(String s)->"string"),
+															typed(i->true,(Integer i)->"int"))
+											.compile();
+
+		assertThat(compiled.match(10).get(),is("int"));
+	}
+	@Test
+	public void nullInput(){
+		CompiledCases<Object,String,?> compiled = Cases.of(typed(i->i==null,(String s)->"null"))
+											.compile();
+
+		assertThat(compiled.match(null).get(),is("null"));
+	}
+	@Test
+	public void matchMany(){
+		List results = Cases.of(Case.of((Integer input)->10==input,input->"hello"),
+										Case.of(input->11==input,input->"world"),
+										Case.of(input->10==input,input->"woo!"))
+								.compile()
+								.matchMany(10)
+								.collect(Collectors.toList());
+
+		assertThat(results,equalTo(Arrays.asList("hello","woo!")));
+	}
+	@Test
+	public void matchFromStream(){
+		List results = Cases.of(Case.of((Integer input) -> 10 == input, input -> "hello"),
+										Case.of((Integer input) -> 10 == input, input -> "ignored"),
+										Case.of(input -> 11 == input, input -> "world"))
+								.compile()
+								.matchFromStream(Stream.of(1, 11, 10))
+								.collect(Collectors.toList());
+
+		assertThat(results,equalTo(Arrays.asList("world","hello")));
+	}
+	@Test
+	public void sameResultsAsInterpreted(){
+		Cases<Object,Object,TypedFunction<Object,Object>> cases = (Cases)Matching.whenIsValue(5).thenApply(i->"five")
+															.whenIsType((Integer i)->i*2)
+															.whenIsType((String s)->s.length())
+															.whenIsValue(10l).thenApply(i->"ten")
+															.cases();
+		CompiledCases<Object,Object,TypedFunction<Object,Object>> compiled = cases.compile();
+
+		for(Object next : Arrays.asList(5,6,"hello",10l,11l,1.0)){
+			assertThat(compiled.match(next),equalTo(cases.match(next)));
+		}
+	}
+	@Test
+	public void buildLargeCases(){
+		Cases<Integer,Integer,TypedFunction<Integer,Integer>> cases = Cases.ofList(IntStream.range(0, 10_000)
+										.<Case<Integer,Integer,TypedFunction<Integer,Integer>>>mapToObj(i->Case.of(in->in==i,in->in+i))
+										.collect(Collectors.toList()));
+
+		assertThat(cases.size(),is(10_000));
+		assertThat(cases.compile().match(9_999),equalTo(Optional.of(19_998)));
+		assertThat(cases.filter(c->true).size(),is(10_000));
+	}
+	
+	private static <T> Case<Object,String,TypedFunction<Object,String>> typed(Predicate<Object> predicate, TypedFunction<T,String> fn){
+		return Case.of(predicate,(TypedFunction)fn);
+	}
+}
@@ -0,0 +1,43 @@
+package com.aol.cyclops.matcher;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.lang.invoke.MethodType;
+
+import org.junit.Test;
+
+public class LambdaTypeExtractorTest {
+
+	@Test
+	public void extractsParameterType(){
+		TypedFunction<String,Integer> fn = s->s.length();
+		MethodType type = fn.getType();
+		assertThat(type.parameterType(type.parameterCount()-1),equalTo(String.class));
+	}
+	@Test
+	public void extractsOncePerLambdaSite(){
+		long misses = LambdaTypeExtractor.cacheMisses();
+		long hits = LambdaTypeExtractor.cacheHits();
+		MethodType first = null;
+		for(int i=0;i<100;i++){
+			int captured = i;
+			TypedFunction<Integer,Integer> fn = in->in+captured;
+			MethodType type = fn.getType();
+			if(first==null)
+				first = type;
+			assertThat(type,sameInstance(first));
+		}
+		assertThat(LambdaTypeExtractor.cacheMisses()-misses,equalTo(1l));
+		assertThat(LambdaTypeExtractor.cacheHits()-hits,greaterThanOrEqualTo(99l));
+	}
+	@Test
+	public void actionsAndExtractors(){
+		Action<Long> action = l->{};
+		Extractor<Double,String> extractor = d->d.toString();
+		assertThat(action.getType().parameterType(0),equalTo(Long.class));
+		assertThat(extractor.getType().parameterType(0),equalTo(Double.class));
+	}
+}
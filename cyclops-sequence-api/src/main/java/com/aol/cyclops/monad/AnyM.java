@@ -163,8 +163,29 @@ public interface AnyM<T> extends Unwrapable, ToStream<T>, ApplyM<T>,FlatMapM<T>,
 	 * @return flatMapped monad
 	 */
 	 <R> AnyM<R> liftAndBind(Function<? super T,?> fn);
+	/**
+	 * Perform a bind operation (@see #bind) where CompletableFutures returned by the bind function are composed
+	 * rather than joined, so fanning out to asynchronous calls does not block the calling thread once per element.
+	 * The bind function is applied to every element before this method returns, the flatMapped monad is available
+	 * once all the CompletableFutures have completed.
+	 *
+	 * <pre>
+	 * {@code
+	 * CompletableFuture<AnyM<Integer>> result = AnyM.fromStream(Stream.of(1,2,3))
+	 * 												.bindAsync(i->CompletableFuture.supplyAsync(()->i*2));
+	 *
+	 * //AnyM[Stream[2,4,6]]
+	 * }
+	 * </pre>
+	 *
+	 * To work with the CompletableFutures directly, as a Stream of futures for example, use map instead.
+	 *
+	 * @param fn flatMap function
+	 * @return CompletableFuture of the flatMapped monad
+	 */
+	 <R> CompletableFuture<AnyM<R>> bindAsync(Function<? super T,?> fn);
+
 
-	
 	/**
 	 * join / flatten one level of a nested hierarchy
 	 * 
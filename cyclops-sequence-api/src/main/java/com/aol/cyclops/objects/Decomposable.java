@@ -1,14 +1,13 @@
 package com.aol.cyclops.objects;
 
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
-import com.aol.cyclops.invokedynamic.ExceptionSoftener;
-import com.aol.cyclops.invokedynamic.ReflectionCache;
+import com.aol.cyclops.invokedynamic.FieldAccessor;
 
 /**
  * trait / interface for Value Objects / Case Classes / Algebraic Data Types
  * 
- * unapply uses Reflection by default, but clients can override it if neccessary
+ * unapply reads the fields of the unwrapped Object (via a FieldAccessor) by default, but clients can override it if neccessary
  * 
  * @author johnmcclean
  *
@@ -25,24 +24,10 @@ public interface Decomposable{
 	@SuppressWarnings("unchecked")
 	default <I extends Iterable<?>> I unapply(){
 		
-		if(unwrap() instanceof Iterable)
-			return (I)unwrap();
-		try {
-			
-			return (I)ReflectionCache.getFields(unwrap().getClass()).stream().map(f ->{
-				try {
-				
-					return f.get(unwrap());
-				} catch (Exception e) {
-					throw ExceptionSoftener.throwSoftenedException(e);
-					
-				
-				}
-			}).collect(Collectors.toList());
-		} catch (Exception e) {
-			throw ExceptionSoftener.throwSoftenedException(e);
-			
-		}
+		Object o = unwrap();
+		if(o instanceof Iterable)
+			return (I)o;
+		return (I)Arrays.asList(FieldAccessor.of(o.getClass()).values(o));
 		
 	}
 	
@@ -0,0 +1,45 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * A HotStream of batches, where partial batches are flushed by a timer rather than when the next element arrives.
+ *
+ * No element waits in a batch for longer than the batch time (plus the TimeScheduler's tick), however slow the feed.
+ * Flushes are counted by cause, so a sink can tell whether batches are filling up or timing out.
+ *
+ * <pre>
+ * {@code
+ *  BatchedHotStream<List<Data>> batches = SequenceM.generate(this::nextRecord)
+ *  												.futureOperations(exec)
+ *  												.batchBySizeAndTime(100,10,TimeUnit.MILLISECONDS,TimeSchedulers.timerWheel(ex));
+ *  batches.forEach(this::write);
+ *
+ *  //later
+ *  batches.flushes(FlushCause.SIZE); //full batches
+ *  batches.flushes(FlushCause.TIME); //partial batches flushed by the timer
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <C> Batch type
+ */
+public interface BatchedHotStream<C> extends HotStream<C> {
+
+	/**
+	 * Why a batch was emitted
+	 */
+	public static enum FlushCause {
+		/** The batch reached its maximum size */
+		SIZE,
+		/** The batch time elapsed before the batch was full */
+		TIME,
+		/** The upstream HotStream completed (or failed) with a partial batch */
+		COMPLETE
+	}
+
+	/**
+	 * @param cause Flush cause
+	 * @return Number of batches emitted for the supplied cause
+	 */
+	long flushes(FlushCause cause);
+}
@@ -0,0 +1,197 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A Sequence of unboxed doubles.
+ *
+ * map, filter, scanLeft, reverse and reduce operate directly on double values, sliding and batchBySize produce double arrays
+ * rather than Lists of Doubles. Reversing a DoubleSequenceM buffers its values.
+ *
+ * <pre>
+ * {@code
+ *  DoubleSequenceM.of(1.5,2.5,3.5,4.5)
+ *  			.map(d->d*2)
+ *  			.sliding(2)
+ *  			.map(window->DoubleStream.of(window).sum());
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface DoubleSequenceM extends DoubleStream {
+
+	/**
+	 * Function applied to each value and its (zero based) position in the Sequence
+	 */
+	@FunctionalInterface
+	public static interface IndexedDoubleFunction<R>{
+		R apply(double value, long index);
+	}
+
+	DoubleSequenceM map(DoubleUnaryOperator mapper);
+
+	DoubleSequenceM filter(DoublePredicate predicate);
+
+	DoubleSequenceM flatMap(DoubleFunction<? extends DoubleStream> mapper);
+
+	DoubleSequenceM peek(DoubleConsumer action);
+
+	DoubleSequenceM limit(long maxSize);
+
+	DoubleSequenceM skip(long n);
+
+	DoubleSequenceM distinct();
+
+	DoubleSequenceM sorted();
+
+	DoubleSequenceM parallel();
+
+	DoubleSequenceM sequential();
+
+	DoubleSequenceM unordered();
+
+	DoubleSequenceM onClose(Runnable closeHandler);
+
+	SequenceM<Double> boxed();
+
+	<U> SequenceM<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+	IntSequenceM mapToInt(DoubleToIntFunction mapper);
+
+	LongSequenceM mapToLong(DoubleToLongFunction mapper);
+
+	/**
+	 * Reverse this Sequence
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1.0,2.0,3.0).reverse().toArray();
+	 *  //[3.0,2.0,1.0]
+	 * }
+	 * </pre>
+	 *
+	 * @return Reversed DoubleSequenceM
+	 */
+	DoubleSequenceM reverse();
+
+	/**
+	 * Scan left, starting with the identity value
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray();
+	 *  //[0,1,3,6]
+	 * }
+	 * </pre>
+	 *
+	 * @param identity Starting value
+	 * @param function Combining function
+	 * @return DoubleSequenceM of the running values
+	 */
+	DoubleSequenceM scanLeft(double identity, DoubleBinaryOperator function);
+
+	/**
+	 * Create a sliding view over this Sequence, each window is a new double array
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3,4).sliding(2).toList();
+	 *  //[[1,2],[2,3],[3,4]]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of double arrays
+	 */
+	SequenceM<double[]> sliding(int windowSize);
+
+	/**
+	 * Create a sliding view over this Sequence, moving increment elements at a time
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move the window by
+	 * @return SequenceM of double arrays
+	 */
+	SequenceM<double[]> sliding(int windowSize, int increment);
+
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer of doubles.
+	 * The same read-only window is emitted each time and is only valid until the next window is requested.
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow.OfDouble> slidingView(int windowSize);
+
+	/**
+	 * Create a sliding view over this Sequence, moving increment elements at a time
+	 *
+	 * @see #slidingView(int)
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move the window by
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow.OfDouble> slidingView(int windowSize, int increment);
+
+	/**
+	 * Group elements into double arrays of the specified size, the last array may be shorter
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3,4,5).batchBySize(2).toList();
+	 *  //[[1,2],[3,4],[5]]
+	 * }
+	 * </pre>
+	 *
+	 * @param size Size of each batch
+	 * @return SequenceM of double arrays
+	 */
+	SequenceM<double[]> batchBySize(int size);
+
+	/**
+	 * Apply the zipper function to each value and its index, without boxing either
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(10,20).zipWithIndex((v,i)->v+":"+i).toList();
+	 *  //["10:0","20:1"]
+	 * }
+	 * </pre>
+	 *
+	 * @param zipper Function to combine each value with its index
+	 * @return SequenceM of the zipped values
+	 */
+	<R> SequenceM<R> zipWithIndex(IndexedDoubleFunction<? extends R> zipper);
+
+	/**
+	 * Create a DoubleSequenceM from the provided values
+	 *
+	 * @param values To construct Sequence from
+	 * @return DoubleSequenceM
+	 */
+	public static DoubleSequenceM of(double... values){
+		return fromDoubleStream(DoubleStream.of(values));
+	}
+	/**
+	 * Construct a DoubleSequenceM from a DoubleStream
+	 *
+	 * @param stream DoubleStream to construct Sequence from
+	 * @return DoubleSequenceM
+	 */
+	public static DoubleSequenceM fromDoubleStream(DoubleStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof DoubleSequenceM)
+			return (DoubleSequenceM)stream;
+		return SequenceMFactory.instance.doubleSequenceM(stream,null);
+	}
+}
@@ -1,11 +1,175 @@
 package com.aol.cyclops.sequence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.sequence.streamable.Streamable;
+
 public interface HotStream<T> {
 	public SequenceM<T> connect();
 	public SequenceM<T> connect(Queue<T> queue);
+	
+	/**
+	 * Connect to this HotStream via the supplied queue, waiting for data with the supplied IdleStrategy
+	 * 
+	 * <pre>
+	 * {@code 
+	 *  hotStream.connect(new OneToOneConcurrentArrayQueue<>(256),IdleStrategies.blocking())
+	 *  			.forEach(System.out::println);
+	 * }
+	 * </pre>
+	 * 
+	 * @param queue Queue to buffer elements for this connection
+	 * @param idle IdleStrategy for this connection (the default is IdleStrategies.backoff())
+	 * @return Stream of elements from this HotStream
+	 */
+	public SequenceM<T> connect(Queue<T> queue,IdleStrategy idle);
 	public <R extends Stream<T>> R connectTo(Queue<T> queue,Function<SequenceM<T>,R> to);
+	
+	/**
+	 * Connect to this HotStream with a default sized queue, applying the supplied OverflowPolicy when the queue is full
+	 * 
+	 * @param policy OverflowPolicy for this connection
+	 * @return Connection, with it's Stream and metrics
+	 */
+	public HotStreamConnection<T> subscribe(OverflowPolicy policy);
+	
+	/**
+	 * Connect to this HotStream via the supplied queue, applying the supplied OverflowPolicy when the queue is full.
+	 * (connect(queue) is equivalent to subscribe(queue,OverflowPolicy.DROP_NEWEST).stream())
+	 * 
+	 * @param queue Queue to buffer elements for this connection
+	 * @param policy OverflowPolicy for this connection
+	 * @return Connection, with it's Stream and metrics
+	 */
+	public HotStreamConnection<T> subscribe(Queue<T> queue,OverflowPolicy policy);
+	
+	/**
+	 * Connect to this HotStream via the supplied queue, applying the supplied OverflowPolicy when the queue is full
+	 * and waiting for data with the supplied IdleStrategy
+	 * 
+	 * @param queue Queue to buffer elements for this connection
+	 * @param policy OverflowPolicy for this connection
+	 * @param idle IdleStrategy for this connection
+	 * @return Connection, with it's Stream and metrics
+	 */
+	public HotStreamConnection<T> subscribe(Queue<T> queue,OverflowPolicy policy,IdleStrategy idle);
+	
+	/**
+	 * Pass each subsequent element directly to the supplied consumer, on the publishing thread. Nothing is queued and
+	 * no consumer thread waits for data, so the consumer should be quick (or hand off to another Executor).
+	 * 
+	 * <pre>
+	 * {@code 
+	 *  CompletableFuture<Void> done = hotStream.forEach(System.out::println);
+	 * }
+	 * </pre>
+	 * 
+	 * @param consumer To receive each element
+	 * @return Future that completes when the HotStream completes, or completes exceptionally if the HotStream or the consumer fails
+	 */
+	public CompletableFuture<Void> forEach(Consumer<? super T> consumer);
+	
+	/**
+	 * Batch elements as they are published, emitting a batch when it is full or when the oldest element in it has
+	 * waited for the specified time, whichever comes first. Unlike {@link SequenceM#batchBySizeAndTime(int, long, TimeUnit)}
+	 * partial batches are flushed by a timer on the supplied TimeScheduler, not when the next element arrives.
+	 * 
+	 * <pre>
+	 * {@code 
+	 *  hotStream.batchBySizeAndTime(100,10,TimeUnit.MILLISECONDS,TimeSchedulers.timerWheel(ex))
+	 *  		 .forEach(this::write);
+	 * }
+	 * </pre>
+	 * 
+	 * @param size Max size of a batch
+	 * @param time Max time an element waits in a batch
+	 * @param unit TimeUnit of time
+	 * @param scheduler TimeScheduler to run the flush timers
+	 * @return HotStream of batches, with flush metrics
+	 */
+	public BatchedHotStream<List<T>> batchBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler);
+	
+	/**
+	 * As {@link #batchBySizeAndTime(int, long, TimeUnit, TimeScheduler)} collecting each batch into a Collection
+	 * from the supplied factory
+	 * 
+	 * @param size Max size of a batch
+	 * @param time Max time an element waits in a batch
+	 * @param unit TimeUnit of time
+	 * @param scheduler TimeScheduler to run the flush timers
+	 * @param factory Collection factory
+	 * @return HotStream of batches, with flush metrics
+	 */
+	public <C extends Collection<? super T>> BatchedHotStream<C> batchBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler, Supplier<C> factory);
+	
+	/**
+	 * Batch elements as they are published, emitting each batch when its oldest element has waited for the specified
+	 * time (flushed by a timer on the supplied TimeScheduler)
+	 * 
+	 * @param time Max time an element waits in a batch
+	 * @param unit TimeUnit of time
+	 * @param scheduler TimeScheduler to run the flush timers
+	 * @return HotStream of batches, with flush metrics
+	 */
+	public BatchedHotStream<List<T>> batchByTime(long time, TimeUnit unit, TimeScheduler scheduler);
+	
+	/**
+	 * As {@link #batchBySizeAndTime(int, long, TimeUnit, TimeScheduler)} with each batch emitted as a Streamable window
+	 * 
+	 * @param size Max size of a window
+	 * @param time Max time an element waits in a window
+	 * @param unit TimeUnit of time
+	 * @param scheduler TimeScheduler to run the flush timers
+	 * @return HotStream of windows, with flush metrics
+	 */
+	public BatchedHotStream<Streamable<T>> windowBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler);
+	
+	/**
+	 * As {@link #batchByTime(long, TimeUnit, TimeScheduler)} with each batch emitted as a Streamable window
+	 * 
+	 * @param time Max time an element waits in a window
+	 * @param unit TimeUnit of time
+	 * @param scheduler TimeScheduler to run the flush timers
+	 * @return HotStream of windows, with flush metrics
+	 */
+	public BatchedHotStream<Streamable<T>> windowByTime(long time, TimeUnit unit, TimeScheduler scheduler);
+	
+	/**
+	 * Merge this HotStream with the supplied HotStreams. Each element published by any of them from now on is
+	 * published by the merged HotStream, in the order they arrive (on the thread of the HotStream that published it).
+	 * The merged HotStream completes when all of them complete, or fails when the first of them fails.
+	 * 
+	 * <pre>
+	 * {@code 
+	 *  orders.merge(payments,refunds)
+	 *  	  .connect()
+	 *  	  .forEach(this::handle);
+	 * }
+	 * </pre>
+	 * 
+	 * @param others HotStreams to merge with this one
+	 * @return Merged HotStream
+	 */
+	public HotStream<T> merge(HotStream<? extends T>... others);
+	
+	/**
+	 * Merge this HotStream with the supplied HotStreams, as {@link #merge(HotStream...)}
+	 * 
+	 * @param others HotStreams to merge with this one
+	 * @return Merged HotStream
+	 */
+	public HotStream<T> merge(List<? extends HotStream<? extends T>> others);
+	
+	/**
+	 * @return Number of currently connected consumers
+	 */
+	public int connections();
 }
@@ -0,0 +1,61 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * A single consumer connected to a HotStream
+ * 
+ * <pre>
+ * {@code 
+ *  HotStreamConnection<Integer> connection = SequenceM.range(0,Integer.MAX_VALUE)
+ *  													.hotStream(exec)
+ *  													.subscribe(OverflowPolicy.DROP_OLDEST);
+ *  
+ *  connection.stream().forEach(System.out::println);
+ *  
+ *  //on another thread
+ *  connection.lag(); //elements queued but not yet consumed
+ *  connection.dropped(); //elements discarded because the queue was full
+ *  connection.disconnect();
+ * }
+ * </pre>
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the HotStream
+ */
+public interface HotStreamConnection<T> {
+
+	/**
+	 * @return Stream of the elements received by this connection, the Stream completes when the HotStream completes or the connection is disconnected
+	 */
+	SequenceM<T> stream();
+	
+	/**
+	 * Stop receiving elements from the HotStream. Elements already queued will still be emitted by {@link #stream()}
+	 */
+	void disconnect();
+	
+	/**
+	 * @return true if this connection is still receiving elements
+	 */
+	boolean isConnected();
+	
+	/**
+	 * @return OverflowPolicy applied when this connection's queue is full
+	 */
+	OverflowPolicy getOverflowPolicy();
+	
+	/**
+	 * @return Number of elements queued for this connection but not yet consumed
+	 */
+	long lag();
+	
+	/**
+	 * @return Number of elements successfully queued for this connection
+	 */
+	long received();
+	
+	/**
+	 * @return Number of elements discarded because this connection's queue was full
+	 */
+	long dropped();
+}
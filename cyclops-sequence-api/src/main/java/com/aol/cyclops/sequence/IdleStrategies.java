@@ -0,0 +1,148 @@
+package com.aol.cyclops.sequence;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Factory methods for IdleStrategies, ordered from lowest latency / highest CPU use to highest latency / lowest CPU use
+ * 
+ * <pre>
+ * {@code
+ *   hotStream.connect(new OneToOneConcurrentArrayQueue<>(256),IdleStrategies.blocking());
+ * }
+ * </pre>
+ * 
+ * @author johnmcclean
+ *
+ */
+public class IdleStrategies {
+
+	/**
+	 * @return IdleStrategy that busy spins, lowest latency but occupies a core while idle
+	 */
+	public static IdleStrategy spin(){
+		return new Spin();
+	}
+	/**
+	 * @return IdleStrategy that yields the thread while idle
+	 */
+	public static IdleStrategy yielding(){
+		return new Yield();
+	}
+	/**
+	 * @return Default back off IdleStrategy, 100 spins, 10 yields then parking from 1 micro second doubling up to 1 millisecond
+	 */
+	public static IdleStrategy backoff(){
+		return backoff(100,10,1_000,1_000_000);
+	}
+	/**
+	 * Spin, then yield, then park with exponential back off
+	 * 
+	 * @param maxSpins Number of spins before yielding
+	 * @param maxYields Number of yields before parking
+	 * @param minParkNanos First park period
+	 * @param maxParkNanos Park period doubles up to this limit
+	 * @return Back off IdleStrategy
+	 */
+	public static IdleStrategy backoff(long maxSpins,long maxYields,long minParkNanos,long maxParkNanos){
+		return new Backoff(maxSpins,maxYields,minParkNanos,maxParkNanos);
+	}
+	/**
+	 * @return IdleStrategy that parks the consumer until the producer signals new data (or 10 milliseconds pass)
+	 */
+	public static IdleStrategy blocking(){
+		return blocking(10_000_000);
+	}
+	/**
+	 * @param maxParkNanos Maximum time to park without a signal from the producer
+	 * @return IdleStrategy that parks the consumer until the producer signals new data
+	 */
+	public static IdleStrategy blocking(long maxParkNanos){
+		return new Blocking(maxParkNanos);
+	}
+	
+	private static class Spin implements IdleStrategy{
+		@Override
+		public void idle() {
+			
+		}
+		@Override
+		public void reset() {
+			
+		}
+	}
+	private static class Yield implements IdleStrategy{
+		@Override
+		public void idle() {
+			Thread.yield();
+		}
+		@Override
+		public void reset() {
+			
+		}
+	}
+	private static class Backoff implements IdleStrategy{
+		private final long maxSpins;
+		private final long maxYields;
+		private final long minParkNanos;
+		private final long maxParkNanos;
+		
+		private long spins;
+		private long yields;
+		private long parkNanos;
+		
+		Backoff(long maxSpins, long maxYields, long minParkNanos, long maxParkNanos) {
+			this.maxSpins = maxSpins;
+			this.maxYields = maxYields;
+			this.minParkNanos = minParkNanos;
+			this.maxParkNanos = maxParkNanos;
+			reset();
+		}
+		@Override
+		public void idle() {
+			if(spins<maxSpins){
+				spins++;
+			}else if(yields<maxYields){
+				yields++;
+				Thread.yield();
+			}else{
+				LockSupport.parkNanos(parkNanos);
+				parkNanos = Math.min(parkNanos*2, maxParkNanos);
+			}
+		}
+		@Override
+		public void reset() {
+			spins = 0;
+			yields = 0;
+			parkNanos = minParkNanos;
+		}
+	}
+	private static class Blocking implements IdleStrategy{
+		private final long maxParkNanos;
+		private volatile Thread waiter;
+		private volatile boolean signalled;
+		
+		Blocking(long maxParkNanos){
+			this.maxParkNanos = maxParkNanos;
+		}
+		
+		@Override
+		public void idle() {
+			waiter = Thread.currentThread();
+			if(!signalled) //data may have arrived since the consumer last checked
+				LockSupport.parkNanos(this,maxParkNanos);
+			waiter = null;
+			signalled = false;
+		}
+		@Override
+		public void reset() {
+			
+		}
+		@Override
+		public void signal() {
+			signalled = true;
+			Thread local = waiter;
+			if(local!=null)
+				LockSupport.unpark(local);
+		}
+	}
+}
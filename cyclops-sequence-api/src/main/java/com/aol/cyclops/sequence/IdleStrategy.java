@@ -0,0 +1,29 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * Determines how a HotStream consumer waits while it's queue is empty.
+ * 
+ * IdleStrategies are stateful, use a new instance per connection (see {@link IdleStrategies})
+ * 
+ * @author johnmcclean
+ *
+ */
+public interface IdleStrategy {
+
+	/**
+	 * Called by the consumer when no data was available
+	 */
+	void idle();
+	
+	/**
+	 * Called by the consumer when data was available, resetting any back off
+	 */
+	void reset();
+	
+	/**
+	 * Called by the producer after it has made data available (or closed the stream)
+	 */
+	default void signal(){
+		
+	}
+}
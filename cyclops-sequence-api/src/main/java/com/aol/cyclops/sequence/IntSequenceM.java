@@ -0,0 +1,215 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.sequence.spliterators.ReversingRangeIntSpliterator;
+
+/**
+ * A Sequence of unboxed ints.
+ *
+ * map, filter, scanLeft, reverse and reduce operate directly on int values, sliding and batchBySize produce int arrays
+ * rather than Lists of Integers. Ranges are backed by a ReversingRangeIntSpliterator and so can be reversed efficiently.
+ *
+ * <pre>
+ * {@code
+ *  IntSequenceM.range(0,1000)
+ *  			.map(i->i*2)
+ *  			.sliding(10)
+ *  			.map(window->IntStream.of(window).sum());
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface IntSequenceM extends IntStream {
+
+	/**
+	 * Function applied to each value and its (zero based) position in the Sequence
+	 */
+	@FunctionalInterface
+	public static interface IndexedIntFunction<R>{
+		R apply(int value, long index);
+	}
+
+	IntSequenceM map(IntUnaryOperator mapper);
+
+	IntSequenceM filter(IntPredicate predicate);
+
+	IntSequenceM flatMap(IntFunction<? extends IntStream> mapper);
+
+	IntSequenceM peek(IntConsumer action);
+
+	IntSequenceM limit(long maxSize);
+
+	IntSequenceM skip(long n);
+
+	IntSequenceM distinct();
+
+	IntSequenceM sorted();
+
+	IntSequenceM parallel();
+
+	IntSequenceM sequential();
+
+	IntSequenceM unordered();
+
+	IntSequenceM onClose(Runnable closeHandler);
+
+	SequenceM<Integer> boxed();
+
+	<U> SequenceM<U> mapToObj(IntFunction<? extends U> mapper);
+
+	LongSequenceM mapToLong(IntToLongFunction mapper);
+
+	DoubleSequenceM mapToDouble(IntToDoubleFunction mapper);
+
+	LongSequenceM asLongStream();
+
+	DoubleSequenceM asDoubleStream();
+
+	/**
+	 * Reverse this Sequence, ranges are reversed without buffering
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.range(0,5).reverse().toArray();
+	 *  //[4,3,2,1,0]
+	 * }
+	 * </pre>
+	 *
+	 * @return Reversed IntSequenceM
+	 */
+	IntSequenceM reverse();
+
+	/**
+	 * Scan left, starting with the identity value
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray();
+	 *  //[0,1,3,6]
+	 * }
+	 * </pre>
+	 *
+	 * @param identity Starting value
+	 * @param function Combining function
+	 * @return IntSequenceM of the running values
+	 */
+	IntSequenceM scanLeft(int identity, IntBinaryOperator function);
+
+	/**
+	 * Create a sliding view over this Sequence, each window is a new int array
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3,4).sliding(2).toList();
+	 *  //[[1,2],[2,3],[3,4]]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of int arrays
+	 */
+	SequenceM<int[]> sliding(int windowSize);
+
+	/**
+	 * Create a sliding view over this Sequence, moving increment elements at a time
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move the window by
+	 * @return SequenceM of int arrays
+	 */
+	SequenceM<int[]> sliding(int windowSize, int increment);
+
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer of ints.
+	 * The same read-only window is emitted each time and is only valid until the next window is requested.
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow.OfInt> slidingView(int windowSize);
+
+	/**
+	 * Create a sliding view over this Sequence, moving increment elements at a time
+	 *
+	 * @see #slidingView(int)
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move the window by
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow.OfInt> slidingView(int windowSize, int increment);
+
+	/**
+	 * Group elements into int arrays of the specified size, the last array may be shorter
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3,4,5).batchBySize(2).toList();
+	 *  //[[1,2],[3,4],[5]]
+	 * }
+	 * </pre>
+	 *
+	 * @param size Size of each batch
+	 * @return SequenceM of int arrays
+	 */
+	SequenceM<int[]> batchBySize(int size);
+
+	/**
+	 * Apply the zipper function to each value and its index, without boxing either
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(10,20).zipWithIndex((v,i)->v+":"+i).toList();
+	 *  //["10:0","20:1"]
+	 * }
+	 * </pre>
+	 *
+	 * @param zipper Function to combine each value with its index
+	 * @return SequenceM of the zipped values
+	 */
+	<R> SequenceM<R> zipWithIndex(IndexedIntFunction<? extends R> zipper);
+
+	/**
+	 * Create an efficiently reversable Sequence of the ints between start (inclusive) and end (exclusive)
+	 *
+	 * @param start Number of range to start from
+	 * @param end Number for range to end at
+	 * @return Range IntSequenceM
+	 */
+	public static IntSequenceM range(int start, int end){
+		ReversingRangeIntSpliterator range = new ReversingRangeIntSpliterator(start, end, false);
+		return SequenceMFactory.instance.intSequenceM(StreamSupport.intStream(range, false),range);
+	}
+	/**
+	 * Create an IntSequenceM from the provided values
+	 *
+	 * @param values To construct Sequence from
+	 * @return IntSequenceM
+	 */
+	public static IntSequenceM of(int... values){
+		return fromIntStream(IntStream.of(values));
+	}
+	/**
+	 * Construct an IntSequenceM from an IntStream
+	 *
+	 * @param stream IntStream to construct Sequence from
+	 * @return IntSequenceM
+	 */
+	public static IntSequenceM fromIntStream(IntStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof IntSequenceM)
+			return (IntSequenceM)stream;
+		return SequenceMFactory.instance.intSequenceM(stream,null);
+	}
+}
@@ -0,0 +1,213 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.sequence.spliterators.ReversingRangeLongSpliterator;
+
+/**
+ * A Sequence of unboxed longs.
+ *
+ * map, filter, scanLeft, reverse and reduce operate directly on long values, sliding and batchBySize produce long arrays
+ * rather than Lists of Longs. Ranges are backed by a ReversingRangeLongSpliterator and so can be reversed efficiently.
+ *
+ * <pre>
+ * {@code
+ *  LongSequenceM.range(0,1000)
+ *  			.map(i->i*2)
+ *  			.sliding(10)
+ *  			.map(window->LongStream.of(window).sum());
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface LongSequenceM extends LongStream {
+
+	/**
+	 * Function applied to each value and its (zero based) position in the Sequence
+	 */
+	@FunctionalInterface
+	public static interface IndexedLongFunction<R>{
+		R apply(long value, long index);
+	}
+
+	LongSequenceM map(LongUnaryOperator mapper);
+
+	LongSequenceM filter(LongPredicate predicate);
+
+	LongSequenceM flatMap(LongFunction<? extends LongStream> mapper);
+
+	LongSequenceM peek(LongConsumer action);
+
+	LongSequenceM limit(long maxSize);
+
+	LongSequenceM skip(long n);
+
+	LongSequenceM distinct();
+
+	LongSequenceM sorted();
+
+	LongSequenceM parallel();
+
+	LongSequenceM sequential();
+
+	LongSequenceM unordered();
+
+	LongSequenceM onClose(Runnable closeHandler);
+
+	SequenceM<Long> boxed();
+
+	<U> SequenceM<U> mapToObj(LongFunction<? extends U> mapper);
+
+	IntSequenceM mapToInt(LongToIntFunction mapper);
+
+	DoubleSequenceM mapToDouble(LongToDoubleFunction mapper);
+
+	DoubleSequenceM asDoubleStream();
+
+	/**
+	 * Reverse this Sequence, ranges are reversed without buffering
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.range(0,5).reverse().toArray();
+	 *  //[4,3,2,1,0]
+	 * }
+	 * </pre>
+	 *
+	 * @return Reversed LongSequenceM
+	 */
+	LongSequenceM reverse();
+
+	/**
+	 * Scan left, starting with the identity value
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray();
+	 *  //[0,1,3,6]
+	 * }
+	 * </pre>
+	 *
+	 * @param identity Starting value
+	 * @param function Combining function
+	 * @return LongSequenceM of the running values
+	 */
+	LongSequenceM scanLeft(long identity, LongBinaryOperator function);
+
+	/**
+	 * Create a sliding view over this Sequence, each window is a new long array
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3,4).sliding(2).toList();
+	 *  //[[1,2],[2,3],[3,4]]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of long arrays
+	 */
+	SequenceM<long[]> sliding(int windowSize);
+
+	/**
+	 * Create a sliding view over this Sequence, moving increment elements at a time
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move the window by
+	 * @return SequenceM of long arrays
+	 */
+	SequenceM<long[]> sliding(int windowSize, int increment);
+
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer of longs.
+	 * The same read-only window is emitted each time and is only valid until the next window is requested.
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow.OfLong> slidingView(int windowSize);
+
+	/**
+	 * Create a sliding view over this Sequence, moving increment elements at a time
+	 *
+	 * @see #slidingView(int)
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move the window by
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow.OfLong> slidingView(int windowSize, int increment);
+
+	/**
+	 * Group elements into long arrays of the specified size, the last array may be shorter
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3,4,5).batchBySize(2).toList();
+	 *  //[[1,2],[3,4],[5]]
+	 * }
+	 * </pre>
+	 *
+	 * @param size Size of each batch
+	 * @return SequenceM of long arrays
+	 */
+	SequenceM<long[]> batchBySize(int size);
+
+	/**
+	 * Apply the zipper function to each value and its index, without boxing either
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(10,20).zipWithIndex((v,i)->v+":"+i).toList();
+	 *  //["10:0","20:1"]
+	 * }
+	 * </pre>
+	 *
+	 * @param zipper Function to combine each value with its index
+	 * @return SequenceM of the zipped values
+	 */
+	<R> SequenceM<R> zipWithIndex(IndexedLongFunction<? extends R> zipper);
+
+	/**
+	 * Create an efficiently reversable Sequence of the longs between start (inclusive) and end (exclusive)
+	 *
+	 * @param start Number of range to start from
+	 * @param end Number for range to end at
+	 * @return Range LongSequenceM
+	 */
+	public static LongSequenceM range(long start, long end){
+		ReversingRangeLongSpliterator range = new ReversingRangeLongSpliterator(start, end, false);
+		return SequenceMFactory.instance.longSequenceM(StreamSupport.longStream(range, false),range);
+	}
+	/**
+	 * Create an LongSequenceM from the provided values
+	 *
+	 * @param values To construct Sequence from
+	 * @return LongSequenceM
+	 */
+	public static LongSequenceM of(long... values){
+		return fromLongStream(LongStream.of(values));
+	}
+	/**
+	 * Construct an LongSequenceM from an LongStream
+	 *
+	 * @param stream LongStream to construct Sequence from
+	 * @return LongSequenceM
+	 */
+	public static LongSequenceM fromLongStream(LongStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof LongSequenceM)
+			return (LongSequenceM)stream;
+		return SequenceMFactory.instance.longSequenceM(stream,null);
+	}
+}
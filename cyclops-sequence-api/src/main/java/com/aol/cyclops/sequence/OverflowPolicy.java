@@ -0,0 +1,27 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * What a HotStream should do when a connection's queue is full
+ * 
+ * @author johnmcclean
+ *
+ */
+public enum OverflowPolicy {
+	/**
+	 * Block the producer until the connection has capacity (or is disconnected). A slow connection slows the whole HotStream.
+	 */
+	BLOCK,
+	/**
+	 * Discard the oldest queued element to make room for the new one. The connection's queue must support
+	 * polling from the producing thread (e.g. an Agrona ManyToManyConcurrentArrayQueue or a JDK concurrent queue).
+	 */
+	DROP_OLDEST,
+	/**
+	 * Discard the new element
+	 */
+	DROP_NEWEST,
+	/**
+	 * Disconnect the connection, it's Stream will throw an IllegalStateException once the queued elements have been consumed
+	 */
+	ERROR
+}
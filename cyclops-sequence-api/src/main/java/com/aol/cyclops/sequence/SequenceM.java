@@ -2,7 +2,13 @@ package com.aol.cyclops.sequence;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -47,6 +53,7 @@ import com.aol.cyclops.sequence.future.FutureOperations;
 import com.aol.cyclops.sequence.reactivestreams.CyclopsSubscriber;
 import com.aol.cyclops.sequence.reactivestreams.ReactiveStreamsLoader;
 import com.aol.cyclops.sequence.reactivestreams.ReactiveStreamsTerminalOperations;
+import com.aol.cyclops.sequence.spliterators.MappedLineSpliterator;
 import com.aol.cyclops.sequence.spliterators.ReversingArraySpliterator;
 import com.aol.cyclops.sequence.spliterators.ReversingListSpliterator;
 import com.aol.cyclops.sequence.spliterators.ReversingRangeIntSpliterator;
@@ -156,6 +163,22 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 * @return duplicated stream
 	 */
 	Tuple2<SequenceM<T>,SequenceM<T>> duplicateSequence();
+	/**
+	 * Duplicate a Stream, the leading copy may be at most maxBuffer elements ahead of the other.
+	 * <pre>
+	 * {@code 
+	 *  Tuple2<SequenceM<Integer>, SequenceM<Integer>> copies =of(1,2,3,4,5,6).duplicateSequence(100,OverflowPolicy.BLOCK);
+	 *  
+	 *  //consume copies.v1 and copies.v2 on separate threads
+	 * }
+	 * </pre>
+	 * 
+	 * @param maxBuffer Maximum number of buffered elements
+	 * @param policy BLOCK the leading copy until the other catches up (copies must be consumed on different threads), 
+	 * 				or ERROR to throw an IllegalStateException
+	 * @return duplicated stream
+	 */
+	Tuple2<SequenceM<T>,SequenceM<T>> duplicateSequence(long maxBuffer, OverflowPolicy policy);
 	
 	/**
 	 * Triplicates a Stream
@@ -499,6 +522,36 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 * @return SequenceM with sliding view
 	 */
 	SequenceM<List<T>> sliding(int windowSize,int increment);
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer.
+	 * 
+	 * The same read-only SlidingWindow is emitted for every window and is only valid until the next window is requested, no
+	 * memory is allocated per window. Use SlidingWindow#copy to retain a window.
+	 * <pre>
+	 * {@code 
+	 * List<Integer> sums = SequenceM.of(1,2,3,4)
+									.slidingView(2)
+									.map(window->window.get(0)+window.get(1))
+									.toList();
+		
+		//[3,5,7]
+	 * }
+	 * </pre>
+	 * 
+	 * @param windowSize
+	 *            Size of sliding window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow<T>> slidingView(int windowSize);
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer
+	 * 
+	 * @see #slidingView(int)
+	 * @param windowSize number of elements in each window
+	 * @param increment for each window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	SequenceM<SlidingWindow<T>> slidingView(int windowSize,int increment);
 
 	/**
 	 * Group elements in a Stream
@@ -703,7 +756,21 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 */
 	SequenceM<T> limitUntil(Predicate<? super T> p);
 	/**
-	 * @return Does nothing SequenceM is for Sequential Streams
+	 * Switch to parallel execution on the ForkJoin common pool.
+	 * 
+	 * Stateless operations (map, filter, flatMap), Monoid and multiple Monoid reductions, Collectors (including multiple Collectors)
+	 * and batchBySize over sized sources are executed in parallel. Order dependent operators built on the Stream's iterator
+	 * (e.g. sliding, scanLeft, zipWithIndex, windowWhile) consume the Stream sequentially.
+	 * 
+	 * <pre>
+	 * {@code 
+	 *  SequenceM.range(0,1_000_000)
+	 *  			.parallel()
+	 *  			.map(i->i*2)
+	 *  			.reduce(Arrays.asList(Reducers.toTotalInt(),Monoid.of(Integer.MIN_VALUE,Math::max)));
+	 * }
+	 * </pre>
+	 * @return Parallel SequenceM
 	 * 	 
 	 */
 	SequenceM<T> parallel();
@@ -1266,6 +1333,46 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 * @return
 	 */
 	<R> SequenceM<R> flatMapCompletableFuture(Function<? super T,CompletableFuture<? extends R>> fn);
+	/**
+	 * Apply a CompletableFuture returning function to each element, keeping up to maxInFlight futures outstanding at
+	 * once (flatMapCompletableFuture waits for each future before starting the next). Results are emitted in the
+	 * order of the input elements.
+	 * 
+	 * If a future fails the outstanding futures are cancelled and the error is thrown to the consumer, closing the
+	 * Sequence also cancels any outstanding futures.
+	 * 
+	 *  <pre>
+	 *  {@code
+	 *  	assertThat(SequenceM.of(1,2,3)
+	 *  						.mapAsync(i->CompletableFuture.supplyAsync(()->lookup(i),exec),10)
+	 *  						.toList(),
+	 *  						equalTo(Arrays.asList(lookup(1),lookup(2),lookup(3))));
+	 *  }
+	 *  </pre>
+	 * 
+	 * @param fn Function that starts an asynchronous task for each element
+	 * @param maxInFlight Max number of futures outstanding at once
+	 * @return Sequence of results, in input order
+	 */
+	<R> SequenceM<R> mapAsync(Function<? super T,CompletableFuture<? extends R>> fn,int maxInFlight);
+	/**
+	 * Apply a CompletableFuture returning function to each element, keeping up to maxInFlight futures outstanding at
+	 * once. Results are emitted as their futures complete, so a slow element does not hold back the others.
+	 * 
+	 *  <pre>
+	 *  {@code
+	 *  	SequenceM.of(1,2,3)
+	 *  			 .mapAsyncUnordered(i->CompletableFuture.supplyAsync(()->lookup(i),exec),10)
+	 *  			 .forEach(this::store);
+	 *  }
+	 *  </pre>
+	 * 
+	 * @see #mapAsync(Function, int)
+	 * @param fn Function that starts an asynchronous task for each element
+	 * @param maxInFlight Max number of futures outstanding at once
+	 * @return Sequence of results, in completion order
+	 */
+	<R> SequenceM<R> mapAsyncUnordered(Function<? super T,CompletableFuture<? extends R>> fn,int maxInFlight);
 
 	/**
 	 * Perform a flatMap operation where the result will be a flattened stream of Characters
@@ -1716,6 +1823,153 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 */
 	HotStream<T> hotStream(Executor e);
 	
+	/**
+	 * Run the pipeline up to this point on a thread from the supplied Executor, handing elements to the rest of the
+	 * pipeline (run on the consuming thread) via a single producer / single consumer ring buffer. Use this to run CPU
+	 * heavy upstream stages and the downstream sink on separate cores.
+	 * 
+	 * Both sides use IdleStrategies.backoff() to wait for data (consumer) or space (producer). Upstream errors are
+	 * rethrown to the consumer. Close the Sequence to stop the producer if it is not fully consumed (e.g. after limit or
+	 * findFirst), a Sequence abandoned without being closed only stops its producer once it has been garbage collected.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(lines)
+	 *  		 .map(this::parse)
+	 *  		 .async(exec,1024)
+	 *  		 .forEach(this::write);
+	 * }
+	 * </pre>
+	 * 
+	 * @param exec Executor to run the upstream stages on
+	 * @param queueCapacity Capacity of the ring buffer (rounded up to a power of two)
+	 * @return Sequence whose upstream stages run asynchronously
+	 */
+	SequenceM<T> async(Executor exec, int queueCapacity);
+	
+	/**
+	 * Run the pipeline up to this point on a thread from the supplied Executor, with the supplied IdleStrategies
+	 * 
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(lines)
+	 *  		 .map(this::parse)
+	 *  		 .async(exec,1024,IdleStrategies.blocking(),IdleStrategies.spin())
+	 *  		 .forEach(this::write);
+	 * }
+	 * </pre>
+	 * 
+	 * @see #async(Executor, int)
+	 * @param exec Executor to run the upstream stages on
+	 * @param queueCapacity Capacity of the ring buffer (rounded up to a power of two)
+	 * @param producerIdle How the producer waits while the buffer is full (use a new instance per call)
+	 * @param consumerIdle How the consumer waits while the buffer is empty (use a new instance per call)
+	 * @return Sequence whose upstream stages run asynchronously
+	 */
+	SequenceM<T> async(Executor exec, int queueCapacity, IdleStrategy producerIdle, IdleStrategy consumerIdle);
+
+	/**
+	 * Process elements on a number of parallel lanes, keeping the order of elements with the same key.
+	 *
+	 * Each element is routed by the hash of its key to one of the lanes (via a bounded queue of 256 elements), the
+	 * supplied lane function is applied to each lane's Sequence on its own thread, and the lane results are merged
+	 * into the returned Sequence. Elements with equal keys always share a lane, so they are processed and emitted in
+	 * their original order, elements with different keys may be reordered.
+	 *
+	 * Processing starts immediately on lanes+1 threads from the Executor (one to route elements and one per lane),
+	 * so the Executor must be able to run that many tasks at once. Close the returned Sequence to stop it early.
+	 * Null elements are not supported.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(events)
+	 *  		 .partitionedParallel(Event::getAccountId,4,exec,lane->lane.map(this::apply))
+	 *  		 .forEach(this::publish);
+	 * }
+	 * </pre>
+	 *
+	 * @param keyFn Key to partition by
+	 * @param lanes Number of parallel lanes
+	 * @param exec Executor to run the lanes on
+	 * @param laneFn Pipeline to run on each lane
+	 * @return Merged results from all lanes
+	 */
+	<K,R> SequenceM<R> partitionedParallel(Function<? super T,? extends K> keyFn, int lanes, Executor exec,
+											Function<? super SequenceM<T>,? extends Stream<R>> laneFn);
+
+	/**
+	 * As {@link #partitionedParallel(Function, int, Executor, Function)} with the supplied capacity for each lane's queue
+	 * (and the merged output queue)
+	 *
+	 * @param keyFn Key to partition by
+	 * @param lanes Number of parallel lanes
+	 * @param exec Executor to run the lanes on
+	 * @param queueCapacity Capacity of each queue (rounded up to a power of two)
+	 * @param laneFn Pipeline to run on each lane
+	 * @return Merged results from all lanes
+	 */
+	<K,R> SequenceM<R> partitionedParallel(Function<? super T,? extends K> keyFn, int lanes, Executor exec, int queueCapacity,
+											Function<? super SequenceM<T>,? extends Stream<R>> laneFn);
+
+	/**
+	 * Merge this Sequence with the supplied Streams, emitting elements in the order they arrive.
+	 *
+	 * Each source (including this Sequence) is drained by its own task on the supplied Executor, into a shared queue
+	 * of 256 elements, once the merged Sequence is first consumed. The merged Sequence completes when every source
+	 * has completed. If a source fails the others are stopped and the error is rethrown, close the merged Sequence to
+	 * stop all sources early (closing the merged Sequence closes every source).
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(orders)
+	 *  		 .merge(exec,payments,refunds)
+	 *  		 .forEach(this::handle);
+	 * }
+	 * </pre>
+	 *
+	 * @param exec Executor to drain the sources on (needs one thread per source)
+	 * @param others Streams to merge with this one
+	 * @return Merged Sequence
+	 */
+	SequenceM<T> merge(Executor exec, Stream<? extends T>... others);
+
+	/**
+	 * Merge this Sequence with the supplied Streams, as {@link #merge(Executor, Stream...)}
+	 *
+	 * @param exec Executor to drain the sources on (needs one thread per source)
+	 * @param others Streams to merge with this one
+	 * @return Merged Sequence
+	 */
+	SequenceM<T> merge(Executor exec, List<? extends Stream<? extends T>> others);
+
+	/**
+	 * Merge this Sequence with the supplied Streams, as {@link #merge(Executor, Stream...)}, but giving each source its
+	 * own queue. When several sources have elements available, this Sequence is emitted first, then the others in the
+	 * order supplied.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(alerts)
+	 *  		 .mergeByPriority(exec,metrics,logs)
+	 *  		 .forEach(this::handle);
+	 * }
+	 * </pre>
+	 *
+	 * @param exec Executor to drain the sources on (needs one thread per source)
+	 * @param others Streams to merge with this one, highest priority first
+	 * @return Merged Sequence
+	 */
+	SequenceM<T> mergeByPriority(Executor exec, Stream<? extends T>... others);
+
+	/**
+	 * Merge this Sequence with the supplied Streams, as {@link #mergeByPriority(Executor, Stream...)}
+	 *
+	 * @param exec Executor to drain the sources on (needs one thread per source)
+	 * @param others Streams to merge with this one, highest priority first
+	 * @return Merged Sequence
+	 */
+	SequenceM<T> mergeByPriority(Executor exec, List<? extends Stream<? extends T>> others);
+	
 	/**
 	 * <pre>
 	 * {@code 
@@ -2009,6 +2263,64 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 		Objects.requireNonNull(iterable);
 		return SequenceMFactory.instance.sequenceM(StreamSupport.stream(iterable.spliterator(),false),null);
 	}
+	/**
+	 * Construct a Sequence of the lines of a memory mapped file. Lines are found directly in the mapped bytes and the
+	 * file is split at line boundaries, so unlike Files.lines the Sequence can be processed efficiently in parallel.
+	 * Files in charsets other than UTF-8, US-ASCII and ISO-8859-1 are read with Files.lines instead.
+	 *
+	 * <pre>
+	 * {@code
+	 *  long errors = SequenceM.fromMappedFile(Paths.get("app.log"),StandardCharsets.UTF_8)
+	 *  					   .parallel()
+	 *  					   .filter(line->line.contains("ERROR"))
+	 *  					   .count();
+	 * }
+	 * </pre>
+	 *
+	 * Close the Sequence if it is not fully consumed, to close the file.
+	 *
+	 * @param path File to read
+	 * @param charset Charset of the file
+	 * @return Sequence of lines
+	 */
+	public static SequenceM<String> fromMappedFile(Path path, Charset charset){
+		try{
+			if(!MappedLineSpliterator.supports(charset))
+				return SequenceMFactory.instance.sequenceM(Files.lines(path,charset),null);
+			FileChannel channel = FileChannel.open(path,StandardOpenOption.READ);
+			return SequenceMFactory.instance.sequenceM(StreamSupport.stream(MappedLineSpliterator.lines(channel,charset),false)
+																	.onClose(ExceptionSoftener.softenRunnable(channel::close)),null);
+		}catch(IOException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+	/**
+	 * Construct a Sequence of zero copy views of the lines of a memory mapped file (see
+	 * {@link #fromMappedFile(Path, Charset)}). Each byte is read as a single ISO-8859-1 character, so the views are only
+	 * correct for ASCII or ISO-8859-1 files. Views remain valid after the Sequence is closed, call toString on a view
+	 * to copy it.
+	 *
+	 * <pre>
+	 * {@code
+	 *  long errors = SequenceM.fromMappedFileViews(Paths.get("app.log"))
+	 *  					   .parallel()
+	 *  					   .filter(line->line.length()>5 && line.charAt(0)=='E')
+	 *  					   .count();
+	 * }
+	 * </pre>
+	 *
+	 * @param path File to read
+	 * @return Sequence of views of each line
+	 */
+	public static SequenceM<CharSequence> fromMappedFileViews(Path path){
+		try{
+			FileChannel channel = FileChannel.open(path,StandardOpenOption.READ);
+			return SequenceMFactory.instance.sequenceM(StreamSupport.stream(MappedLineSpliterator.views(channel),false)
+																	.onClose(ExceptionSoftener.softenRunnable(channel::close)),null);
+		}catch(IOException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
 	/**
 	 * Construct a Sequence from an Iterator
 	 * @param iterator  to construct Sequence from
@@ -2117,6 +2429,133 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 */
 	<U> SequenceM<Tuple2<T, U>> rightOuterJoin(Stream<U> other,
 			BiPredicate<T, U> predicate);
+
+	/**
+	 * Join this Sequence with another Stream where their keys are equal, using a hash join.
+	 *
+	 * One side is loaded into a hash table (the smaller side if both Streams have a known size, otherwise the other
+	 * Stream) and the remaining side is streamed through it, so the join is O(n+m) rather than the O(n*m) of
+	 * {@link #innerJoin(Stream, BiPredicate)}. Elements are emitted in the order of the streamed side.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.of(order1,order2)
+	 *  		 .innerJoin(customers,Order::getCustomerId,Customer::getId)
+	 *  		 .forEach(t->ship(t.v1,t.v2));
+	 * }
+	 * </pre>
+	 *
+	 * @param other Stream to join with
+	 * @param key Key of elements of this Sequence
+	 * @param otherKey Key of elements of the other Stream
+	 * @return Sequence of matching pairs
+	 */
+	<U,K> SequenceM<Tuple2<T, U>> innerJoin(Stream<U> other, Function<? super T,? extends K> key,
+											Function<? super U,? extends K> otherKey);
+
+	/**
+	 * Hash join this Sequence with another Stream (see {@link #innerJoin(Stream, Function, Function)}), elements of
+	 * this Sequence without a match are paired with null.
+	 *
+	 * @param other Stream to join with
+	 * @param key Key of elements of this Sequence
+	 * @param otherKey Key of elements of the other Stream
+	 * @return Sequence of matching pairs, and unmatched elements from this Sequence
+	 */
+	<U,K> SequenceM<Tuple2<T, U>> leftOuterJoin(Stream<U> other, Function<? super T,? extends K> key,
+												Function<? super U,? extends K> otherKey);
+
+	/**
+	 * Hash join this Sequence with another Stream (see {@link #innerJoin(Stream, Function, Function)}), elements from
+	 * either side without a match are paired with null.
+	 *
+	 * @param other Stream to join with
+	 * @param key Key of elements of this Sequence
+	 * @param otherKey Key of elements of the other Stream
+	 * @return Sequence of matching pairs, and unmatched elements from both sides
+	 */
+	<U,K> SequenceM<Tuple2<T, U>> fullOuterJoin(Stream<U> other, Function<? super T,? extends K> key,
+												Function<? super U,? extends K> otherKey);
+
+	/**
+	 * Inner join this Sequence with another Stream where both are already sorted (ascending) by key.
+	 *
+	 * Both Streams are read once, in step, without building a hash table. Only the current run of elements with the
+	 * same key from the other Stream is held in memory, so this is suited to large or infinite sorted inputs.
+	 * Results are incorrect if either input is not sorted.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(tradesByTime)
+	 *  		 .sortMergeJoin(quotesByTime,Trade::getTime,Quote::getTime)
+	 *  		 .forEach(this::match);
+	 * }
+	 * </pre>
+	 *
+	 * @param other Stream to join with, sorted by otherKey
+	 * @param key Key of elements of this Sequence (which must be sorted by it)
+	 * @param otherKey Key of elements of the other Stream
+	 * @return Sequence of matching pairs, in key order
+	 */
+	<U,K extends Comparable<? super K>> SequenceM<Tuple2<T, U>> sortMergeJoin(Stream<U> other, Function<? super T,? extends K> key,
+																			Function<? super U,? extends K> otherKey);
+	/**
+	 * Sort this Sequence without holding it all in memory. Elements are buffered until their estimated size exceeds
+	 * the heap budget in the SpillOptions, each buffer is then sorted and written to a temporary file. The sorted files
+	 * are merged back lazily as the Sequence is consumed. The sort is stable.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(Files.lines(log))
+	 *  		 .externalSorted(Comparator.naturalOrder(),SpillOptions.of(SpillSerializers.strings(),64*1024*1024)
+	 *  		 										  .withSizeOf(s->40+2*s.length()))
+	 *  		 .forEach(out::println);
+	 * }
+	 * </pre>
+	 *
+	 * Close the returned Sequence if it is not fully consumed, to remove any remaining temporary files.
+	 *
+	 * @param c Comparator to sort with
+	 * @param options Heap budget, serializer and temporary directory
+	 * @return Sorted Sequence
+	 */
+	SequenceM<T> externalSorted(Comparator<? super T> c, SpillOptions<T> options);
+	/**
+	 * Group the elements of this Sequence by key without holding them all in memory. If the Sequence fits the heap
+	 * budget in the SpillOptions groups are built in memory, in order of first appearance. Otherwise elements are
+	 * partitioned by the hash of their key into temporary files, which are grouped one at a time, in no particular
+	 * order. Each single group must fit in memory.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(events)
+	 *  		 .externalGroupBy(Event::getUserId,SpillOptions.of(eventSerializer,256*1024*1024))
+	 *  		 .forEach(t->report(t.v1,t.v2));
+	 * }
+	 * </pre>
+	 *
+	 * @param classifier Key to group by
+	 * @param options Heap budget, serializer and temporary directory
+	 * @return Sequence of keys and the elements with that key
+	 */
+	<K> SequenceM<Tuple2<K, List<T>>> externalGroupBy(Function<? super T, ? extends K> classifier, SpillOptions<T> options);
+	/**
+	 * Remove duplicates from this Sequence without holding it all in memory. If the Sequence fits the heap budget in
+	 * the SpillOptions this is the same as {@link #distinct()}. Otherwise elements are partitioned by hash into
+	 * temporary files, which are deduplicated one at a time, in no particular order.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.fromStream(Files.lines(ids))
+	 *  		 .externalDistinct(SpillOptions.of(SpillSerializers.strings(),64*1024*1024))
+	 *  		 .count();
+	 * }
+	 * </pre>
+	 *
+	 * @param options Heap budget, serializer and temporary directory
+	 * @return Sequence of distinct elements
+	 */
+	SequenceM<T> externalDistinct(SpillOptions<T> options);
 	/** If this SequenceM is empty replace it with a another Stream
 	 * 
 	 * <pre>
@@ -2804,6 +3243,46 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Seq<T>,Iterable<T>,
 	 */
 	HotStream<T> scheduleFixedRate(long rate,ScheduledExecutorService ex);
 	
+	/**
+	 * Access non-blocking time based operators (fixedDelay, jitter, onePer, xPer, debounce and retry), driven by the
+	 * timer wheel shared by all users of the supplied executor. Elements are emitted asynchronously to a HotStream, and
+	 * no thread is parked while waiting for the next element.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  SequenceM.of(1,2,3)
+	 *  		 .timedOperations(Executors.newScheduledThreadPool(1))
+	 *  		 .onePer(1,TimeUnit.SECONDS)
+	 *  		 .forEach(System.out::println);
+	 * }
+	 * </pre>
+	 * 
+	 * @param ex ScheduledExecutorService to drive the timer wheel
+	 * @return Non-blocking time based operators
+	 */
+	TimedOperations<T> timedOperations(ScheduledExecutorService ex);
+	
+	/**
+	 * Access non-blocking time based operators driven by the supplied TimeScheduler
+	 * 
+	 * <pre>
+	 * {@code
+	 *  VirtualTimeScheduler clock = TimeSchedulers.virtual();
+	 *  List<Integer> result = new ArrayList<>();
+	 *  SequenceM.of(1,2,3)
+	 *  		 .timedOperations(clock)
+	 *  		 .xPer(2,1,TimeUnit.SECONDS)
+	 *  		 .forEach(result::add);
+	 *  clock.advance(0,TimeUnit.SECONDS);
+	 *  //result [1,2]
+	 * }
+	 * </pre>
+	 * 
+	 * @param scheduler TimeScheduler (e.g. a timer wheel, or a virtual clock for tests)
+	 * @return Non-blocking time based operators
+	 */
+	TimedOperations<T> timedOperations(TimeScheduler scheduler);
+	
 	/**
 	 * [equivalent to count]
 	 * 
@@ -2,6 +2,9 @@ package com.aol.cyclops.sequence;
 
 import java.util.Optional;
 import java.util.logging.Level;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.sequence.spliterators.ReversableSpliterator;
@@ -13,6 +16,9 @@ import lombok.extern.java.Log;
 public interface SequenceMFactory {
 
 	public <T> SequenceM<T> sequenceM(Stream<T> s, ReversableSpliterator reversable);
+	public IntSequenceM intSequenceM(IntStream s, ReversableSpliterator reversable);
+	public LongSequenceM longSequenceM(LongStream s, ReversableSpliterator reversable);
+	public DoubleSequenceM doubleSequenceM(DoubleStream s, ReversableSpliterator reversable);
 	
 	public final static SequenceMFactory instance = MetaFactory.get();
 	@Log
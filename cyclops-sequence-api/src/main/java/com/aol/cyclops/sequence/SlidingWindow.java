@@ -0,0 +1,86 @@
+package com.aol.cyclops.sequence;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A read-only view of the current window of a sliding view over a Sequence.
+ *
+ * Views share a single circular buffer and the same view instance is emitted for every window, its contents are only
+ * valid until the next window is requested. Use copy() to retain a window.
+ *
+ * <pre>
+ * {@code
+ *  SequenceM.of(1,2,3,4)
+ *  			.slidingView(2)
+ *  			.map(window->window.get(0)+window.get(1))
+ *  			.toList();
+ *  //[3,5,7]
+ *
+ *  SequenceM.of(1,2,3,4)
+ *  			.slidingView(2)
+ *  			.map(SlidingWindow::copy)
+ *  			.toList();
+ *  //[[1,2],[2,3],[3,4]]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the elements in the window
+ */
+public interface SlidingWindow<T> extends List<T> {
+
+	/**
+	 * @return A copy of the current window, unaffected by later windows
+	 */
+	List<T> copy();
+
+	/**
+	 * A read-only view of the current window of a sliding view over an IntSequenceM
+	 */
+	public static interface OfInt{
+		int size();
+		int get(int index);
+		/**
+		 * @return The values in the current window, as a new array
+		 */
+		int[] copy();
+		/**
+		 * @return IntStream over the current window
+		 */
+		IntStream stream();
+	}
+	/**
+	 * A read-only view of the current window of a sliding view over a LongSequenceM
+	 */
+	public static interface OfLong{
+		int size();
+		long get(int index);
+		/**
+		 * @return The values in the current window, as a new array
+		 */
+		long[] copy();
+		/**
+		 * @return LongStream over the current window
+		 */
+		LongStream stream();
+	}
+	/**
+	 * A read-only view of the current window of a sliding view over a DoubleSequenceM
+	 */
+	public static interface OfDouble{
+		int size();
+		double get(int index);
+		/**
+		 * @return The values in the current window, as a new array
+		 */
+		double[] copy();
+		/**
+		 * @return DoubleStream over the current window
+		 */
+		DoubleStream stream();
+	}
+}
@@ -0,0 +1,85 @@
+package com.aol.cyclops.sequence;
+
+import java.io.File;
+import java.util.function.ToLongFunction;
+
+/**
+ * Configuration for the memory bounded operators ({@link SequenceM#externalSorted(java.util.Comparator, SpillOptions)},
+ * {@link SequenceM#externalGroupBy(java.util.function.Function, SpillOptions)} and
+ * {@link SequenceM#externalDistinct(SpillOptions)}).
+ *
+ * Elements are held in memory until their estimated size exceeds the heap budget, they are then written to
+ * temporary files with the SpillSerializer. Element sizes are estimated at {@value #DEFAULT_ELEMENT_SIZE} bytes
+ * unless a size function is supplied.
+ *
+ * <pre>
+ * {@code
+ *  SpillOptions<String> options = SpillOptions.of(SpillSerializers.strings(),256*1024*1024)
+ *  										   .withSizeOf(s->40+2*s.length())
+ *  										   .withDirectory(new File("/data/tmp"));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of element
+ */
+public class SpillOptions<T> {
+
+	public static final long DEFAULT_ELEMENT_SIZE = 64;
+
+	private final SpillSerializer<T> serializer;
+	private final long heapBudget;
+	private final ToLongFunction<? super T> sizeOf;
+	private final File directory;
+
+	private SpillOptions(SpillSerializer<T> serializer, long heapBudget, ToLongFunction<? super T> sizeOf, File directory){
+		if(heapBudget<1)
+			throw new IllegalArgumentException("Heap budget must be 1 byte or more");
+		this.serializer = serializer;
+		this.heapBudget = heapBudget;
+		this.sizeOf = sizeOf;
+		this.directory = directory;
+	}
+
+	/**
+	 * @param serializer To write spilled elements
+	 * @param heapBudget Estimated bytes of elements to hold in memory before spilling to disk
+	 * @return SpillOptions writing to the default temporary directory
+	 */
+	public static <T> SpillOptions<T> of(SpillSerializer<T> serializer, long heapBudget){
+		return new SpillOptions<>(serializer,heapBudget,t->DEFAULT_ELEMENT_SIZE,null);
+	}
+
+	/**
+	 * @param sizeOf Estimated heap size of an element in bytes
+	 * @return Copy of these SpillOptions with the supplied size estimate
+	 */
+	public SpillOptions<T> withSizeOf(ToLongFunction<? super T> sizeOf){
+		return new SpillOptions<>(serializer,heapBudget,sizeOf,directory);
+	}
+
+	/**
+	 * @param directory Directory for temporary files (null for the system default)
+	 * @return Copy of these SpillOptions using the supplied directory
+	 */
+	public SpillOptions<T> withDirectory(File directory){
+		return new SpillOptions<>(serializer,heapBudget,sizeOf,directory);
+	}
+
+	public SpillSerializer<T> getSerializer() {
+		return serializer;
+	}
+
+	public long getHeapBudget() {
+		return heapBudget;
+	}
+
+	public ToLongFunction<? super T> getSizeOf() {
+		return sizeOf;
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+}
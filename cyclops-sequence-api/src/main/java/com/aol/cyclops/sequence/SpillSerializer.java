@@ -0,0 +1,42 @@
+package com.aol.cyclops.sequence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes elements to, and reads them back from, the temporary files used by the memory bounded operators
+ * ({@link SequenceM#externalSorted(java.util.Comparator, SpillOptions)} etc). See {@link SpillSerializers} for common types.
+ *
+ * <pre>
+ * {@code
+ *  SpillSerializer<Point> points = new SpillSerializer<Point>(){
+ *  	public void write(Point p, DataOutput out) throws IOException{
+ *  		out.writeInt(p.x);
+ *  		out.writeInt(p.y);
+ *  	}
+ *  	public Point read(DataInput in) throws IOException{
+ *  		return new Point(in.readInt(),in.readInt());
+ *  	}
+ *  };
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of element
+ */
+public interface SpillSerializer<T> {
+
+	/**
+	 * @param value Element to write (may be null if the Stream contains nulls)
+	 * @param out Output to write to
+	 */
+	void write(T value, DataOutput out) throws IOException;
+
+	/**
+	 * @param in Input positioned at the start of an element written by {@link #write(Object, DataOutput)}
+	 * @return Element read
+	 */
+	T read(DataInput in) throws IOException;
+}
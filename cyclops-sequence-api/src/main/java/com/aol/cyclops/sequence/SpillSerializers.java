@@ -0,0 +1,116 @@
+package com.aol.cyclops.sequence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Factory methods for SpillSerializers
+ *
+ * <pre>
+ * {@code
+ *   SequenceM.fromStream(lines)
+ *   		  .externalSorted(Comparator.naturalOrder(),SpillOptions.of(SpillSerializers.strings(),64*1024*1024));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class SpillSerializers {
+
+	/**
+	 * @return SpillSerializer for Strings of any length (null safe), written as UTF-8 with an int length prefix
+	 */
+	public static SpillSerializer<String> strings(){
+		return new SpillSerializer<String>(){
+			@Override
+			public void write(String value, DataOutput out) throws IOException {
+				if(value==null){
+					out.writeInt(-1);
+					return;
+				}
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			@Override
+			public String read(DataInput in) throws IOException {
+				int length = in.readInt();
+				if(length==-1)
+					return null;
+				byte[] bytes = new byte[length];
+				in.readFully(bytes);
+				return new String(bytes,StandardCharsets.UTF_8);
+			}
+		};
+	}
+	/**
+	 * @return SpillSerializer for Integers (null safe)
+	 */
+	public static SpillSerializer<Integer> integers(){
+		return new SpillSerializer<Integer>(){
+			@Override
+			public void write(Integer value, DataOutput out) throws IOException {
+				out.writeBoolean(value!=null);
+				if(value!=null)
+					out.writeInt(value);
+			}
+			@Override
+			public Integer read(DataInput in) throws IOException {
+				return in.readBoolean() ? in.readInt() : null;
+			}
+		};
+	}
+	/**
+	 * @return SpillSerializer for Longs (null safe)
+	 */
+	public static SpillSerializer<Long> longs(){
+		return new SpillSerializer<Long>(){
+			@Override
+			public void write(Long value, DataOutput out) throws IOException {
+				out.writeBoolean(value!=null);
+				if(value!=null)
+					out.writeLong(value);
+			}
+			@Override
+			public Long read(DataInput in) throws IOException {
+				return in.readBoolean() ? in.readLong() : null;
+			}
+		};
+	}
+	/**
+	 * @return SpillSerializer using Java serialization, works for any Serializable type but is much slower and
+	 * 			larger on disk than a dedicated SpillSerializer
+	 */
+	public static <T extends Serializable> SpillSerializer<T> java(){
+		return new SpillSerializer<T>(){
+			@Override
+			public void write(T value, DataOutput out) throws IOException {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try(ObjectOutputStream os = new ObjectOutputStream(bytes)){
+					os.writeObject(value);
+				}
+				out.writeInt(bytes.size());
+				out.write(bytes.toByteArray());
+			}
+			@Override
+			@SuppressWarnings("unchecked")
+			public T read(DataInput in) throws IOException {
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				try(ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes))){
+					return (T)is.readObject();
+				} catch (ClassNotFoundException e) {
+					throw new IOException(e);
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,40 @@
+package com.aol.cyclops.sequence;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock and timer used by the non-blocking time operators ({@link SequenceM#timedOperations(TimeScheduler)}).
+ *
+ * Tasks are run on the scheduler's own thread(s) when they fall due, no thread is parked while waiting.
+ * See {@link TimeSchedulers} for a timer wheel backed by a ScheduledExecutorService, and a virtual clock for tests.
+ *
+ * <pre>
+ * {@code
+ *  TimeScheduler wheel = TimeSchedulers.timerWheel(Executors.newScheduledThreadPool(1));
+ *
+ *  SequenceM.of(1,2,3)
+ *  		 .timedOperations(wheel)
+ *  		 .fixedDelay(1,TimeUnit.SECONDS)
+ *  		 .forEach(System.out::println);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface TimeScheduler {
+
+	/**
+	 * @return Current time of this scheduler's clock in nanoseconds (only meaningful relative to other readings)
+	 */
+	long nanoTime();
+
+	/**
+	 * Run a task once, after the specified delay has elapsed on this scheduler's clock
+	 *
+	 * @param task Task to run
+	 * @param delay Minimum delay before the task is run (zero or less to run at the next opportunity)
+	 * @param unit TimeUnit of the delay
+	 */
+	void schedule(Runnable task, long delay, TimeUnit unit);
+}
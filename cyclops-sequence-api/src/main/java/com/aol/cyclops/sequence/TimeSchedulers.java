@@ -0,0 +1,194 @@
+package com.aol.cyclops.sequence;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Factory methods for TimeSchedulers
+ *
+ * <pre>
+ * {@code
+ *   //one ticking task on the executor, however many timers are pending
+ *   TimeScheduler wheel = TimeSchedulers.timerWheel(Executors.newScheduledThreadPool(1));
+ *
+ *   //a clock that only moves when told to, for tests
+ *   VirtualTimeScheduler clock = TimeSchedulers.virtual();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class TimeSchedulers {
+
+	/*
+	 * Weak keys so executors that are no longer used can be collected, weak values as each wheel references its executor
+	 */
+	private static final Map<ScheduledExecutorService,WeakReference<TimeScheduler>> wheels = new WeakHashMap<>();
+
+	/**
+	 * The timer wheel shared by all users of the supplied executor, with a 1 millisecond tick and 512 slots
+	 *
+	 * @param ex ScheduledExecutorService that will drive the wheel and run the scheduled tasks
+	 * @return Timer wheel backed TimeScheduler
+	 */
+	public static TimeScheduler timerWheel(ScheduledExecutorService ex){
+		synchronized(wheels){
+			WeakReference<TimeScheduler> ref = wheels.get(ex);
+			TimeScheduler wheel = ref==null ? null : ref.get();
+			if(wheel==null){
+				wheel = timerWheel(ex,1,TimeUnit.MILLISECONDS,512);
+				wheels.put(ex,new WeakReference<>(wheel));
+			}
+			return wheel;
+		}
+	}
+	/**
+	 * A new hashed timer wheel. Timers are added in O(1) and expired a slot per tick, a single task on the executor
+	 * ticks the wheel while any timers are pending. Tasks run no earlier than their deadline and up to one tick later,
+	 * each expired task is submitted to the executor so a slow or blocking task doesn't hold up other timers.
+	 *
+	 * @param ex ScheduledExecutorService that will drive the wheel and run the scheduled tasks
+	 * @param tickDuration Time covered by each slot of the wheel
+	 * @param unit TimeUnit of the tick duration
+	 * @param wheelSize Number of slots (rounded up to a power of two), delays longer than a full turn of the wheel
+	 * 		  wait for the required number of rounds
+	 * @return Timer wheel backed TimeScheduler
+	 */
+	public static TimeScheduler timerWheel(ScheduledExecutorService ex,long tickDuration,TimeUnit unit,int wheelSize){
+		return new TimerWheel(ex,Math.max(1,unit.toNanos(tickDuration)),wheelSize);
+	}
+	/**
+	 * @return A TimeScheduler with a virtual clock that starts at zero and is moved forward manually
+	 */
+	public static VirtualTimeScheduler virtual(){
+		return new VirtualTimeScheduler();
+	}
+
+	private static class TimerWheel implements TimeScheduler{
+		private final ScheduledExecutorService ex;
+		private final long tickNanos;
+		private final List<Timeout>[] slots;
+		private final int mask;
+		private final long start = System.nanoTime();
+		private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean running = new AtomicBoolean(false);
+		private ScheduledFuture<?> ticker;
+		private long tick = 0;
+		private long size = 0;
+
+		@SuppressWarnings("unchecked")
+		TimerWheel(ScheduledExecutorService ex,long tickNanos,int wheelSize){
+			int length = 1;
+			while(length<wheelSize)
+				length = length<<1;
+			this.ex = ex;
+			this.tickNanos = tickNanos;
+			this.slots = new List[length];
+			for(int i=0;i<length;i++)
+				slots[i] = new ArrayList<>();
+			this.mask = length-1;
+		}
+
+		@Override
+		public long nanoTime() {
+			return System.nanoTime();
+		}
+
+		@Override
+		public void schedule(Runnable task, long delay, TimeUnit unit) {
+			pending.add(new Timeout(nanoTime()+Math.max(0,unit.toNanos(delay)),task));
+			if(running.compareAndSet(false, true))
+				start();
+		}
+
+		private synchronized void start(){
+			ticker = ex.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+		}
+
+		private void tick(){
+			for(Runnable next : advance())
+				submit(next);
+		}
+
+		/*
+		 * moves the wheel up to the current time, returning the expired tasks to run once the lock is released
+		 */
+		private synchronized List<Runnable> advance(){
+			List<Runnable> expired = new ArrayList<>();
+			long now = nanoTime();
+			long target = (now-start)/tickNanos;
+			if(size==0) //nothing in the wheel, skip the slots that passed while stopped
+				tick = Math.max(tick,target);
+			Timeout next;
+			while((next=pending.poll())!=null){
+				long deadlineTick = Math.max(tick,(next.deadline-start+tickNanos-1)/tickNanos);
+				next.rounds = (deadlineTick-tick)/slots.length;
+				slots[(int)(deadlineTick & mask)].add(next);
+				size++;
+			}
+			for(;tick<=target;tick++)
+				expire(slots[(int)(tick & mask)],expired);
+
+			if(size==0 && pending.isEmpty()){
+				running.set(false);
+				ticker.cancel(false);
+				if(!pending.isEmpty() && running.compareAndSet(false, true)) //scheduled while stopping
+					start();
+			}
+			return expired;
+		}
+
+		private void expire(List<Timeout> slot,List<Runnable> expired){
+			for(int i=0;i<slot.size();){
+				Timeout next = slot.get(i);
+				if(next.rounds--<=0){
+					slot.set(i,slot.get(slot.size()-1));
+					slot.remove(slot.size()-1);
+					size--;
+					expired.add(next.task);
+				}else{
+					i++;
+				}
+			}
+		}
+
+		private void submit(Runnable task){
+			try{
+				ex.execute(()->run(task));
+			}catch(RejectedExecutionException e){ //executor shut down, run on the ticking thread
+				run(task);
+			}
+		}
+
+		private void run(Runnable task){
+			try{
+				task.run();
+			}catch(Throwable t){ //report, but keep the wheel turning
+				Thread current = Thread.currentThread();
+				current.getUncaughtExceptionHandler().uncaughtException(current, t);
+			}
+		}
+	}
+
+	private static class Timeout{
+		final long deadline;
+		final Runnable task;
+		long rounds;
+
+		Timeout(long deadline, Runnable task){
+			this.deadline = deadline;
+			this.task = task;
+		}
+	}
+}
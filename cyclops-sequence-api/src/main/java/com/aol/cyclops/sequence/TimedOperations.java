@@ -0,0 +1,104 @@
+package com.aol.cyclops.sequence;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Non-blocking equivalents of the time based SequenceM operators.
+ *
+ * Rather than pausing the consuming thread, each operator pulls the next element(s) from the Sequence in a task run by
+ * a {@link TimeScheduler} when they fall due, and publishes them to a HotStream. Waiting elements cost a timer, not a
+ * parked thread, so many Sequences can share a single scheduler thread. The Sequence starts as soon as the operator is
+ * called, connect to (or add a forEach callback to) the HotStream before the first element is due.
+ *
+ * If the Sequence (or a retried function) throws, the error is passed on to connections and callbacks and the HotStream completes.
+ *
+ * <pre>
+ * {@code
+ *  TimeScheduler wheel = TimeSchedulers.timerWheel(Executors.newScheduledThreadPool(1));
+ *
+ *  keys.forEach(key-> SequenceM.fromStream(eventsFor(key))
+ *  							.timedOperations(wheel)
+ *  							.onePer(1,TimeUnit.SECONDS)
+ *  							.forEach(this::send));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the Sequence
+ */
+public interface TimedOperations<T> {
+
+	/**
+	 * Emit each element after a fixed delay, the delay is measured from the previous element (or the call for the first)
+	 *
+	 * @see SequenceM#fixedDelay(long, TimeUnit)
+	 * @param time Length of delay
+	 * @param unit TimeUnit of delay
+	 * @return HotStream of the delayed elements
+	 */
+	HotStream<T> fixedDelay(long time, TimeUnit unit);
+
+	/**
+	 * Emit each element after a random delay of up to maxJitterPeriodInNanos
+	 *
+	 * @see SequenceM#jitter(long)
+	 * @param maxJitterPeriodInNanos Maximum delay before each element
+	 * @return HotStream of the delayed elements
+	 */
+	HotStream<T> jitter(long maxJitterPeriodInNanos);
+
+	/**
+	 * Emit one element per time period, the first element is emitted immediately
+	 *
+	 * @see SequenceM#onePer(long, TimeUnit)
+	 * @param time Length of the time period
+	 * @param unit TimeUnit of the time period
+	 * @return HotStream of the throttled elements
+	 */
+	HotStream<T> onePer(long time, TimeUnit unit);
+
+	/**
+	 * Emit up to x elements per time period, the first batch is emitted immediately
+	 *
+	 * @see SequenceM#xPer(int, long, TimeUnit)
+	 * @param x Number of elements to emit per time period
+	 * @param time Length of the time period
+	 * @param unit TimeUnit of the time period
+	 * @return HotStream of the throttled elements
+	 */
+	HotStream<T> xPer(int x, long time, TimeUnit unit);
+
+	/**
+	 * Emit an element only if at least the specified time has passed (on the scheduler's clock) since the last
+	 * element was emitted, other elements are dropped. The Sequence is drained in small batches on the scheduler thread.
+	 *
+	 * @see SequenceM#debounce(long, TimeUnit)
+	 * @param time Minimum time between emitted elements
+	 * @param unit TimeUnit of time
+	 * @return HotStream of the debounced elements
+	 */
+	HotStream<T> debounce(long time, TimeUnit unit);
+
+	/**
+	 * Retry a transformation if it fails, with the same defaults as {@link SequenceM#retry(Function)} : up to 7
+	 * attempts, with a doubling backoff starting at 2 seconds. Elements are transformed and emitted in order, no
+	 * thread waits during a backoff.
+	 *
+	 * @param fn Function to retry if it fails
+	 * @return HotStream of the transformed elements
+	 */
+	<R> HotStream<R> retry(Function<? super T,? extends R> fn);
+
+	/**
+	 * Retry a transformation if it fails, the delay doubles after each failed attempt
+	 *
+	 * @param fn Function to retry if it fails
+	 * @param attempts Maximum number of attempts per element
+	 * @param delay Delay before the first retry
+	 * @param unit TimeUnit of the delay
+	 * @return HotStream of the transformed elements
+	 */
+	<R> HotStream<R> retry(Function<? super T,? extends R> fn, int attempts, long delay, TimeUnit unit);
+}
@@ -0,0 +1,100 @@
+package com.aol.cyclops.sequence;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A TimeScheduler driven by a virtual clock, for deterministic tests of time based operators.
+ *
+ * The clock starts at zero and only moves when advanced, tasks are run on the advancing thread in deadline order
+ * (tasks with the same deadline run in the order they were scheduled).
+ *
+ * <pre>
+ * {@code
+ *  VirtualTimeScheduler clock = TimeSchedulers.virtual();
+ *  List<Integer> result = new ArrayList<>();
+ *  SequenceM.of(1,2,3)
+ *  		 .timedOperations(clock)
+ *  		 .fixedDelay(1,TimeUnit.SECONDS)
+ *  		 .forEach(result::add);
+ *
+ *  clock.advance(2,TimeUnit.SECONDS);
+ *  //result [1,2]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class VirtualTimeScheduler implements TimeScheduler {
+
+	private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+	private long now = 0;
+	private long sequence = 0;
+
+	@Override
+	public synchronized long nanoTime() {
+		return now;
+	}
+
+	@Override
+	public synchronized void schedule(Runnable task, long delay, TimeUnit unit) {
+		timers.add(new Timer(now+Math.max(0,unit.toNanos(delay)),sequence++,task));
+	}
+
+	/**
+	 * Move the clock forward, running every task that falls due (including tasks scheduled by those tasks)
+	 *
+	 * @param time Time to move the clock forward by (zero runs only the tasks that are already due)
+	 * @param unit TimeUnit of time
+	 */
+	public void advance(long time, TimeUnit unit){
+		advanceTo(nanoTime()+unit.toNanos(time));
+	}
+
+	/**
+	 * Move the clock forward to the specified time, running every task that falls due
+	 *
+	 * @param nanoTime Time to move the clock to
+	 */
+	public void advanceTo(long nanoTime){
+		while(true){
+			Timer next;
+			synchronized(this){
+				next = timers.peek();
+				if(next==null || next.deadline>nanoTime){
+					now = Math.max(now,nanoTime);
+					return;
+				}
+				timers.poll();
+				now = Math.max(now,next.deadline);
+			}
+			next.task.run();
+		}
+	}
+
+	/**
+	 * @return Number of tasks waiting to be run
+	 */
+	public synchronized int pending(){
+		return timers.size();
+	}
+
+	private static class Timer implements Comparable<Timer>{
+		final long deadline;
+		final long sequence;
+		final Runnable task;
+
+		Timer(long deadline, long sequence, Runnable task){
+			this.deadline = deadline;
+			this.sequence = sequence;
+			this.task = task;
+		}
+
+		@Override
+		public int compareTo(Timer o) {
+			int byDeadline = Long.compare(deadline,o.deadline);
+			return byDeadline!=0 ? byDeadline : Long.compare(sequence,o.sequence);
+		}
+	}
+}
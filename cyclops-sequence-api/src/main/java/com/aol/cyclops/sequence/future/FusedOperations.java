@@ -0,0 +1,102 @@
+package com.aol.cyclops.sequence.future;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Terminal operations registered against a single asynchronous traversal of a Stream.
+ *
+ * Each registration returns its own CompletableFuture, none of them start until {@link #run()} is called, at which
+ * point the Stream is read once on the FutureOperations Executor and every element is passed to every registered
+ * operation.
+ *
+ * <pre>
+ * {@code
+ *  FusedOperations<Order> orders = SequenceM.fromStream(loadOrders())
+ *  										  .futureOperations(exec)
+ *  										  .fused();
+ *  CompletableFuture<Long> count = orders.count();
+ *  CompletableFuture<Long> total = orders.sumLong(Order::getValue);
+ *  CompletableFuture<Optional<Order>> largest = orders.maxBy(Order::getValue);
+ *  orders.run();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the Stream
+ */
+public interface FusedOperations<T> {
+
+	/**
+	 * Register a collection, all other operations are built on this one
+	 *
+	 * @param collector Collector to apply to each element
+	 * @return Future result, completed when the traversal completes
+	 */
+	public <R, A> CompletableFuture<R> collect(Collector<? super T, A, R> collector);
+
+	/**
+	 * @return Future List of all elements
+	 */
+	public CompletableFuture<List<T>> toList();
+	/**
+	 * @return Future Set of all elements
+	 */
+	public CompletableFuture<Set<T>> toSet();
+	/**
+	 * @return Future count of all elements
+	 */
+	public CompletableFuture<Long> count();
+	/**
+	 * @see java.util.stream.Stream#min(Comparator)
+	 */
+	public CompletableFuture<Optional<T>> min(Comparator<? super T> comparator);
+	/**
+	 * @see java.util.stream.Stream#max(Comparator)
+	 */
+	public CompletableFuture<Optional<T>> max(Comparator<? super T> comparator);
+	/**
+	 * @see org.jooq.lambda.Seq#minBy(Function)
+	 */
+	public <U extends Comparable<U>> CompletableFuture<Optional<T>> minBy(Function<T, U> function);
+	/**
+	 * @see org.jooq.lambda.Seq#maxBy(Function)
+	 */
+	public <U extends Comparable<U>> CompletableFuture<Optional<T>> maxBy(Function<T, U> function);
+	/**
+	 * @see java.util.stream.Stream#reduce(Object, BinaryOperator)
+	 */
+	public CompletableFuture<T> reduce(T identity, BinaryOperator<T> accumulator);
+	/**
+	 * @see java.util.stream.Stream#reduce(BinaryOperator)
+	 */
+	public CompletableFuture<Optional<T>> reduce(BinaryOperator<T> accumulator);
+	/**
+	 * @see java.util.stream.LongStream#sum()
+	 */
+	public CompletableFuture<Long> sumLong(ToLongFunction<T> fn);
+	/**
+	 * @see org.jooq.lambda.Seq#groupBy(Function)
+	 */
+	public <K> CompletableFuture<Map<K, List<T>>> groupBy(Function<? super T, ? extends K> classifier);
+
+	/**
+	 * Read the Stream once on the Executor, completing every registered operation. No further operations may be
+	 * registered once run has been called.
+	 *
+	 * If reading the Stream fails every registered operation fails, if a single operation fails only its future fails
+	 * and it receives no further elements.
+	 *
+	 * @return Future that completes when the traversal completes
+	 */
+	public CompletableFuture<Void> run();
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -17,7 +18,10 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
+import com.aol.cyclops.sequence.BatchedHotStream;
+import com.aol.cyclops.sequence.TimeScheduler;
 import com.aol.cyclops.sequence.reactivestreams.ReactiveStreamsTerminalFutureOperations;
+import com.aol.cyclops.sequence.streamable.Streamable;
 
 public interface FutureOperations<T> extends IntOperators<T>,DoubleOperators<T>, LongOperators<T>,ReactiveStreamsTerminalFutureOperations<T> {
 
@@ -238,4 +242,68 @@ public interface FutureOperations<T> extends IntOperators<T>,DoubleOperators<T>,
 	public CompletableFuture<Boolean>   noneMatch(Predicate<? super T> predicate);
 	public void forEach(Consumer<T> object);
 	
+	/**
+	 * Register several terminal operations to be evaluated in a single pass over this Stream on the Executor, rather
+	 * than one pass per operation.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  FusedOperations<Integer> ops = SequenceM.of(1,2,3).futureOperations(exec).fused();
+	 *  CompletableFuture<Long> count = ops.count();
+	 *  CompletableFuture<Optional<Integer>> max = ops.max(Comparator.naturalOrder());
+	 *  ops.run();
+	 * }
+	 * </pre>
+	 * 
+	 * @return Operations that are evaluated together when run
+	 */
+	public FusedOperations<T> fused();
+	
+	/**
+	 * Asynchronously batch this Stream, the Stream is read on the Executor and a batch is emitted when it is full or
+	 * when its oldest element has waited for the specified time. Partial batches are flushed by a timer on the supplied
+	 * TimeScheduler, so a slow feed cannot hold a batch back.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  SequenceM.generate(this::nextRecord)
+	 *  		 .futureOperations(exec)
+	 *  		 .batchBySizeAndTime(100,10,TimeUnit.MILLISECONDS,TimeSchedulers.timerWheel(ex))
+	 *  		 .forEach(this::write);
+	 * }
+	 * </pre>
+	 * 
+	 * @see com.aol.cyclops.sequence.HotStream#batchBySizeAndTime(int, long, TimeUnit, TimeScheduler)
+	 * @param size Max size of a batch
+	 * @param time Max time an element waits in a batch
+	 * @param unit TimeUnit of time
+	 * @param scheduler TimeScheduler to run the flush timers
+	 * @return HotStream of batches, with flush metrics
+	 */
+	public BatchedHotStream<List<T>> batchBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler);
+	/**
+	 * Asynchronously batch this Stream into Collections from the supplied factory, flushing partial batches on a timer
+	 * 
+	 * @see com.aol.cyclops.sequence.HotStream#batchBySizeAndTime(int, long, TimeUnit, TimeScheduler, Supplier)
+	 */
+	public <C extends Collection<? super T>> BatchedHotStream<C> batchBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler, Supplier<C> factory);
+	/**
+	 * Asynchronously batch this Stream by time, flushing each batch on a timer
+	 * 
+	 * @see com.aol.cyclops.sequence.HotStream#batchByTime(long, TimeUnit, TimeScheduler)
+	 */
+	public BatchedHotStream<List<T>> batchByTime(long time, TimeUnit unit, TimeScheduler scheduler);
+	/**
+	 * Asynchronously window this Stream by size and time, flushing partial windows on a timer
+	 * 
+	 * @see com.aol.cyclops.sequence.HotStream#windowBySizeAndTime(int, long, TimeUnit, TimeScheduler)
+	 */
+	public BatchedHotStream<Streamable<T>> windowBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler);
+	/**
+	 * Asynchronously window this Stream by time, flushing each window on a timer
+	 * 
+	 * @see com.aol.cyclops.sequence.HotStream#windowByTime(long, TimeUnit, TimeScheduler)
+	 */
+	public BatchedHotStream<Streamable<T>> windowByTime(long time, TimeUnit unit, TimeScheduler scheduler);
+	
 }
\ No newline at end of file
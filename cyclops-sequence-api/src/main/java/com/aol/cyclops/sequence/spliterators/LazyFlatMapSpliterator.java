@@ -0,0 +1,119 @@
+package com.aol.cyclops.sequence.spliterators;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * flatMap Spliterator that pulls values from each inner Stream one at a time.
+ *
+ * Stream#flatMap (on JDK 8) pushes the whole of each inner Stream downstream, so short-circuiting operations
+ * (findFirst, limit, anyMatch) can't stop part way through a large inner Stream and never complete on an infinite
+ * one. Inner Streams are closed once they have been consumed, when the next one is started, or when the flatMapped
+ * Stream is closed (e.g. after limit or findFirst stopped part way through an inner Stream).
+ *
+ * Parallel Streams are flatMapped via Stream#flatMap, which processes the inner Streams in parallel.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the outer Stream's elements
+ * @param <R> Type of the flatMapped elements
+ */
+public class LazyFlatMapSpliterator<T,R> implements Spliterator<R> {
+
+	private final Spliterator<T> source;
+	private final Function<? super T,? extends BaseStream<? extends R,?>> fn;
+
+	private BaseStream<? extends R,?> inner;
+	private Iterator<? extends R> current = Collections.emptyIterator();
+
+	public LazyFlatMapSpliterator(Spliterator<T> source, Function<? super T,? extends BaseStream<? extends R,?>> fn){
+		this.source = source;
+		this.fn = fn;
+	}
+
+	/**
+	 * flatMap a Stream, consuming the Streams returned by fn incrementally
+	 *
+	 * @param stream Stream to flatMap
+	 * @param fn flatMap function
+	 * @return flatMapped Stream
+	 */
+	public static <T,R> Stream<R> flatMap(Stream<T> stream, Function<? super T,? extends BaseStream<? extends R,?>> fn){
+		if(stream.isParallel())
+			return stream.flatMap(in->toStream(fn.apply(in)));
+		LazyFlatMapSpliterator<T,R> split = new LazyFlatMapSpliterator<T,R>(stream.spliterator(),fn);
+		return StreamSupport.stream(split,false)
+							.onClose(split::closeInner)
+							.onClose(stream::close);
+	}
+	private static <R> Stream<? extends R> toStream(BaseStream<? extends R,?> next){
+		if(next==null || next instanceof Stream)
+			return (Stream<? extends R>)next;
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(next.iterator(),ORDERED),false)
+							.onClose(next::close);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action){
+		while(!current.hasNext()){
+			closeInner();
+			if(!source.tryAdvance(this::open))
+				return false;
+		}
+		action.accept(current.next());
+		return true;
+	}
+	/*
+	 * nothing to short-circuit, push the remaining inner Streams as Stream#flatMap does
+	 */
+	@Override
+	public void forEachRemaining(Consumer<? super R> action){
+		current.forEachRemaining(action);
+		closeInner();
+		source.forEachRemaining(in->{
+			BaseStream<? extends R,?> next = fn.apply(in);
+			if(next==null)
+				return;
+			try{
+				if(next instanceof Stream)
+					((Stream<? extends R>)next).sequential().forEach(action);
+				else
+					next.iterator().forEachRemaining(action);
+			}finally{
+				next.close();
+			}
+		});
+	}
+
+	private void open(T in){
+		inner = fn.apply(in);
+		current = inner==null ? Collections.emptyIterator() : inner.iterator();
+	}
+	private void closeInner(){
+		if(inner!=null){
+			inner.close();
+			inner = null;
+		}
+		current = Collections.emptyIterator();
+	}
+
+	@Override
+	public Spliterator<R> trySplit(){
+		return null;
+	}
+	@Override
+	public long estimateSize(){
+		return Long.MAX_VALUE;
+	}
+	@Override
+	public int characteristics(){
+		return source.characteristics() & ORDERED;
+	}
+}
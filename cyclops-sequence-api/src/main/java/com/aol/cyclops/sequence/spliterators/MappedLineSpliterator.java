@@ -0,0 +1,218 @@
+package com.aol.cyclops.sequence.spliterators;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+
+/**
+ * Spliterator over the lines of a memory mapped file, for charsets where a '\n' or '\r' byte is always a line
+ * terminator (UTF-8, US-ASCII and ISO-8859-1). Lines end with '\n', '\r' or "\r\n", as with BufferedReader.
+ *
+ * Splits halve the remaining bytes and move the split point forward to the next line boundary, so parallel Streams
+ * are divided evenly across the file without reading it first. The number of lines isn't known up front, estimateSize
+ * returns the remaining bytes.
+ *
+ * The file is mapped lazily in windows of up to 1GB, so files larger than 2GB are supported (a single line may not
+ * be larger than a window). The FileChannel must stay open until traversal completes.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of line (String or a CharSequence view)
+ */
+public class MappedLineSpliterator<T> implements Spliterator<T> {
+
+	private static final int WINDOW = 1<<30;
+	private static final long MIN_SPLIT = 1<<16;
+	private static final int SCAN = 8192;
+
+	private final FileChannel channel;
+	private final LineFactory<T> factory;
+	private long position;
+	private final long end;
+
+	private ByteBuffer window;
+	private long windowStart;
+
+	private MappedLineSpliterator(FileChannel channel, LineFactory<T> factory, long position, long end){
+		this.channel = channel;
+		this.factory = factory;
+		this.position = position;
+		this.end = end;
+	}
+
+	/**
+	 * @param channel Open FileChannel
+	 * @param charset Charset to decode lines with (UTF-8, US-ASCII or ISO-8859-1)
+	 * @return Spliterator of decoded lines
+	 */
+	public static MappedLineSpliterator<String> lines(FileChannel channel, Charset charset) throws IOException{
+		if(!supports(charset))
+			throw new IllegalArgumentException("Lines can not be found in mapped " + charset + " files");
+		return new MappedLineSpliterator<>(channel,(buffer,offset,length)->{
+			byte[] bytes = new byte[length];
+			ByteBuffer line = buffer.duplicate();
+			line.position(offset);
+			line.get(bytes);
+			return new String(bytes,charset);
+		},0,channel.size());
+	}
+
+	/**
+	 * @param channel Open FileChannel
+	 * @return Spliterator of zero copy views of each line, each byte is read as a single ISO-8859-1 character
+	 */
+	public static MappedLineSpliterator<CharSequence> views(FileChannel channel) throws IOException{
+		return new MappedLineSpliterator<>(channel,MappedCharSequence::new,0,channel.size());
+	}
+
+	/**
+	 * @param charset Charset to check
+	 * @return true if lines of a file in this charset can be found from its bytes alone
+	 */
+	public static boolean supports(Charset charset){
+		String name = charset.name();
+		return name.equals("UTF-8") || name.equals("US-ASCII") || name.equals("ISO-8859-1");
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		Objects.requireNonNull(action);
+		if(position>=end)
+			return false;
+		if(window==null || position<windowStart || position>=windowStart+window.limit())
+			map(position);
+		int offset = (int)(position-windowStart);
+		int limit = window.limit();
+		int i = offset;
+		while(true){
+			while(i<limit){
+				byte b = window.get(i);
+				if(b=='\n' || b=='\r')
+					break;
+				i++;
+			}
+			boolean partial = windowStart+limit<end && (i==limit || (i==limit-1 && window.get(i)=='\r'));
+			if(!partial)
+				break;
+			if(offset==0)
+				throw new IllegalStateException("Line longer than " + WINDOW + " bytes at position " + position);
+			map(position);
+			i -= offset;
+			offset = 0;
+			limit = window.limit();
+		}
+		T line = factory.line(window,offset,i-offset);
+		long next = windowStart+i;
+		if(i<limit)
+			next += (window.get(i)=='\r' && i+1<limit && window.get(i+1)=='\n') ? 2 : 1;
+		position = next;
+		action.accept(line);
+		return true;
+	}
+
+	private void map(long from){
+		try{
+			window = channel.map(FileChannel.MapMode.READ_ONLY,from,Math.min(end-from,WINDOW));
+			windowStart = from;
+		}catch(IOException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		long remaining = end-position;
+		if(remaining<MIN_SPLIT)
+			return null;
+		long split = nextLine(position+remaining/2);
+		if(split<0)
+			return null;
+		MappedLineSpliterator<T> prefix = new MappedLineSpliterator<>(channel,factory,position,split);
+		prefix.window = window;
+		prefix.windowStart = windowStart;
+		position = split;
+		return prefix;
+	}
+
+	/**
+	 * @return Position after the first '\n' at or after from, or -1 if there is none before the end
+	 */
+	private long nextLine(long from){
+		ByteBuffer scan = ByteBuffer.allocate(SCAN);
+		try{
+			for(long p=from;p<end;){
+				scan.clear();
+				scan.limit((int)Math.min(SCAN,end-p));
+				int read = channel.read(scan,p);
+				if(read<=0)
+					return -1;
+				for(int i=0;i<read;i++){
+					if(scan.get(i)=='\n')
+						return p+i+1<end ? p+i+1 : -1;
+				}
+				p+=read;
+			}
+			return -1;
+		}catch(IOException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		return end-position;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+	private interface LineFactory<T>{
+		T line(ByteBuffer buffer, int offset, int length);
+	}
+
+	/**
+	 * A line read in place from a mapped buffer, one byte per character
+	 */
+	private static final class MappedCharSequence implements CharSequence{
+		private final ByteBuffer buffer;
+		private final int offset;
+		private final int length;
+
+		MappedCharSequence(ByteBuffer buffer, int offset, int length){
+			this.buffer = buffer;
+			this.offset = offset;
+			this.length = length;
+		}
+		@Override
+		public int length() {
+			return length;
+		}
+		@Override
+		public char charAt(int index) {
+			if(index<0 || index>=length)
+				throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+			return (char)(buffer.get(offset+index) & 0xFF);
+		}
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if(start<0 || end>length || start>end)
+				throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+			return new MappedCharSequence(buffer,offset+start,end-start);
+		}
+		@Override
+		public String toString() {
+			char[] chars = new char[length];
+			for(int i=0;i<length;i++)
+				chars[i] = (char)(buffer.get(offset+i) & 0xFF);
+			return new String(chars);
+		}
+	}
+}
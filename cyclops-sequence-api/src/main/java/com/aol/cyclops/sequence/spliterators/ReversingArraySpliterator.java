@@ -4,10 +4,8 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-@AllArgsConstructor
 public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator {
 	
 	
@@ -16,19 +14,34 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 	private boolean reverse;
 	    
 	int index=0;
+	private final int min;
+	private final int max;
+	
+	public ReversingArraySpliterator(Object[] array, boolean reverse, int index){
+		this(array,reverse,index,0,array.length);
+	}
+	private ReversingArraySpliterator(Object[] array, boolean reverse, int index, int min, int max){
+		this.array = array;
+		this.reverse = reverse;
+		this.index = index;
+		this.min = min;
+		this.max = max;
+	}
     @Override
     public long estimateSize() {
-        return array.length;
+    	if(index<min || index>=max)
+    		return 0;
+    	return reverse ? index-min+1 : max-index;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
     
     public ReversingArraySpliterator<T> invert(){
 		setReverse(!isReverse());
-		index = array.length-1;
+		index = reverse ? max-1 : min;
 		return this;
 	}
 
@@ -37,13 +50,13 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 		 Objects.requireNonNull(action);
 		 
 		 if(!reverse){
-			 if(index<array.length && index>-1){
+			 if(index<max && index>=min){
 				 action.accept((T)array[index++]);
 				 return true;
 			 }
 		 }
 		 else{
-			 if(index>-1 & index<array.length){
+			 if(index>=min & index<max){
 				 action.accept((T)array[index--]);
 				 return true;
 			 }
@@ -54,13 +67,19 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
 	@Override
 	public Spliterator<T> trySplit() {
-		
-		return this;
+		long size = estimateSize();
+		if(size<2)
+			return null;
+		int mid = (int)(reverse ? index - size/2 : index + size/2);
+		ReversingArraySpliterator<T> prefix = reverse ? new ReversingArraySpliterator<T>(array,true,index,mid+1,index+1)
+													: new ReversingArraySpliterator<T>(array,false,index,index,mid);
+		index = mid;
+		return prefix;
 	}
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingArraySpliterator<T>(array, reverse, index);
+		return new ReversingArraySpliterator<T>(array, reverse, index, min, max);
 	}
 
    
@@ -3,6 +3,7 @@ package com.aol.cyclops.sequence.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
@@ -37,12 +38,12 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 		}
 	    @Override
 	    public long estimateSize() {
-	        return list.size();
+	        return reverse ? it.nextIndex() : list.size()-it.nextIndex();
 	    }
 
 	    @Override
 	    public int characteristics() {
-	        return IMMUTABLE;
+	        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
 	    }
 	    
 
@@ -73,8 +74,19 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 	
 	@Override
 	public Spliterator<T> trySplit() {
-		
-		return this;
+		if(!(list instanceof RandomAccess) || estimateSize()<2)
+			return null;
+		int position = it.nextIndex();
+		if(reverse){ //prefix is the upper half, iterated from the top
+			int mid = position/2;
+			ReversingListSpliterator<T> prefix = new ReversingListSpliterator<T>(list.subList(mid, position),false).invert();
+			it = list.listIterator(mid);
+			return prefix;
+		}
+		int mid = position + (list.size()-position)/2;
+		ReversingListSpliterator<T> prefix = new ReversingListSpliterator<T>(list.subList(position, mid),false);
+		it = list.listIterator(mid);
+		return prefix;
 	}
 
 	
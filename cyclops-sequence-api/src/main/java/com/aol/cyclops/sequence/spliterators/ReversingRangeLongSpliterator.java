@@ -4,21 +4,30 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.LongConsumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator {
   
     private long index;
+    private final long min;
     private final long max;
     @Getter @Setter
     private boolean reverse;
+    
+    public ReversingRangeLongSpliterator(long start, long max, boolean reverse){
+    	this(start,start,max,reverse);
+    }
+    private ReversingRangeLongSpliterator(long index, long min, long max, boolean reverse){
+    	this.index = index;
+    	this.min = min;
+    	this.max = max;
+    	this.reverse = reverse;
+    }
    
     public ReversableSpliterator invert(){
 		setReverse(!isReverse());
-		index = max-1;
+		index = reverse ? max-1 : min;
 		return this;
 	}
 
@@ -26,13 +35,13 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
     public boolean tryAdvance(LongConsumer consumer) {
         Objects.requireNonNull(consumer);
         if(!reverse){
-        	if(index<max && index>-1){
+        	if(index<max && index>=min){
         		consumer.accept(index++);
         		return true;
         	}
         }
         if(reverse){
-        	if(index>-1 && index<max){
+        	if(index>=min && index<max){
         		consumer.accept(index--);
         		return true;
         	}
@@ -44,17 +53,26 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
     @Override
     public long estimateSize() {
-      return max;
+    	if(index<min || index>=max)
+    		return 0;
+    	return reverse ? index-min+1 : max-index;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
    
     @Override
     public Spliterator.OfLong trySplit() {
-        return this;
+    	long size = estimateSize();
+    	if(size<2)
+    		return null;
+    	long mid = (long)(reverse ? index - size/2 : index + size/2);
+    	ReversingRangeLongSpliterator prefix = reverse ? new ReversingRangeLongSpliterator(index,mid+1,index+1,true)
+    							: new ReversingRangeLongSpliterator(index,index,mid,false);
+    	index = mid;
+        return prefix;
     }
 
 
@@ -67,7 +85,7 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingRangeLongSpliterator(index, max, reverse);
+		return new ReversingRangeLongSpliterator(index, min, max, reverse);
 	}
 
     
@@ -0,0 +1,103 @@
+package com.aol.cyclops.streams;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * A single threaded pipeline vs the same pipeline split by async(exec,queueCapacity), with CPU bound work both
+ * upstream (parsing) and downstream (hashing into a sink).
+ *
+ * Scores are throughput in elements per millisecond. The split pipeline needs two free cores to gain anything.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncBoundaryBenchmark {
+
+	static final int ELEMENTS = 100_000;
+
+	@Param({"64","1024"})
+	int queueCapacity;
+
+	String[] lines;
+	ExecutorService exec;
+
+	@Setup
+	public void setup(){
+		lines = SequenceM.range(0,ELEMENTS).map(i->i+","+(i*31)+","+(i*17)).toList().toArray(new String[0]);
+		exec = Executors.newSingleThreadExecutor();
+	}
+	@TearDown
+	public void tearDown(){
+		exec.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long singleThreaded(){
+		return SequenceM.of(lines)
+						.map(this::parse)
+						.mapToLong(this::sink)
+						.sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long asyncBackoff(){
+		return SequenceM.of(lines)
+						.map(this::parse)
+						.async(exec,queueCapacity)
+						.mapToLong(this::sink)
+						.sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long asyncSpin(){
+		return SequenceM.of(lines)
+						.map(this::parse)
+						.async(exec,queueCapacity,IdleStrategies.spin(),IdleStrategies.spin())
+						.mapToLong(this::sink)
+						.sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long asyncBlocking(){
+		return SequenceM.of(lines)
+						.map(this::parse)
+						.async(exec,queueCapacity,IdleStrategies.blocking(),IdleStrategies.blocking())
+						.mapToLong(this::sink)
+						.sum();
+	}
+
+	private long[] parse(String line){
+		String[] fields = line.split(",");
+		long[] values = new long[fields.length];
+		for(int i=0;i<fields.length;i++)
+			values[i] = Long.parseLong(fields[i]);
+		return values;
+	}
+	private long sink(long[] values){
+		long hash = 17;
+		for(long next : values){
+			for(int i=0;i<16;i++)
+				hash = hash*31 + (next ^ (hash>>>7));
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,39 @@
+package com.aol.cyclops.streams;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports the CPU use of the IdleStrategyBenchmark consumer thread (as a percentage of one core) as a secondary
+ * result of each iteration. Other benchmarks are unaffected.
+ *
+ * Enabled with gradle jmh -PconsumerCpu (see the jmh block of build.gradle).
+ */
+public class ConsumerCpuProfiler implements InternalProfiler {
+
+	@Override
+	public String getDescription() {
+		return "CPU use of the IdleStrategyBenchmark consumer thread";
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+		
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+			IterationResult result) {
+		if(!benchmarkParams.getBenchmark().startsWith(IdleStrategyBenchmark.class.getName()))
+			return Collections.emptyList();
+		return Collections.singletonList(new ScalarResult("consumer.cpu",IdleStrategyBenchmark.consumerCpu,"%",AggregationPolicy.AVG));
+	}
+}
@@ -0,0 +1,53 @@
+package com.aol.cyclops.streams;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.SpillOptions;
+import com.aol.cyclops.sequence.SpillSerializers;
+
+/**
+ * Sorting 1,000,000 random Integers in memory vs with the external sort, for heap budgets holding the whole
+ * input (no spill) down to a hundredth of it.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExternalSortBenchmark {
+
+	@Param({"1000000","100000","10000"})
+	int budgetElements;
+
+	List<Integer> data;
+	SpillOptions<Integer> options;
+
+	@Setup
+	public void setup(){
+		Random r = new Random(0);
+		data = SequenceM.range(0,1_000_000).map(i->r.nextInt()).toList();
+		options = SpillOptions.of(SpillSerializers.integers(),budgetElements*16l).withSizeOf(i->16);
+	}
+
+	@Benchmark
+	public long sorted(){
+		return SequenceM.fromList(data).sorted().count();
+	}
+	@Benchmark
+	public long externalSorted(){
+		return SequenceM.fromList(data).externalSorted(Comparator.naturalOrder(),options).count();
+	}
+}
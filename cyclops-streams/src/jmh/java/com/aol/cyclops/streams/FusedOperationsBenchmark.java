@@ -0,0 +1,77 @@
+package com.aol.cyclops.streams;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.future.FusedOperations;
+
+/**
+ * Four terminal operations (count, sum, max and toList) over an expensive to read Stream, run as separate
+ * futureOperations (one traversal each) vs registered against a single fused traversal.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FusedOperationsBenchmark {
+
+	static final int ELEMENTS = 100_000;
+
+	ExecutorService exec;
+
+	@Setup
+	public void setup(){
+		exec = Executors.newFixedThreadPool(4);
+	}
+	@TearDown
+	public void tearDown(){
+		exec.shutdownNow();
+	}
+
+	private SequenceM<Long> source(){
+		return SequenceM.range(0,ELEMENTS).map(this::read);
+	}
+
+	@Benchmark
+	public void separate(Blackhole bh){
+		CompletableFuture<Long> count = source().futureOperations(exec).count();
+		CompletableFuture<Long> sum = source().futureOperations(exec).sumLong(l->l);
+		CompletableFuture<Optional<Long>> max = source().futureOperations(exec).max(Comparator.naturalOrder());
+		CompletableFuture<?> list = source().futureOperations(exec).toList();
+		Stream.of(count,sum,max,list).map(CompletableFuture::join).forEach(bh::consume);
+	}
+	@Benchmark
+	public void fused(Blackhole bh){
+		FusedOperations<Long> ops = source().futureOperations(exec).fused();
+		CompletableFuture<Long> count = ops.count();
+		CompletableFuture<Long> sum = ops.sumLong(l->l);
+		CompletableFuture<Optional<Long>> max = ops.max(Comparator.naturalOrder());
+		CompletableFuture<?> list = ops.toList();
+		ops.run();
+		Stream.of(count,sum,max,list).map(CompletableFuture::join).forEach(bh::consume);
+	}
+
+	private long read(int i){
+		long hash = i;
+		for(int j=0;j<64;j++)
+			hash = hash*31 + (hash>>>7) + j;
+		return hash;
+	}
+}
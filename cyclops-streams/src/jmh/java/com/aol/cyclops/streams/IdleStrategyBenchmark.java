@@ -0,0 +1,124 @@
+package com.aol.cyclops.streams;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.IdleStrategy;
+import com.aol.cyclops.streams.spliterators.ClosingSpliterator;
+
+/**
+ * Latency and idle CPU use of a HotStream consumer per IdleStrategy.
+ *
+ * The benchmark thread acts as the HotStream producer, each operation offers a value and waits for the consumer
+ * thread to echo it back. afterIdle lets the consumer go idle for 100 micro seconds first (included in the score).
+ * The consumer's CPU use during each iteration (as a percentage of one core) is reported as the consumer.cpu secondary
+ * result by ConsumerCpuProfiler, which is opt-in.
+ *
+ * Run with gradle jmh (or gradle jmh -PconsumerCpu to run only this benchmark, with the profiler)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdleStrategyBenchmark {
+
+	@Param({"spin","yielding","backoff","blocking"})
+	String strategy;
+
+	OneToOneConcurrentArrayQueue<Long> queue;
+	AtomicBoolean open;
+	AtomicLong echo;
+	IdleStrategy idle;
+	Thread consumer;
+	long next;
+
+	long cpuStart;
+	long wallStart;
+	/*
+	 * consumer CPU use during the last iteration, read by ConsumerCpuProfiler
+	 */
+	static volatile double consumerCpu;
+
+	@Setup(Level.Trial)
+	public void connect(){
+		queue = new OneToOneConcurrentArrayQueue<>(1024);
+		open = new AtomicBoolean(true);
+		echo = new AtomicLong(-1);
+		idle = idleStrategy();
+		ClosingSpliterator<Long> spliterator = new ClosingSpliterator<>(Long.MAX_VALUE,queue,open,new AtomicReference<>(),idle);
+		consumer = new Thread(()->StreamSupport.stream(spliterator,false).forEach(echo::lazySet));
+		consumer.setDaemon(true);
+		consumer.start();
+	}
+	@TearDown(Level.Trial)
+	public void disconnect() throws InterruptedException{
+		open.set(false);
+		idle.signal();
+		consumer.join();
+	}
+
+	@Setup(Level.Iteration)
+	public void startCpu(){
+		cpuStart = cpuTime();
+		wallStart = System.nanoTime();
+	}
+	@TearDown(Level.Iteration)
+	public void recordCpu(){
+		consumerCpu = (cpuTime()-cpuStart)*100.0/(System.nanoTime()-wallStart);
+	}
+
+	@Benchmark
+	public long pingPong(){
+		return ping();
+	}
+	@Benchmark
+	public long afterIdle(){
+		LockSupport.parkNanos(100_000);
+		return ping();
+	}
+
+	private long ping(){
+		long value = next++;
+		queue.offer(value);
+		idle.signal();
+		while(echo.get()!=value){
+
+		}
+		return value;
+	}
+	private long cpuTime(){
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		return bean.getThreadCpuTime(consumer.getId());
+	}
+	private IdleStrategy idleStrategy(){
+		switch(strategy){
+			case "spin":
+				return IdleStrategies.spin();
+			case "yielding":
+				return IdleStrategies.yielding();
+			case "blocking":
+				return IdleStrategies.blocking();
+			default:
+				return IdleStrategies.backoff();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.aol.cyclops.streams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Joining two keyed Lists with crossJoin + filter (the baseline), the hash join and the sort-merge join. Both Lists
+ * are sorted by key, each left key matches two right elements.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JoinBenchmark {
+
+	@Param({"100","1000"})
+	int size;
+
+	List<Integer> left;
+	List<Integer> right;
+
+	@Setup
+	public void setup(){
+		left = SequenceM.range(0,size).toList();
+		right = SequenceM.range(0,size*2).map(i->i/2).toList();
+	}
+
+	@Benchmark
+	public long crossJoinFilter(){
+		return SequenceM.fromList(left)
+						.crossJoin(right.stream())
+						.filter(t->t.v1.equals(t.v2))
+						.count();
+	}
+	@Benchmark
+	public long hashJoin(){
+		return SequenceM.fromList(left)
+						.innerJoin(right.stream(),i->i,i->i)
+						.count();
+	}
+	@Benchmark
+	public long sortMergeJoin(){
+		return SequenceM.fromList(left)
+						.sortMergeJoin(right.stream(),i->i,i->i)
+						.count();
+	}
+}
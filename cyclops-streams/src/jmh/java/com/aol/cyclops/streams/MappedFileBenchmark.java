@@ -0,0 +1,76 @@
+package com.aol.cyclops.streams;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Counting the lines of a log file containing "ERROR" with Files.lines (the baseline), the mapped file Sequence,
+ * in parallel, and as zero copy views.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedFileBenchmark {
+
+	@Param({"100000","1000000"})
+	int lines;
+
+	Path file;
+
+	@Setup
+	public void setup() throws IOException{
+		file = Files.createTempFile("mapped",".log");
+		Files.write(file,SequenceM.range(0,lines)
+								 .map(i->"2015-11-02 10:15:00 "+(i%100==0 ? "ERROR" : "INFO ")+" request "+i+" completed")
+								 .toList(),StandardCharsets.UTF_8);
+	}
+	@TearDown
+	public void tearDown() throws IOException{
+		Files.delete(file);
+	}
+
+	@Benchmark
+	public long filesLines() throws IOException{
+		try(Stream<String> stream = Files.lines(file)){
+			return stream.filter(line->line.contains("ERROR")).count();
+		}
+	}
+	@Benchmark
+	public long mappedFile(){
+		return SequenceM.fromMappedFile(file,StandardCharsets.UTF_8)
+						.filter(line->line.contains("ERROR"))
+						.count();
+	}
+	@Benchmark
+	public long mappedFileParallel(){
+		return SequenceM.fromMappedFile(file,StandardCharsets.UTF_8)
+						.parallel()
+						.filter(line->line.contains("ERROR"))
+						.count();
+	}
+	@Benchmark
+	public long mappedFileViewsParallel(){
+		return SequenceM.fromMappedFileViews(file)
+						.parallel()
+						.filter(line->line.length()>24 && line.charAt(20)=='E')
+						.count();
+	}
+}
@@ -0,0 +1,98 @@
+package com.aol.cyclops.streams;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.Reducers;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Sequential vs parallel SequenceM throughput over large ranges.
+ *
+ * Each pair of benchmarks runs the same pipeline, once sequentially and once after parallel().
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelBenchmark {
+
+	@Param({"100000","10000000"})
+	int size;
+
+	List<Monoid<Integer>> reducers;
+
+	@Setup
+	public void setup(){
+		reducers = Arrays.asList(Reducers.toTotalInt(),Monoid.of(Integer.MIN_VALUE,Math::max));
+	}
+
+	private SequenceM<Integer> range(boolean parallel){
+		SequenceM<Integer> range = SequenceM.range(0,size);
+		return parallel ? range.parallel() : range;
+	}
+
+	@Benchmark
+	public long mapFilterSequential(){
+		return range(false).map(i->i*31).filter(i->i%3==0).count();
+	}
+	@Benchmark
+	public long mapFilterParallel(){
+		return range(true).map(i->i*31).filter(i->i%3==0).count();
+	}
+	@Benchmark
+	public long flatMapSequential(){
+		return range(false).flatMap(i->Stream.of(i,i+1)).count();
+	}
+	@Benchmark
+	public long flatMapParallel(){
+		return range(true).flatMap(i->Stream.of(i,i+1)).count();
+	}
+	@Benchmark
+	public Integer monoidReduceSequential(){
+		return range(false).reduce(Reducers.toTotalInt());
+	}
+	@Benchmark
+	public Integer monoidReduceParallel(){
+		return range(true).reduce(Reducers.toTotalInt());
+	}
+	@Benchmark
+	public List<Integer> multiReduceSequential(){
+		return range(false).reduce(reducers);
+	}
+	@Benchmark
+	public List<Integer> multiReduceParallel(){
+		return range(true).reduce(reducers);
+	}
+	@Benchmark
+	public List multiCollectSequential(){
+		return range(false).collectStream(Stream.<Collector>of(Collectors.counting(),Collectors.summingInt(Integer::intValue)));
+	}
+	@Benchmark
+	public List multiCollectParallel(){
+		return range(true).collectStream(Stream.<Collector>of(Collectors.counting(),Collectors.summingInt(Integer::intValue)));
+	}
+	@Benchmark
+	public long batchBySizeSequential(){
+		return range(false).batchBySize(100).count();
+	}
+	@Benchmark
+	public long batchBySizeParallel(){
+		return range(true).batchBySize(100).count();
+	}
+}
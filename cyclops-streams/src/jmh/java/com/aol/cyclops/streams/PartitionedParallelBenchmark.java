@@ -0,0 +1,73 @@
+package com.aol.cyclops.streams;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Scaling of partitionedParallel from 1 lane to 8 lanes, with CPU bound work per element, against the same work run
+ * sequentially. Events are spread over 1024 keys so every lane gets a similar share.
+ *
+ * Scores are throughput in events per millisecond. Expect scaling up to the number of free cores minus one (the
+ * routing thread).
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PartitionedParallelBenchmark {
+
+	static final int EVENTS = 100_000;
+	static final int KEYS = 1024;
+
+	@Param({"1","2","4","8"})
+	int lanes;
+
+	ExecutorService exec;
+
+	@Setup
+	public void setup(){
+		exec = Executors.newCachedThreadPool();
+	}
+	@TearDown
+	public void tearDown(){
+		exec.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public long sequential(){
+		return SequenceM.range(0,EVENTS)
+						.mapToLong(this::process)
+						.sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public long partitioned(){
+		return SequenceM.range(0,EVENTS)
+						.partitionedParallel(i->i%KEYS,lanes,exec,1024,lane->lane.map(this::process))
+						.mapToLong(l->l)
+						.sum();
+	}
+
+	private long process(int event){
+		long hash = event;
+		for(int i=0;i<256;i++)
+			hash = hash*31 + (hash>>>7) + i;
+		return hash;
+	}
+}
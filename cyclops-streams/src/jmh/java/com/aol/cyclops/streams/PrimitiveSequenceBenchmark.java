@@ -0,0 +1,74 @@
+package com.aol.cyclops.streams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.sequence.IntSequenceM;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Boxed SequenceM vs unboxed IntSequenceM for numeric windowing.
+ *
+ * Each pair of benchmarks runs the same pipeline over a range. Add the gc profiler (-prof gc) to compare allocation
+ * rates, gc.alloc.rate.norm is the number of bytes allocated per operation.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveSequenceBenchmark {
+
+	@Param({"1000","100000"})
+	int size;
+
+	@Benchmark
+	public int mapFilterReduceBoxed(){
+		return SequenceM.range(0,size).map(i->i*3).filter(i->i%2==0).reduce(0,(a,b)->a+b);
+	}
+	@Benchmark
+	public int mapFilterReducePrimitive(){
+		return IntSequenceM.range(0,size).map(i->i*3).filter(i->i%2==0).reduce(0,(a,b)->a+b);
+	}
+	@Benchmark
+	public long slidingBoxed(){
+		return SequenceM.range(0,size).sliding(10).mapToInt(window->window.stream().mapToInt(i->i).sum()).sum();
+	}
+	@Benchmark
+	public long slidingPrimitive(){
+		return IntSequenceM.range(0,size).sliding(10).mapToInt(window->IntStream.of(window).sum()).sum();
+	}
+	@Benchmark
+	public int batchBySizeBoxed(){
+		return SequenceM.range(0,size).batchBySize(100).mapToInt(List::size).sum();
+	}
+	@Benchmark
+	public int batchBySizePrimitive(){
+		return IntSequenceM.range(0,size).batchBySize(100).mapToInt(batch->batch.length).sum();
+	}
+	@Benchmark
+	public int scanLeftBoxed(){
+		return SequenceM.range(0,size).scanLeft(0,(a,b)->a+b).reduce(0,(a,b)->a^b);
+	}
+	@Benchmark
+	public int scanLeftPrimitive(){
+		return IntSequenceM.range(0,size).scanLeft(0,(a,b)->a+b).reduce(0,(a,b)->a^b);
+	}
+	@Benchmark
+	public long zipWithIndexBoxed(){
+		return SequenceM.range(0,size).zipWithIndex().mapToLong(t->t.v1*t.v2).sum();
+	}
+	@Benchmark
+	public long zipWithIndexPrimitive(){
+		return IntSequenceM.range(0,size).zipWithIndex((v,i)->v*i).mapToLong(l->l).sum();
+	}
+}
@@ -0,0 +1,71 @@
+package com.aol.cyclops.streams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.sequence.IntSequenceM;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Copying sliding windows vs views over a shared circular buffer.
+ *
+ * Each benchmark reads every window over 100,000 elements (the ends, or a max over the whole window), scores are per element.
+ * Add the gc profiler (-prof gc) to see allocation, gc.alloc.rate.norm is the number of bytes allocated per element.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlidingBenchmark {
+
+	static final int ELEMENTS = 100_000;
+
+	@Param({"10","1000"})
+	int windowSize;
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long slidingCopy(){
+		return SequenceM.range(0,ELEMENTS).sliding(windowSize).mapToLong(this::ends).sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long slidingView(){
+		return SequenceM.range(0,ELEMENTS).slidingView(windowSize).mapToLong(this::ends).sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long intSlidingCopy(){
+		return IntSequenceM.range(0,ELEMENTS).sliding(windowSize).mapToLong(w->w[0]+w[w.length-1]).sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long intSlidingView(){
+		return IntSequenceM.range(0,ELEMENTS).slidingView(windowSize).mapToLong(w->w.get(0)+w.get(w.size()-1)).sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long intSlidingViewStream(){
+		return IntSequenceM.range(0,ELEMENTS).slidingView(windowSize).mapToLong(w->w.stream().max().getAsInt()).sum();
+	}
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS)
+	public long intSlidingCopyStream(){
+		return IntSequenceM.range(0,ELEMENTS).sliding(windowSize).mapToLong(w->IntStream.of(w).max().getAsInt()).sum();
+	}
+
+	private long ends(List<Integer> window){
+		return window.get(0)+window.get(window.size()-1);
+	}
+}
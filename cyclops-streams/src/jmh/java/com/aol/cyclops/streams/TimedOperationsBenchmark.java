@@ -0,0 +1,119 @@
+package com.aol.cyclops.streams;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.TimeScheduler;
+import com.aol.cyclops.sequence.TimeSchedulers;
+
+/**
+ * Throttling many independent Sequences : a thread parked per Sequence (SequenceM.fixedDelay / onePer) vs a single
+ * timer wheel thread (SequenceM.timedOperations).
+ *
+ * Each invocation emits 10 elements, 1 millisecond apart, from each of fanOut Sequences and waits for them all to finish.
+ * Scores are the time per invocation, the peakThreads counter is the peak live thread count seen by the JVM.
+ *
+ * Run with gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimedOperationsBenchmark {
+
+	static final int ELEMENTS = 10;
+
+	@Param({"100","5000"})
+	int fanOut;
+
+	ExecutorService threadPerSequence;
+	ScheduledExecutorService ex;
+	TimeScheduler wheel;
+	ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	@Setup
+	public void setup(){
+		threadPerSequence = Executors.newCachedThreadPool();
+		ex = Executors.newScheduledThreadPool(1);
+		wheel = TimeSchedulers.timerWheel(ex);
+	}
+	@TearDown
+	public void tearDown(){
+		threadPerSequence.shutdown();
+		ex.shutdown();
+	}
+
+	@AuxCounters
+	@State(Scope.Thread)
+	public static class Threads{
+		public long peakThreads;
+	}
+
+	@Setup(Level.Invocation)
+	public void resetPeak(){
+		threads.resetPeakThreadCount();
+	}
+
+	@Benchmark
+	public void parkedFixedDelay(Threads counters){
+		CompletableFuture<?>[] done = new CompletableFuture[fanOut];
+		for(int i=0;i<fanOut;i++)
+			done[i] = CompletableFuture.runAsync(()->SequenceM.range(0,ELEMENTS)
+															.fixedDelay(1,TimeUnit.MILLISECONDS)
+															.forEach(this::consume),threadPerSequence);
+		CompletableFuture.allOf(done).join();
+		counters.peakThreads = Math.max(counters.peakThreads,threads.getPeakThreadCount());
+	}
+	@Benchmark
+	public void timerWheelFixedDelay(Threads counters){
+		CompletableFuture<?>[] done = new CompletableFuture[fanOut];
+		for(int i=0;i<fanOut;i++)
+			done[i] = SequenceM.range(0,ELEMENTS)
+								.timedOperations(wheel)
+								.fixedDelay(1,TimeUnit.MILLISECONDS)
+								.forEach(this::consume);
+		CompletableFuture.allOf(done).join();
+		counters.peakThreads = Math.max(counters.peakThreads,threads.getPeakThreadCount());
+	}
+	@Benchmark
+	public void parkedOnePer(Threads counters){
+		CompletableFuture<?>[] done = new CompletableFuture[fanOut];
+		for(int i=0;i<fanOut;i++)
+			done[i] = CompletableFuture.runAsync(()->SequenceM.range(0,ELEMENTS)
+															.onePer(1,TimeUnit.MILLISECONDS)
+															.forEach(this::consume),threadPerSequence);
+		CompletableFuture.allOf(done).join();
+		counters.peakThreads = Math.max(counters.peakThreads,threads.getPeakThreadCount());
+	}
+	@Benchmark
+	public void timerWheelOnePer(Threads counters){
+		CompletableFuture<?>[] done = new CompletableFuture[fanOut];
+		for(int i=0;i<fanOut;i++)
+			done[i] = SequenceM.range(0,ELEMENTS)
+								.timedOperations(wheel)
+								.onePer(1,TimeUnit.MILLISECONDS)
+								.forEach(this::consume);
+		CompletableFuture.allOf(done).join();
+		counters.peakThreads = Math.max(counters.peakThreads,threads.getPeakThreadCount());
+	}
+
+	private void consume(Integer next){
+	}
+}
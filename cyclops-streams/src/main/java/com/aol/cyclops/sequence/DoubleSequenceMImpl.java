@@ -0,0 +1,275 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.sequence.spliterators.ReversableSpliterator;
+import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.operators.SlidingViewOperator;
+
+public class DoubleSequenceMImpl implements DoubleSequenceM {
+	private final DoubleStream stream;
+	private final Optional<ReversableSpliterator> reversable;
+
+	public DoubleSequenceMImpl(DoubleStream stream){
+		this.stream = stream;
+		this.reversable = Optional.empty();
+	}
+
+	public DoubleSequenceMImpl(DoubleStream stream,ReversableSpliterator rev){
+		this.stream = stream;
+		this.reversable = Optional.of(rev);
+	}
+	DoubleSequenceMImpl(DoubleStream stream,Optional<ReversableSpliterator> rev){
+		this.stream = stream;
+		this.reversable = rev;
+	}
+
+	public DoubleSequenceM map(DoubleUnaryOperator mapper) {
+		return new DoubleSequenceMImpl(stream.map(mapper),reversable);
+	}
+	public DoubleSequenceM filter(DoublePredicate predicate) {
+		return new DoubleSequenceMImpl(stream.filter(predicate),reversable);
+	}
+	public DoubleSequenceM flatMap(DoubleFunction<? extends DoubleStream> mapper) {
+		return new DoubleSequenceMImpl(stream.flatMap(mapper));
+	}
+	public DoubleSequenceM peek(DoubleConsumer action) {
+		return new DoubleSequenceMImpl(stream.peek(action),reversable);
+	}
+	public DoubleSequenceM limit(long maxSize) {
+		return new DoubleSequenceMImpl(stream.limit(maxSize));
+	}
+	public DoubleSequenceM skip(long n) {
+		return new DoubleSequenceMImpl(stream.skip(n));
+	}
+	public DoubleSequenceM distinct() {
+		return new DoubleSequenceMImpl(stream.distinct());
+	}
+	public DoubleSequenceM sorted() {
+		return new DoubleSequenceMImpl(stream.sorted());
+	}
+	public DoubleSequenceM parallel() {
+		return new DoubleSequenceMImpl(stream.parallel(),reversable);
+	}
+	public DoubleSequenceM sequential() {
+		return new DoubleSequenceMImpl(stream.sequential(),reversable);
+	}
+	public DoubleSequenceM unordered() {
+		return new DoubleSequenceMImpl(stream.unordered(),reversable);
+	}
+	public DoubleSequenceM onClose(Runnable closeHandler) {
+		return new DoubleSequenceMImpl(stream.onClose(closeHandler),reversable);
+	}
+	public SequenceM<Double> boxed() {
+		return StreamUtils.sequenceM(stream.boxed(),reversable);
+	}
+
+	public DoubleSequenceM reverse() {
+		if(reversable.isPresent()){
+			reversable.ifPresent(r->r.invert());
+			return this;
+		}
+		double[] values = stream.toArray();
+		for(int i=0,j=values.length-1;i<j;i++,j--){
+			double next = values[i];
+			values[i] = values[j];
+			values[j] = next;
+		}
+		return new DoubleSequenceMImpl(DoubleStream.of(values));
+	}
+
+	public DoubleSequenceM scanLeft(double identity, DoubleBinaryOperator function) {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return new DoubleSequenceMImpl(StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(new PrimitiveIterator.OfDouble(){
+			boolean init = false;
+			double next = identity;
+
+			@Override
+			public boolean hasNext() {
+				if(!init)
+					return true;
+				return it.hasNext();
+			}
+
+			@Override
+			public double nextDouble() {
+				if(!init){
+					init = true;
+					return identity;
+				}
+				return next = function.applyAsDouble(next, it.nextDouble());
+			}
+
+		}, Spliterator.ORDERED),false));
+	}
+
+	public SequenceM<double[]> sliding(int windowSize) {
+		return sliding(windowSize,1);
+	}
+
+	public SequenceM<double[]> sliding(int windowSize, int increment) {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<double[]>(){
+			final double[] buffer = new double[windowSize];
+			int size = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public double[] next() {
+				int drop = Math.min(increment, size);
+				System.arraycopy(buffer, drop, buffer, 0, size-drop);
+				size = size-drop;
+				while(size<windowSize && it.hasNext())
+					buffer[size++] = it.nextDouble();
+				return Arrays.copyOf(buffer, size);
+			}
+
+		}),Optional.empty());
+	}
+
+	public SequenceM<SlidingWindow.OfDouble> slidingView(int windowSize) {
+		return slidingView(windowSize,1);
+	}
+
+	public SequenceM<SlidingWindow.OfDouble> slidingView(int windowSize, int increment) {
+		return StreamUtils.sequenceM(SlidingViewOperator.slidingView(stream.iterator(),windowSize,increment),Optional.empty());
+	}
+
+	public SequenceM<double[]> batchBySize(int size) {
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<double[]>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public double[] next() {
+				double[] batch = new double[size];
+				int i=0;
+				while(i<size && it.hasNext())
+					batch[i++] = it.nextDouble();
+				return i==size ? batch : Arrays.copyOf(batch, i);
+			}
+
+		}),Optional.empty());
+	}
+
+	public <R> SequenceM<R> zipWithIndex(IndexedDoubleFunction<? extends R> zipper) {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<R>(){
+			long index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public R next() {
+				return zipper.apply(it.nextDouble(), index++);
+			}
+
+		}),Optional.empty());
+	}
+
+	public <U> SequenceM<U> mapToObj(DoubleFunction<? extends U> mapper) {
+		return StreamUtils.sequenceM(stream.mapToObj(mapper),reversable);
+	}
+	public IntSequenceM mapToInt(DoubleToIntFunction mapper) {
+		return new IntSequenceMImpl(stream.mapToInt(mapper),reversable);
+	}
+	public LongSequenceM mapToLong(DoubleToLongFunction mapper) {
+		return new LongSequenceMImpl(stream.mapToLong(mapper),reversable);
+	}
+
+	public void forEach(DoubleConsumer action) {
+		stream.forEach(action);
+	}
+	public void forEachOrdered(DoubleConsumer action) {
+		stream.forEachOrdered(action);
+	}
+	public double[] toArray() {
+		return stream.toArray();
+	}
+	public double reduce(double identity, DoubleBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+	public OptionalDouble reduce(DoubleBinaryOperator op) {
+		return stream.reduce(op);
+	}
+	public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+	public double sum() {
+		return stream.sum();
+	}
+	public OptionalDouble min() {
+		return stream.min();
+	}
+	public OptionalDouble max() {
+		return stream.max();
+	}
+	public long count() {
+		return stream.count();
+	}
+	public OptionalDouble average() {
+		return stream.average();
+	}
+	public DoubleSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+	public boolean anyMatch(DoublePredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+	public boolean allMatch(DoublePredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+	public boolean noneMatch(DoublePredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+	public OptionalDouble findFirst() {
+		return stream.findFirst();
+	}
+	public OptionalDouble findAny() {
+		return stream.findAny();
+	}
+	public PrimitiveIterator.OfDouble iterator() {
+		return stream.iterator();
+	}
+	public Spliterator.OfDouble spliterator() {
+		return stream.spliterator();
+	}
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,282 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.sequence.spliterators.ReversableSpliterator;
+import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.operators.SlidingViewOperator;
+
+public class IntSequenceMImpl implements IntSequenceM {
+	private final IntStream stream;
+	private final Optional<ReversableSpliterator> reversable;
+
+	public IntSequenceMImpl(IntStream stream){
+		this.stream = stream;
+		this.reversable = Optional.empty();
+	}
+
+	public IntSequenceMImpl(IntStream stream,ReversableSpliterator rev){
+		this.stream = stream;
+		this.reversable = Optional.of(rev);
+	}
+	IntSequenceMImpl(IntStream stream,Optional<ReversableSpliterator> rev){
+		this.stream = stream;
+		this.reversable = rev;
+	}
+
+	public IntSequenceM map(IntUnaryOperator mapper) {
+		return new IntSequenceMImpl(stream.map(mapper),reversable);
+	}
+	public IntSequenceM filter(IntPredicate predicate) {
+		return new IntSequenceMImpl(stream.filter(predicate),reversable);
+	}
+	public IntSequenceM flatMap(IntFunction<? extends IntStream> mapper) {
+		return new IntSequenceMImpl(stream.flatMap(mapper));
+	}
+	public IntSequenceM peek(IntConsumer action) {
+		return new IntSequenceMImpl(stream.peek(action),reversable);
+	}
+	public IntSequenceM limit(long maxSize) {
+		return new IntSequenceMImpl(stream.limit(maxSize));
+	}
+	public IntSequenceM skip(long n) {
+		return new IntSequenceMImpl(stream.skip(n));
+	}
+	public IntSequenceM distinct() {
+		return new IntSequenceMImpl(stream.distinct());
+	}
+	public IntSequenceM sorted() {
+		return new IntSequenceMImpl(stream.sorted());
+	}
+	public IntSequenceM parallel() {
+		return new IntSequenceMImpl(stream.parallel(),reversable);
+	}
+	public IntSequenceM sequential() {
+		return new IntSequenceMImpl(stream.sequential(),reversable);
+	}
+	public IntSequenceM unordered() {
+		return new IntSequenceMImpl(stream.unordered(),reversable);
+	}
+	public IntSequenceM onClose(Runnable closeHandler) {
+		return new IntSequenceMImpl(stream.onClose(closeHandler),reversable);
+	}
+	public SequenceM<Integer> boxed() {
+		return StreamUtils.sequenceM(stream.boxed(),reversable);
+	}
+
+	public IntSequenceM reverse() {
+		if(reversable.isPresent()){
+			reversable.ifPresent(r->r.invert());
+			return this;
+		}
+		int[] values = stream.toArray();
+		for(int i=0,j=values.length-1;i<j;i++,j--){
+			int next = values[i];
+			values[i] = values[j];
+			values[j] = next;
+		}
+		return new IntSequenceMImpl(IntStream.of(values));
+	}
+
+	public IntSequenceM scanLeft(int identity, IntBinaryOperator function) {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return new IntSequenceMImpl(StreamSupport.intStream(Spliterators.spliteratorUnknownSize(new PrimitiveIterator.OfInt(){
+			boolean init = false;
+			int next = identity;
+
+			@Override
+			public boolean hasNext() {
+				if(!init)
+					return true;
+				return it.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				if(!init){
+					init = true;
+					return identity;
+				}
+				return next = function.applyAsInt(next, it.nextInt());
+			}
+
+		}, Spliterator.ORDERED),false));
+	}
+
+	public SequenceM<int[]> sliding(int windowSize) {
+		return sliding(windowSize,1);
+	}
+
+	public SequenceM<int[]> sliding(int windowSize, int increment) {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<int[]>(){
+			final int[] buffer = new int[windowSize];
+			int size = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public int[] next() {
+				int drop = Math.min(increment, size);
+				System.arraycopy(buffer, drop, buffer, 0, size-drop);
+				size = size-drop;
+				while(size<windowSize && it.hasNext())
+					buffer[size++] = it.nextInt();
+				return Arrays.copyOf(buffer, size);
+			}
+
+		}),Optional.empty());
+	}
+
+	public SequenceM<SlidingWindow.OfInt> slidingView(int windowSize) {
+		return slidingView(windowSize,1);
+	}
+
+	public SequenceM<SlidingWindow.OfInt> slidingView(int windowSize, int increment) {
+		return StreamUtils.sequenceM(SlidingViewOperator.slidingView(stream.iterator(),windowSize,increment),Optional.empty());
+	}
+
+	public SequenceM<int[]> batchBySize(int size) {
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<int[]>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public int[] next() {
+				int[] batch = new int[size];
+				int i=0;
+				while(i<size && it.hasNext())
+					batch[i++] = it.nextInt();
+				return i==size ? batch : Arrays.copyOf(batch, i);
+			}
+
+		}),Optional.empty());
+	}
+
+	public <R> SequenceM<R> zipWithIndex(IndexedIntFunction<? extends R> zipper) {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<R>(){
+			long index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public R next() {
+				return zipper.apply(it.nextInt(), index++);
+			}
+
+		}),Optional.empty());
+	}
+
+	public <U> SequenceM<U> mapToObj(IntFunction<? extends U> mapper) {
+		return StreamUtils.sequenceM(stream.mapToObj(mapper),reversable);
+	}
+	public LongSequenceM mapToLong(IntToLongFunction mapper) {
+		return new LongSequenceMImpl(stream.mapToLong(mapper),reversable);
+	}
+	public DoubleSequenceM mapToDouble(IntToDoubleFunction mapper) {
+		return new DoubleSequenceMImpl(stream.mapToDouble(mapper),reversable);
+	}
+	public LongSequenceM asLongStream() {
+		return new LongSequenceMImpl(stream.asLongStream(),reversable);
+	}
+	public DoubleSequenceM asDoubleStream() {
+		return new DoubleSequenceMImpl(stream.asDoubleStream(),reversable);
+	}
+
+	public void forEach(IntConsumer action) {
+		stream.forEach(action);
+	}
+	public void forEachOrdered(IntConsumer action) {
+		stream.forEachOrdered(action);
+	}
+	public int[] toArray() {
+		return stream.toArray();
+	}
+	public int reduce(int identity, IntBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+	public OptionalInt reduce(IntBinaryOperator op) {
+		return stream.reduce(op);
+	}
+	public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+	public int sum() {
+		return stream.sum();
+	}
+	public OptionalInt min() {
+		return stream.min();
+	}
+	public OptionalInt max() {
+		return stream.max();
+	}
+	public long count() {
+		return stream.count();
+	}
+	public OptionalDouble average() {
+		return stream.average();
+	}
+	public IntSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+	public boolean anyMatch(IntPredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+	public boolean allMatch(IntPredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+	public boolean noneMatch(IntPredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+	public OptionalInt findFirst() {
+		return stream.findFirst();
+	}
+	public OptionalInt findAny() {
+		return stream.findAny();
+	}
+	public PrimitiveIterator.OfInt iterator() {
+		return stream.iterator();
+	}
+	public Spliterator.OfInt spliterator() {
+		return stream.spliterator();
+	}
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,279 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LongSummaryStatistics;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.sequence.spliterators.ReversableSpliterator;
+import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.operators.SlidingViewOperator;
+
+public class LongSequenceMImpl implements LongSequenceM {
+	private final LongStream stream;
+	private final Optional<ReversableSpliterator> reversable;
+
+	public LongSequenceMImpl(LongStream stream){
+		this.stream = stream;
+		this.reversable = Optional.empty();
+	}
+
+	public LongSequenceMImpl(LongStream stream,ReversableSpliterator rev){
+		this.stream = stream;
+		this.reversable = Optional.of(rev);
+	}
+	LongSequenceMImpl(LongStream stream,Optional<ReversableSpliterator> rev){
+		this.stream = stream;
+		this.reversable = rev;
+	}
+
+	public LongSequenceM map(LongUnaryOperator mapper) {
+		return new LongSequenceMImpl(stream.map(mapper),reversable);
+	}
+	public LongSequenceM filter(LongPredicate predicate) {
+		return new LongSequenceMImpl(stream.filter(predicate),reversable);
+	}
+	public LongSequenceM flatMap(LongFunction<? extends LongStream> mapper) {
+		return new LongSequenceMImpl(stream.flatMap(mapper));
+	}
+	public LongSequenceM peek(LongConsumer action) {
+		return new LongSequenceMImpl(stream.peek(action),reversable);
+	}
+	public LongSequenceM limit(long maxSize) {
+		return new LongSequenceMImpl(stream.limit(maxSize));
+	}
+	public LongSequenceM skip(long n) {
+		return new LongSequenceMImpl(stream.skip(n));
+	}
+	public LongSequenceM distinct() {
+		return new LongSequenceMImpl(stream.distinct());
+	}
+	public LongSequenceM sorted() {
+		return new LongSequenceMImpl(stream.sorted());
+	}
+	public LongSequenceM parallel() {
+		return new LongSequenceMImpl(stream.parallel(),reversable);
+	}
+	public LongSequenceM sequential() {
+		return new LongSequenceMImpl(stream.sequential(),reversable);
+	}
+	public LongSequenceM unordered() {
+		return new LongSequenceMImpl(stream.unordered(),reversable);
+	}
+	public LongSequenceM onClose(Runnable closeHandler) {
+		return new LongSequenceMImpl(stream.onClose(closeHandler),reversable);
+	}
+	public SequenceM<Long> boxed() {
+		return StreamUtils.sequenceM(stream.boxed(),reversable);
+	}
+
+	public LongSequenceM reverse() {
+		if(reversable.isPresent()){
+			reversable.ifPresent(r->r.invert());
+			return this;
+		}
+		long[] values = stream.toArray();
+		for(int i=0,j=values.length-1;i<j;i++,j--){
+			long next = values[i];
+			values[i] = values[j];
+			values[j] = next;
+		}
+		return new LongSequenceMImpl(LongStream.of(values));
+	}
+
+	public LongSequenceM scanLeft(long identity, LongBinaryOperator function) {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return new LongSequenceMImpl(StreamSupport.longStream(Spliterators.spliteratorUnknownSize(new PrimitiveIterator.OfLong(){
+			boolean init = false;
+			long next = identity;
+
+			@Override
+			public boolean hasNext() {
+				if(!init)
+					return true;
+				return it.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				if(!init){
+					init = true;
+					return identity;
+				}
+				return next = function.applyAsLong(next, it.nextLong());
+			}
+
+		}, Spliterator.ORDERED),false));
+	}
+
+	public SequenceM<long[]> sliding(int windowSize) {
+		return sliding(windowSize,1);
+	}
+
+	public SequenceM<long[]> sliding(int windowSize, int increment) {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<long[]>(){
+			final long[] buffer = new long[windowSize];
+			int size = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public long[] next() {
+				int drop = Math.min(increment, size);
+				System.arraycopy(buffer, drop, buffer, 0, size-drop);
+				size = size-drop;
+				while(size<windowSize && it.hasNext())
+					buffer[size++] = it.nextLong();
+				return Arrays.copyOf(buffer, size);
+			}
+
+		}),Optional.empty());
+	}
+
+	public SequenceM<SlidingWindow.OfLong> slidingView(int windowSize) {
+		return slidingView(windowSize,1);
+	}
+
+	public SequenceM<SlidingWindow.OfLong> slidingView(int windowSize, int increment) {
+		return StreamUtils.sequenceM(SlidingViewOperator.slidingView(stream.iterator(),windowSize,increment),Optional.empty());
+	}
+
+	public SequenceM<long[]> batchBySize(int size) {
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<long[]>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public long[] next() {
+				long[] batch = new long[size];
+				int i=0;
+				while(i<size && it.hasNext())
+					batch[i++] = it.nextLong();
+				return i==size ? batch : Arrays.copyOf(batch, i);
+			}
+
+		}),Optional.empty());
+	}
+
+	public <R> SequenceM<R> zipWithIndex(IndexedLongFunction<? extends R> zipper) {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return StreamUtils.sequenceM(StreamUtils.stream(new Iterator<R>(){
+			long index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public R next() {
+				return zipper.apply(it.nextLong(), index++);
+			}
+
+		}),Optional.empty());
+	}
+
+	public <U> SequenceM<U> mapToObj(LongFunction<? extends U> mapper) {
+		return StreamUtils.sequenceM(stream.mapToObj(mapper),reversable);
+	}
+	public IntSequenceM mapToInt(LongToIntFunction mapper) {
+		return new IntSequenceMImpl(stream.mapToInt(mapper),reversable);
+	}
+	public DoubleSequenceM mapToDouble(LongToDoubleFunction mapper) {
+		return new DoubleSequenceMImpl(stream.mapToDouble(mapper),reversable);
+	}
+	public DoubleSequenceM asDoubleStream() {
+		return new DoubleSequenceMImpl(stream.asDoubleStream(),reversable);
+	}
+
+	public void forEach(LongConsumer action) {
+		stream.forEach(action);
+	}
+	public void forEachOrdered(LongConsumer action) {
+		stream.forEachOrdered(action);
+	}
+	public long[] toArray() {
+		return stream.toArray();
+	}
+	public long reduce(long identity, LongBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+	public OptionalLong reduce(LongBinaryOperator op) {
+		return stream.reduce(op);
+	}
+	public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+	public long sum() {
+		return stream.sum();
+	}
+	public OptionalLong min() {
+		return stream.min();
+	}
+	public OptionalLong max() {
+		return stream.max();
+	}
+	public long count() {
+		return stream.count();
+	}
+	public OptionalDouble average() {
+		return stream.average();
+	}
+	public LongSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+	public boolean anyMatch(LongPredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+	public boolean allMatch(LongPredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+	public boolean noneMatch(LongPredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+	public OptionalLong findFirst() {
+		return stream.findFirst();
+	}
+	public OptionalLong findAny() {
+		return stream.findAny();
+	}
+	public PrimitiveIterator.OfLong iterator() {
+		return stream.iterator();
+	}
+	public Spliterator.OfLong spliterator() {
+		return stream.spliterator();
+	}
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+	public void close() {
+		stream.close();
+	}
+}
@@ -1,6 +1,9 @@
 package com.aol.cyclops.sequence;
 
 import java.util.Optional;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.sequence.spliterators.ReversableSpliterator;
@@ -12,4 +15,13 @@ public class SequenceMFactoryImpl implements SequenceMFactory {
 	public <T> SequenceM<T> sequenceM(Stream<T> s,ReversableSpliterator reversable){
 		return StreamUtils.sequenceM(s,Optional.ofNullable(reversable));
 	}
+	public IntSequenceM intSequenceM(IntStream s,ReversableSpliterator reversable){
+		return new IntSequenceMImpl(s,Optional.ofNullable(reversable));
+	}
+	public LongSequenceM longSequenceM(LongStream s,ReversableSpliterator reversable){
+		return new LongSequenceMImpl(s,Optional.ofNullable(reversable));
+	}
+	public DoubleSequenceM doubleSequenceM(DoubleStream s,ReversableSpliterator reversable){
+		return new DoubleSequenceMImpl(s,Optional.ofNullable(reversable));
+	}
 }
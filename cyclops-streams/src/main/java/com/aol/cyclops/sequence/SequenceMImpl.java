@@ -3,6 +3,7 @@ package com.aol.cyclops.sequence;
 import java.io.BufferedReader;
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -86,6 +87,12 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 		return StreamUtils.scheduleFixedRate(this, rate, ex);
 		
 	}
+	public TimedOperations<T> timedOperations(ScheduledExecutorService ex){
+		return timedOperations(TimeSchedulers.timerWheel(ex));
+	}
+	public TimedOperations<T> timedOperations(TimeScheduler scheduler){
+		return StreamUtils.timedOperations(this, scheduler);
+	}
 	
 	@Deprecated
 	public final <R> R unwrap(){
@@ -218,6 +225,18 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 		return tuple.map1(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
 			  	.map2(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())));
 	}
+	/**
+	 * Duplicate a Stream, the leading copy may be at most maxBuffer elements ahead of the other
+	 * 
+	 * @param maxBuffer Maximum number of buffered elements
+	 * @param policy BLOCK or ERROR
+	 * @return duplicated stream
+	 */
+	public final Tuple2<SequenceM<T>,SequenceM<T>> duplicateSequence(long maxBuffer, OverflowPolicy policy){
+		Tuple2<Stream<T>,Stream<T>> tuple = StreamUtils.duplicate(stream,maxBuffer,policy);
+		return tuple.map1(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+			  	.map2(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())));
+	}
 	/**
 	 * Triplicates a Stream
 	 * Buffers intermediate values, leaders may change positions so a limit
@@ -382,7 +401,7 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	 * @return
 	 */
 	public final <R> SequenceM<R> cycle(Class<R> monadC, int times) {
-		return (SequenceMImpl)cycle(times).map(r -> new ComprehenderSelector().selectComprehender(monadC).of(r));	
+		return (SequenceMImpl)cycle(times).map(r -> ComprehenderSelector.instance().selectComprehender(monadC).of(r));	
 	}
 
 	/**
@@ -604,6 +623,25 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	public final SequenceM<List<T>> sliding(int windowSize,int increment) {
 		return StreamUtils.sequenceM(StreamUtils.sliding(stream,windowSize,increment),reversable);
 	}
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer
+	 * 
+	 * @param windowSize Size of sliding window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	public final SequenceM<SlidingWindow<T>> slidingView(int windowSize) {
+		return StreamUtils.sequenceM(StreamUtils.slidingView(stream,windowSize),reversable);
+	}
+	/**
+	 * Create a sliding view over this Sequence, backed by a single circular buffer
+	 * 
+	 * @param windowSize number of elements in each window
+	 * @param increment for each window
+	 * @return SequenceM of SlidingWindow views
+	 */
+	public final SequenceM<SlidingWindow<T>> slidingView(int windowSize,int increment) {
+		return StreamUtils.sequenceM(StreamUtils.slidingView(stream,windowSize,increment),reversable);
+	}
 
 	/**
 	 * Group elements in a Stream
@@ -839,11 +877,11 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 		return StreamUtils.sequenceM(StreamUtils.limitUntil(stream,p),reversable);
 	}
 	/**
-	 * @return does nothing - returns this
+	 * @return Parallel SequenceM, executing on the underlying JDK parallel Stream
 	 * 	
 	 */
 	public final SequenceM<T> parallel(){
-		return this;
+		return StreamUtils.sequenceM(stream.stream().parallel(),reversable);
 	}
 	
 	/**
@@ -1408,6 +1446,12 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	public final <R> SequenceM<R> flatMapCompletableFuture(Function<? super T,CompletableFuture<? extends R>> fn) {
 		return StreamUtils.sequenceM(StreamUtils.flatMapCompletableFuture(stream,fn),reversable);
 	}
+	public final <R> SequenceM<R> mapAsync(Function<? super T,CompletableFuture<? extends R>> fn,int maxInFlight) {
+		return StreamUtils.sequenceM(StreamUtils.mapAsync(stream,fn,maxInFlight),reversable);
+	}
+	public final <R> SequenceM<R> mapAsyncUnordered(Function<? super T,CompletableFuture<? extends R>> fn,int maxInFlight) {
+		return StreamUtils.sequenceM(StreamUtils.mapAsyncUnordered(stream,fn,maxInFlight),reversable);
+	}
 	
 	
 	/**
@@ -1520,11 +1564,11 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	}
 	
 	public boolean isParallel() {
-		return stream.isParallel();
+		return stream.stream().isParallel();
 	}
 	
 	public SequenceM<T> sequential() {
-		return StreamUtils.sequenceM(stream.sequential(),reversable);
+		return StreamUtils.sequenceM(stream.stream().sequential(),reversable);
 	}
 	
 	
@@ -1676,13 +1720,11 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	
 	@Override
 	public SequenceM<T> onClose(Runnable closeHandler) {
-		
-		return this;
+		return StreamUtils.sequenceM(stream.onClose(closeHandler),reversable);
 	}
 	@Override
 	public void close() {
-		
-		
+		stream.close();
 	}
 
 	public SequenceM<T> shuffle() {
@@ -1833,6 +1875,48 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	public HotStream<T> hotStream(Executor e) {
 		return StreamUtils.hotStream(stream, e);
 	}
+	@Override
+	public SequenceM<T> async(Executor exec, int queueCapacity) {
+		return async(exec,queueCapacity,IdleStrategies.backoff(),IdleStrategies.backoff());
+	}
+	@Override
+	public SequenceM<T> async(Executor exec, int queueCapacity, IdleStrategy producerIdle, IdleStrategy consumerIdle) {
+		return StreamUtils.sequenceM(StreamUtils.async(stream,exec,queueCapacity,producerIdle,consumerIdle),reversable);
+	}
+	@Override
+	public <K,R> SequenceM<R> partitionedParallel(Function<? super T,? extends K> keyFn, int lanes, Executor exec,
+													Function<? super SequenceM<T>,? extends Stream<R>> laneFn) {
+		return partitionedParallel(keyFn,lanes,exec,256,laneFn);
+	}
+	@Override
+	public <K,R> SequenceM<R> partitionedParallel(Function<? super T,? extends K> keyFn, int lanes, Executor exec, int queueCapacity,
+													Function<? super SequenceM<T>,? extends Stream<R>> laneFn) {
+		return StreamUtils.partitionedParallel(stream,keyFn,lanes,exec,queueCapacity,laneFn);
+	}
+	@Override
+	@SafeVarargs
+	public final SequenceM<T> merge(Executor exec, Stream<? extends T>... others) {
+		return merge(exec,Arrays.asList(others));
+	}
+	@Override
+	public SequenceM<T> merge(Executor exec, List<? extends Stream<? extends T>> others) {
+		return StreamUtils.sequenceM(StreamUtils.merge(withOthers(others),exec,256),Optional.empty());
+	}
+	@Override
+	@SafeVarargs
+	public final SequenceM<T> mergeByPriority(Executor exec, Stream<? extends T>... others) {
+		return mergeByPriority(exec,Arrays.asList(others));
+	}
+	@Override
+	public SequenceM<T> mergeByPriority(Executor exec, List<? extends Stream<? extends T>> others) {
+		return StreamUtils.sequenceM(StreamUtils.mergeByPriority(withOthers(others),exec,256),Optional.empty());
+	}
+	private List<Stream<? extends T>> withOthers(List<? extends Stream<? extends T>> others){
+		List<Stream<? extends T>> sources = new ArrayList<>(others.size()+1);
+		sources.add(stream);
+		sources.addAll(others);
+		return sources;
+	}
 
 
 	@Override
@@ -1888,6 +1972,38 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 			BiPredicate<T, U> predicate) {
 		return StreamUtils.sequenceM(stream.rightOuterJoin(other, predicate),reversable);
 	}
+	@Override
+	public <U,K> SequenceM<Tuple2<T, U>> innerJoin(Stream<U> other, Function<? super T,? extends K> key,
+													Function<? super U,? extends K> otherKey) {
+		return StreamUtils.sequenceM(StreamUtils.innerJoin(stream,other,key,otherKey),Optional.empty());
+	}
+	@Override
+	public <U,K> SequenceM<Tuple2<T, U>> leftOuterJoin(Stream<U> other, Function<? super T,? extends K> key,
+														Function<? super U,? extends K> otherKey) {
+		return StreamUtils.sequenceM(StreamUtils.leftOuterJoin(stream,other,key,otherKey),Optional.empty());
+	}
+	@Override
+	public <U,K> SequenceM<Tuple2<T, U>> fullOuterJoin(Stream<U> other, Function<? super T,? extends K> key,
+														Function<? super U,? extends K> otherKey) {
+		return StreamUtils.sequenceM(StreamUtils.fullOuterJoin(stream,other,key,otherKey),Optional.empty());
+	}
+	@Override
+	public <U,K extends Comparable<? super K>> SequenceM<Tuple2<T, U>> sortMergeJoin(Stream<U> other, Function<? super T,? extends K> key,
+																					Function<? super U,? extends K> otherKey) {
+		return StreamUtils.sequenceM(StreamUtils.sortMergeJoin(stream,other,key,otherKey),Optional.empty());
+	}
+	@Override
+	public SequenceM<T> externalSorted(Comparator<? super T> c, SpillOptions<T> options) {
+		return StreamUtils.sequenceM(StreamUtils.externalSorted(stream,c,options),Optional.empty());
+	}
+	@Override
+	public <K> SequenceM<Tuple2<K, List<T>>> externalGroupBy(Function<? super T, ? extends K> classifier, SpillOptions<T> options) {
+		return StreamUtils.sequenceM(StreamUtils.externalGroupBy(stream,classifier,options),Optional.empty());
+	}
+	@Override
+	public SequenceM<T> externalDistinct(SpillOptions<T> options) {
+		return StreamUtils.sequenceM(StreamUtils.externalDistinct(stream,options),Optional.empty());
+	}
 
 
 	@Override
@@ -0,0 +1,106 @@
+package com.aol.cyclops.streams;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.sequence.BatchedHotStream;
+import com.aol.cyclops.sequence.TimeScheduler;
+
+/**
+ * A HotStream of batches of the elements published by another HotStream.
+ *
+ * Elements are added to the open batch on the upstream publishing thread. The first element of each batch schedules a
+ * flush timer, if the batch fills up first the timer finds it already flushed and does nothing. Flushes (from either
+ * thread) are made while holding this batcher's lock, so downstream connections still see a single producer at a time.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the upstream HotStream
+ * @param <C> Collection each batch is built in
+ * @param <R> Batch type emitted
+ */
+class BatchedHotStreamImpl<T,C extends Collection<? super T>,R> extends HotStreamImpl<R> implements BatchedHotStream<R> {
+
+	private final int size;
+	private final long nanos;
+	private final TimeScheduler scheduler;
+	private final Supplier<C> factory;
+	private final Function<? super C,? extends R> finisher;
+	private final Map<FlushCause,LongAdder> flushes = new EnumMap<>(FlushCause.class);
+	private C batch;
+	private long batchId = 0;
+
+	BatchedHotStreamImpl(int size, long time, TimeUnit unit, TimeScheduler scheduler, Supplier<C> factory,
+											Function<? super C,? extends R> finisher){
+		super(Stream.empty());
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		this.size = size;
+		this.nanos = unit.toNanos(time);
+		this.scheduler = scheduler;
+		this.factory = factory;
+		this.finisher = finisher;
+		for(FlushCause cause : FlushCause.values())
+			flushes.put(cause,new LongAdder());
+	}
+
+	/**
+	 * Batch the elements published by the supplied HotStream from now on
+	 */
+	BatchedHotStreamImpl<T,C,R> batch(HotStreamImpl<T> upstream){
+		upstream.forEach(this::add)
+				.whenComplete((done,error)->{
+					if(error==null)
+						onComplete();
+					else
+						onError(error);
+				});
+		return this;
+	}
+
+	@Override
+	public long flushes(FlushCause cause) {
+		return flushes.get(cause).sum();
+	}
+
+	private synchronized void add(T next){
+		if(batch==null){
+			batch = factory.get();
+			long id = ++batchId;
+			scheduler.schedule(()->onTimeout(id),nanos,TimeUnit.NANOSECONDS);
+		}
+		batch.add(next);
+		if(batch.size()>=size)
+			flush(FlushCause.SIZE);
+	}
+
+	private synchronized void onTimeout(long id){
+		if(batch!=null && batchId==id)
+			flush(FlushCause.TIME);
+	}
+
+	private synchronized void onComplete(){
+		if(batch!=null)
+			flush(FlushCause.COMPLETE);
+		complete();
+	}
+
+	private synchronized void onError(Throwable t){
+		if(batch!=null)
+			flush(FlushCause.COMPLETE);
+		fail(t);
+	}
+
+	private void flush(FlushCause cause){
+		C ready = batch;
+		batch = null;
+		flushes.get(cause).increment();
+		publish(finisher.apply(ready));
+	}
+}
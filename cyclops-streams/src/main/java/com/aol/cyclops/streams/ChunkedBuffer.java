@@ -0,0 +1,164 @@
+package com.aol.cyclops.streams;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.OverflowPolicy;
+
+/**
+ * Array backed buffer shared by several copies of an Iterator.
+ *
+ * Values are written once, into fixed size chunks, and each copy reads them through its own cursor. A chunk is only
+ * referenced by the cursors that have not yet moved past it, so it can be garbage collected once every copy has.
+ * Reads and writes are O(1) per element.
+ *
+ * If maxBuffer is set, the leading copy may not get more than maxBuffer elements ahead of the slowest (unfinished) copy.
+ * With OverflowPolicy.BLOCK the leader waits for the laggard (copies must be consumed on different threads), with
+ * OverflowPolicy.ERROR it throws an IllegalStateException.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the elements
+ */
+class ChunkedBuffer<T> {
+
+	static final int CHUNK_SIZE = 128;
+
+	private final Iterator<T> source;
+	private final long maxBuffer;
+	private final OverflowPolicy policy;
+	private final List<Cursor> cursors = new ArrayList<>();
+	private Chunk tail = new Chunk();
+	private int tailIndex = 0;
+	private long produced = 0;
+
+	ChunkedBuffer(Iterator<T> source){
+		this(source,Long.MAX_VALUE,OverflowPolicy.ERROR);
+	}
+	ChunkedBuffer(Iterator<T> source, long maxBuffer, OverflowPolicy policy){
+		if(maxBuffer<1)
+			throw new IllegalArgumentException("Max buffer size must be 1 or more");
+		if(policy!=OverflowPolicy.BLOCK && policy!=OverflowPolicy.ERROR)
+			throw new IllegalArgumentException("Copies of a Stream support BLOCK and ERROR overflow policies only, not " + policy);
+		this.source = source;
+		this.maxBuffer = maxBuffer;
+		this.policy = policy;
+	}
+
+	/**
+	 * @return A new copy, starting from the first element
+	 */
+	Iterator<T> copy(){
+		return copy(Long.MAX_VALUE);
+	}
+	/**
+	 * @param limit Maximum number of elements this copy will return, once reached it no longer holds back the buffer
+	 * @return A new copy, starting from the first element
+	 */
+	synchronized Iterator<T> copy(long limit){
+		if(produced>0)
+			throw new IllegalStateException("Copies must be created before the buffer is read");
+		Cursor cursor = new Cursor(tail,limit);
+		cursors.add(cursor);
+		return cursor;
+	}
+
+	private synchronized boolean hasNext(Cursor cursor){
+		if(cursor.position<cursor.limit && (cursor.position<produced || source.hasNext()))
+			return true;
+		finish(cursor);
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized T next(Cursor cursor){
+		if(cursor.position>=cursor.limit){
+			finish(cursor);
+			throw new NoSuchElementException();
+		}
+		while(cursor.position==produced)
+			pull();
+		T next = (T)cursor.chunk.values[cursor.index];
+		cursor.position++;
+		if(++cursor.index==CHUNK_SIZE){
+			cursor.chunk = cursor.chunk.next;
+			cursor.index = 0;
+		}
+		if(maxBuffer!=Long.MAX_VALUE)
+			notifyAll();
+		return next;
+	}
+
+	/**
+	 * Read the next element from the source into the buffer, or if the buffer is full wait until a laggard
+	 * moves on (another copy may have read the next element by then)
+	 */
+	private void pull(){
+		if(maxBuffer!=Long.MAX_VALUE && produced-laggard()>=maxBuffer){
+			if(policy==OverflowPolicy.ERROR)
+				throw new IllegalStateException("Stream copy buffer exceeded max size of " + maxBuffer + " elements");
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				ExceptionSoftener.throwSoftenedException(e);
+			}
+			return;
+		}
+		tail.values[tailIndex] = source.next();
+		produced++;
+		if(++tailIndex==CHUNK_SIZE){
+			tail.next = new Chunk();
+			tail = tail.next;
+			tailIndex = 0;
+		}
+	}
+
+	private long laggard(){
+		long min = produced;
+		for(Cursor next : cursors){
+			if(!next.finished)
+				min = Math.min(min,next.position);
+		}
+		return min;
+	}
+
+	private void finish(Cursor cursor){
+		if(cursor.finished)
+			return;
+		cursor.finished = true;
+		cursor.chunk = null;
+		notifyAll();
+	}
+
+	private static class Chunk{
+		final Object[] values = new Object[CHUNK_SIZE];
+		Chunk next;
+	}
+
+	private class Cursor implements Iterator<T>{
+		private final long limit;
+		private Chunk chunk;
+		private int index = 0;
+		private long position = 0;
+		private boolean finished = false;
+
+		Cursor(Chunk chunk, long limit){
+			this.chunk = chunk;
+			this.limit = limit;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return ChunkedBuffer.this.hasNext(this);
+		}
+
+		@Override
+		public T next() {
+			return ChunkedBuffer.this.next(this);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.aol.cyclops.streams;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.sequence.HotStreamConnection;
+import com.aol.cyclops.sequence.IdleStrategy;
+import com.aol.cyclops.sequence.OverflowPolicy;
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.streams.spliterators.ClosingSpliterator;
+
+/**
+ * A HotStream connection, elements are offered by the HotStream's producing thread and consumed via the connection's Stream
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the HotStream
+ */
+class HotStreamConnectionImpl<T> implements HotStreamConnection<T> {
+
+	private final Queue<T> queue;
+	private final OverflowPolicy policy;
+	private final IdleStrategy idle;
+	private final Consumer<HotStreamConnectionImpl<T>> onDisconnect;
+	private final AtomicBoolean open = new AtomicBoolean(true);
+	private final AtomicReference<RuntimeException> error = new AtomicReference<>();
+	private final LongAdder received = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final SequenceM<T> stream;
+
+	HotStreamConnectionImpl(Queue<T> queue, OverflowPolicy policy,IdleStrategy idle,Consumer<HotStreamConnectionImpl<T>> onDisconnect){
+		this.queue = queue;
+		this.policy = policy;
+		this.idle = idle;
+		this.onDisconnect = onDisconnect;
+		this.stream = StreamUtils.sequenceM(StreamSupport.stream(
+                new ClosingSpliterator<T>(Long.MAX_VALUE, queue,open,error,idle), false),Optional.empty());
+	}
+
+	/**
+	 * Offer the next element to this connection, applying the OverflowPolicy if the queue is full.
+	 * Only called from the HotStream's producing thread.
+	 *
+	 * @param next Element to queue
+	 */
+	void offer(T next){
+		if(queue.offer(next)){
+			received.increment();
+			idle.signal();
+			return;
+		}
+		switch(policy){
+			case BLOCK:
+				long nanos = 1l;
+				while(open.get()){
+					LockSupport.parkNanos(nanos);
+					if(queue.offer(next)){
+						received.increment();
+						idle.signal();
+						return;
+					}
+					nanos = Math.min(nanos*2,1_000_000l);
+				}
+				dropped.increment();
+				return;
+			case DROP_OLDEST:
+				while(!queue.offer(next)){
+					if(queue.poll()!=null)
+						dropped.increment();
+				}
+				received.increment();
+				idle.signal();
+				return;
+			case DROP_NEWEST:
+				dropped.increment();
+				return;
+			case ERROR:
+				dropped.increment();
+				error.compareAndSet(null,new IllegalStateException("HotStream connection queue overflowed after "
+																		+ received.sum() + " elements"));
+				disconnect();
+		}
+	}
+
+	/**
+	 * The HotStream has no further elements
+	 */
+	void complete(){
+		open.set(false);
+		idle.signal();
+	}
+
+	/**
+	 * The HotStream failed, the error is thrown to the consumer once queued elements are drained
+	 */
+	void fail(Throwable t){
+		error.compareAndSet(null,t instanceof RuntimeException ? (RuntimeException)t : new RuntimeException(t));
+		complete();
+	}
+
+	@Override
+	public SequenceM<T> stream() {
+		return stream;
+	}
+
+	@Override
+	public void disconnect() {
+		if(open.compareAndSet(true, false)){
+			onDisconnect.accept(this);
+			idle.signal();
+		}
+	}
+
+	@Override
+	public boolean isConnected() {
+		return open.get();
+	}
+
+	@Override
+	public OverflowPolicy getOverflowPolicy() {
+		return policy;
+	}
+
+	@Override
+	public long lag() {
+		return queue.size();
+	}
+
+	@Override
+	public long received() {
+		return received.sum();
+	}
+
+	@Override
+	public long dropped() {
+		return dropped.sum();
+	}
+
+}
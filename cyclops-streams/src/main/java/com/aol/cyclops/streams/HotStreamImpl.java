@@ -1,33 +1,47 @@
 package com.aol.cyclops.streams;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
-import java.util.Optional;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
+import uk.co.real_logic.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import com.aol.cyclops.invokedynamic.ExceptionSoftener;
 import com.aol.cyclops.scheduling.util.cron.CronExpression;
+import com.aol.cyclops.sequence.BatchedHotStream;
 import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.HotStreamConnection;
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.IdleStrategy;
+import com.aol.cyclops.sequence.OverflowPolicy;
 import com.aol.cyclops.sequence.SequenceM;
-import com.aol.cyclops.streams.spliterators.ClosingSpliterator;
+import com.aol.cyclops.sequence.TimeScheduler;
+import com.aol.cyclops.sequence.streamable.Streamable;
 
 public class HotStreamImpl<T> implements HotStream<T>{
 
 	private final Stream<T> stream;
-	private final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(10);
+	@SuppressWarnings("unchecked")
+	private final AtomicReference<HotStreamConnectionImpl<T>[]> connections = new AtomicReference<>(new HotStreamConnectionImpl[0]);
+	private final CopyOnWriteArrayList<Listener<T>> listeners = new CopyOnWriteArrayList<>();
 	private final AtomicBoolean open =new AtomicBoolean(true);
-	private volatile int connected=0;
 	
 	public HotStreamImpl(Stream<T> stream){
 		this.stream = stream;	
@@ -50,12 +64,7 @@ public class HotStreamImpl<T> implements HotStream<T>{
 					try{
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-							connections.get(i).offer(next);
-						}
+						publish(next);
 						
 					}
 					finally{
@@ -64,7 +73,7 @@ public class HotStreamImpl<T> implements HotStream<T>{
 						
 					}
 				 }else{
-					 open.set(false);
+					 complete();
 				 }
 			}
 		}, delay, TimeUnit.MILLISECONDS);
@@ -80,16 +89,11 @@ public class HotStreamImpl<T> implements HotStream<T>{
 					
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-							connections.get(i).offer(next);
-						}
+						publish(next);
 						
 					
 				}else{
-					 open.set(false);
+					 complete();
 				 }
 			 }
 		}, delay,delay,TimeUnit.MILLISECONDS);
@@ -105,16 +109,11 @@ public class HotStreamImpl<T> implements HotStream<T>{
 					
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-							connections.get(i).offer(next);
-						}
+						publish(next);
 						
 					
 				}else{
-					 open.set(false);
+					 complete();
 				 }
 			 }
 		}, 0,rate,TimeUnit.MILLISECONDS);
@@ -124,21 +123,13 @@ public class HotStreamImpl<T> implements HotStream<T>{
 	
 	public HotStream<T> init(Executor exec){
 		CompletableFuture.runAsync( ()-> {
-			
-			stream.forEach(a->{
-					int local = connected;
-					
-					for(int i=0;i<local;i++){
-					
-						connections.get(i).offer(a);
-					}
-					
-					
-				});
-				
-				open.set(false); 
-				
-					
+			try{
+				stream.forEach(a->publish(a));
+			}catch(Throwable t){
+				fail(t);
+				return;
+			}
+			complete();
 		},exec);
 		return this;
 	}
@@ -149,10 +140,154 @@ public class HotStreamImpl<T> implements HotStream<T>{
 	
 	@Override
 	public SequenceM<T> connect(Queue<T> queue) {
-		connections.getAndSet(connected, queue);
-		connected++;
-		return StreamUtils.sequenceM(StreamSupport.stream(
-                new ClosingSpliterator(Long.MAX_VALUE, queue,open), false),Optional.empty());
+		return connect(queue,IdleStrategies.backoff());
+	}
+	
+	@Override
+	public SequenceM<T> connect(Queue<T> queue,IdleStrategy idle) {
+		return subscribe(queue,OverflowPolicy.DROP_NEWEST,idle).stream();
+	}
+	
+	@Override
+	public HotStreamConnection<T> subscribe(OverflowPolicy policy){
+		if(policy==OverflowPolicy.DROP_OLDEST) //producer also polls from the queue
+			return subscribe(new ManyToManyConcurrentArrayQueue<T>(256),policy);
+		return subscribe(new OneToOneConcurrentArrayQueue<T>(256),policy);
+	}
+	
+	@Override
+	public HotStreamConnection<T> subscribe(Queue<T> queue,OverflowPolicy policy) {
+		return subscribe(queue,policy,IdleStrategies.backoff());
+	}
+	
+	@Override
+	public HotStreamConnection<T> subscribe(Queue<T> queue,OverflowPolicy policy,IdleStrategy idle) {
+		HotStreamConnectionImpl<T> connection = new HotStreamConnectionImpl<>(queue,policy,idle,this::remove);
+		HotStreamConnectionImpl<T>[] current;
+		HotStreamConnectionImpl<T>[] updated;
+		do{
+			current = connections.get();
+			updated = Arrays.copyOf(current, current.length+1);
+			updated[current.length] = connection;
+		}while(!connections.compareAndSet(current, updated));
+		if(!open.get()) //completed while connecting
+			connection.complete();
+		return connection;
+	}
+	
+	@Override
+	public CompletableFuture<Void> forEach(Consumer<? super T> consumer){
+		Listener<T> listener = new Listener<>(consumer);
+		listeners.add(listener);
+		if(!open.get()) //completed while connecting
+			listener.done.complete(null);
+		return listener.done;
+	}
+	
+	@Override
+	public BatchedHotStream<List<T>> batchBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler){
+		return batchBySizeAndTime(size,time,unit,scheduler,()->new ArrayList<>());
+	}
+	
+	@Override
+	public <C extends Collection<? super T>> BatchedHotStream<C> batchBySizeAndTime(int size, long time, TimeUnit unit,
+																TimeScheduler scheduler, Supplier<C> factory){
+		return new BatchedHotStreamImpl<T,C,C>(size,time,unit,scheduler,factory,Function.identity()).batch(this);
+	}
+	
+	@Override
+	public BatchedHotStream<List<T>> batchByTime(long time, TimeUnit unit, TimeScheduler scheduler){
+		return batchBySizeAndTime(Integer.MAX_VALUE,time,unit,scheduler);
+	}
+	
+	@Override
+	public BatchedHotStream<Streamable<T>> windowBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler){
+		return new BatchedHotStreamImpl<T,List<T>,Streamable<T>>(size,time,unit,scheduler,()->new ArrayList<>(),
+																Streamable::fromIterable).batch(this);
+	}
+	
+	@Override
+	public BatchedHotStream<Streamable<T>> windowByTime(long time, TimeUnit unit, TimeScheduler scheduler){
+		return windowBySizeAndTime(Integer.MAX_VALUE,time,unit,scheduler);
+	}
+	
+	@Override
+	@SafeVarargs
+	public final HotStream<T> merge(HotStream<? extends T>... others){
+		return merge(Arrays.asList(others));
+	}
+	
+	@Override
+	public HotStream<T> merge(List<? extends HotStream<? extends T>> others){
+		HotStreamImpl<T> merged = new HotStreamImpl<>(Stream.empty());
+		List<HotStream<? extends T>> sources = new ArrayList<>(others.size()+1);
+		sources.add(this);
+		sources.addAll(others);
+		AtomicInteger remaining = new AtomicInteger(sources.size());
+		AtomicBoolean running = new AtomicBoolean(true);
+		for(HotStream<? extends T> source : sources){
+			source.forEach(next->{
+				synchronized(merged){ //connection queues have a single producer
+					if(running.get())
+						merged.publish(next);
+				}
+			}).whenComplete((v,t)->{
+				synchronized(merged){
+					if(t!=null && running.compareAndSet(true, false))
+						merged.fail(t);
+					else if(t==null && remaining.decrementAndGet()==0 && running.compareAndSet(true, false))
+						merged.complete();
+				}
+			});
+		}
+		return merged;
+	}
+	
+	@Override
+	public int connections(){
+		return connections.get().length;
+	}
+	
+	private void remove(HotStreamConnectionImpl<T> connection){
+		HotStreamConnectionImpl<T>[] current;
+		HotStreamConnectionImpl<T>[] updated;
+		do{
+			current = connections.get();
+			int index = Arrays.asList(current).indexOf(connection);
+			if(index==-1)
+				return;
+			updated = Arrays.copyOf(current, current.length-1);
+			System.arraycopy(current, index+1, updated, index, current.length-index-1);
+		}while(!connections.compareAndSet(current, updated));
+	}
+	
+	void publish(T next){
+		for(HotStreamConnectionImpl<T> connection : connections.get())
+			connection.offer(next);
+		for(Listener<T> listener : listeners){
+			try{
+				listener.consumer.accept(next);
+			}catch(Throwable t){
+				listeners.remove(listener);
+				listener.done.completeExceptionally(t);
+			}
+		}
+	}
+	
+	void complete(){
+		open.set(false);
+		for(HotStreamConnectionImpl<T> connection : connections.get())
+			connection.complete();
+		for(Listener<T> listener : listeners)
+			listener.done.complete(null);
+	}
+	
+	void fail(Throwable t){
+		open.set(false);
+		for(HotStreamConnectionImpl<T> connection : connections.get())
+			connection.fail(t);
+		for(Listener<T> listener : listeners)
+			listener.done.completeExceptionally(t);
 	}
 
 	@Override
@@ -160,4 +295,12 @@ public class HotStreamImpl<T> implements HotStream<T>{
 		return to.apply(connect(queue));
 	}
 	
+	private static class Listener<T>{
+		final Consumer<? super T> consumer;
+		final CompletableFuture<Void> done = new CompletableFuture<>();
+		
+		Listener(Consumer<? super T> consumer){
+			this.consumer = consumer;
+		}
+	}
 }
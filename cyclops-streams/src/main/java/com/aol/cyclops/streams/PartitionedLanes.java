@@ -0,0 +1,122 @@
+package com.aol.cyclops.streams;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import com.aol.cyclops.sequence.HotStreamConnection;
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.OverflowPolicy;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Routes the elements of a Stream to a fixed number of lanes by key, runs a pipeline per lane and merges the results.
+ *
+ * Each lane is a HotStream with a single bounded connection (OverflowPolicy.BLOCK), so the routing thread waits when
+ * a lane falls behind. Lane results are published to a merged HotStream one at a time. Elements with equal keys always
+ * go to the same lane, so their relative order is kept as long as the lane pipeline keeps it.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the Stream
+ */
+class PartitionedLanes<T> {
+
+	private final Stream<T> stream;
+
+	PartitionedLanes(Stream<T> stream){
+		this.stream = stream;
+	}
+
+	<K,R> SequenceM<R> run(Function<? super T,? extends K> keyFn, int lanes, Executor exec, int queueCapacity,
+							Function<? super SequenceM<T>,? extends Stream<R>> laneFn){
+		if(lanes<1)
+			throw new IllegalArgumentException("Number of lanes must be 1 or more");
+		if(queueCapacity<1)
+			throw new IllegalArgumentException("Queue capacity must be 1 or more");
+		AtomicBoolean running = new AtomicBoolean(true);
+		HotStreamImpl<R> merged = new HotStreamImpl<>(Stream.empty());
+		HotStreamConnection<R> output = merged.subscribe(new OneToOneConcurrentArrayQueue<R>(queueCapacity),
+															OverflowPolicy.BLOCK,IdleStrategies.backoff());
+		@SuppressWarnings("unchecked")
+		HotStreamImpl<T>[] inputs = new HotStreamImpl[lanes];
+		@SuppressWarnings("unchecked")
+		HotStreamConnection<T>[] connections = new HotStreamConnection[lanes];
+		for(int i=0;i<lanes;i++){
+			inputs[i] = new HotStreamImpl<>(Stream.empty());
+			connections[i] = inputs[i].subscribe(new OneToOneConcurrentArrayQueue<T>(queueCapacity),
+													OverflowPolicy.BLOCK,IdleStrategies.backoff());
+		}
+		AtomicInteger remaining = new AtomicInteger(lanes);
+		for(HotStreamConnection<T> connection : connections){
+			CompletableFuture.runAsync(()->{
+				try{
+					laneFn.apply(connection.stream()).forEach(next->{
+						synchronized(merged){ //the output queue has a single producer
+							if(running.get())
+								merged.publish(next);
+						}
+					});
+				}catch(Throwable t){
+					fail(merged,running,t);
+					disconnect(connections);
+				}finally{
+					connection.disconnect(); //unblocks the router if the lane stopped early
+					if(remaining.decrementAndGet()==0)
+						complete(merged,running);
+				}
+			},exec);
+		}
+		CompletableFuture.runAsync(()->{
+			try{
+				Iterator<T> it = stream.iterator();
+				while(running.get() && it.hasNext()){
+					T next = it.next();
+					inputs[lane(keyFn.apply(next),lanes)].publish(next);
+				}
+			}catch(Throwable t){
+				fail(merged,running,t);
+				disconnect(connections);
+			}finally{
+				for(HotStreamImpl<T> input : inputs)
+					input.complete();
+			}
+		},exec);
+		return output.stream().onClose(()->{
+			running.set(false);
+			output.disconnect();
+			disconnect(connections);
+		});
+	}
+
+	private static <T> void disconnect(HotStreamConnection<T>[] connections){
+		for(HotStreamConnection<T> connection : connections)
+			connection.disconnect();
+	}
+
+	private static <R> void complete(HotStreamImpl<R> merged, AtomicBoolean running){
+		synchronized(merged){
+			if(running.compareAndSet(true, false))
+				merged.complete();
+		}
+	}
+
+	private static <R> void fail(HotStreamImpl<R> merged, AtomicBoolean running, Throwable t){
+		synchronized(merged){
+			if(running.compareAndSet(true, false))
+				merged.fail(t);
+		}
+	}
+
+	static int lane(Object key, int lanes){
+		int hash = Objects.hashCode(key);
+		return Math.floorMod(hash ^ (hash>>>16),lanes);
+	}
+}
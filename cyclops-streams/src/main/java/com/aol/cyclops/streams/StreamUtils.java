@@ -35,7 +35,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.UtilityClass;
 
@@ -53,24 +52,35 @@ import com.aol.cyclops.invokedynamic.ExceptionSoftener;
 import com.aol.cyclops.monad.AnyM;
 import com.aol.cyclops.sequence.HeadAndTail;
 import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.IdleStrategy;
 import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.OverflowPolicy;
 import com.aol.cyclops.sequence.ReversedIterator;
 import com.aol.cyclops.sequence.SeqUtils;
 import com.aol.cyclops.sequence.SequenceM;
 import com.aol.cyclops.sequence.SequenceMImpl;
+import com.aol.cyclops.sequence.SlidingWindow;
+import com.aol.cyclops.sequence.SpillOptions;
+import com.aol.cyclops.sequence.TimeScheduler;
+import com.aol.cyclops.sequence.TimedOperations;
 import com.aol.cyclops.sequence.future.FutureOperations;
 import com.aol.cyclops.sequence.spliterators.ReversableSpliterator;
 import com.aol.cyclops.sequence.streamable.AsStreamable;
 import com.aol.cyclops.sequence.streamable.Streamable;
 import com.aol.cyclops.streams.future.FutureOperationsImpl;
+import com.aol.cyclops.streams.operators.AsyncBoundaryOperator;
 import com.aol.cyclops.streams.operators.BatchBySizeOperator;
 import com.aol.cyclops.streams.operators.BatchByTimeAndSizeOperator;
 import com.aol.cyclops.streams.operators.BatchByTimeOperator;
 import com.aol.cyclops.streams.operators.BatchWhileOperator;
 import com.aol.cyclops.streams.operators.DebounceOperator;
+import com.aol.cyclops.streams.operators.ExternalOperator;
+import com.aol.cyclops.streams.operators.JoinOperator;
 import com.aol.cyclops.streams.operators.LimitLastOperator;
 import com.aol.cyclops.streams.operators.LimitWhileOperator;
 import com.aol.cyclops.streams.operators.LimitWhileTimeOperator;
+import com.aol.cyclops.streams.operators.MapAsyncOperator;
+import com.aol.cyclops.streams.operators.MergeOperator;
 import com.aol.cyclops.streams.operators.MultiCollectOperator;
 import com.aol.cyclops.streams.operators.MultiReduceOperator;
 import com.aol.cyclops.streams.operators.OnePerOperator;
@@ -78,6 +88,7 @@ import com.aol.cyclops.streams.operators.RecoverOperator;
 import com.aol.cyclops.streams.operators.SkipLastOperator;
 import com.aol.cyclops.streams.operators.SkipWhileOperator;
 import com.aol.cyclops.streams.operators.SkipWhileTimeOperator;
+import com.aol.cyclops.streams.operators.SlidingViewOperator;
 import com.aol.cyclops.streams.operators.WindowByTimeAndSizeOperator;
 import com.aol.cyclops.streams.operators.WindowStatefullyWhileOperator;
 import com.aol.cyclops.streams.operators.WindowWhileOperator;
@@ -391,6 +402,24 @@ public class StreamUtils{
 	public static <T> HotStream<T> scheduleFixedRate(Stream<T> stream,long rate,ScheduledExecutorService ex){
 		return new HotStreamImpl(stream).scheduleFixedRate(rate,ex);
 	}
+	/**
+	 * Non-blocking time based operators, elements are published to a HotStream by tasks run on the supplied TimeScheduler
+	 * 
+	 * <pre>
+	 * {@code
+	 *  StreamUtils.timedOperations(Stream.of(1,2,3),TimeSchedulers.timerWheel(ex))
+	 *  		   .onePer(1,TimeUnit.SECONDS)
+	 *  		   .forEach(System.out::println);
+	 * }
+	 * </pre>
+	 * 
+	 * @param stream Stream to emit over time
+	 * @param scheduler TimeScheduler to run the emitting tasks
+	 * @return Non-blocking time based operators
+	 */
+	public static <T> TimedOperations<T> timedOperations(Stream<T> stream,TimeScheduler scheduler){
+		return new TimedOperationsImpl<>(stream,scheduler);
+	}
 	/**
 	 * Split at supplied location 
 	 * <pre>
@@ -454,6 +483,23 @@ public class StreamUtils{
 		Tuple2<Iterator<T>,Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator());	
 		return new Tuple2(StreamUtils.stream(Tuple2.v1()),StreamUtils.stream(Tuple2.v2()));
 	}
+	/**
+	 * Duplicate a Stream, the leading copy may be at most maxBuffer elements ahead of the other
+	 * <pre>
+	 * {@code 
+	 *  Tuple2<Stream<Integer>, Stream<Integer>> copies = StreamUtils.duplicate(Stream.of(1,2,3,4,5,6),100,OverflowPolicy.ERROR);
+	 * }
+	 * </pre>
+	 * 
+	 * @param maxBuffer Maximum number of buffered elements
+	 * @param policy BLOCK the leading copy until the other catches up (copies must be consumed on different threads), or ERROR
+	 * @return duplicated stream
+	 */
+	public final static <T> Tuple2<Stream<T>,Stream<T>> duplicate(Stream<T> stream,long maxBuffer,OverflowPolicy policy){
+		
+		Tuple2<Iterator<T>,Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(),maxBuffer,policy);	
+		return new Tuple2(StreamUtils.stream(Tuple2.v1()),StreamUtils.stream(Tuple2.v2()));
+	}
 	private final static <T> Tuple2<Stream<T>,Stream<T>> duplicatePos(Stream<T> stream,int pos){
 		
 		Tuple2<Iterator<T>,Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(),pos);	
@@ -1302,6 +1348,39 @@ public class StreamUtils{
 	public final static <T> Stream<List<T>> sliding(Stream<T> stream,int windowSize) {
 		return sliding(stream,windowSize,1);
 	}
+	/**
+	 * Create a sliding view over this Stream, backed by a single circular buffer.
+	 * The same read-only SlidingWindow is emitted for each window and is only valid until the next window is requested,
+	 * use SlidingWindow#copy to retain a window.
+	 * <pre>
+	 * {@code 
+	 * List<Integer> sums = StreamUtils.slidingView(Stream.of(1,2,3,4),2,1)
+	 * 									.map(window->window.get(0)+window.get(1))
+	 * 									.collect(Collectors.toList());
+	 * 
+	 *  //[3,5,7]
+	 * }
+	 * </pre>
+	 * 
+	 * @param stream Stream to create sliding view on
+	 * @param windowSize size of window
+	 * @param increment number of elements to move the window by
+	 * @return Stream of SlidingWindow views
+	 */
+	public final static <T> Stream<SlidingWindow<T>> slidingView(Stream<T> stream,int windowSize,int increment) {
+		return new SlidingViewOperator<>(stream).slidingView(windowSize,increment);
+	}
+	/**
+	 * Create a sliding view over this Stream, backed by a single circular buffer
+	 * 
+	 * @see #slidingView(Stream, int, int)
+	 * @param stream Stream to create sliding view on
+	 * @param windowSize size of window
+	 * @return Stream of SlidingWindow views
+	 */
+	public final static <T> Stream<SlidingWindow<T>> slidingView(Stream<T> stream,int windowSize) {
+		return slidingView(stream,windowSize,1);
+	}
 
 	/**
 	 * Group elements in a Monad into a Stream
@@ -1729,6 +1808,37 @@ public class StreamUtils{
 		return	stream.flatMap( in->StreamUtils.completableFutureToStream(fn.apply(in)));
 		
 	}
+	/**
+	 * Apply a CompletableFuture returning function with up to maxInFlight futures outstanding, emitting results in input order
+	 * 
+	 *<pre>
+	 * {@code 
+	 * 	assertThat(StreamUtils.mapAsync(Stream.of(1,2,3),
+	 * 								i->CompletableFuture.supplyAsync(()->i+2,exec),2)
+	 * 								.collect(Collectors.toList()),
+	 * 								equalTo(Arrays.asList(3,4,5)));
+	 * }
+	 *</pre>
+	 * 
+	 * @param stream Stream to map
+	 * @param fn Function that starts an asynchronous task for each element
+	 * @param maxInFlight Max number of futures outstanding at once
+	 * @return Stream of results, in the order of the input elements
+	 */
+	public final static <T,R> Stream<R> mapAsync(Stream<T> stream,Function<? super T,CompletableFuture<? extends R>> fn,int maxInFlight) {
+		return new MapAsyncOperator<>(stream).mapAsync(fn,maxInFlight);
+	}
+	/**
+	 * Apply a CompletableFuture returning function with up to maxInFlight futures outstanding, emitting results as they complete
+	 * 
+	 * @param stream Stream to map
+	 * @param fn Function that starts an asynchronous task for each element
+	 * @param maxInFlight Max number of futures outstanding at once
+	 * @return Stream of results, in completion order
+	 */
+	public final static <T,R> Stream<R> mapAsyncUnordered(Stream<T> stream,Function<? super T,CompletableFuture<? extends R>> fn,int maxInFlight) {
+		return new MapAsyncOperator<>(stream).mapAsyncUnordered(fn,maxInFlight);
+	}
 	
 	
 	/**
@@ -1822,128 +1932,66 @@ public class StreamUtils{
 	}
 
 	
+	 /**
+	  * Create two copies of an Iterator, sharing a chunked buffer. Elements are buffered until both copies have read them.
+	  * 
+	  * @param iterator Iterator to copy
+	  * @return Two copies of the iterator
+	  */
 	 public static final <A> Tuple2<Iterator<A>,Iterator<A>> toBufferingDuplicator(Iterator<A> iterator) {
 		 return toBufferingDuplicator(iterator,Long.MAX_VALUE);
 	 }
+	 /**
+	  * Create two copies of an Iterator, sharing a chunked buffer. The first copy returns at most pos elements, and stops
+	  * holding back the buffer once it has.
+	  * 
+	  * @param iterator Iterator to copy
+	  * @param pos Maximum number of elements the first copy will return
+	  * @return Two copies of the iterator
+	  */
 	 public static final <A> Tuple2<Iterator<A>,Iterator<A>> toBufferingDuplicator(Iterator<A> iterator,long pos) {
-		 LinkedList<A> bufferTo = new LinkedList<A>();
-		 LinkedList<A> bufferFrom = new LinkedList<A>();
-		  return new Tuple2(new DuplicatingIterator(bufferTo,bufferFrom,iterator,Long.MAX_VALUE,0),
-				  new DuplicatingIterator(bufferFrom,bufferTo,iterator,pos,0));
+		 ChunkedBuffer<A> buffer = new ChunkedBuffer<>(iterator);
+		 return new Tuple2<>(buffer.copy(pos),buffer.copy());
 	 }
-	 public static final <A> List<Iterator<A>> toBufferingCopier(Iterator<A> iterator,int copies) {
-		List<Iterator<A>> result = new ArrayList<>();
-		List<CopyingIterator<A>> leaderboard = new LinkedList<>();
-		LinkedList<A> buffer = new LinkedList<>();
-		 for(int i=0;i<copies;i++)
-			 result.add(new CopyingIterator(iterator,leaderboard,buffer,copies));
-		 return result;
+	 /**
+	  * Create two copies of an Iterator, sharing a chunked buffer of at most maxBuffer elements
+	  * 
+	  * @param iterator Iterator to copy
+	  * @param maxBuffer Maximum number of elements the leading copy can get ahead of the other
+	  * @param policy BLOCK the leading copy until the other catches up (copies must be read on different threads), or ERROR
+	  * @return Two copies of the iterator
+	  */
+	 public static final <A> Tuple2<Iterator<A>,Iterator<A>> toBufferingDuplicator(Iterator<A> iterator,long maxBuffer, OverflowPolicy policy) {
+		 ChunkedBuffer<A> buffer = new ChunkedBuffer<>(iterator,maxBuffer,policy);
+		 return new Tuple2<>(buffer.copy(),buffer.copy());
 	 }
-	
-	 @AllArgsConstructor
-	 static class DuplicatingIterator<T> implements Iterator<T>{
-		
-		 LinkedList<T> bufferTo;
-		 LinkedList<T> bufferFrom;
-		 Iterator<T> it;
-		 long otherLimit=Long.MAX_VALUE;
-		 long counter=0;
-		 
-
-		@Override
-		public boolean hasNext() {
-			if(bufferFrom.size()>0 || it.hasNext())
-				return true;
-			return false;
-		}
-
-		@Override
-		public T next() {
-			try{
-				if(bufferFrom.size()>0)
-					return bufferFrom.remove(0);
-				else{
-					T next = it.next();
-					if(counter<otherLimit)
-						bufferTo.add(next);
-					return next;
-				}
-			}finally{
-				counter++;
-			}
-		}
-		 
+	 /**
+	  * Create copies of an Iterator, sharing a chunked buffer. Elements are buffered until every copy has read them.
+	  * 
+	  * @param iterator Iterator to copy
+	  * @param copies Number of copies
+	  * @return copies of the iterator
+	  */
+	 public static final <A> List<Iterator<A>> toBufferingCopier(Iterator<A> iterator,int copies) {
+		 return copies(new ChunkedBuffer<>(iterator),copies);
 	 }
-	
-	 static class CopyingIterator<T> implements Iterator<T>{
-		
-		 
-		 LinkedList<T> buffer;
-		 Iterator<T> it;
-		 List<CopyingIterator<T>> leaderboard = new LinkedList<>();
-		 boolean added=  false;
-		 int total = 0;
-		 int counter=0;
-
-		@Override
-		public boolean hasNext() {
-			
-			if(isLeader())
-				return it.hasNext();
-			if(isLast())
-				return buffer.size()>0 || it.hasNext();
-			if(it.hasNext())
-				return true;
-			return counter < buffer.size();
-		}
-
-		private boolean isLeader() {
-			return leaderboard.size()==0 || this==leaderboard.get(0);
-		}
-		private boolean isLast() {
-			return leaderboard.size()==total && this==leaderboard.get(leaderboard.size()-1);
-		}
-
-		@Override
-		public T next() {
-			
-			if(!added){
-				
-				this.leaderboard.add(this);
-				added = true;
-			}
-			
-			if(isLeader()){
-				
-				return handleLeader();
-			}
-			if(isLast()){
-				
-				if(buffer.size()>0)
-					return buffer.poll();
-				return it.next();
-			}
-			if(counter< buffer.size())	
-				return buffer.get(counter++);
-			return handleLeader(); //exceed buffer, now leading
-				
-		 
+	 /**
+	  * Create copies of an Iterator, sharing a chunked buffer of at most maxBuffer elements
+	  * 
+	  * @param iterator Iterator to copy
+	  * @param copies Number of copies
+	  * @param maxBuffer Maximum number of elements the leading copy can get ahead of the slowest
+	  * @param policy BLOCK the leading copy until the slowest catches up (copies must be read on different threads), or ERROR
+	  * @return copies of the iterator
+	  */
+	 public static final <A> List<Iterator<A>> toBufferingCopier(Iterator<A> iterator,int copies,long maxBuffer, OverflowPolicy policy) {
+		 return copies(new ChunkedBuffer<>(iterator,maxBuffer,policy),copies);
 	 }
-
-		private T handleLeader() {
-			T next = it.next();
-			buffer.offer(next);
-			return next;
-		}
-
-		public CopyingIterator(Iterator<T> it,
-				List<CopyingIterator<T>> leaderboard,LinkedList<T> buffer,int total) {
-			
-			this.it = it;
-			this.leaderboard = leaderboard;
-			this.buffer = buffer;
-			this.total = total;
-		}
+	 private static <A> List<Iterator<A>> copies(ChunkedBuffer<A> buffer,int copies){
+		 List<Iterator<A>> result = new ArrayList<>(copies);
+		 for(int i=0;i<copies;i++)
+			 result.add(buffer.copy());
+		 return result;
 	 }
 	 
 	 
@@ -2116,6 +2164,179 @@ public class StreamUtils{
 				
 			});
 	  }
+	  /**
+	   * Run the supplied Stream on the Executor, handing elements to the returned Stream via a single producer / single
+	   * consumer ring buffer
+	   * 
+	   * <pre>
+	   * {@code
+	   *  StreamUtils.async(lines.map(this::parse),exec,1024,IdleStrategies.backoff(),IdleStrategies.backoff())
+	   *  			 .forEach(this::write);
+	   * }
+	   * </pre>
+	   * 
+	   * @param stream Stream to run asynchronously
+	   * @param exec Executor to run it on
+	   * @param queueCapacity Capacity of the ring buffer (rounded up to a power of two)
+	   * @param producerIdle How the producer waits while the buffer is full
+	   * @param consumerIdle How the consumer waits while the buffer is empty
+	   * @return Stream of the elements produced on the Executor
+	   */
+	  public final static <T> Stream<T> async(Stream<T> stream,Executor exec,int queueCapacity,IdleStrategy producerIdle,IdleStrategy consumerIdle){
+		  return new AsyncBoundaryOperator<>(stream).async(exec,queueCapacity,producerIdle,consumerIdle);
+	  }
+	  /**
+	   * Route the elements of the supplied Stream to parallel lanes by key, run the lane function on each lane and merge
+	   * the results. Elements with equal keys keep their relative order.
+	   *
+	   * <pre>
+	   * {@code
+	   *  StreamUtils.partitionedParallel(events,Event::getAccountId,4,exec,256,lane->lane.map(this::apply))
+	   *  			 .forEach(this::publish);
+	   * }
+	   * </pre>
+	   *
+	   * @param stream Stream to partition
+	   * @param keyFn Key to partition by
+	   * @param lanes Number of parallel lanes
+	   * @param exec Executor to run the lanes on (needs lanes+1 threads)
+	   * @param queueCapacity Capacity of each lane's queue (rounded up to a power of two)
+	   * @param laneFn Pipeline to run on each lane
+	   * @return Merged results from all lanes
+	   */
+	  public final static <T,K,R> SequenceM<R> partitionedParallel(Stream<T> stream,Function<? super T,? extends K> keyFn,int lanes,
+			  								Executor exec,int queueCapacity,Function<? super SequenceM<T>,? extends Stream<R>> laneFn){
+		  return new PartitionedLanes<>(stream).run(keyFn,lanes,exec,queueCapacity,laneFn);
+	  }
+	  /**
+	   * Merge the supplied Streams, draining each on its own task on the Executor and emitting elements in the order
+	   * they arrive. The merged Stream completes when all sources complete.
+	   *
+	   * <pre>
+	   * {@code
+	   *  StreamUtils.merge(Arrays.asList(orders,payments,refunds),exec,256)
+	   *  			 .forEach(this::handle);
+	   * }
+	   * </pre>
+	   *
+	   * @param sources Streams to merge
+	   * @param exec Executor to drain the sources on (needs one thread per source)
+	   * @param queueCapacity Capacity of the shared queue (rounded up to a power of two)
+	   * @return Merged Stream
+	   */
+	  public final static <T> Stream<T> merge(List<? extends Stream<? extends T>> sources,Executor exec,int queueCapacity){
+		  return new MergeOperator<T>(sources).merge(exec,queueCapacity);
+	  }
+	  /**
+	   * Merge the supplied Streams, draining each on its own task on the Executor. When several sources have elements
+	   * available the earliest source in the list is emitted first.
+	   *
+	   * @param sources Streams to merge, highest priority first
+	   * @param exec Executor to drain the sources on (needs one thread per source)
+	   * @param queueCapacity Capacity of each source's queue (rounded up to a power of two)
+	   * @return Merged Stream
+	   */
+	  public final static <T> Stream<T> mergeByPriority(List<? extends Stream<? extends T>> sources,Executor exec,int queueCapacity){
+		  return new MergeOperator<T>(sources).mergeByPriority(exec,queueCapacity);
+	  }
+	  /**
+	   * Hash join two Streams on equal keys
+	   *
+	   * <pre>
+	   * {@code
+	   *  StreamUtils.innerJoin(Stream.of(1,2,3),Stream.of("1a","3a"),i->i,s->Integer.parseInt(s.substring(0,1)))
+	   *  //[(1,1a),(3,3a)]
+	   * }
+	   * </pre>
+	   *
+	   * @param stream Left Stream
+	   * @param other Right Stream
+	   * @param key Key of the left elements
+	   * @param otherKey Key of the right elements
+	   * @return Stream of matching pairs
+	   */
+	  public final static <T,U,K> Stream<Tuple2<T,U>> innerJoin(Stream<T> stream,Stream<U> other,Function<? super T,? extends K> key,
+			  													Function<? super U,? extends K> otherKey){
+		  return new JoinOperator<>(stream).hashJoin(other,key,otherKey,false,false);
+	  }
+	  /**
+	   * Hash join two Streams on equal keys, unmatched left elements are paired with null
+	   *
+	   * @see #innerJoin(Stream, Stream, Function, Function)
+	   */
+	  public final static <T,U,K> Stream<Tuple2<T,U>> leftOuterJoin(Stream<T> stream,Stream<U> other,Function<? super T,? extends K> key,
+			  														Function<? super U,? extends K> otherKey){
+		  return new JoinOperator<>(stream).hashJoin(other,key,otherKey,true,false);
+	  }
+	  /**
+	   * Hash join two Streams on equal keys, unmatched elements from either side are paired with null
+	   *
+	   * @see #innerJoin(Stream, Stream, Function, Function)
+	   */
+	  public final static <T,U,K> Stream<Tuple2<T,U>> fullOuterJoin(Stream<T> stream,Stream<U> other,Function<? super T,? extends K> key,
+			  														Function<? super U,? extends K> otherKey){
+		  return new JoinOperator<>(stream).hashJoin(other,key,otherKey,true,true);
+	  }
+	  /**
+	   * Inner join two Streams that are already sorted by key, reading both in step
+	   *
+	   * <pre>
+	   * {@code
+	   *  StreamUtils.sortMergeJoin(Stream.of(1,2,3),Stream.of(1,3,3),i->i,i->i)
+	   *  //[(1,1),(3,3),(3,3)]
+	   * }
+	   * </pre>
+	   *
+	   * @param stream Left Stream, sorted by key
+	   * @param other Right Stream, sorted by otherKey
+	   * @param key Key of the left elements
+	   * @param otherKey Key of the right elements
+	   * @return Stream of matching pairs in key order
+	   */
+	  public final static <T,U,K extends Comparable<? super K>> Stream<Tuple2<T,U>> sortMergeJoin(Stream<T> stream,Stream<U> other,
+			  							Function<? super T,? extends K> key,Function<? super U,? extends K> otherKey){
+		  return new JoinOperator<>(stream).sortMergeJoin(other,key,otherKey);
+	  }
+	  /**
+	   * Sort a Stream, spilling sorted runs to temporary files once the heap budget is exceeded
+	   *
+	   * <pre>
+	   * {@code
+	   *  StreamUtils.externalSorted(Stream.of(3,1,2),Comparator.naturalOrder(),SpillOptions.of(SpillSerializers.integers(),1024*1024))
+	   *  //[1,2,3]
+	   * }
+	   * </pre>
+	   *
+	   * @param stream Stream to sort
+	   * @param comparator Comparator to sort with
+	   * @param options Heap budget, serializer and temporary directory
+	   * @return Sorted Stream
+	   */
+	  public final static <T> Stream<T> externalSorted(Stream<T> stream,Comparator<? super T> comparator,SpillOptions<T> options){
+		  return new ExternalOperator<>(stream).sorted(comparator,options);
+	  }
+	  /**
+	   * Group a Stream by key, partitioning it to temporary files by key hash once the heap budget is exceeded
+	   *
+	   * @param stream Stream to group
+	   * @param classifier Key to group by
+	   * @param options Heap budget, serializer and temporary directory
+	   * @return Stream of keys and their elements
+	   */
+	  public final static <T,K> Stream<Tuple2<K,List<T>>> externalGroupBy(Stream<T> stream,Function<? super T,? extends K> classifier,
+			  														SpillOptions<T> options){
+		  return new ExternalOperator<>(stream).groupBy(classifier,options);
+	  }
+	  /**
+	   * Remove duplicates from a Stream, partitioning it to temporary files by hash once the heap budget is exceeded
+	   *
+	   * @param stream Stream to deduplicate
+	   * @param options Heap budget, serializer and temporary directory
+	   * @return Stream of distinct elements
+	   */
+	  public final static <T> Stream<T> externalDistinct(Stream<T> stream,SpillOptions<T> options){
+		  return new ExternalOperator<>(stream).distinct(options);
+	  }
 	  public final static <T> HotStream<T> hotStream(Stream<T> stream,Executor exec){
 		  return new HotStreamImpl<>(stream).init(exec);
 	  }
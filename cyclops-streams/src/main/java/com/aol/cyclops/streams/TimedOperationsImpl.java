@@ -0,0 +1,176 @@
+package com.aol.cyclops.streams;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.TimeScheduler;
+import com.aol.cyclops.sequence.TimedOperations;
+
+/**
+ * Time based operators that publish to a HotStream from tasks run by a TimeScheduler.
+ *
+ * Each HotStream is driven by a chain of tasks, a task emits the elements that are due and schedules the next task, so
+ * the Stream is only ever read by one task at a time. Operators that may read many elements at once (debounce and retry)
+ * hand the scheduler thread back after every {@link #BATCH} elements.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the Stream
+ */
+class TimedOperationsImpl<T> implements TimedOperations<T> {
+
+	static final int BATCH = 64;
+
+	private final Stream<T> stream;
+	private final TimeScheduler scheduler;
+
+	TimedOperationsImpl(Stream<T> stream, TimeScheduler scheduler){
+		this.stream = stream;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public HotStream<T> fixedDelay(long time, TimeUnit unit) {
+		long nanos = unit.toNanos(time);
+		return emit(nanos,()->nanos,1);
+	}
+
+	@Override
+	public HotStream<T> jitter(long maxJitterPeriodInNanos) {
+		Random r = new Random();
+		LongSupplier jitter = ()->(long)(maxJitterPeriodInNanos * r.nextDouble());
+		return emit(jitter.getAsLong(),jitter,1);
+	}
+
+	@Override
+	public HotStream<T> onePer(long time, TimeUnit unit) {
+		long nanos = unit.toNanos(time);
+		return emit(0,()->nanos,1);
+	}
+
+	@Override
+	public HotStream<T> xPer(int x, long time, TimeUnit unit) {
+		if(x<1)
+			throw new IllegalArgumentException("Number of elements per time period must be 1 or more");
+		long nanos = unit.toNanos(time);
+		return emit(0,()->nanos,x);
+	}
+
+	@Override
+	public HotStream<T> debounce(long time, TimeUnit unit) {
+		Iterator<T> it = stream.iterator();
+		HotStreamImpl<T> hot = new HotStreamImpl<>(stream);
+		long nanos = unit.toNanos(time);
+		scheduler.schedule(new Runnable(){
+			boolean first = true;
+			long last = 0;
+			@Override
+			public void run() {
+				try{
+					for(int i=0;i<BATCH;i++){
+						if(!it.hasNext()){
+							hot.complete();
+							return;
+						}
+						T next = it.next();
+						long now = scheduler.nanoTime();
+						if(first || now-last>=nanos){
+							first = false;
+							last = now;
+							hot.publish(next);
+						}
+					}
+					scheduler.schedule(this,0,TimeUnit.NANOSECONDS);
+				}catch(Throwable t){
+					hot.fail(t);
+				}
+			}
+		},0,TimeUnit.NANOSECONDS);
+		return hot;
+	}
+
+	@Override
+	public <R> HotStream<R> retry(Function<? super T, ? extends R> fn) {
+		return retry(fn,7,2,TimeUnit.SECONDS);
+	}
+
+	@Override
+	public <R> HotStream<R> retry(Function<? super T, ? extends R> fn, int attempts, long delay, TimeUnit unit) {
+		if(attempts<1)
+			throw new IllegalArgumentException("Number of attempts must be 1 or more");
+		Iterator<T> it = stream.iterator();
+		HotStreamImpl<R> hot = new HotStreamImpl<>(Stream.empty());
+		long initialBackoff = unit.toNanos(delay);
+		scheduler.schedule(new Runnable(){
+			T current;
+			boolean retrying = false;
+			int attempt = 0;
+			long backoff = initialBackoff;
+			@Override
+			public void run() {
+				try{
+					for(int i=0;i<BATCH;i++){
+						if(!retrying){
+							if(!it.hasNext()){
+								hot.complete();
+								return;
+							}
+							current = it.next();
+							attempt = 0;
+							backoff = initialBackoff;
+						}
+						R result;
+						try{
+							result = fn.apply(current);
+						}catch(Throwable e){
+							if(++attempt>=attempts){
+								hot.fail(e);
+								return;
+							}
+							retrying = true;
+							scheduler.schedule(this,backoff,TimeUnit.NANOSECONDS);
+							backoff = backoff*2;
+							return;
+						}
+						retrying = false;
+						hot.publish(result);
+					}
+					scheduler.schedule(this,0,TimeUnit.NANOSECONDS);
+				}catch(Throwable t){
+					hot.fail(t);
+				}
+			}
+		},0,TimeUnit.NANOSECONDS);
+		return hot;
+	}
+
+	/**
+	 * Emit batches of up to batchSize elements, the first after initialDelay nanoseconds, each later batch after the
+	 * delay supplied at the end of the previous batch
+	 */
+	private HotStream<T> emit(long initialDelay, LongSupplier delay, int batchSize){
+		Iterator<T> it = stream.iterator();
+		HotStreamImpl<T> hot = new HotStreamImpl<>(stream);
+		scheduler.schedule(new Runnable(){
+			@Override
+			public void run() {
+				try{
+					for(int i=0;i<batchSize && it.hasNext();i++)
+						hot.publish(it.next());
+					if(it.hasNext())
+						scheduler.schedule(this,delay.getAsLong(),TimeUnit.NANOSECONDS);
+					else
+						hot.complete();
+				}catch(Throwable t){
+					hot.fail(t);
+				}
+			}
+		},initialDelay,TimeUnit.NANOSECONDS);
+		return hot;
+	}
+}
@@ -0,0 +1,213 @@
+package com.aol.cyclops.streams.future;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.sequence.future.FusedOperations;
+
+/**
+ * Registered operations are held as Collectors, the traversal creates a container per Collector (per split, for parallel
+ * Streams) and feeds every element to each accumulator in turn.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the Stream
+ */
+class FusedOperationsImpl<T> implements FusedOperations<T> {
+
+	private final Executor exec;
+	private final Stream<T> stream;
+	private final List<Registration<T,?,?>> registrations = new ArrayList<>();
+	private boolean started = false;
+
+	FusedOperationsImpl(Executor exec, Stream<T> stream){
+		this.exec = exec;
+		this.stream = stream;
+	}
+
+	@Override
+	public synchronized <R, A> CompletableFuture<R> collect(Collector<? super T, A, R> collector) {
+		if(started)
+			throw new IllegalStateException("Operations can not be registered once run has been called");
+		Registration<T,A,R> registration = new Registration<>(collector);
+		registrations.add(registration);
+		return registration.result;
+	}
+
+	@Override
+	public CompletableFuture<List<T>> toList() {
+		return collect(Collectors.toList());
+	}
+
+	@Override
+	public CompletableFuture<Set<T>> toSet() {
+		return collect(Collectors.toSet());
+	}
+
+	@Override
+	public CompletableFuture<Long> count() {
+		return collect(Collectors.counting());
+	}
+
+	@Override
+	public CompletableFuture<Optional<T>> min(Comparator<? super T> comparator) {
+		return collect(Collectors.minBy(comparator));
+	}
+
+	@Override
+	public CompletableFuture<Optional<T>> max(Comparator<? super T> comparator) {
+		return collect(Collectors.maxBy(comparator));
+	}
+
+	@Override
+	public <U extends Comparable<U>> CompletableFuture<Optional<T>> minBy(Function<T, U> function) {
+		return min(Comparator.comparing(function));
+	}
+
+	@Override
+	public <U extends Comparable<U>> CompletableFuture<Optional<T>> maxBy(Function<T, U> function) {
+		return max(Comparator.comparing(function));
+	}
+
+	@Override
+	public CompletableFuture<T> reduce(T identity, BinaryOperator<T> accumulator) {
+		return collect(Collectors.reducing(identity,accumulator));
+	}
+
+	@Override
+	public CompletableFuture<Optional<T>> reduce(BinaryOperator<T> accumulator) {
+		return collect(Collectors.reducing(accumulator));
+	}
+
+	@Override
+	public CompletableFuture<Long> sumLong(ToLongFunction<T> fn) {
+		return collect(Collectors.summingLong(fn));
+	}
+
+	@Override
+	public <K> CompletableFuture<Map<K, List<T>>> groupBy(Function<? super T, ? extends K> classifier) {
+		return collect(Collectors.groupingBy(classifier));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<Void> run() {
+		Registration<T,?,?>[] active;
+		synchronized(this){
+			if(started)
+				throw new IllegalStateException("run has already been called");
+			started = true;
+			active = registrations.toArray(new Registration[registrations.size()]);
+		}
+		return CompletableFuture.runAsync(()->{
+			for(Registration<T,?,?> next : active)
+				next.start();
+			Object[] containers;
+			try{
+				containers = stream.collect(()->{
+											Object[] split = new Object[active.length];
+											for(int i=0;i<active.length;i++)
+												split[i] = active[i].container();
+											return split;
+										},
+										(split,t)->{
+											for(int i=0;i<active.length;i++)
+												active[i].accept(split[i],t);
+										},
+										(split,other)->{
+											for(int i=0;i<active.length;i++)
+												split[i] = active[i].combine(split[i],other[i]);
+										});
+			}catch(Throwable t){
+				for(Registration<T,?,?> next : active)
+					next.result.completeExceptionally(t);
+				throw t;
+			}
+			for(int i=0;i<active.length;i++)
+				active[i].finish(containers[i]);
+		},exec);
+	}
+
+	/**
+	 * Containers are created per split of the Stream (one only, if it is sequential) and merged via the Collector's
+	 * combiner, so Collectors that aren't thread safe can be used with parallel Streams
+	 */
+	@SuppressWarnings("unchecked")
+	private static class Registration<T,A,R>{
+		final Collector<? super T, A, R> collector;
+		final CompletableFuture<R> result = new CompletableFuture<>();
+		Supplier<A> supplier;
+		BiConsumer<A, ? super T> accumulator;
+		BinaryOperator<A> combiner;
+
+		Registration(Collector<? super T, A, R> collector){
+			this.collector = collector;
+		}
+
+		void start(){
+			try{
+				supplier = collector.supplier();
+				accumulator = collector.accumulator();
+				combiner = collector.combiner();
+			}catch(Throwable t){
+				result.completeExceptionally(t);
+			}
+		}
+
+		Object container(){
+			if(result.isDone())
+				return null;
+			try{
+				return supplier.get();
+			}catch(Throwable t){
+				result.completeExceptionally(t);
+				return null;
+			}
+		}
+
+		void accept(Object container, T next){
+			if(result.isDone())
+				return;
+			try{
+				accumulator.accept((A)container,next);
+			}catch(Throwable t){
+				result.completeExceptionally(t);
+			}
+		}
+
+		Object combine(Object container, Object other){
+			if(result.isDone())
+				return null;
+			try{
+				return combiner.apply((A)container,(A)other);
+			}catch(Throwable t){
+				result.completeExceptionally(t);
+				return null;
+			}
+		}
+
+		void finish(Object container){
+			if(result.isDone())
+				return;
+			try{
+				result.complete(collector.finisher().apply((A)container));
+			}catch(Throwable t){
+				result.completeExceptionally(t);
+			}
+		}
+	}
+}
@@ -14,6 +14,7 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -32,10 +33,16 @@ import org.reactivestreams.Subscription;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import com.aol.cyclops.sequence.BatchedHotStream;
+import com.aol.cyclops.sequence.HotStream;
 import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.TimeScheduler;
+import com.aol.cyclops.sequence.future.FusedOperations;
 import com.aol.cyclops.sequence.future.FutureOperations;
 import com.aol.cyclops.sequence.reactivestreams.ReactiveTask;
+import com.aol.cyclops.sequence.streamable.Streamable;
 import com.aol.cyclops.streams.FutureStreamUtils;
+import com.aol.cyclops.streams.HotStreamImpl;
 
 
 
@@ -106,7 +113,7 @@ public class FutureOperationsImpl<T> implements FutureOperations<T>, DoubleOpera
 	 * @see org.jooq.lambda.Seq#minBy(Function)
 	 */
 	public  <U extends Comparable<U>> CompletableFuture<Optional<T>> minBy(Function<T, U> function){
-		return CompletableFuture.supplyAsync(()->stream.minBy(function));
+		return CompletableFuture.supplyAsync(()->stream.minBy(function),exec);
 	}
 	/**
 	 * Asynchronously capture the maximum value in this stream using the provided function
@@ -114,7 +121,7 @@ public class FutureOperationsImpl<T> implements FutureOperations<T>, DoubleOpera
 	 *  @see org.jooq.lambda.Seq#maxBy(Function)
 	 */
 	public  <U extends Comparable<U>> CompletableFuture<Optional<T>> maxBy(Function<T, U> function){
-		return CompletableFuture.supplyAsync(()->stream.maxBy(function));
+		return CompletableFuture.supplyAsync(()->stream.maxBy(function),exec);
 	}
 	
 	/**
@@ -124,7 +131,7 @@ public class FutureOperationsImpl<T> implements FutureOperations<T>, DoubleOpera
 	 * 
 	 */
 	public <R, A> CompletableFuture<R> collect(Collector<? super T, A, R> collector){
-		return CompletableFuture.supplyAsync(()->stream.collect(collector));
+		return CompletableFuture.supplyAsync(()->stream.collect(collector),exec);
 	}
 	
 	
@@ -234,7 +241,7 @@ public class FutureOperationsImpl<T> implements FutureOperations<T>, DoubleOpera
 	 */
 	public CompletableFuture<Optional<T>> reduce(BinaryOperator<T> accumulator){
 		
-		return CompletableFuture.supplyAsync(()->stream.reduce(accumulator));
+		return CompletableFuture.supplyAsync(()->stream.reduce(accumulator),exec);
 		
 	}
 	/**
@@ -367,4 +374,38 @@ public class FutureOperationsImpl<T> implements FutureOperations<T>, DoubleOpera
 		return CompletableFuture.supplyAsync(()-> stream.singleOptional(),exec);
 	}
 	
-}
\ No newline at end of file
+	@Override
+	public BatchedHotStream<List<T>> batchBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler) {
+		return start(hot->hot.batchBySizeAndTime(size,time,unit,scheduler));
+	}
+	@Override
+	public <C extends Collection<? super T>> BatchedHotStream<C> batchBySizeAndTime(int size, long time, TimeUnit unit,
+															TimeScheduler scheduler, Supplier<C> factory) {
+		return start(hot->hot.batchBySizeAndTime(size,time,unit,scheduler,factory));
+	}
+	@Override
+	public BatchedHotStream<List<T>> batchByTime(long time, TimeUnit unit, TimeScheduler scheduler) {
+		return start(hot->hot.batchByTime(time,unit,scheduler));
+	}
+	@Override
+	public BatchedHotStream<Streamable<T>> windowBySizeAndTime(int size, long time, TimeUnit unit, TimeScheduler scheduler) {
+		return start(hot->hot.windowBySizeAndTime(size,time,unit,scheduler));
+	}
+	@Override
+	public BatchedHotStream<Streamable<T>> windowByTime(long time, TimeUnit unit, TimeScheduler scheduler) {
+		return start(hot->hot.windowByTime(time,unit,scheduler));
+	}
+	@Override
+	public FusedOperations<T> fused() {
+		return new FusedOperationsImpl<>(exec,stream);
+	}
+	/**
+	 * Attach the batching HotStream before the Stream starts publishing on the Executor, so no elements are missed
+	 */
+	private <R> R start(Function<HotStream<T>,R> batching){
+		HotStreamImpl<T> hot = new HotStreamImpl<>(stream);
+		R batched = batching.apply(hot);
+		hot.init(exec);
+		return batched;
+	}
+}
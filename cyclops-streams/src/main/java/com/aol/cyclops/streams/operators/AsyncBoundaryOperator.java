@@ -0,0 +1,186 @@
+package com.aol.cyclops.streams.operators;
+
+import java.lang.ref.WeakReference;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.Value;
+import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.IdleStrategy;
+
+/**
+ * Splits a pipeline in two : the upstream Stream is run on the supplied Executor and hands its elements to the
+ * downstream consumer via a single producer / single consumer ring buffer.
+ *
+ * The producer starts when the consumer first requests an element. The consumer drains every element available in
+ * the buffer at once (forEach, collect etc.), and each side waits with its own IdleStrategy while the buffer is empty
+ * (consumer) or full (producer). Errors thrown upstream are rethrown to the consumer once the buffer is drained,
+ * closing the downstream Stream (or interrupting the producer thread) stops the producer.
+ *
+ * The producer only holds a weak reference to the consuming side, so if the downstream Stream is abandoned without being
+ * closed, a producer waiting for space in the buffer stops once the abandoned Stream has been garbage collected.
+ */
+@Value
+public class AsyncBoundaryOperator<T> {
+
+	private static final Object NULL = new Object();
+
+	Stream<T> stream;
+
+	public Stream<T> async(Executor exec, int queueCapacity, IdleStrategy producerIdle, IdleStrategy consumerIdle){
+		if(queueCapacity<1)
+			throw new IllegalArgumentException("Queue capacity must be 1 or more");
+		Channel channel = new Channel(queueCapacity,producerIdle,consumerIdle);
+		return StreamSupport.stream(new Boundary<>(stream,exec,channel),false).onClose(channel::cancel);
+	}
+
+	/*
+	 * state shared by the producer and the consumer, the producer must not reference the consumer (Boundary) directly
+	 */
+	private static class Channel{
+		private final OneToOneConcurrentArrayQueue<Object> queue;
+		private final IdleStrategy producerIdle;
+		private final IdleStrategy consumerIdle;
+		private volatile boolean done = false;
+		private volatile boolean cancelled = false;
+		private volatile Throwable error;
+
+		Channel(int queueCapacity, IdleStrategy producerIdle, IdleStrategy consumerIdle){
+			this.queue = new OneToOneConcurrentArrayQueue<>(queueCapacity);
+			this.producerIdle = producerIdle;
+			this.consumerIdle = consumerIdle;
+		}
+
+		void produce(Stream<?> stream, Executor exec, WeakReference<?> consumer){
+			CompletableFuture.runAsync(()->{
+				try{
+					stream.forEach(next->offer(next,consumer));
+				}catch(Throwable t){
+					if(!cancelled)
+						error = t;
+				}finally{
+					done = true;
+					consumerIdle.signal();
+				}
+			},exec);
+		}
+
+		private void offer(Object next, WeakReference<?> consumer){
+			Object value = next==null ? NULL : next;
+			while(!cancelled && !Thread.currentThread().isInterrupted()){
+				if(queue.offer(value)){
+					producerIdle.reset();
+					consumerIdle.signal();
+					return;
+				}
+				if(consumer.get()==null){ //abandoned without being closed
+					cancelled = true;
+					break;
+				}
+				producerIdle.idle();
+			}
+			throw new CancelledException();
+		}
+
+		void cancel(){
+			cancelled = true;
+			producerIdle.signal();
+		}
+	}
+
+	private static class Boundary<T> implements Spliterator<T>{
+		private final Stream<T> stream;
+		private final Executor exec;
+		private final Channel channel;
+		private boolean started = false;
+
+		Boundary(Stream<T> stream, Executor exec, Channel channel){
+			this.stream = stream;
+			this.exec = exec;
+			this.channel = channel;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			start();
+			while(true){
+				Object next = channel.queue.poll();
+				if(next!=null){
+					channel.consumerIdle.reset();
+					channel.producerIdle.signal();
+					action.accept(unwrap(next));
+					return true;
+				}
+				if(channel.done && channel.queue.isEmpty()) //done is set after the last offer
+					return complete();
+				channel.consumerIdle.idle();
+			}
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			start();
+			Consumer<Object> handler = next->action.accept(unwrap(next));
+			while(true){
+				if(channel.queue.drain(handler)>0){
+					channel.consumerIdle.reset();
+					channel.producerIdle.signal();
+					continue;
+				}
+				if(channel.done && channel.queue.isEmpty()){
+					complete();
+					return;
+				}
+				channel.consumerIdle.idle();
+			}
+		}
+
+		private void start(){
+			if(started)
+				return;
+			started = true;
+			channel.produce(stream,exec,new WeakReference<>(this));
+		}
+
+		private boolean complete(){
+			Throwable t = channel.error;
+			if(t!=null)
+				ExceptionSoftener.throwSoftenedException(t);
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T unwrap(Object next){
+			return next==NULL ? null : (T)next;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED;
+		}
+	}
+
+	private static class CancelledException extends RuntimeException{
+		private static final long serialVersionUID = 1L;
+
+		CancelledException(){
+			super(null,null,false,false);
+		}
+	}
+}
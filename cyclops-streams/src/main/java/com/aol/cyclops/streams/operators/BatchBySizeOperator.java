@@ -6,10 +6,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import lombok.Value;
 
+import org.jooq.lambda.Seq;
+
 import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.spliterators.BatchBySizeSpliterator;
 @Value
 public class BatchBySizeOperator<T, C extends Collection<T>> {
 
@@ -26,6 +30,9 @@ public class BatchBySizeOperator<T, C extends Collection<T>> {
 	public Stream<C> batchBySize(int groupSize){
 		if(groupSize<1)
 			throw new IllegalArgumentException("Batch size must be 1 or more");
+		Stream<T> unwrapped = stream instanceof Seq ? ((Seq<T>)stream).stream() : stream;
+		if(unwrapped.isParallel())
+			return StreamSupport.stream(new BatchBySizeSpliterator<T,C>(unwrapped.spliterator(),groupSize,factory),true);
 		Iterator<T> it = stream.iterator();
 		return StreamUtils.stream(new Iterator<C>(){
 			
@@ -0,0 +1,358 @@
+package com.aol.cyclops.streams.operators;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.Value;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.SpillOptions;
+
+/**
+ * Memory bounded sorted, groupBy and distinct.
+ *
+ * sorted reads the Stream in chunks whose estimated size fits the heap budget, sorts each chunk and writes it to a
+ * temporary file (a run). The last chunk stays in memory. The runs are merged lazily, at most 64 at a time - if there
+ * are more, consecutive runs are first merged 64 at a time into larger runs. Ties are broken by run so the sort is
+ * stable.
+ *
+ * groupBy and distinct work in memory if the whole Stream fits the heap budget. Otherwise every element is written to
+ * one of 64 temporary files chosen by the hash of its key, and each file is then processed in memory in turn. Files
+ * still over budget are partitioned again with a different hash, up to 4 levels deep (after which a single partition
+ * is processed in memory regardless of size). Output order only follows the input if nothing was spilled.
+ *
+ * Temporary files are deleted once read, and when the Stream is closed.
+ */
+@Value
+public class ExternalOperator<T> {
+
+	private static final int MAX_FAN_IN = 64;
+	private static final int PARTITIONS = 64;
+	private static final int MAX_DEPTH = 4;
+
+	Stream<T> stream;
+
+	public Stream<T> sorted(Comparator<? super T> comparator, SpillOptions<T> options){
+		Spill<T> spill = new Spill<>(options);
+		return StreamSupport.stream(()->spill.sort(stream.iterator(),comparator),Spliterator.ORDERED,false)
+							.onClose(()->{
+								spill.close();
+								stream.close();
+							});
+	}
+
+	public <K> Stream<Tuple2<K,List<T>>> groupBy(Function<? super T,? extends K> classifier, SpillOptions<T> options){
+		return partitioned(classifier,options,list->{
+			Map<K,List<T>> groups = new LinkedHashMap<>();
+			list.forEach(t->groups.computeIfAbsent(classifier.apply(t),k->new ArrayList<>()).add(t));
+			return groups.entrySet().stream().map(e->Tuple.tuple(e.getKey(),e.getValue()));
+		});
+	}
+
+	public Stream<T> distinct(SpillOptions<T> options){
+		return partitioned(Function.identity(),options,list->new LinkedHashSet<>(list).stream());
+	}
+
+	private <R> Stream<R> partitioned(Function<? super T,?> key, SpillOptions<T> options, Function<List<T>,Stream<R>> inMemory){
+		Spill<T> spill = new Spill<>(options);
+		return StreamSupport.stream(()->spill.partition(stream.iterator(),key,inMemory,0).spliterator(),Spliterator.ORDERED,false)
+							.onClose(()->{
+								spill.close();
+								stream.close();
+							});
+	}
+
+	/**
+	 * Murmur3 finaliser, seeded by depth so partitions that are repartitioned spread out
+	 */
+	private static int bucket(Object key, int depth){
+		int h = Objects.hashCode(key) ^ (depth * 0x9E3779B9);
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h & (PARTITIONS-1);
+	}
+
+	private static <T> Iterator<T> merge(List<Iterator<T>> sources, Comparator<? super T> comparator){
+		PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1,sources.size()),(a,b)->{
+			int result = comparator.compare(a.value,b.value);
+			return result!=0 ? result : Integer.compare(a.index,b.index);
+		});
+		for(int i=0;i<sources.size();i++){
+			if(sources.get(i).hasNext())
+				heads.add(new Head<>(sources.get(i),i));
+		}
+		return new Iterator<T>(){
+			@Override
+			public boolean hasNext() {
+				return !heads.isEmpty();
+			}
+			@Override
+			public T next() {
+				Head<T> head = heads.poll();
+				if(head==null)
+					throw new NoSuchElementException();
+				T value = head.value;
+				if(head.source.hasNext()){
+					head.value = head.source.next();
+					heads.add(head);
+				}
+				return value;
+			}
+		};
+	}
+
+	private static final class Head<T>{
+		final Iterator<T> source;
+		final int index;
+		T value;
+		Head(Iterator<T> source, int index){
+			this.source = source;
+			this.index = index;
+			this.value = source.next();
+		}
+	}
+
+	private static final class Run{
+		final File file;
+		long count;
+		Run(File file){
+			this.file = file;
+		}
+	}
+
+	/**
+	 * Temporary files for a single Stream
+	 */
+	private static final class Spill<T>{
+		final SpillOptions<T> options;
+		final Set<File> files = new LinkedHashSet<>();
+		final List<RunReader> readers = new ArrayList<>();
+
+		Spill(SpillOptions<T> options){
+			this.options = options;
+		}
+
+		Spliterator<T> sort(Iterator<T> it, Comparator<? super T> comparator){
+			List<Run> runs = new ArrayList<>();
+			List<T> buffer = new ArrayList<>();
+			long size = 0;
+			while(it.hasNext()){
+				T next = it.next();
+				buffer.add(next);
+				size += options.getSizeOf().applyAsLong(next);
+				if(size>options.getHeapBudget()){
+					buffer.sort(comparator);
+					runs.add(write(buffer.iterator()));
+					buffer.clear();
+					size = 0;
+				}
+			}
+			buffer.sort(comparator);
+			if(runs.isEmpty())
+				return buffer.spliterator();
+			while(runs.size()>=MAX_FAN_IN){
+				List<Run> merged = new ArrayList<>();
+				for(int i=0;i<runs.size();i+=MAX_FAN_IN){
+					List<Run> batch = runs.subList(i,Math.min(i+MAX_FAN_IN,runs.size()));
+					merged.add(batch.size()==1 ? batch.get(0) : write(merge(readers(batch),comparator)));
+				}
+				runs = merged;
+			}
+			List<Iterator<T>> sources = readers(runs);
+			sources.add(buffer.iterator());
+			return Spliterators.spliteratorUnknownSize(merge(sources,comparator),Spliterator.ORDERED);
+		}
+
+		<R> Stream<R> partition(Iterator<T> it, Function<? super T,?> key, Function<List<T>,Stream<R>> inMemory, int depth){
+			List<T> buffer = new ArrayList<>();
+			long size = 0;
+			while(it.hasNext() && (size<=options.getHeapBudget() || depth==MAX_DEPTH)){
+				T next = it.next();
+				buffer.add(next);
+				size += options.getSizeOf().applyAsLong(next);
+			}
+			if(!it.hasNext())
+				return inMemory.apply(buffer);
+
+			List<RunWriter> writers = new ArrayList<>(Collections.nCopies(PARTITIONS,null));
+			try{
+				for(T next : buffer)
+					writer(writers,bucket(key.apply(next),depth)).write(next);
+				buffer.clear();
+				while(it.hasNext()){
+					T next = it.next();
+					writer(writers,bucket(key.apply(next),depth)).write(next);
+				}
+			}finally{
+				for(RunWriter writer : writers){
+					if(writer!=null)
+						writer.close();
+				}
+			}
+			List<Run> partitions = new ArrayList<>();
+			for(RunWriter writer : writers){
+				if(writer!=null)
+					partitions.add(writer.run);
+			}
+			return partitions.stream().flatMap(run->partition(new RunReader(run),key,inMemory,depth+1));
+		}
+
+		private RunWriter writer(List<RunWriter> writers, int index){
+			RunWriter writer = writers.get(index);
+			if(writer==null){
+				writer = new RunWriter(create());
+				writers.set(index,writer);
+			}
+			return writer;
+		}
+
+		private Run create(){
+			try{
+				File file = File.createTempFile("cyclops-spill",".run",options.getDirectory());
+				files.add(file);
+				return new Run(file);
+			}catch(IOException e){
+				throw ExceptionSoftener.throwSoftenedException(e);
+			}
+		}
+
+		private Run write(Iterator<T> values){
+			RunWriter writer = new RunWriter(create());
+			try{
+				while(values.hasNext())
+					writer.write(values.next());
+			}finally{
+				writer.close();
+			}
+			return writer.run;
+		}
+
+		private List<Iterator<T>> readers(List<Run> runs){
+			List<Iterator<T>> result = new ArrayList<>();
+			for(Run run : runs)
+				result.add(new RunReader(run));
+			return result;
+		}
+
+		private void delete(File file){
+			file.delete();
+			files.remove(file);
+		}
+
+		void close(){
+			for(RunReader reader : new ArrayList<>(readers))
+				reader.close();
+			for(File file : new ArrayList<>(files))
+				delete(file);
+		}
+
+		private final class RunWriter{
+			final Run run;
+			final DataOutputStream out;
+
+			RunWriter(Run run){
+				this.run = run;
+				try{
+					this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run.file)));
+				}catch(IOException e){
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			}
+			void write(T value){
+				try{
+					options.getSerializer().write(value,out);
+					run.count++;
+				}catch(IOException e){
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			}
+			void close(){
+				try{
+					out.close();
+				}catch(IOException e){
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			}
+		}
+
+		/**
+		 * Reads a Run, deleting it once exhausted
+		 */
+		private final class RunReader implements Iterator<T>{
+			final Run run;
+			DataInputStream in;
+			long remaining;
+
+			RunReader(Run run){
+				this.run = run;
+				this.remaining = run.count;
+				try{
+					this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file)));
+				}catch(IOException e){
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+				readers.add(this);
+			}
+			@Override
+			public boolean hasNext() {
+				if(remaining==0)
+					close();
+				return remaining>0;
+			}
+			@Override
+			public T next() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				try{
+					T value = options.getSerializer().read(in);
+					remaining--;
+					return value;
+				}catch(IOException e){
+					close();
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			}
+			void close(){
+				if(in==null)
+					return;
+				try{
+					in.close();
+				}catch(IOException e){
+				}
+				in = null;
+				remaining = 0;
+				readers.remove(this);
+				delete(run.file);
+			}
+		}
+	}
+}
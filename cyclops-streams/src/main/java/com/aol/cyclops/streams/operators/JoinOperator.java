@@ -0,0 +1,189 @@
+package com.aol.cyclops.streams.operators;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.Value;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+/**
+ * Key based joins.
+ *
+ * hashJoin builds a hash table from one side and streams the other side through it. The build side is the smaller
+ * of the two if both report an exact size, otherwise the other Stream. Unmatched elements from the streamed side
+ * are emitted as they are found, unmatched elements from the build side once the streamed side is exhausted. The
+ * table is built when the joined Stream is first consumed.
+ *
+ * sortMergeJoin walks two Streams already sorted by key in step, it only holds the current run of elements with the
+ * same key from the other Stream.
+ */
+@Value
+public class JoinOperator<T> {
+
+	Stream<T> stream;
+
+	public <U,K> Stream<Tuple2<T,U>> hashJoin(Stream<U> other, Function<? super T,? extends K> key,
+												Function<? super U,? extends K> otherKey, boolean keepLeft, boolean keepRight){
+		return StreamSupport.stream(()->{
+			Spliterator<T> left = stream.spliterator();
+			Spliterator<U> right = other.spliterator();
+			long leftSize = left.getExactSizeIfKnown();
+			long rightSize = right.getExactSizeIfKnown();
+			if(leftSize!=-1 && rightSize!=-1 && leftSize<rightSize)
+				return join(left,key,right,otherKey,keepRight,keepLeft,(t,u)->Tuple.tuple(t,u));
+			return join(right,otherKey,left,key,keepLeft,keepRight,(u,t)->Tuple.tuple(t,u));
+		},Spliterator.ORDERED,false).onClose(()->{
+			stream.close();
+			other.close();
+		});
+	}
+
+	public <U,K extends Comparable<? super K>> Stream<Tuple2<T,U>> sortMergeJoin(Stream<U> other, Function<? super T,? extends K> key,
+																				Function<? super U,? extends K> otherKey){
+		return StreamSupport.stream(()->Spliterators.spliteratorUnknownSize(
+										new SortMergeIterator<>(stream.iterator(),key,other.iterator(),otherKey),
+										Spliterator.ORDERED),
+									Spliterator.ORDERED,false).onClose(()->{
+			stream.close();
+			other.close();
+		});
+	}
+
+	/**
+	 * @param build Side to hold in the hash table
+	 * @param probe Side to stream through the table
+	 * @param keepProbe Emit unmatched elements from the probe side
+	 * @param keepBuild Emit unmatched elements from the build side
+	 * @param tuple Builds the output Tuple from a build and probe element (either may be null if unmatched)
+	 */
+	private static <B,P,K,R> Spliterator<R> join(Spliterator<B> build, Function<? super B,? extends K> buildKey,
+												Spliterator<P> probe, Function<? super P,? extends K> probeKey,
+												boolean keepProbe, boolean keepBuild, BiFunction<B,P,R> tuple){
+		Map<K,Bucket<B>> table = new HashMap<>();
+		build.forEachRemaining(b->table.computeIfAbsent(buildKey.apply(b),k->new Bucket<>()).values.add(b));
+		Stream<R> joined = StreamSupport.stream(probe,false).flatMap(p->{
+			Bucket<B> bucket = table.get(probeKey.apply(p));
+			if(bucket==null)
+				return keepProbe ? Stream.of(tuple.apply(null,p)) : Stream.<R>empty();
+			bucket.matched = true;
+			return bucket.values.stream().map(b->tuple.apply(b,p));
+		});
+		if(!keepBuild)
+			return joined.spliterator();
+		return Stream.concat(joined,StreamSupport.stream(()->table.values()
+																	.stream()
+																	.filter(bucket->!bucket.matched)
+																	.flatMap(bucket->bucket.values.stream())
+																	.map(b->tuple.apply(b,null))
+																	.spliterator(),
+														Spliterator.ORDERED,false))
+					 .spliterator();
+	}
+
+	private static class Bucket<B>{
+		final List<B> values = new ArrayList<>(1);
+		boolean matched = false;
+	}
+
+	private static class SortMergeIterator<T,U,K extends Comparable<? super K>> implements Iterator<Tuple2<T,U>>{
+		private final Iterator<T> left;
+		private final Function<? super T,? extends K> key;
+		private final Iterator<U> right;
+		private final Function<? super U,? extends K> otherKey;
+		private final List<U> run = new ArrayList<>();
+		private K runKey;
+		private int index;
+		private boolean inRun = false;
+		private T t;
+		private boolean hasT;
+		private U u;
+		private boolean hasU;
+		private boolean started = false;
+		private Tuple2<T,U> next;
+
+		SortMergeIterator(Iterator<T> left, Function<? super T,? extends K> key, Iterator<U> right,
+							Function<? super U,? extends K> otherKey){
+			this.left = left;
+			this.key = key;
+			this.right = right;
+			this.otherKey = otherKey;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(next==null)
+				next = advance();
+			return next!=null;
+		}
+
+		@Override
+		public Tuple2<T,U> next() {
+			if(!hasNext())
+				throw new NoSuchElementException();
+			Tuple2<T,U> result = next;
+			next = null;
+			return result;
+		}
+
+		private void nextLeft(){
+			hasT = left.hasNext();
+			t = hasT ? left.next() : null;
+		}
+
+		private void nextRight(){
+			hasU = right.hasNext();
+			u = hasU ? right.next() : null;
+		}
+
+		private Tuple2<T,U> advance(){
+			if(!started){
+				started = true;
+				nextLeft();
+				nextRight();
+			}
+			while(true){
+				if(inRun){
+					if(index<run.size())
+						return Tuple.tuple(t,run.get(index++));
+					nextLeft();
+					if(hasT && key.apply(t).compareTo(runKey)==0){ //same key, join with the same run
+						index = 0;
+						continue;
+					}
+					inRun = false;
+					run.clear();
+				}
+				if(!hasT || !hasU)
+					return null;
+				int c = key.apply(t).compareTo(otherKey.apply(u));
+				if(c<0)
+					nextLeft();
+				else if(c>0)
+					nextRight();
+				else{
+					runKey = otherKey.apply(u);
+					run.add(u);
+					nextRight();
+					while(hasU && otherKey.apply(u).compareTo(runKey)==0){
+						run.add(u);
+						nextRight();
+					}
+					inRun = true;
+					index = 0;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.aol.cyclops.streams.operators;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import lombok.Value;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.streams.StreamUtils;
+
+/**
+ * Applies a CompletableFuture returning function with up to maxInFlight futures outstanding at once.
+ *
+ * The consuming thread starts futures until maxInFlight are outstanding (or the Stream is exhausted) and then waits
+ * only for the next result, either the oldest future (mapAsync) or the first to complete (mapAsyncUnordered).
+ * If a future fails, the remaining futures are cancelled and its error is thrown to the consumer, closing the Stream
+ * also cancels any outstanding futures.
+ */
+@Value
+public class MapAsyncOperator<T> {
+
+	Stream<T> stream;
+
+	public <R> Stream<R> mapAsync(Function<? super T,CompletableFuture<? extends R>> fn, int maxInFlight){
+		checkArgs(maxInFlight);
+		Iterator<T> it = stream.iterator();
+		ArrayDeque<CompletableFuture<? extends R>> inFlight = new ArrayDeque<>(Math.min(maxInFlight,1024));
+		return StreamUtils.stream(new Iterator<R>(){
+
+			@Override
+			public boolean hasNext() {
+				return !inFlight.isEmpty() || it.hasNext();
+			}
+
+			@Override
+			public R next() {
+				while(inFlight.size()<maxInFlight && it.hasNext())
+					inFlight.add(start(fn,it.next(),inFlight));
+				if(inFlight.isEmpty())
+					throw new NoSuchElementException();
+				return join(inFlight.poll(),inFlight);
+			}
+
+		}).onClose(()->cancel(inFlight));
+	}
+
+	public <R> Stream<R> mapAsyncUnordered(Function<? super T,CompletableFuture<? extends R>> fn, int maxInFlight){
+		checkArgs(maxInFlight);
+		Iterator<T> it = stream.iterator();
+		ArrayDeque<CompletableFuture<? extends R>> inFlight = new ArrayDeque<>(Math.min(maxInFlight,1024));
+		LinkedBlockingQueue<CompletableFuture<? extends R>> completed = new LinkedBlockingQueue<>();
+		return StreamUtils.stream(new Iterator<R>(){
+
+			@Override
+			public boolean hasNext() {
+				return !inFlight.isEmpty() || it.hasNext();
+			}
+
+			@Override
+			public R next() {
+				while(inFlight.size()<maxInFlight && it.hasNext()){
+					CompletableFuture<? extends R> next = start(fn,it.next(),inFlight);
+					inFlight.add(next);
+					next.whenComplete((r,e)->completed.add(next));
+				}
+				if(inFlight.isEmpty())
+					throw new NoSuchElementException();
+				CompletableFuture<? extends R> done = null;
+				try {
+					done = completed.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					cancel(inFlight);
+					ExceptionSoftener.throwSoftenedException(e);
+				}
+				inFlight.remove(done);
+				return join(done,inFlight);
+			}
+
+		}).onClose(()->cancel(inFlight));
+	}
+
+	private static <T,R> CompletableFuture<? extends R> start(Function<? super T,CompletableFuture<? extends R>> fn, T next,
+																ArrayDeque<? extends CompletableFuture<?>> inFlight){
+		try{
+			return fn.apply(next);
+		}catch(RuntimeException e){
+			cancel(inFlight);
+			throw e;
+		}
+	}
+
+	private static <R> R join(CompletableFuture<? extends R> future, ArrayDeque<? extends CompletableFuture<?>> inFlight){
+		try{
+			return future.join();
+		}catch(CompletionException e){
+			cancel(inFlight);
+			ExceptionSoftener.throwSoftenedException(e.getCause()!=null ? e.getCause() : e);
+			return null;
+		}catch(RuntimeException e){ //CancellationException
+			cancel(inFlight);
+			throw e;
+		}
+	}
+
+	private static void cancel(ArrayDeque<? extends CompletableFuture<?>> inFlight){
+		CompletableFuture<?> next;
+		while((next=inFlight.poll())!=null)
+			next.cancel(true);
+	}
+
+	private static void checkArgs(int maxInFlight){
+		if(maxInFlight<1)
+			throw new IllegalArgumentException("Max in flight must be 1 or more");
+	}
+}
@@ -0,0 +1,197 @@
+package com.aol.cyclops.streams.operators;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.Value;
+import uk.co.real_logic.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.IdleStrategy;
+
+/**
+ * Merges several Streams, each drained by its own task on the supplied Executor (started when the consumer first
+ * requests an element), emitting elements as they arrive.
+ *
+ * merge shares a single multi producer queue between all sources, so elements are emitted in arrival order.
+ * mergeByPriority gives each source its own queue and the consumer always takes from the first source (in list order)
+ * that has data available. The merged Stream completes when every source completes, if a source fails the others are
+ * stopped and the error is rethrown to the consumer straight away. Closing the merged Stream stops all sources and
+ * closes them.
+ */
+@Value
+public class MergeOperator<T> {
+
+	private static final Object NULL = new Object();
+
+	List<? extends Stream<? extends T>> sources;
+
+	public Stream<T> merge(Executor exec, int queueCapacity){
+		checkArgs(queueCapacity);
+		Queue<Object> queue = new ManyToManyConcurrentArrayQueue<>(queueCapacity);
+		Queue<Object>[] queues = queues(1);
+		queues[0] = queue;
+		return stream(new Merge<>(sources,exec,queues,i->queue));
+	}
+
+	public Stream<T> mergeByPriority(Executor exec, int queueCapacity){
+		checkArgs(queueCapacity);
+		Queue<Object>[] queues = queues(sources.size());
+		for(int i=0;i<queues.length;i++)
+			queues[i] = new OneToOneConcurrentArrayQueue<>(queueCapacity);
+		return stream(new Merge<>(sources,exec,queues,i->queues[i]));
+	}
+
+	private Stream<T> stream(Merge<T> merge){
+		Stream<T> merged = StreamSupport.stream(merge,false).onClose(merge::cancel);
+		for(Stream<? extends T> source : sources)
+			merged = merged.onClose(source::close);
+		return merged;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Queue<Object>[] queues(int size){
+		return new Queue[size];
+	}
+
+	private static void checkArgs(int queueCapacity){
+		if(queueCapacity<1)
+			throw new IllegalArgumentException("Queue capacity must be 1 or more");
+	}
+
+	private static class Merge<T> implements Spliterator<T>{
+		private final List<? extends Stream<? extends T>> sources;
+		private final Executor exec;
+		private final Queue<Object>[] queues;
+		private final IntFunction<Queue<Object>> queueFor;
+		private final IdleStrategy idle = IdleStrategies.backoff();
+		private final AtomicInteger running;
+		private volatile boolean cancelled = false;
+		private volatile Throwable error;
+		private boolean started = false;
+
+		Merge(List<? extends Stream<? extends T>> sources, Executor exec, Queue<Object>[] queues, IntFunction<Queue<Object>> queueFor){
+			this.sources = sources;
+			this.exec = exec;
+			this.queues = queues;
+			this.queueFor = queueFor;
+			this.running = new AtomicInteger(sources.size());
+		}
+
+		private void start(){
+			if(started)
+				return;
+			started = true;
+			for(int i=0;i<sources.size();i++){
+				Stream<? extends T> source = sources.get(i);
+				Queue<Object> queue = queueFor.apply(i);
+				CompletableFuture.runAsync(()->{
+					IdleStrategy full = IdleStrategies.backoff();
+					try{
+						source.forEach(next->offer(queue,next==null ? NULL : next,full));
+					}catch(Throwable t){
+						if(!cancelled){
+							error = t;
+							cancelled = true;
+						}
+					}finally{
+						running.decrementAndGet();
+					}
+				},exec);
+			}
+		}
+
+		private void offer(Queue<Object> queue, Object next, IdleStrategy full){
+			while(!cancelled && !Thread.currentThread().isInterrupted()){
+				if(queue.offer(next)){
+					full.reset();
+					return;
+				}
+				full.idle();
+			}
+			throw new CancelledException();
+		}
+
+		void cancel(){
+			cancelled = true;
+		}
+
+		private Object poll(){
+			for(Queue<Object> queue : queues){
+				Object next = queue.poll();
+				if(next!=null)
+					return next;
+			}
+			return null;
+		}
+
+		private boolean isEmpty(){
+			for(Queue<Object> queue : queues){
+				if(!queue.isEmpty())
+					return false;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			start();
+			while(true){
+				Object next = poll();
+				if(next!=null){
+					idle.reset();
+					action.accept(unwrap(next));
+					return true;
+				}
+				if(error!=null || (running.get()==0 && isEmpty())) //sources decrement running after their last offer
+					return complete();
+				idle.idle();
+			}
+		}
+
+		private boolean complete(){
+			Throwable t = error;
+			if(t!=null)
+				ExceptionSoftener.throwSoftenedException(t);
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T unwrap(Object next){
+			return next==NULL ? null : (T)next;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED;
+		}
+	}
+
+	private static class CancelledException extends RuntimeException{
+		private static final long serialVersionUID = 1L;
+
+		CancelledException(){
+			super(null,null,false,false);
+		}
+	}
+}
@@ -12,9 +12,6 @@ import java.util.stream.Stream;
 
 import lombok.Value;
 
-import org.jooq.lambda.Seq;
-import org.jooq.lambda.tuple.Tuple2;
-
 import com.aol.cyclops.sequence.streamable.Streamable;
 
 @Value
@@ -23,20 +20,22 @@ public class MultiCollectOperator<T> {
 	public  List collect(Streamable<Collector> collectors){
 	
 		
-		final Supplier supplier =  ()-> collectors.stream().map(c->c.supplier().get()).collect(Collectors.toList());
-		final BiConsumer accumulator = (acc,next) -> {  Seq.seq(collectors.stream().iterator()).<Object,Tuple2<Collector,Object>>zip(
-																Seq.seq((List)acc),(a,b)->new Tuple2<Collector,Object>(a,b))
-													
-													.forEach( t -> t.v1().accumulator().accept(t.v2(),next));
+		final List<Collector> list = collectors.stream().collect(Collectors.toList());
+		final BiConsumer[] accumulators = list.stream().map(c->c.accumulator()).toArray(BiConsumer[]::new);
+		final Supplier supplier =  ()-> list.stream().map(c->c.supplier().get()).collect(Collectors.toList());
+		final BiConsumer accumulator = (acc,next) -> {  
+			List containers = (List)acc;
+			for(int i=0;i<accumulators.length;i++)
+				accumulators[i].accept(containers.get(i),next);
 		};
 		final BinaryOperator combiner = (t1,t2)->  {
 			Iterator t1It = ((Iterable)t1).iterator();
 			Iterator t2It =  ((Iterable)t2).iterator();
-			return collectors.stream().map(c->c.combiner().apply(t1It.next(),t2It.next())).collect(Collectors.toList());
+			return list.stream().map(c->c.combiner().apply(t1It.next(),t2It.next())).collect(Collectors.toList());
 		};
 		Function finisher = t1 -> {
 			Iterator t1It = ((Iterable)t1).iterator();
-			return collectors.stream().map(c->c.finisher().apply(t1It.next())).collect(Collectors.toList());
+			return list.stream().map(c->c.finisher().apply(t1It.next())).collect(Collectors.toList());
 		};
 		 Collector col = Collector.of( supplier,accumulator , combiner,finisher);
 			
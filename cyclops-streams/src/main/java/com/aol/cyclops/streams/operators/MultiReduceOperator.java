@@ -1,9 +1,9 @@
 package com.aol.cyclops.streams.operators;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -16,29 +16,20 @@ public class MultiReduceOperator<R> {
 
 	Stream<R> stream;
 	public List<R> reduce(Iterable<? extends Monoid<R>> reducers){
-		Monoid<R> m = new Monoid(){
-			public List zero(){
-				return StreamUtils.stream(reducers).map(r->r.zero()).collect(Collectors.toList());
-			}
-			public BiFunction<List,List,List> combiner(){
-				return (c1,c2) -> { 
-					List l= new ArrayList<>();
-					int i =0;
-					for(Monoid next : reducers){
-						l.add(next.combiner().apply(c1.get(i),c2.get(0)));
-						i++;
-					}
-					
-					
-					return l;
-				};
-			}
-			
-		
-			public Stream mapToType(Stream stream){
-				return (Stream) stream.map(value->Arrays.asList(value));
-			}
+		List<Monoid<R>> monoids = StreamUtils.stream(reducers).collect(Collectors.toList());
+		List<R> zero = monoids.stream().map(r->r.zero()).collect(Collectors.toList());
+		BiFunction<List<R>,R,List<R>> accumulator = (acc,next) -> {
+			List<R> l= new ArrayList<>(monoids.size());
+			for(int i=0;i<monoids.size();i++)
+				l.add(monoids.get(i).combiner().apply(acc.get(i),next));
+			return l;
 		};
-		return (List)m.mapReduce(stream);
+		BinaryOperator<List<R>> combiner = (c1,c2) -> {
+			List<R> l= new ArrayList<>(monoids.size());
+			for(int i=0;i<monoids.size();i++)
+				l.add(monoids.get(i).combiner().apply(c1.get(i),c2.get(i)));
+			return l;
+		};
+		return stream.reduce(zero,accumulator,combiner);
 	}
 }
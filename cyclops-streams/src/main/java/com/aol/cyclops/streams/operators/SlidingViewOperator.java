@@ -0,0 +1,267 @@
+package com.aol.cyclops.streams.operators;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import lombok.Value;
+
+import com.aol.cyclops.sequence.SlidingWindow;
+import com.aol.cyclops.streams.StreamUtils;
+
+/**
+ * Sliding windows as views over a single circular buffer of windowSize elements.
+ *
+ * Each element is written to the buffer once and the same view is emitted for every window, so no memory is allocated
+ * per window. Windows match those produced by StreamUtils.sliding.
+ */
+@Value
+public class SlidingViewOperator<T> {
+
+	Stream<T> stream;
+
+	public Stream<SlidingWindow<T>> slidingView(int windowSize, int increment){
+		checkArgs(windowSize,increment);
+		Iterator<T> it = stream.iterator();
+		RingWindow<T> window = new RingWindow<>(windowSize);
+		return StreamUtils.stream(new Iterator<SlidingWindow<T>>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public SlidingWindow<T> next() {
+				window.drop(increment);
+				while(window.size<windowSize && it.hasNext())
+					window.append(it.next());
+				return window;
+			}
+
+		});
+	}
+
+	public static Stream<SlidingWindow.OfInt> slidingView(PrimitiveIterator.OfInt it,int windowSize, int increment){
+		checkArgs(windowSize,increment);
+		IntRingWindow window = new IntRingWindow(windowSize);
+		return StreamUtils.stream(new Iterator<SlidingWindow.OfInt>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public SlidingWindow.OfInt next() {
+				window.drop(increment);
+				while(window.size<windowSize && it.hasNext())
+					window.append(it.nextInt());
+				return window;
+			}
+
+		});
+	}
+	public static Stream<SlidingWindow.OfLong> slidingView(PrimitiveIterator.OfLong it,int windowSize, int increment){
+		checkArgs(windowSize,increment);
+		LongRingWindow window = new LongRingWindow(windowSize);
+		return StreamUtils.stream(new Iterator<SlidingWindow.OfLong>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public SlidingWindow.OfLong next() {
+				window.drop(increment);
+				while(window.size<windowSize && it.hasNext())
+					window.append(it.nextLong());
+				return window;
+			}
+
+		});
+	}
+	public static Stream<SlidingWindow.OfDouble> slidingView(PrimitiveIterator.OfDouble it,int windowSize, int increment){
+		checkArgs(windowSize,increment);
+		DoubleRingWindow window = new DoubleRingWindow(windowSize);
+		return StreamUtils.stream(new Iterator<SlidingWindow.OfDouble>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public SlidingWindow.OfDouble next() {
+				window.drop(increment);
+				while(window.size<windowSize && it.hasNext())
+					window.append(it.nextDouble());
+				return window;
+			}
+
+		});
+	}
+
+	private static void checkArgs(int windowSize, int increment){
+		if(windowSize<1)
+			throw new IllegalArgumentException("Window size must be 1 or more");
+		if(increment<1)
+			throw new IllegalArgumentException("Increment must be 1 or more");
+	}
+
+	private static class RingWindow<T> extends AbstractList<T> implements SlidingWindow<T>, RandomAccess{
+		private final Object[] buffer;
+		private int start = 0;
+		private int size = 0;
+
+		RingWindow(int capacity){
+			buffer = new Object[capacity];
+		}
+		void drop(int n){
+			int dropped = Math.min(n,size);
+			for(int i=0;i<dropped;i++)
+				buffer[(start+i)%buffer.length] = null;
+			start = (start+dropped)%buffer.length;
+			size = size-dropped;
+		}
+		void append(T next){
+			buffer[(start+size++)%buffer.length] = next;
+		}
+		@Override
+		public T get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return (T)buffer[(start+index)%buffer.length];
+		}
+		@Override
+		public int size() {
+			return size;
+		}
+		@Override
+		public List<T> copy() {
+			return new ArrayList<>(this);
+		}
+	}
+	private static class IntRingWindow implements SlidingWindow.OfInt{
+		private final int[] buffer;
+		private int start = 0;
+		private int size = 0;
+
+		IntRingWindow(int capacity){
+			buffer = new int[capacity];
+		}
+		void drop(int n){
+			int dropped = Math.min(n,size);
+			start = (start+dropped)%buffer.length;
+			size = size-dropped;
+		}
+		void append(int next){
+			buffer[(start+size++)%buffer.length] = next;
+		}
+		@Override
+		public int get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return buffer[(start+index)%buffer.length];
+		}
+		@Override
+		public int size() {
+			return size;
+		}
+		@Override
+		public int[] copy() {
+			int[] copy = new int[size];
+			for(int i=0;i<size;i++)
+				copy[i] = buffer[(start+i)%buffer.length];
+			return copy;
+		}
+		@Override
+		public IntStream stream() {
+			return IntStream.range(0,size).map(this::get);
+		}
+	}
+	private static class LongRingWindow implements SlidingWindow.OfLong{
+		private final long[] buffer;
+		private int start = 0;
+		private int size = 0;
+
+		LongRingWindow(int capacity){
+			buffer = new long[capacity];
+		}
+		void drop(int n){
+			int dropped = Math.min(n,size);
+			start = (start+dropped)%buffer.length;
+			size = size-dropped;
+		}
+		void append(long next){
+			buffer[(start+size++)%buffer.length] = next;
+		}
+		@Override
+		public long get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return buffer[(start+index)%buffer.length];
+		}
+		@Override
+		public int size() {
+			return size;
+		}
+		@Override
+		public long[] copy() {
+			long[] copy = new long[size];
+			for(int i=0;i<size;i++)
+				copy[i] = buffer[(start+i)%buffer.length];
+			return copy;
+		}
+		@Override
+		public LongStream stream() {
+			return IntStream.range(0,size).mapToLong(this::get);
+		}
+	}
+	private static class DoubleRingWindow implements SlidingWindow.OfDouble{
+		private final double[] buffer;
+		private int start = 0;
+		private int size = 0;
+
+		DoubleRingWindow(int capacity){
+			buffer = new double[capacity];
+		}
+		void drop(int n){
+			int dropped = Math.min(n,size);
+			start = (start+dropped)%buffer.length;
+			size = size-dropped;
+		}
+		void append(double next){
+			buffer[(start+size++)%buffer.length] = next;
+		}
+		@Override
+		public double get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return buffer[(start+index)%buffer.length];
+		}
+		@Override
+		public int size() {
+			return size;
+		}
+		@Override
+		public double[] copy() {
+			double[] copy = new double[size];
+			for(int i=0;i<size;i++)
+				copy[i] = buffer[(start+i)%buffer.length];
+			return copy;
+		}
+		@Override
+		public DoubleStream stream() {
+			return IntStream.range(0,size).mapToDouble(this::get);
+		}
+	}
+}
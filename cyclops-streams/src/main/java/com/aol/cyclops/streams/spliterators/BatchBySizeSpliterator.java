@@ -0,0 +1,93 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Groups the elements of a source Spliterator into batches of a fixed size.
+ *
+ * Where the source Spliterator is SUBSIZED, splits are aligned to batch boundaries (by moving the elements that complete
+ * the last batch of the prefix across from the remainder), so the batches produced by a parallel Stream are identical
+ * to those produced sequentially. Sources that are not SUBSIZED are not split.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the source Spliterator
+ * @param <C> Collection type of each batch
+ */
+public class BatchBySizeSpliterator<T, C extends Collection<? super T>> implements Spliterator<C> {
+
+	private final Spliterator<T> source;
+	private final List<T> tail;
+	private final int groupSize;
+	private final Supplier<C> factory;
+	private int tailIndex =0;
+
+	public BatchBySizeSpliterator(Spliterator<T> source, int groupSize, Supplier<C> factory) {
+		this(source,new ArrayList<>(),groupSize,factory);
+	}
+	private BatchBySizeSpliterator(Spliterator<T> source, List<T> tail, int groupSize, Supplier<C> factory) {
+		this.source = source;
+		this.tail = tail;
+		this.groupSize = groupSize;
+		this.factory = factory;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super C> action) {
+		C batch = factory.get();
+		for(int i=0;i<groupSize && advance(batch::add);i++){
+
+		}
+		if(batch.isEmpty())
+			return false;
+		action.accept(batch);
+		return true;
+	}
+
+	private boolean advance(Consumer<? super T> action){
+		if(source.tryAdvance(action))
+			return true;
+		if(tailIndex<tail.size()){
+			action.accept(tail.get(tailIndex++));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Spliterator<C> trySplit() {
+		if(!source.hasCharacteristics(SUBSIZED))
+			return null;
+		Spliterator<T> prefix = source.trySplit();
+		if(prefix==null)
+			return null;
+		long remainder = prefix.getExactSizeIfKnown() % groupSize;
+		List<T> carry = new ArrayList<>();
+		if(remainder!=0){
+			for(long i=remainder;i<groupSize && advance(carry::add);i++){
+
+			}
+		}
+		return new BatchBySizeSpliterator<>(prefix,carry,groupSize,factory);
+	}
+
+	@Override
+	public long estimateSize() {
+		long size = source.estimateSize();
+		if(size==Long.MAX_VALUE)
+			return size;
+		size = size + tail.size() - tailIndex;
+		return size/groupSize + (size%groupSize==0 ? 0 : 1);
+	}
+
+	@Override
+	public int characteristics() {
+		return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+	}
+
+}
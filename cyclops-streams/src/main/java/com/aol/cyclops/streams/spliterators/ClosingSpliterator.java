@@ -4,21 +4,40 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.IdleStrategy;
+
 public class ClosingSpliterator<T> implements Spliterator<T> {
     private long estimate;
    
    
     private final Queue<T> queue;
     private final AtomicBoolean open;
+    private final AtomicReference<? extends RuntimeException> error;
+    private final IdleStrategy idle;
 
     public ClosingSpliterator(long estimate,	
     		Queue queue, AtomicBoolean open) {
+        this(estimate,queue,open,new AtomicReference<>(),IdleStrategies.backoff());
+       
+    }
+    /**
+     * @param estimate Size estimate
+     * @param queue Queue to read from
+     * @param open Closed when no further data will be added to the queue
+     * @param error If set when the queue is closed and drained, thrown to the consumer
+     * @param idle How to wait while the queue is empty
+     */
+    public ClosingSpliterator(long estimate,	
+    		Queue queue, AtomicBoolean open,AtomicReference<? extends RuntimeException> error,IdleStrategy idle) {
         this.estimate = estimate;
         this.open = open;
         this.queue = queue;
+        this.error = error;
+        this.idle = idle;
        
     }
    
@@ -42,26 +61,35 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
 
 			if(!open.get() && queue.size()==0){
 				
-				return false;
+				return complete();
 			}
 
 			while(open.get()){
-				long nanos=1l;
-
         
 				T value;
 				if((value=queue.poll())!=null){
+					idle.reset();
 					action.accept(nullSafe(value));
         	
 					return true;
 				}
-				LockSupport.parkNanos(nanos);
-				nanos= nanos*2;
+				idle.idle();
         	
 		}
-			return false;
+			T value;
+			if((value=queue.poll())!=null){ //closed after the last poll
+				action.accept(nullSafe(value));
+				return true;
+			}
+			return complete();
         
 	}
+	private boolean complete(){
+		RuntimeException e = error.get();
+		if(e!=null)
+			throw e;
+		return false;
+	}
 
 	private T nullSafe(T value) {
 		return value;
@@ -71,7 +99,7 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
 	@Override
 	public Spliterator<T> trySplit() {
 		
-		return this;
+		return null;
 	}
 
    
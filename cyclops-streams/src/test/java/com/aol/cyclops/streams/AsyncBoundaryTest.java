@@ -0,0 +1,119 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class AsyncBoundaryTest {
+
+	ExecutorService exec = Executors.newFixedThreadPool(2);
+
+	@After
+	public void shutdown(){
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void preservesOrder(){
+		List<Integer> expected = IntStream.range(0,100_000).boxed().collect(Collectors.toList());
+		assertThat(SequenceM.fromIterable(expected)
+							.map(i->i+1)
+							.async(exec,16)
+							.map(i->i-1)
+							.toList(),equalTo(expected));
+	}
+	@Test
+	public void tryAdvance(){
+		assertThat(SequenceM.range(0,1000)
+							.async(exec,8)
+							.limit(10)
+							.toList(),equalTo(SequenceM.range(0,10).toList()));
+	}
+	@Test
+	public void upstreamRunsOnExecutor(){
+		AtomicReference<Thread> producer = new AtomicReference<>();
+		SequenceM.of(1,2,3)
+				.peek(i->producer.set(Thread.currentThread()))
+				.async(exec,4)
+				.forEach(i->{});
+		assertThat(producer.get(),not(equalTo(Thread.currentThread())));
+	}
+	@Test
+	public void nulls(){
+		assertThat(SequenceM.of(1,null,3)
+							.async(exec,4)
+							.toList(),equalTo(Arrays.asList(1,null,3)));
+	}
+	@Test
+	public void empty(){
+		assertThat(SequenceM.of()
+							.async(exec,4)
+							.toList().size(),equalTo(0));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void errorsRethrown(){
+		SequenceM.of(1,2,3)
+				.peek(i->{ if(i==3) throw new IllegalStateException(); })
+				.async(exec,4)
+				.toList();
+	}
+	@Test
+	public void waitStrategies(){
+		List<Integer> expected = IntStream.range(0,10_000).boxed().collect(Collectors.toList());
+		assertThat(SequenceM.fromIterable(expected)
+							.async(exec,4,IdleStrategies.blocking(),IdleStrategies.blocking())
+							.toList(),equalTo(expected));
+		assertThat(SequenceM.fromIterable(expected)
+							.async(exec,4,IdleStrategies.yielding(),IdleStrategies.spin())
+							.toList(),equalTo(expected));
+	}
+	@Test
+	public void closeStopsProducer() throws InterruptedException{
+		ExecutorService producer = Executors.newSingleThreadExecutor();
+		AtomicLong produced = new AtomicLong(0);
+		SequenceM<Integer> infinite = SequenceM.iterate(0,i->i+1)
+												.peek(i->produced.incrementAndGet())
+												.async(producer,4);
+		assertThat(infinite.limit(10).toList(),equalTo(SequenceM.range(0,10).toList()));
+		producer.shutdown();
+		assertFalse(producer.awaitTermination(100,TimeUnit.MILLISECONDS)); //waiting for space in the buffer
+		infinite.close();
+		assertTrue(producer.awaitTermination(1,TimeUnit.SECONDS));
+		assertTrue(produced.get()<100);
+	}
+	@Test
+	public void abandonedStopsProducer() throws InterruptedException{
+		ExecutorService producer = Executors.newSingleThreadExecutor();
+		consumeAndAbandon(producer);
+		producer.shutdown();
+		for(int i=0;i<50 && !producer.isTerminated();i++){
+			System.gc();
+			producer.awaitTermination(100,TimeUnit.MILLISECONDS);
+		}
+		assertTrue(producer.isTerminated());
+	}
+	private void consumeAndAbandon(ExecutorService producer){
+		assertThat(SequenceM.iterate(0,i->i+1)
+							.async(producer,4)
+							.limit(10)
+							.toList().size(),equalTo(10));
+	}
+}
@@ -0,0 +1,99 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.OverflowPolicy;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class BufferingCopierTest {
+
+	List<Integer> expected = IntStream.range(0,10_000).boxed().collect(Collectors.toList());
+
+	@Test
+	public void copiesReadInTurn(){
+		List<Iterator<Integer>> copies = StreamUtils.toBufferingCopier(expected.iterator(),3);
+		List<List<Integer>> results = new ArrayList<>();
+		for(int i=0;i<3;i++)
+			results.add(new ArrayList<>());
+		for(int i=0;i<3;i++)
+			copies.get(i).forEachRemaining(results.get(i)::add);
+
+		for(List<Integer> next : results)
+			assertThat(next,equalTo(expected));
+	}
+	@Test
+	public void copiesInterleaved(){
+		List<Iterator<Integer>> copies = StreamUtils.toBufferingCopier(expected.iterator(),3);
+		List<Integer> leader = new ArrayList<>();
+		List<Integer> middle = new ArrayList<>();
+		List<Integer> laggard = new ArrayList<>();
+		while(copies.get(0).hasNext()){
+			leader.add(copies.get(0).next());
+			if(leader.size()%2==0)
+				middle.add(copies.get(1).next());
+			if(leader.size()%5==0)
+				laggard.add(copies.get(2).next());
+		}
+		copies.get(1).forEachRemaining(middle::add);
+		copies.get(2).forEachRemaining(laggard::add);
+
+		assertThat(leader,equalTo(expected));
+		assertThat(middle,equalTo(expected));
+		assertThat(laggard,equalTo(expected));
+	}
+	@Test
+	public void duplicatorLimit(){
+		Tuple2<Iterator<Integer>,Iterator<Integer>> copies = StreamUtils.toBufferingDuplicator(expected.iterator(),5);
+		List<Integer> all = new ArrayList<>();
+		List<Integer> limited = new ArrayList<>();
+		copies.v2.forEachRemaining(all::add);
+		copies.v1.forEachRemaining(limited::add);
+
+		assertThat(all,equalTo(expected));
+		assertThat(limited,equalTo(expected.subList(0,5)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void maxBufferError(){
+		Tuple2<SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.fromList(expected)
+																	.duplicateSequence(100,OverflowPolicy.ERROR);
+		copies.v1.toList();
+	}
+	@Test
+	public void maxBufferWithinLimit(){
+		Tuple2<SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.fromList(expected)
+																	.duplicateSequence(100,OverflowPolicy.ERROR);
+		Iterator<Integer> it = copies.v2.iterator();
+		List<Integer> result = copies.v1.peek(i->it.next()).toList();
+
+		assertThat(result,equalTo(expected));
+	}
+	@Test
+	public void maxBufferBlock(){
+		List<Iterator<Integer>> copies = StreamUtils.toBufferingCopier(expected.iterator(),2,16,OverflowPolicy.BLOCK);
+		CompletableFuture<List<Integer>> other = CompletableFuture.supplyAsync(()->{
+			List<Integer> result = new ArrayList<>();
+			copies.get(1).forEachRemaining(result::add);
+			return result;
+		});
+		List<Integer> result = new ArrayList<>();
+		copies.get(0).forEachRemaining(result::add);
+
+		assertThat(result,equalTo(expected));
+		assertThat(other.join(),equalTo(expected));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void dropPoliciesNotSupported(){
+		StreamUtils.toBufferingCopier(expected.iterator(),2,16,OverflowPolicy.DROP_OLDEST);
+	}
+}
@@ -0,0 +1,180 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.SpillOptions;
+import com.aol.cyclops.sequence.SpillSerializers;
+
+public class ExternalOperationsTest {
+
+	File dir;
+	List<Integer> data;
+	SpillOptions<Integer> options;
+
+	@Before
+	public void setup() throws IOException{
+		dir = Files.createTempDirectory("spill").toFile();
+		Random r = new Random(7);
+		data = SequenceM.range(0,20_000).map(i->r.nextInt(5_000)).toList();
+		//budget of 1,000 elements, a twentieth of the data
+		options = SpillOptions.of(SpillSerializers.integers(),16_000).withSizeOf(i->16).withDirectory(dir);
+	}
+	@After
+	public void cleanup(){
+		for(File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+	private int spilled(){
+		return dir.listFiles().length;
+	}
+
+	@Test
+	public void externalSorted(){
+		assertThat(SequenceM.fromList(data).externalSorted(Comparator.naturalOrder(),options).toList(),
+					equalTo(SequenceM.fromList(data).sorted().toList()));
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalSortedMoreRunsThanFanIn(){
+		SpillOptions<Integer> small = options.withSizeOf(i->1_000);
+		assertThat(SequenceM.fromList(data).externalSorted(Comparator.reverseOrder(),small).toList(),
+					equalTo(SequenceM.fromList(data).sorted(Comparator.reverseOrder()).toList()));
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalSortedSpillsWhileInFlight(){
+		Iterator<Integer> it = SequenceM.fromList(data).externalSorted(Comparator.naturalOrder(),options).iterator();
+		assertThat(it.next(),equalTo(Collections.min(data)));
+		assertThat(spilled(),greaterThan(0));
+		while(it.hasNext())
+			it.next();
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalSortedIsStable(){
+		List<String> strings = SequenceM.fromList(data).map(i->i%100+":"+i).toList();
+		SpillOptions<String> stringOptions = SpillOptions.of(SpillSerializers.strings(),16_000).withDirectory(dir);
+		Comparator<String> prefix = Comparator.comparing(s->s.substring(0,s.indexOf(':')));
+		assertThat(SequenceM.fromList(strings).externalSorted(prefix,stringOptions).toList(),
+					equalTo(SequenceM.fromList(strings).sorted(prefix).toList()));
+	}
+	@Test
+	public void externalSortedLongStrings(){
+		List<String> strings = SequenceM.range(0,10).map(i->(char)('j'-i)+SequenceM.range(0,70_000).map(n->"\u00e9").join()).toList();
+		SpillOptions<String> stringOptions = SpillOptions.of(SpillSerializers.strings(),100_000).withSizeOf(String::length).withDirectory(dir);
+		Iterator<String> it = SequenceM.fromList(strings).externalSorted(Comparator.naturalOrder(),stringOptions).iterator();
+		assertThat(it.next(),equalTo(strings.get(9)));
+		assertThat(spilled(),greaterThan(0));
+		List<String> sorted = SequenceM.fromList(strings).sorted().toList();
+		for(int i=1;i<sorted.size();i++)
+			assertThat(it.next(),equalTo(sorted.get(i)));
+		assertThat(it.hasNext(),equalTo(false));
+	}
+	@Test
+	public void stringSerializerNull() throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		SpillSerializers.strings().write(null,new DataOutputStream(bytes));
+		assertThat(SpillSerializers.strings().read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))),nullValue());
+	}
+	@Test
+	public void externalSortedWithinBudget(){
+		assertThat(SequenceM.of(3,1,2).externalSorted(Comparator.naturalOrder(),options).toList(),equalTo(Arrays.asList(1,2,3)));
+		assertThat(SequenceM.<Integer>of().externalSorted(Comparator.naturalOrder(),options).count(),equalTo(0l));
+	}
+	@Test
+	public void externalSortedNulls(){
+		assertThat(SequenceM.of(3,null,1).externalSorted(Comparator.nullsFirst(Comparator.naturalOrder()),options.withSizeOf(i->16_000)).toList(),
+					equalTo(Arrays.asList(null,1,3)));
+	}
+	@Test
+	public void closeRemovesSpilledFiles(){
+		SequenceM<Integer> sorted = SequenceM.fromList(data).externalSorted(Comparator.naturalOrder(),options);
+		assertThat(sorted.limit(10).toList().size(),equalTo(10));
+		assertThat(spilled(),greaterThan(0));
+		sorted.close();
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalGroupBy(){
+		Map<Integer,List<Integer>> groups = new TreeMap<>();
+		SequenceM.fromList(data).externalGroupBy(i->i%1_000,options).forEach(t->groups.put(t.v1,t.v2));
+		assertThat(groups,equalTo(new TreeMap<>(SequenceM.fromList(data).groupBy(i->i%1_000))));
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalGroupBySpillsWhileInFlight(){
+		Iterator<Tuple2<Integer,List<Integer>>> it = SequenceM.fromList(data).externalGroupBy(i->i%1_000,options).iterator();
+		it.next();
+		assertThat(spilled(),greaterThan(0));
+		int groups = 1;
+		for(;it.hasNext();groups++)
+			it.next();
+		assertThat(groups,equalTo(1_000));
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalGroupByRepartitions(){
+		Map<Integer,List<Integer>> groups = new TreeMap<>();
+		SequenceM.fromList(data).externalGroupBy(i->i,options.withSizeOf(i->400)).forEach(t->groups.put(t.v1,t.v2));
+		assertThat(groups,equalTo(new TreeMap<>(SequenceM.fromList(data).groupBy(i->i))));
+	}
+	@Test
+	public void externalGroupByOversizedGroup(){
+		assertThat(SequenceM.fromList(data).externalGroupBy(i->1,options).single().v2.size(),equalTo(data.size()));
+	}
+	@Test
+	public void externalGroupByWithinBudget(){
+		assertThat(SequenceM.of(1,2,3,4).externalGroupBy(i->i%2,options).map(t->t.v2).toList(),
+					equalTo(Arrays.asList(Arrays.asList(1,3),Arrays.asList(2,4))));
+	}
+	@Test
+	public void externalDistinct(){
+		assertThat(SequenceM.fromList(data).externalDistinct(options).sorted().toList(),
+					equalTo(SequenceM.fromList(data).distinct().sorted().toList()));
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void externalDistinctWithinBudget(){
+		assertThat(SequenceM.of(1,2,2,null,1,null).externalDistinct(options).toList(),equalTo(Arrays.asList(1,2,null)));
+	}
+	@Test
+	public void externalOperationsAreLazy(){
+		SequenceM.generate(()->{ throw new IllegalStateException(); }).map(o->1).externalSorted(Comparator.naturalOrder(),options);
+		SequenceM.<Integer>generate(()->{ throw new IllegalStateException(); }).externalDistinct(options);
+		assertThat(spilled(),equalTo(0));
+	}
+	@Test
+	public void javaSerializer(){
+		SpillOptions<String> javaOptions = SpillOptions.<String>of(SpillSerializers.java(),16_000).withDirectory(dir);
+		List<String> strings = SequenceM.fromList(data).map(i->"s"+i).toList();
+		assertThat(SequenceM.fromList(strings).externalSorted(Comparator.naturalOrder(),javaOptions).toList(),
+					equalTo(strings.stream().sorted().collect(Collectors.toList())));
+	}
+}
@@ -0,0 +1,130 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.jooq.lambda.tuple.Tuple.tuple;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class JoinTest {
+
+	private static int key(String s){
+		return Integer.parseInt(s.substring(0,1));
+	}
+	private static List<String> sorted(SequenceM<Tuple2<Integer,String>> joined){
+		return joined.map(Object::toString).sorted().toList();
+	}
+	private static List<String> strings(List<? extends Tuple2<?,?>> tuples){
+		return tuples.stream().map(Object::toString).sorted().collect(Collectors.toList());
+	}
+
+	@Test
+	public void innerJoin(){
+		assertThat(sorted(SequenceM.of(1,2,3,4).innerJoin(Stream.of("1a","3a","3b","5a"),i->i,JoinTest::key)),
+					equalTo(strings(Arrays.asList(tuple(1,"1a"),tuple(3,"3a"),tuple(3,"3b")))));
+	}
+	@Test
+	public void innerJoinSmallerLeft(){
+		assertThat(sorted(SequenceM.of(1,3).innerJoin(Arrays.asList("1a","2a","3a","3b","5a").stream(),i->i,JoinTest::key)),
+					equalTo(strings(Arrays.asList(tuple(1,"1a"),tuple(3,"3a"),tuple(3,"3b")))));
+	}
+	@Test
+	public void innerJoinBuildsSmallerLeft(){
+		AtomicInteger left = new AtomicInteger(0);
+		AtomicInteger right = new AtomicInteger(0);
+		Iterator<Tuple2<Integer,String>> it = SequenceM.of(1,3)
+														.peek(i->left.incrementAndGet())
+														.innerJoin(Arrays.asList("1a","2a","3a","3b","5a").stream()
+																		.peek(s->right.incrementAndGet()),i->i,JoinTest::key)
+														.iterator();
+		assertThat(it.next(),equalTo(tuple(1,"1a")));
+		assertThat(left.get(),equalTo(2));
+		assertThat(right.get(),equalTo(1));
+	}
+	@Test
+	public void innerJoinBuildsSmallerRight(){
+		AtomicInteger left = new AtomicInteger(0);
+		AtomicInteger right = new AtomicInteger(0);
+		Iterator<Tuple2<Integer,String>> it = SequenceM.of(1,2,3,4,5)
+														.peek(i->left.incrementAndGet())
+														.innerJoin(Arrays.asList("1a","3a").stream()
+																		.peek(s->right.incrementAndGet()),i->i,JoinTest::key)
+														.iterator();
+		assertThat(it.next(),equalTo(tuple(1,"1a")));
+		assertThat(left.get(),equalTo(1));
+		assertThat(right.get(),equalTo(2));
+	}
+	@Test
+	public void innerJoinDuplicateKeysBothSides(){
+		assertThat(SequenceM.of(1,1).innerJoin(Stream.of("1a","1b"),i->i,JoinTest::key).count(),equalTo(4l));
+	}
+	@Test
+	public void innerJoinMatchesPredicateJoin(){
+		List<String> hash = sorted(SequenceM.range(0,50).innerJoin(SequenceM.range(0,100).map(i->(i%10)+"x"),i->i,JoinTest::key));
+		List<String> predicate = sorted(SequenceM.range(0,50).innerJoin(SequenceM.range(0,100).map(i->(i%10)+"x"),(i,s)->i==key(s)));
+		assertThat(hash,equalTo(predicate));
+	}
+	@Test
+	public void leftOuterJoin(){
+		assertThat(sorted(SequenceM.of(1,2,3).leftOuterJoin(Stream.of("1a","3a","5a"),i->i,JoinTest::key)),
+					equalTo(strings(Arrays.asList(tuple(1,"1a"),tuple(2,null),tuple(3,"3a")))));
+	}
+	@Test
+	public void leftOuterJoinSmallerLeft(){
+		assertThat(sorted(SequenceM.of(1,2).leftOuterJoin(Arrays.asList("1a","3a","5a","6a").stream(),i->i,JoinTest::key)),
+					equalTo(strings(Arrays.asList(tuple(1,"1a"),tuple(2,null)))));
+	}
+	@Test
+	public void fullOuterJoin(){
+		assertThat(sorted(SequenceM.of(1,2,3).fullOuterJoin(Stream.of("1a","3a","5a"),i->i,JoinTest::key)),
+					equalTo(strings(Arrays.asList(tuple(1,"1a"),tuple(2,null),tuple(3,"3a"),tuple(null,"5a")))));
+	}
+	@Test
+	public void emptyJoins(){
+		assertThat(SequenceM.<Integer>of().innerJoin(Stream.of("1a"),i->i,JoinTest::key).count(),equalTo(0l));
+		assertThat(SequenceM.<Integer>of().fullOuterJoin(Stream.of("1a"),i->i,JoinTest::key).count(),equalTo(1l));
+	}
+	@Test
+	public void joinIsLazy(){
+		SequenceM.of(1).innerJoin(Stream.<String>generate(()->{ throw new IllegalStateException(); }),i->i,JoinTest::key);
+	}
+
+	@Test
+	public void sortMergeJoin(){
+		assertThat(SequenceM.of(1,1,2,3,3,5,7)
+							.sortMergeJoin(Stream.of("0x","1a","1b","3a","4a","5a","5b","8a"),i->i,JoinTest::key)
+							.toList(),
+					equalTo(Arrays.asList(tuple(1,"1a"),tuple(1,"1b"),tuple(1,"1a"),tuple(1,"1b"),
+										tuple(3,"3a"),tuple(3,"3a"),tuple(5,"5a"),tuple(5,"5b"))));
+	}
+	@Test
+	public void sortMergeJoinMatchesHashJoin(){
+		List<String> merge = sorted(SequenceM.range(0,200).map(i->i/3)
+											.sortMergeJoin(SequenceM.range(0,100).map(i->(i/4)+"x"),i->i,s->Integer.parseInt(s.substring(0,s.length()-1))));
+		List<String> hash = sorted(SequenceM.range(0,200).map(i->i/3)
+											.innerJoin(SequenceM.range(0,100).map(i->(i/4)+"x"),i->i,s->Integer.parseInt(s.substring(0,s.length()-1))));
+		assertThat(merge,equalTo(hash));
+	}
+	@Test
+	public void sortMergeJoinInfinite(){
+		assertThat(SequenceM.iterate(0,i->i+1)
+							.sortMergeJoin(SequenceM.iterate(0,i->i+2),i->i,i->i)
+							.limit(3)
+							.toList(),
+					equalTo(Arrays.asList(tuple(0,0),tuple(2,2),tuple(4,4))));
+	}
+	@Test
+	public void sortMergeJoinEmpty(){
+		assertThat(SequenceM.<Integer>of().sortMergeJoin(Stream.of(1,2),i->i,i->i).count(),equalTo(0l));
+	}
+}
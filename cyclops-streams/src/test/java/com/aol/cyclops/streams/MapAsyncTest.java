@@ -0,0 +1,122 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class MapAsyncTest {
+
+	ExecutorService exec = Executors.newFixedThreadPool(10);
+	AtomicInteger inFlight = new AtomicInteger(0);
+	AtomicInteger maxInFlight = new AtomicInteger(0);
+
+	@After
+	public void shutdown(){
+		exec.shutdown();
+	}
+
+	private CompletableFuture<Integer> slowLookup(int i){
+		return CompletableFuture.supplyAsync(()->{
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(),Math::max);
+			try {
+				Thread.sleep(i%3==0 ? 20 : 2);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			inFlight.decrementAndGet();
+			return i*10;
+		},exec);
+	}
+
+	@Test
+	public void mapAsyncPreservesOrder(){
+		assertThat(SequenceM.range(0,30)
+							.mapAsync(this::slowLookup,4)
+							.toList(),
+							equalTo(SequenceM.range(0,30).map(i->i*10).toList()));
+	}
+	@Test
+	public void mapAsyncLimitsInFlight(){
+		SequenceM.range(0,50).mapAsync(this::slowLookup,4).toList();
+		assertThat(maxInFlight.get(),lessThanOrEqualTo(4));
+		assertTrue(maxInFlight.get()>1);
+	}
+	@Test
+	public void mapAsyncUnorderedEmitsEveryResult(){
+		List<Integer> result = SequenceM.range(0,30)
+										.mapAsyncUnordered(this::slowLookup,4)
+										.toList();
+		assertThat(result.stream().sorted().collect(Collectors.toList()),
+							equalTo(SequenceM.range(0,30).map(i->i*10).toList()));
+		assertThat(maxInFlight.get(),lessThanOrEqualTo(4));
+	}
+	@Test
+	public void mapAsyncUnorderedEmitsInCompletionOrder(){
+		CompletableFuture<Integer> slow = new CompletableFuture<>();
+		List<CompletableFuture<Integer>> futures = Arrays.asList(slow,CompletableFuture.completedFuture(2));
+		List<Integer> result = new ArrayList<>();
+		StreamUtils.mapAsyncUnordered(Stream.of(0,1),futures::get,2)
+					.peek(i->slow.complete(1))
+					.forEach(result::add);
+		assertThat(result,equalTo(Arrays.asList(2,1)));
+	}
+	@Test
+	public void maxInFlightOfOneIsSequential(){
+		assertThat(StreamUtils.mapAsync(Stream.of(1,2,3),i->CompletableFuture.completedFuture(i+2),1)
+								.collect(Collectors.toList()),
+								equalTo(Arrays.asList(3,4,5)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void failurePropagates(){
+		SequenceM.of(1,2,3)
+				.mapAsync(i->i==2 ? exceptionally(new IllegalStateException()) : CompletableFuture.completedFuture(i),2)
+				.toList();
+	}
+	@Test
+	public void failureCancelsOutstanding(){
+		CompletableFuture<Integer> outstanding = new CompletableFuture<>();
+		List<CompletableFuture<Integer>> futures = Arrays.asList(exceptionally(new IllegalStateException()),outstanding);
+		try{
+			StreamUtils.mapAsync(Stream.of(0,1),futures::get,2).collect(Collectors.toList());
+			fail("failure should propagate");
+		}catch(IllegalStateException e){
+			assertTrue(outstanding.isCancelled());
+		}
+	}
+	@Test
+	public void closeCancelsOutstanding(){
+		CompletableFuture<Integer> outstanding = new CompletableFuture<>();
+		List<CompletableFuture<Integer>> futures = Arrays.asList(CompletableFuture.completedFuture(0),outstanding);
+		Stream<Integer> stream = StreamUtils.mapAsync(Stream.of(0,1),futures::get,2);
+		stream.iterator().next();
+		stream.close();
+		assertTrue(outstanding.isCancelled());
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void maxInFlightMustBePositive(){
+		SequenceM.of(1).mapAsync(i->CompletableFuture.completedFuture(i),0);
+	}
+
+	private static <T> CompletableFuture<T> exceptionally(Throwable t){
+		CompletableFuture<T> f = new CompletableFuture<>();
+		f.completeExceptionally(t);
+		return f;
+	}
+}
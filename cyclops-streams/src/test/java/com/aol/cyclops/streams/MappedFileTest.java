@@ -0,0 +1,100 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.spliterators.MappedLineSpliterator;
+
+public class MappedFileTest {
+
+	Path file;
+
+	@Before
+	public void setup() throws IOException{
+		file = Files.createTempFile("mapped",".txt");
+	}
+	@After
+	public void cleanup() throws IOException{
+		Files.delete(file);
+	}
+	private Path write(String content) throws IOException{
+		return Files.write(file,content.getBytes(StandardCharsets.UTF_8));
+	}
+	private Path writeLines(int count) throws IOException{
+		return Files.write(file,SequenceM.range(0,count).map(i->"line "+i+" of "+count).toList(),StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void lineTerminators() throws IOException{
+		write("a\nb\r\nc\rd\n\n\r\ne");
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).toList(),
+					equalTo(Files.lines(file).collect(Collectors.toList())));
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).toList(),
+					equalTo(Arrays.asList("a","b","c","d","","","e")));
+	}
+	@Test
+	public void trailingNewline() throws IOException{
+		write("a\nb\n");
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).toList(),equalTo(Arrays.asList("a","b")));
+	}
+	@Test
+	public void emptyFile() throws IOException{
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).count(),equalTo(0l));
+		write("\n");
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).toList(),equalTo(Arrays.asList("")));
+	}
+	@Test
+	public void multibyte() throws IOException{
+		write("caf\u00e9\n\u65e5\u672c\n");
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).toList(),equalTo(Arrays.asList("caf\u00e9","\u65e5\u672c")));
+	}
+	@Test
+	public void otherCharsetsUseFilesLines() throws IOException{
+		Files.write(file,Arrays.asList("a","b"),StandardCharsets.UTF_16);
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_16).toList(),equalTo(Arrays.asList("a","b")));
+	}
+	@Test
+	public void parallel() throws IOException{
+		writeLines(100_000);
+		List<String> expected = Files.lines(file).collect(Collectors.toList());
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).parallel().toList(),equalTo(expected));
+		assertThat(SequenceM.fromMappedFile(file,StandardCharsets.UTF_8).parallel().count(),equalTo(100_000l));
+	}
+	@Test
+	public void splitsAtLineBoundaries() throws IOException{
+		writeLines(100_000);
+		try(FileChannel channel = FileChannel.open(file,StandardOpenOption.READ)){
+			MappedLineSpliterator<String> suffix = MappedLineSpliterator.lines(channel,StandardCharsets.UTF_8);
+			long size = suffix.estimateSize();
+			assertThat(suffix.trySplit(),notNullValue());
+			assertThat(suffix.estimateSize()<size,equalTo(true));
+			suffix.tryAdvance(line->assertThat(line.startsWith("line "),equalTo(true)));
+		}
+	}
+	@Test
+	public void views() throws IOException{
+		writeLines(1_000);
+		assertThat(SequenceM.fromMappedFileViews(file).map(CharSequence::toString).toList(),
+					equalTo(Files.lines(file).collect(Collectors.toList())));
+		CharSequence first = SequenceM.fromMappedFileViews(file).firstValue();
+		assertThat(first.length(),equalTo(14));
+		assertThat(first.charAt(5),equalTo('0'));
+		assertThat(first.subSequence(0,4).toString(),equalTo("line"));
+	}
+}
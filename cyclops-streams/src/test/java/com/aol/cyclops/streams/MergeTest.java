@@ -0,0 +1,170 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class MergeTest {
+
+	ExecutorService exec = Executors.newCachedThreadPool();
+
+	@After
+	public void shutdown(){
+		exec.shutdownNow();
+	}
+
+	private static void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	private static void await(CountDownLatch latch){
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void everyElementMerged(){
+		List<Integer> result = SequenceM.range(0,1000)
+										.merge(exec,SequenceM.range(1000,2000),Stream.of(2000,2001))
+										.toList();
+		assertThat(result.stream().sorted().collect(Collectors.toList()),equalTo(SequenceM.range(0,2002).toList()));
+	}
+	@Test
+	public void sourceOrderKept(){
+		List<Integer> result = SequenceM.range(0,1000)
+										.merge(exec,SequenceM.range(1000,2000))
+										.toList();
+		assertThat(result.stream().filter(i->i<1000).collect(Collectors.toList()),equalTo(SequenceM.range(0,1000).toList()));
+		assertThat(result.stream().filter(i->i>=1000).collect(Collectors.toList()),equalTo(SequenceM.range(1000,2000).toList()));
+	}
+	@Test
+	public void emittedInArrivalOrder(){
+		assertThat(SequenceM.of("slow")
+							.peek(s->sleep(200))
+							.merge(exec,Stream.of("fast"))
+							.toList(),equalTo(Arrays.asList("fast","slow")));
+	}
+	@Test
+	public void nulls(){
+		assertThat(SequenceM.of(1,null).merge(exec,Stream.of((Integer)null)).toList().size(),equalTo(3));
+	}
+	@Test
+	public void emptySources(){
+		assertThat(SequenceM.<Integer>of().merge(exec,Stream.empty()).toList().size(),equalTo(0));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void errorsRethrown(){
+		SequenceM.iterate(0,i->i+1)
+				.merge(exec,Stream.of(1,2).peek(i->{ if(i==2) throw new IllegalStateException(); }))
+				.count();
+	}
+	@Test
+	public void closeStopsSources() throws InterruptedException{
+		SequenceM<Integer> infinite = SequenceM.iterate(0,i->i+1).merge(exec,Stream.iterate(0,i->i-1));
+		assertThat(infinite.limit(10).toList().size(),equalTo(10));
+		infinite.close();
+		exec.shutdown();
+		assertTrue(exec.awaitTermination(5,TimeUnit.SECONDS));
+	}
+	@Test
+	public void closeClosesSources(){
+		AtomicInteger closed = new AtomicInteger(0);
+		SequenceM<Integer> merged = SequenceM.of(1,2)
+											.onClose(closed::incrementAndGet)
+											.merge(exec,Stream.of(3).onClose(closed::incrementAndGet),
+														Stream.of(4).onClose(closed::incrementAndGet));
+		assertThat(merged.toList().size(),equalTo(4));
+		merged.close();
+		assertThat(closed.get(),equalTo(3));
+	}
+	@Test
+	public void mergeList(){
+		List<Stream<Integer>> others = Arrays.asList(Stream.of(2),Stream.of(3));
+		assertThat(SequenceM.of(1).merge(exec,others).toList().stream().sorted().collect(Collectors.toList()),
+					equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void mergeByPriorityClosesSources(){
+		AtomicInteger closed = new AtomicInteger(0);
+		SequenceM<Integer> merged = SequenceM.of(1)
+											.mergeByPriority(exec,Arrays.asList(Stream.of(2).onClose(closed::incrementAndGet)));
+		assertThat(merged.toList().size(),equalTo(2));
+		merged.close();
+		assertThat(closed.get(),equalTo(1));
+	}
+	@Test
+	public void higherPriorityEmittedFirst(){
+		Iterator<String> it = SequenceM.of("high1","high2","high3")
+										.mergeByPriority(exec,Stream.of("low1","low2","low3"))
+										.iterator();
+		List<String> result = new ArrayList<>();
+		result.add(it.next());
+		sleep(100); //both sources are now fully queued
+		it.forEachRemaining(result::add);
+		List<String> queued = result.subList(1,result.size());
+		assertThat(queued.stream().sorted().collect(Collectors.toList()),equalTo(queued));
+		assertThat(result.size(),equalTo(6));
+	}
+
+	@Test
+	public void hotStreamsMerged(){
+		CountDownLatch start = new CountDownLatch(1);
+		HotStream<Integer> first = SequenceM.range(0,100).peek(i->await(start)).hotStream(exec);
+		HotStream<Integer> second = SequenceM.range(100,200).peek(i->await(start)).hotStream(exec);
+		List<Integer> result = new CopyOnWriteArrayList<>();
+		CompletableFuture<Void> done = first.merge(second).forEach(result::add);
+		start.countDown();
+		done.join();
+		assertThat(result.stream().sorted().collect(Collectors.toList()),equalTo(SequenceM.range(0,200).toList()));
+	}
+	@Test
+	public void hotStreamsMergedFromList(){
+		CountDownLatch start = new CountDownLatch(1);
+		HotStream<Integer> first = SequenceM.range(0,100).peek(i->await(start)).hotStream(exec);
+		List<HotStream<Integer>> others = Arrays.asList(SequenceM.range(100,200).peek(i->await(start)).hotStream(exec));
+		List<Integer> result = new CopyOnWriteArrayList<>();
+		CompletableFuture<Void> done = first.merge(others).forEach(result::add);
+		start.countDown();
+		done.join();
+		assertThat(result.stream().sorted().collect(Collectors.toList()),equalTo(SequenceM.range(0,200).toList()));
+	}
+	@Test
+	public void hotStreamFailureFailsMerged(){
+		CountDownLatch start = new CountDownLatch(1);
+		HotStream<Integer> first = SequenceM.range(0,1000).peek(i->await(start)).hotStream(exec);
+		HotStream<Integer> failing = SequenceM.of(1).peek(i->{ await(start); throw new IllegalStateException(); }).hotStream(exec);
+		CompletableFuture<Void> done = first.merge(failing).forEach(i->{});
+		start.countDown();
+		try{
+			done.join();
+		}catch(Exception e){
+		}
+		assertTrue(done.isCompletedExceptionally());
+	}
+}
@@ -0,0 +1,86 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.Reducers;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class ParallelTest {
+
+	@Test
+	public void isParallel(){
+		assertTrue(SequenceM.range(0,10).parallel().isParallel());
+		assertTrue(SequenceM.range(0,10).parallel().map(i->i+1).isParallel());
+		assertFalse(SequenceM.range(0,10).parallel().sequential().isParallel());
+		assertFalse(SequenceM.range(0,10).isParallel());
+	}
+	@Test
+	public void mapFilterFlatMap(){
+		List<Integer> expected = SequenceM.range(0,10_000)
+										.map(i->i*2)
+										.filter(i->i%3==0)
+										.flatMap(i->Stream.of(i,i+1))
+										.toList();
+
+		assertThat(SequenceM.range(0,10_000)
+							.parallel()
+							.map(i->i*2)
+							.filter(i->i%3==0)
+							.flatMap(i->Stream.of(i,i+1))
+							.toList(),equalTo(expected));
+	}
+	@Test
+	public void multipleReducers(){
+		Monoid<Integer> max = Monoid.of(Integer.MIN_VALUE,Math::max);
+		List<Monoid<Integer>> reducers = Arrays.asList(Reducers.toTotalInt(),max);
+
+		assertThat(SequenceM.range(0,10_000).parallel().reduce(reducers),
+					equalTo(SequenceM.range(0,10_000).reduce(reducers)));
+		assertThat(SequenceM.range(0,10_000).parallel().reduce(reducers),equalTo(Arrays.asList(49_995_000,9_999)));
+	}
+	@Test
+	public void monoidReduce(){
+		assertThat(SequenceM.range(0,10_000).parallel().reduce(Reducers.toTotalInt()),equalTo(49_995_000));
+	}
+	@Test
+	public void multipleCollectors(){
+		List result = SequenceM.range(0,10_000)
+								.parallel()
+								.collectStream(Stream.<Collector>of(Collectors.toList(),
+										Collectors.summingInt(Integer::intValue)));
+
+		assertThat(result.get(0),equalTo(IntStream.range(0,10_000).boxed().collect(Collectors.toList())));
+		assertThat(result.get(1),equalTo(49_995_000));
+	}
+	@Test
+	public void batchBySize(){
+		for(int size : Arrays.asList(1,3,7,100,10_001)){
+			assertThat(SequenceM.range(0,10_000).parallel().batchBySize(size).toList(),
+						equalTo(SequenceM.range(0,10_000).batchBySize(size).toList()));
+		}
+	}
+	@Test
+	public void batchBySizeCollectionFactory(){
+		List<TreeSet<Integer>> batches = SequenceM.range(0,10)
+												.parallel()
+												.batchBySize(4,()->new TreeSet<>())
+												.toList();
+
+		assertThat(batches.size(),equalTo(3));
+		assertThat(batches.get(2),equalTo(new TreeSet<>(Arrays.asList(8,9))));
+	}
+}
@@ -0,0 +1,99 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class PartitionedParallelTest {
+
+	ExecutorService exec = Executors.newCachedThreadPool();
+
+	@After
+	public void shutdown(){
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void everyElementProcessed(){
+		List<Integer> result = SequenceM.range(0,1000)
+										.partitionedParallel(i->i%10,4,exec,lane->lane.map(i->i*2))
+										.toList();
+		assertThat(result.stream().sorted().collect(Collectors.toList()),
+					equalTo(SequenceM.range(0,1000).map(i->i*2).toList()));
+	}
+	@Test
+	public void orderKeptPerKey(){
+		Map<Integer,List<Integer>> byKey = SequenceM.range(0,5000)
+													.partitionedParallel(i->i%7,4,exec,8,lane->lane.map(i->i))
+													.toList()
+													.stream()
+													.collect(Collectors.groupingBy(i->i%7));
+		byKey.values().forEach(values->assertThat(values,
+											equalTo(values.stream().sorted().collect(Collectors.toList()))));
+		assertThat(byKey.size(),equalTo(7));
+	}
+	@Test
+	public void equalKeysShareALane(){
+		Map<Integer,Set<String>> threads = new ConcurrentHashMap<>();
+		SequenceM.range(0,2000)
+				.partitionedParallel(i->i%5,3,exec,lane->lane.peek(i->threads.computeIfAbsent(i%5,k->ConcurrentHashMap.newKeySet())
+																		.add(Thread.currentThread().getName())))
+				.toList();
+		threads.values().forEach(names->assertThat(names.size(),equalTo(1)));
+	}
+	@Test
+	public void lanesRunInParallel(){
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		SequenceM.range(0,1000)
+				.partitionedParallel(i->i,4,exec,lane->lane.peek(i->threads.add(Thread.currentThread().getName())))
+				.toList();
+		assertThat(threads.size(),equalTo(4));
+	}
+	@Test
+	public void emptyStream(){
+		assertThat(SequenceM.<Integer>of()
+							.partitionedParallel(i->i,2,exec,lane->lane)
+							.toList()
+							.size(),equalTo(0));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void laneErrorsRethrown(){
+		SequenceM.range(0,100)
+				.partitionedParallel(i->i,2,exec,lane->lane.map(i->{ if(i==50) throw new IllegalStateException(); return i; }))
+				.toList();
+	}
+	@Test(expected=IllegalStateException.class)
+	public void upstreamErrorsRethrown(){
+		SequenceM.range(0,100)
+				.peek(i->{ if(i==50) throw new IllegalStateException(); })
+				.partitionedParallel(i->i,2,exec,lane->lane)
+				.toList();
+	}
+	@Test
+	public void closeStopsLanes() throws InterruptedException{
+		SequenceM<Integer> infinite = SequenceM.iterate(0,i->i+1)
+												.partitionedParallel(i->i,2,exec,lane->lane);
+		assertThat(infinite.limit(10).toList().size(),equalTo(10));
+		infinite.close();
+		exec.shutdown();
+		assertTrue(exec.awaitTermination(5,TimeUnit.SECONDS));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void lanesMustBePositive(){
+		SequenceM.of(1).partitionedParallel(i->i,0,exec,lane->lane);
+	}
+}
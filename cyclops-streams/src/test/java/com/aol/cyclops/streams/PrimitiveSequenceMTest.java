@@ -0,0 +1,114 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.DoubleSequenceM;
+import com.aol.cyclops.sequence.IntSequenceM;
+import com.aol.cyclops.sequence.LongSequenceM;
+
+public class PrimitiveSequenceMTest {
+
+	@Test
+	public void intRange(){
+		assertArrayEquals(new int[]{0,1,2,3,4},IntSequenceM.range(0,5).toArray());
+	}
+	@Test
+	public void intRangeReverse(){
+		assertArrayEquals(new int[]{12,10,8,6},IntSequenceM.range(3,7).map(i->i*2).reverse().toArray());
+	}
+	@Test
+	public void intReverseOf(){
+		assertArrayEquals(new int[]{3,2,1},IntSequenceM.of(1,2,3).reverse().toArray());
+	}
+	@Test
+	public void intFilterReduce(){
+		assertThat(IntSequenceM.range(0,10).filter(i->i%2==0).reduce(0,(a,b)->a+b),equalTo(20));
+	}
+	@Test
+	public void intScanLeft(){
+		assertArrayEquals(new int[]{0,1,3,6},IntSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray());
+	}
+	@Test
+	public void intSliding(){
+		List<List<Integer>> windows = IntSequenceM.of(1,2,3,4)
+												.sliding(2)
+												.map(w->Arrays.stream(w).boxed().collect(Collectors.toList()))
+												.toList();
+		assertThat(windows,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(2,3),Arrays.asList(3,4))));
+	}
+	@Test
+	public void intSlidingIncrement(){
+		List<List<Integer>> windows = IntSequenceM.of(1,2,3,4,5)
+												.sliding(3,2)
+												.map(w->Arrays.stream(w).boxed().collect(Collectors.toList()))
+												.toList();
+		assertThat(windows,equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4,5))));
+	}
+	@Test
+	public void intSlidingView(){
+		List<int[]> windows = IntSequenceM.range(0,6).slidingView(3,2).map(w->w.copy()).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertArrayEquals(new int[]{2,3,4},windows.get(1));
+		assertArrayEquals(new int[]{4,5},windows.get(2));
+		assertArrayEquals(new int[]{3,6,9,12},IntSequenceM.range(0,6).slidingView(3).mapToInt(w->w.stream().sum()).toArray());
+	}
+	@Test
+	public void longAndDoubleSlidingView(){
+		assertArrayEquals(new long[]{1,5,9},LongSequenceM.range(0,6).slidingView(2,2).mapToLong(w->w.get(0)+w.get(1)).toArray());
+		assertArrayEquals(new double[]{1.5,2.5},DoubleSequenceM.of(1,2,3).slidingView(2).mapToDouble(w->w.stream().average().getAsDouble()).toArray(),0.0);
+	}
+	@Test
+	public void intBatchBySize(){
+		List<int[]> batches = IntSequenceM.of(1,2,3,4,5).batchBySize(2).toList();
+		assertThat(batches.size(),equalTo(3));
+		assertArrayEquals(new int[]{1,2},batches.get(0));
+		assertArrayEquals(new int[]{5},batches.get(2));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void intBatchBySizeZero(){
+		IntSequenceM.of(1,2,3).batchBySize(0);
+	}
+	@Test
+	public void intZipWithIndex(){
+		assertThat(IntSequenceM.of(10,20).zipWithIndex((v,i)->v+":"+i).toList(),equalTo(Arrays.asList("10:0","20:1")));
+	}
+	@Test
+	public void intBoxed(){
+		assertThat(IntSequenceM.range(0,3).boxed().toList(),equalTo(Arrays.asList(0,1,2)));
+	}
+	@Test
+	public void intParallel(){
+		assertTrue(IntSequenceM.range(0,1000).parallel().isParallel());
+		assertThat(IntSequenceM.range(0,1000).parallel().sum(),equalTo(499500));
+	}
+	@Test
+	public void longRangeReverse(){
+		assertArrayEquals(new long[]{3,2,1,0},LongSequenceM.range(0,4).reverse().toArray());
+	}
+	@Test
+	public void longSlidingScanLeft(){
+		assertArrayEquals(new long[]{0,6},LongSequenceM.range(0,4)
+															.sliding(2,2)
+															.mapToLong(w->w[0]*w[1])
+															.toArray());
+		assertArrayEquals(new long[]{1,1,2,6},LongSequenceM.of(1,2,3).scanLeft(1,(a,b)->a*b).toArray());
+	}
+	@Test
+	public void doubleReverseBatch(){
+		assertArrayEquals(new double[]{3.0,2.0,1.0},DoubleSequenceM.of(1,2,3).reverse().toArray(),0.0);
+		assertThat(DoubleSequenceM.of(1,2,3).batchBySize(2).count(),equalTo(2L));
+	}
+	@Test
+	public void conversions(){
+		assertThat(IntSequenceM.range(0,3).asLongStream().mapToDouble(l->l/2d).boxed().toList(),equalTo(Arrays.asList(0.0,0.5,1.0)));
+	}
+}
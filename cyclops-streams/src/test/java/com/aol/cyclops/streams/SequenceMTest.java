@@ -17,6 +17,7 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -439,4 +440,32 @@ public class SequenceMTest {
 		assertThat(result.get(2), equalTo(2.0));
 	}
 	
-}
+	@Test
+	public void onCloseRunsOnClose(){
+		AtomicInteger closed = new AtomicInteger(0);
+		SequenceM<Integer> seq = SequenceM.of(1,2,3).onClose(()->closed.incrementAndGet());
+		assertThat(closed.get(),equalTo(0));
+		seq.close();
+		assertThat(closed.get(),equalTo(1));
+	}
+	@Test
+	public void closeClosesWrappedStream(){
+		AtomicInteger closed = new AtomicInteger(0);
+		SequenceM.fromStream(Stream.of(1,2,3).onClose(()->closed.incrementAndGet()))
+					.map(i->i*2)
+					.close();
+		assertThat(closed.get(),equalTo(1));
+	}
+	@Test
+	public void onCloseHandlersKeptAcrossOperations(){
+		AtomicInteger closed = new AtomicInteger(0);
+		SequenceM<Integer> seq = SequenceM.of(1,2,3)
+											.onClose(()->closed.incrementAndGet())
+											.filter(i->i>1)
+											.onClose(()->closed.incrementAndGet());
+		assertThat(seq.toList(),equalTo(Arrays.asList(2,3)));
+		seq.close();
+		assertThat(closed.get(),equalTo(2));
+	}
+	
+}
\ No newline at end of file
@@ -15,6 +15,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.SlidingWindow;
 import com.aol.cyclops.sequence.streamable.Streamable;
 
 public class WindowingTest {
@@ -113,6 +114,38 @@ public class WindowingTest {
 		assertThat(sliding, contains(asList(1, 2, 3), asList(3, 4, 5)));
 	}
 
+	@Test
+	public void slidingView() {
+		
+		List<List<Integer>> sliding = SequenceM.of(1, 2, 3, 4, 5).slidingView(3,2).map(SlidingWindow::copy).toList();
+
+		assertThat(sliding, contains(asList(1, 2, 3), asList(3, 4, 5)));
+	}
+	@Test
+	public void slidingViewMatchesSliding() {
+		
+		assertThat(SequenceM.range(0,100).slidingView(7,3).map(SlidingWindow::copy).toList(),
+					equalTo(SequenceM.range(0,100).sliding(7,3).toList()));
+	}
+	@Test
+	public void slidingViewSharesBuffer() {
+		
+		List<Integer> sums = SequenceM.of(1, 2, 3, 4).slidingView(2).map(w->w.get(0)+w.get(1)).toList();
+
+		assertThat(sums, equalTo(asList(3, 5, 7)));
+		assertThat(SequenceM.of(1, 2, 3).slidingView(2).toList().stream().distinct().count(), equalTo(1L));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void slidingViewReadOnly() {
+		
+		SequenceM.of(1, 2, 3).slidingView(2).forEach(w->w.add(4));
+	}
+	@Test
+	public void slidingViewEmpty() {
+		
+		assertThat(SequenceM.of().slidingView(1).toList().size(),equalTo(0));
+	}
+
 	@Test
 	public void slidingEmpty() {
 		
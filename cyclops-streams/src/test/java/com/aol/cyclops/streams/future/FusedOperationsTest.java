@@ -0,0 +1,128 @@
+package com.aol.cyclops.streams.future;
+
+import static com.aol.cyclops.sequence.SequenceM.of;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.future.FusedOperations;
+
+public class FusedOperationsTest {
+
+	ExecutorService exec = Executors.newSingleThreadExecutor(r->new Thread(r,"fused-test"));
+	AtomicInteger reads = new AtomicInteger(0);
+
+	@After
+	public void shutdown(){
+		exec.shutdown();
+	}
+
+	private SequenceM<Integer> counted(){
+		return SequenceM.range(0,10).peek(i->reads.incrementAndGet());
+	}
+
+	@Test
+	public void singleTraversal(){
+		FusedOperations<Integer> ops = counted().futureOperations(exec).fused();
+		CompletableFuture<Long> count = ops.count();
+		CompletableFuture<Long> sum = ops.sumLong(i->i);
+		CompletableFuture<Optional<Integer>> max = ops.max(Comparator.naturalOrder());
+		CompletableFuture<List<Integer>> list = ops.toList();
+		ops.run().join();
+		assertThat(count.join(),equalTo(10l));
+		assertThat(sum.join(),equalTo(45l));
+		assertThat(max.join().get(),equalTo(9));
+		assertThat(list.join(),equalTo(SequenceM.range(0,10).toList()));
+		assertThat(reads.get(),equalTo(10));
+	}
+	@Test
+	public void parallelSource(){
+		for(int run=0;run<10;run++){
+			FusedOperations<Integer> ops = SequenceM.range(0,100_000).parallel().futureOperations(exec).fused();
+			CompletableFuture<Long> count = ops.count();
+			CompletableFuture<Long> sum = ops.sumLong(i->i);
+			CompletableFuture<List<Integer>> list = ops.toList();
+			CompletableFuture<Map<Integer,List<Integer>>> groups = ops.groupBy(i->i%10);
+			ops.run().join();
+			assertThat(count.join(),equalTo(100_000l));
+			assertThat(sum.join(),equalTo(4_999_950_000l));
+			assertThat(list.join(),equalTo(SequenceM.range(0,100_000).toList()));
+			assertThat(groups.join().size(),equalTo(10));
+			for(List<Integer> group : groups.join().values())
+				assertThat(group.size(),equalTo(10_000));
+		}
+	}
+	@Test
+	public void minByMaxBy(){
+		FusedOperations<Integer> ops = of(1,2,3,4,5,6).futureOperations(exec).fused();
+		CompletableFuture<Optional<Integer>> max = ops.maxBy(t -> Math.abs(t - 5));
+		CompletableFuture<Optional<Integer>> min = ops.minBy(t -> Math.abs(t - 5));
+		ops.run();
+		assertThat(max.join().get(),equalTo(1));
+		assertThat(min.join().get(),equalTo(5));
+	}
+	@Test
+	public void runsOnExecutor(){
+		AtomicReference<String> thread = new AtomicReference<>();
+		FusedOperations<Integer> ops = of(1,2,3).peek(i->thread.set(Thread.currentThread().getName()))
+												.futureOperations(exec)
+												.fused();
+		CompletableFuture<Optional<Integer>> max = ops.maxBy(i->i);
+		ops.run().join();
+		assertThat(max.join().get(),equalTo(3));
+		assertThat(thread.get(),equalTo("fused-test"));
+	}
+	@Test
+	public void nothingRunsUntilRun(){
+		FusedOperations<Integer> ops = counted().futureOperations(exec).fused();
+		CompletableFuture<Long> count = ops.count();
+		assertThat(reads.get(),equalTo(0));
+		assertTrue(!count.isDone());
+		ops.run().join();
+		assertThat(count.join(),equalTo(10l));
+	}
+	@Test
+	public void failedOperationIsolated(){
+		FusedOperations<Integer> ops = of(1,2,3).futureOperations(exec).fused();
+		CompletableFuture<Integer> failing = ops.reduce(0,(a,b)->{ if(b==2) throw new IllegalStateException(); return a+b; });
+		CompletableFuture<List<Integer>> list = ops.toList();
+		ops.run().join();
+		assertTrue(failing.isCompletedExceptionally());
+		assertThat(list.join(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void streamFailureFailsAll(){
+		FusedOperations<Integer> ops = of(1,2,3).peek(i->{ if(i==2) throw new IllegalStateException(); })
+												.futureOperations(exec)
+												.fused();
+		CompletableFuture<Long> count = ops.count();
+		CompletableFuture<Void> done = ops.run();
+		try{
+			done.join();
+		}catch(Exception e){
+		}
+		assertTrue(done.isCompletedExceptionally());
+		assertTrue(count.isCompletedExceptionally());
+	}
+	@Test(expected=IllegalStateException.class)
+	public void noRegistrationAfterRun(){
+		FusedOperations<Integer> ops = of(1).futureOperations(exec).fused();
+		ops.run();
+		ops.count();
+	}
+}
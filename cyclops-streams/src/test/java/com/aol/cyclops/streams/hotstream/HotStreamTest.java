@@ -1,18 +1,34 @@
 package com.aol.cyclops.streams.hotstream;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.Test;
 
+import uk.co.real_logic.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
+import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.HotStreamConnection;
+import com.aol.cyclops.sequence.IdleStrategies;
+import com.aol.cyclops.sequence.IdleStrategy;
+import com.aol.cyclops.sequence.OverflowPolicy;
 import com.aol.cyclops.sequence.SequenceM;
 
 import fj.data.Seq;
@@ -75,4 +91,125 @@ public class HotStreamTest {
 		latch.await();
 		assertTrue(value!=null);
 	}
+	@Test
+	public void manySubscribersBlocking() throws InterruptedException{
+		CountDownLatch start = new CountDownLatch(1);
+		HotStream<Integer> hot = SequenceM.range(0,1000)
+									.peek(i->{ if(i==0) await(start); })
+									.hotStream(exec);
+		ExecutorService consumers = Executors.newFixedThreadPool(30); //BLOCK subscribers must all be consumed concurrently
+		try{
+			List<CompletableFuture<List<Integer>>> results = IntStream.range(0, 30)
+										.mapToObj(i->hot.subscribe(OverflowPolicy.BLOCK))
+										.map(c->CompletableFuture.supplyAsync(()->c.stream().toList(),consumers))
+										.collect(Collectors.toList());
+			assertThat(hot.connections(),equalTo(30));
+			start.countDown();
+			
+			List<Integer> expected = IntStream.range(0,1000).boxed().collect(Collectors.toList());
+			for(CompletableFuture<List<Integer>> next : results)
+				assertThat(next.join(),equalTo(expected));
+		}finally{
+			consumers.shutdownNow();
+		}
+	}
+	@Test
+	public void disconnect() throws InterruptedException{
+		CountDownLatch start = new CountDownLatch(1);
+		HotStream<Integer> hot = SequenceM.range(0,1000)
+									.peek(i->{ if(i==0) await(start); })
+									.hotStream(exec);
+		HotStreamConnection<Integer> first = hot.subscribe(OverflowPolicy.BLOCK);
+		HotStreamConnection<Integer> second = hot.subscribe(OverflowPolicy.BLOCK);
+		second.disconnect();
+		
+		assertThat(hot.connections(),equalTo(1));
+		assertTrue(!second.isConnected());
+		start.countDown();
+		
+		assertThat(first.stream().count(),equalTo(1000l));
+		assertThat(second.stream().count(),equalTo(0l));
+	}
+	@Test
+	public void dropNewest() throws InterruptedException{
+		HotStreamConnection<Integer> connection = hotStream(1000, new OneToOneConcurrentArrayQueue<>(4), OverflowPolicy.DROP_NEWEST);
+		waitFor(()->connection.received()+connection.dropped()==1000);
+		
+		assertThat(connection.lag(),equalTo(4l));
+		assertThat(connection.dropped(),equalTo(996l));
+		assertThat(connection.stream().toList(),equalTo(Arrays.asList(0,1,2,3)));
+	}
+	@Test
+	public void dropOldest() throws InterruptedException{
+		HotStreamConnection<Integer> connection = hotStream(1000, new ManyToManyConcurrentArrayQueue<>(4), OverflowPolicy.DROP_OLDEST);
+		waitFor(()->connection.received()==1000);
+		
+		assertThat(connection.dropped(),equalTo(996l));
+		assertThat(connection.stream().toList(),equalTo(Arrays.asList(996,997,998,999)));
+	}
+	@Test
+	public void overflowError() throws InterruptedException{
+		HotStreamConnection<Integer> connection = hotStream(1000, new OneToOneConcurrentArrayQueue<>(4), OverflowPolicy.ERROR);
+		waitFor(()->!connection.isConnected());
+		
+		assertThat(connection.received(),equalTo(4l));
+		List<Integer> drained = new ArrayList<>();
+		try{
+			connection.stream().forEach(drained::add);
+			fail("exception expected");
+		}catch(IllegalStateException e){
+			assertThat(e.getMessage(),equalTo("HotStream connection queue overflowed after 4 elements"));
+		}
+		assertThat(drained,equalTo(Arrays.asList(0,1,2,3)));
+	}
+	
+	@Test
+	public void idleStrategies() throws InterruptedException{
+		for(IdleStrategy idle : Arrays.asList(IdleStrategies.spin(),IdleStrategies.yielding(),
+												IdleStrategies.backoff(),IdleStrategies.blocking())){
+			CountDownLatch start = new CountDownLatch(1);
+			HotStream<Integer> hot = SequenceM.range(0,1000)
+										.peek(i->{ if(i==0) await(start); })
+										.hotStream(exec);
+			HotStreamConnection<Integer> connection = hot.subscribe(new OneToOneConcurrentArrayQueue<>(16),OverflowPolicy.BLOCK,idle);
+			start.countDown();
+			
+			assertThat(connection.stream().toList(),equalTo(IntStream.range(0,1000).boxed().collect(Collectors.toList())));
+		}
+	}
+	@Test
+	public void blockingWakesOnSignal() throws InterruptedException{
+		CountDownLatch start = new CountDownLatch(1);
+		SequenceM<Integer> stream = SequenceM.of(1,2,3)
+												.peek(i->{ if(i==1) await(start); })
+												.hotStream(exec)
+												.connect(new OneToOneConcurrentArrayQueue<>(16),IdleStrategies.blocking(Long.MAX_VALUE));
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->stream.toList());
+		Thread.sleep(50);
+		start.countDown();
+		
+		assertThat(result.join(),equalTo(Arrays.asList(1,2,3)));
+	}
+	
+	private HotStreamConnection<Integer> hotStream(int size,java.util.Queue<Integer> queue,OverflowPolicy policy){
+		CountDownLatch start = new CountDownLatch(1);
+		HotStream<Integer> hot = SequenceM.range(0,size)
+									.peek(i->{ if(i==0) await(start); })
+									.hotStream(exec);
+		HotStreamConnection<Integer> connection = hot.subscribe(queue,policy);
+		start.countDown();
+		return connection;
+	}
+	private void waitFor(BooleanSupplier condition) throws InterruptedException{
+		for(int i=0;i<1000 && !condition.getAsBoolean();i++)
+			Thread.sleep(10);
+		assertTrue(condition.getAsBoolean());
+	}
+	private static void await(CountDownLatch latch){
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
 }
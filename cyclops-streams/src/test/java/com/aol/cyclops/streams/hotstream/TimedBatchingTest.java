@@ -0,0 +1,114 @@
+package com.aol.cyclops.streams.hotstream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.BatchedHotStream;
+import com.aol.cyclops.sequence.BatchedHotStream.FlushCause;
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.TimeSchedulers;
+import com.aol.cyclops.sequence.VirtualTimeScheduler;
+import com.aol.cyclops.sequence.streamable.Streamable;
+
+public class TimedBatchingTest {
+
+	VirtualTimeScheduler clock;
+	List<Runnable> tasks;
+	Executor exec;
+
+	@Before
+	public void setup(){
+		clock = TimeSchedulers.virtual();
+		tasks = new ArrayList<>();
+		exec = tasks::add;
+	}
+	private void run(){
+		tasks.forEach(Runnable::run);
+	}
+	private SequenceM<Integer> slowFeed(){
+		return SequenceM.of(1,2,3,4,5)
+						.peek(i->{ if(i==3) clock.advance(5,TimeUnit.SECONDS); });
+	}
+
+	@Test
+	public void partialBatchFlushedByTimer(){
+		List<List<Integer>> result = new ArrayList<>();
+		BatchedHotStream<List<Integer>> batches = slowFeed().futureOperations(exec)
+															.batchBySizeAndTime(10,1,TimeUnit.SECONDS,clock);
+		CompletableFuture<Void> done = batches.forEach(result::add);
+		run();
+		assertThat(result,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4,5))));
+		assertThat(batches.flushes(FlushCause.TIME),equalTo(1l));
+		assertThat(batches.flushes(FlushCause.COMPLETE),equalTo(1l));
+		assertThat(batches.flushes(FlushCause.SIZE),equalTo(0l));
+		assertTrue(done.isDone());
+	}
+	@Test
+	public void fullBatchFlushedBySize(){
+		List<List<Integer>> result = new ArrayList<>();
+		BatchedHotStream<List<Integer>> batches = slowFeed().futureOperations(exec)
+															.batchBySizeAndTime(2,1,TimeUnit.SECONDS,clock);
+		batches.forEach(result::add);
+		run();
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+		assertThat(batches.flushes(FlushCause.SIZE),equalTo(2l));
+		assertThat(batches.flushes(FlushCause.COMPLETE),equalTo(1l));
+		assertThat(batches.flushes(FlushCause.TIME),equalTo(0l));
+	}
+	@Test
+	public void timerFlushesWhileFeedIsIdle(){
+		List<List<Integer>> result = new ArrayList<>();
+		BatchedHotStream<List<Integer>> batches = SequenceM.of(1,2)
+															.peek(i->{ if(i==2) clock.advance(500,TimeUnit.MILLISECONDS); })
+															.futureOperations(exec)
+															.batchByTime(200,TimeUnit.MILLISECONDS,clock);
+		batches.forEach(result::add);
+		run();
+		assertThat(result,equalTo(Arrays.asList(Arrays.asList(1),Arrays.asList(2))));
+		assertThat(batches.flushes(FlushCause.TIME),equalTo(1l));
+	}
+	@Test
+	public void batchFactory(){
+		List<TreeSet<Integer>> result = new ArrayList<>();
+		slowFeed().futureOperations(exec)
+				  .batchBySizeAndTime(10,1,TimeUnit.SECONDS,clock,()->new TreeSet<>())
+				  .forEach(result::add);
+		run();
+		assertThat(result.size(),equalTo(2));
+		assertThat(result.get(0).first(),equalTo(1));
+	}
+	@Test
+	public void windowsFlushedByTimer(){
+		List<List<Integer>> result = new ArrayList<>();
+		BatchedHotStream<Streamable<Integer>> windows = slowFeed().futureOperations(exec)
+																.windowByTime(1,TimeUnit.SECONDS,clock);
+		windows.forEach(w->result.add(w.toList()));
+		run();
+		assertThat(result,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4,5))));
+	}
+	@Test
+	public void failureFlushesPartialBatch(){
+		List<List<Integer>> result = new ArrayList<>();
+		CompletableFuture<Void> done = SequenceM.of(1,2,3)
+												.peek(i->{ if(i==3) throw new IllegalStateException(); })
+												.futureOperations(exec)
+												.batchBySizeAndTime(10,1,TimeUnit.SECONDS,clock)
+												.forEach(result::add);
+		run();
+		assertThat(result,equalTo(Arrays.asList(Arrays.asList(1,2))));
+		assertTrue(done.isCompletedExceptionally());
+	}
+}
@@ -0,0 +1,198 @@
+package com.aol.cyclops.streams.hotstream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.TimeScheduler;
+import com.aol.cyclops.sequence.TimeSchedulers;
+import com.aol.cyclops.sequence.VirtualTimeScheduler;
+
+public class TimedOperationsTest {
+
+	VirtualTimeScheduler clock;
+	List<Integer> result;
+
+	@Before
+	public void setup(){
+		clock = TimeSchedulers.virtual();
+		result = new ArrayList<>();
+	}
+
+	@Test
+	public void fixedDelay(){
+		CompletableFuture<Void> done = SequenceM.of(1,2,3)
+												.timedOperations(clock)
+												.fixedDelay(1,TimeUnit.SECONDS)
+												.forEach(result::add);
+		clock.advance(999,TimeUnit.MILLISECONDS);
+		assertThat(result,equalTo(Arrays.asList()));
+		clock.advance(1,TimeUnit.MILLISECONDS);
+		assertThat(result,equalTo(Arrays.asList(1)));
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2)));
+		assertFalse(done.isDone());
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2,3)));
+		assertTrue(done.isDone());
+	}
+	@Test
+	public void onePer(){
+		SequenceM.of(1,2,3)
+				.timedOperations(clock)
+				.onePer(1,TimeUnit.SECONDS)
+				.forEach(result::add);
+		clock.advance(0,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1)));
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2)));
+		clock.advance(10,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void xPer(){
+		SequenceM.of(1,2,3,4,5)
+				.timedOperations(clock)
+				.xPer(2,1,TimeUnit.SECONDS)
+				.forEach(result::add);
+		clock.advance(0,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2)));
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2,3,4)));
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2,3,4,5)));
+	}
+	@Test
+	public void jitterIsBounded(){
+		SequenceM.of(1,2,3)
+				.timedOperations(clock)
+				.jitter(1000)
+				.forEach(result::add);
+		clock.advance(3000,TimeUnit.NANOSECONDS);
+		assertThat(result,equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void debounce(){
+		SequenceM.iterate(0,i->i+1)
+				.limit(10)
+				.peek(i->clock.advance(100,TimeUnit.MILLISECONDS))
+				.timedOperations(clock)
+				.debounce(250,TimeUnit.MILLISECONDS)
+				.forEach(result::add);
+		clock.advance(0,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(0,3,6,9)));
+	}
+	@Test
+	public void retrySucceedsAfterBackoff(){
+		AtomicInteger calls = new AtomicInteger(0);
+		SequenceM.of(1,2)
+				.timedOperations(clock)
+				.retry(i->{
+					if(i==1 && calls.incrementAndGet()<3)
+						throw new RuntimeException("failed");
+					return i*10;
+				},5,1,TimeUnit.SECONDS)
+				.forEach(result::add);
+		clock.advance(0,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList()));
+		clock.advance(1,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList()));
+		clock.advance(2,TimeUnit.SECONDS);
+		assertThat(result,equalTo(Arrays.asList(10,20)));
+		assertThat(clock.pending(),equalTo(0));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void retryFailsAfterMaxAttempts() throws Throwable{
+		CompletableFuture<Void> done = SequenceM.of(1)
+												.timedOperations(clock)
+												.<Integer>retry(i->{ throw new IllegalStateException("failed"); },3,1,TimeUnit.SECONDS)
+												.forEach(result::add);
+		clock.advance(10,TimeUnit.SECONDS);
+		try{
+			done.get();
+		}catch(ExecutionException e){
+			throw e.getCause();
+		}
+	}
+	@Test
+	public void connectionReceivesElements(){
+		SequenceM<Integer> connection = SequenceM.of(1,2,3)
+												.timedOperations(clock)
+												.onePer(1,TimeUnit.SECONDS)
+												.connect();
+		clock.advance(5,TimeUnit.SECONDS);
+		assertThat(connection.toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void timerWheelManyStreamsOneThread() throws Exception{
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		TimeScheduler wheel = TimeSchedulers.timerWheel(ex);
+		AtomicInteger count = new AtomicInteger(0);
+		List<CompletableFuture<Void>> done = new ArrayList<>();
+		for(int i=0;i<1000;i++)
+			done.add(SequenceM.of(1,2,3)
+							.timedOperations(wheel)
+							.fixedDelay(10,TimeUnit.MILLISECONDS)
+							.forEach(n->count.incrementAndGet()));
+		CompletableFuture.allOf(done.toArray(new CompletableFuture[0])).get(5,TimeUnit.SECONDS);
+		assertThat(count.get(),equalTo(3000));
+		ex.shutdown();
+	}
+	@Test
+	public void timerWheelIsSharedPerExecutor(){
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		assertTrue(TimeSchedulers.timerWheel(ex)==TimeSchedulers.timerWheel(ex));
+		ex.shutdown();
+	}
+	@Test
+	public void timerWheelDoesNotKeepExecutor() throws InterruptedException{
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		TimeSchedulers.timerWheel(ex);
+		ex.shutdown();
+		WeakReference<ScheduledExecutorService> ref = new WeakReference<>(ex);
+		ex = null;
+		for(int i=0;i<50 && ref.get()!=null;i++){
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertThat(ref.get(),nullValue());
+	}
+	@Test
+	public void blockingTaskDoesNotStallWheel() throws InterruptedException{
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(2);
+		TimeScheduler wheel = TimeSchedulers.timerWheel(ex);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch ran = new CountDownLatch(1);
+		try{
+			wheel.schedule(()->{
+				try{
+					release.await();
+				}catch(InterruptedException e){
+				}
+			},1,TimeUnit.MILLISECONDS);
+			wheel.schedule(ran::countDown,20,TimeUnit.MILLISECONDS);
+			assertTrue(ran.await(2,TimeUnit.SECONDS));
+		}finally{
+			release.countDown();
+			ex.shutdown();
+		}
+	}
+}